@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetconsumer.outtopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.AssetConsumerEventHeader;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.NewAssetEvent;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.UpdatedAssetEvent;
@@ -15,6 +14,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.Ope
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 
 /**
  * AssetConsumerPublisher is the connector responsible for publishing information about
@@ -140,7 +140,6 @@ public class AssetConsumerPublisher
      */
     private String getJSONPayload(AssetConsumerEventHeader    event)
     {
-        ObjectMapper objectMapper = new ObjectMapper();
         String       jsonString   = null;
 
         /*
@@ -148,7 +147,7 @@ public class AssetConsumerPublisher
          */
         try
         {
-            jsonString = objectMapper.writeValueAsString(event);
+            jsonString = JSONSerializer.writeValueAsString(event);
         }
         catch (Throwable  error)
         {
@@ -4,7 +4,6 @@
 package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.assetlineage.model.assetContext.AssetLineageEvent;
 import org.odpi.openmetadata.accessservices.assetlineage.ffdc.AssetLineageErrorCode;
 import org.odpi.openmetadata.accessservices.assetlineage.model.event.RelationshipEvent;
@@ -14,6 +13,7 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -100,14 +100,13 @@ public class AssetLineagePublisher {
      * @return JSON payload (as String)
      */
     private String getJSONPayload(AssetLineageEvent event) {
-        ObjectMapper objectMapper = new ObjectMapper();
         String jsonString = null;
 
         /*
          * This class
          */
         try {
-            jsonString = objectMapper.writeValueAsString(event);
+            jsonString = JSONSerializer.writeValueAsString(event);
         } catch (Throwable error) {
             log.error("Unable to create event payload: " + error.toString());
         }
@@ -2,10 +2,10 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.communityprofile.topics;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.communityprofile.events.CommunityProfileInboundEvent;
 import org.odpi.openmetadata.accessservices.communityprofile.events.CommunityProfileInboundEventType;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,8 +63,6 @@ public class CommunityProfileInTopicListener
     class OpenMetadataInboundListener implements OpenMetadataTopicListener
     {
         private CommunityProfileInTopicListener communityProfileInTopicListener;
-        private ObjectMapper                    objectMapper = new ObjectMapper();
-
 
         /**
          * The constructor takes an instance of the outer class which is where the logic is to process the event.
@@ -86,7 +84,7 @@ public class CommunityProfileInTopicListener
         {
             try
             {
-                CommunityProfileInboundEvent event = objectMapper.readValue(eventPayload, CommunityProfileInboundEvent.class);
+                CommunityProfileInboundEvent event = JSONSerializer.readValue(eventPayload, CommunityProfileInboundEvent.class);
             }
             catch (Throwable  exc)
             {
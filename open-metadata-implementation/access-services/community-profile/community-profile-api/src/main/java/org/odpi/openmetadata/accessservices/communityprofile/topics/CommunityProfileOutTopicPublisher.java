@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.communityprofile.topics;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.communityprofile.events.*;
 import org.odpi.openmetadata.accessservices.communityprofile.ffdc.CommunityProfileErrorCode;
 import org.odpi.openmetadata.accessservices.communityprofile.properties.PersonalProfile;
@@ -11,6 +10,7 @@ import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,8 +21,6 @@ public abstract class CommunityProfileOutTopicPublisher
 {
     private OpenMetadataTopicConnector  openMetadataTopicConnector;
     private InvalidParameterHandler     invalidParameterHandler;
-    private ObjectMapper                objectMapper = new ObjectMapper();
-
     private static final Logger log = LoggerFactory.getLogger(CommunityProfileOutTopicPublisher.class);
 
 
@@ -60,7 +58,7 @@ public abstract class CommunityProfileOutTopicPublisher
         {
             log.debug("Sending Event: " + event.getEventType().getEventTypeName());
 
-            openMetadataTopicConnector.sendEvent(objectMapper.writeValueAsString(event));
+            openMetadataTopicConnector.sendEvent(JSONSerializer.writeValueAsString(event));
 
             log.debug("Event sent: " + event.getEventType().getEventTypeName());
         }
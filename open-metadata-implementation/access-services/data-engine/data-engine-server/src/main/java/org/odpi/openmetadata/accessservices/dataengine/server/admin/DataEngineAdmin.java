@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.dataengine.server.admin;
 
 import org.odpi.openmetadata.accessservices.dataengine.server.auditlog.DataEngineAuditCode;
+import org.odpi.openmetadata.accessservices.dataengine.server.executors.DataEngineIngestionExecutor;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -10,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicCo
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DataEngineAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -18,6 +20,9 @@ import java.util.List;
  */
 public class DataEngineAdmin extends AccessServiceAdmin
 {
+    private static final String INGESTION_MAX_PARALLELISM_PROPERTY_NAME = "IngestionMaxParallelism";
+    private static final String INGESTION_QUEUE_SIZE_PROPERTY_NAME = "IngestionQueueSize";
+    private static final String INGESTION_REQUEST_CONCURRENCY_PROPERTY_NAME = "IngestionRequestConcurrency";
 
     private OMRSAuditLog auditLog;
     private DataEngineServicesInstance instance;
@@ -49,7 +54,19 @@ public class DataEngineAdmin extends AccessServiceAdmin
                     accessServiceConfig.getAccessServiceName(),
                     auditLog);
 
-            instance = new DataEngineServicesInstance(repositoryConnector, supportedZones, auditLog);
+            Map<String, Object> accessServiceOptions = accessServiceConfig.getAccessServiceOptions();
+            int ingestionMaxParallelism = extractPositiveIntegerOption(accessServiceOptions,
+                    INGESTION_MAX_PARALLELISM_PROPERTY_NAME, DataEngineIngestionExecutor.DEFAULT_MAX_PARALLELISM,
+                    auditLog);
+            int ingestionQueueSize = extractPositiveIntegerOption(accessServiceOptions,
+                    INGESTION_QUEUE_SIZE_PROPERTY_NAME, DataEngineIngestionExecutor.DEFAULT_QUEUE_SIZE, auditLog);
+            int ingestionRequestConcurrency = extractPositiveIntegerOption(accessServiceOptions,
+                    INGESTION_REQUEST_CONCURRENCY_PROPERTY_NAME,
+                    Math.min(ingestionMaxParallelism, DataEngineIngestionExecutor.DEFAULT_REQUEST_CONCURRENCY),
+                    auditLog);
+
+            instance = new DataEngineServicesInstance(repositoryConnector, supportedZones, auditLog,
+                    ingestionMaxParallelism, ingestionQueueSize, ingestionRequestConcurrency);
             String serverName = instance.getServerName();
 
             auditCode = DataEngineAuditCode.SERVICE_INITIALIZED;
@@ -65,6 +82,42 @@ public class DataEngineAdmin extends AccessServiceAdmin
         }
     }
 
+    /**
+     * Extract an optional positive integer setting from the access service options.
+     *
+     * @param accessServiceOptions options passed to the access service
+     * @param propertyName         name of the option
+     * @param defaultValue         value to use when the option is not set or is invalid
+     * @param auditLog             audit log for error messages
+     *
+     * @return value of the option
+     */
+    private int extractPositiveIntegerOption(Map<String, Object> accessServiceOptions, String propertyName,
+                                             int defaultValue, OMRSAuditLog auditLog) {
+        final String methodName = "extractPositiveIntegerOption";
+
+        if (accessServiceOptions == null || accessServiceOptions.get(propertyName) == null) {
+            return defaultValue;
+        }
+
+        Object optionValue = accessServiceOptions.get(propertyName);
+        try {
+            int value = Integer.parseInt(optionValue.toString());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException error) {
+            // reported below
+        }
+
+        DataEngineAuditCode auditCode = DataEngineAuditCode.BAD_INGESTION_OPTION;
+        auditLog.logRecord(methodName, auditCode.getLogMessageId(), auditCode.getSeverity(),
+                auditCode.getFormattedLogMessage(optionValue.toString(), propertyName, Integer.toString(defaultValue)),
+                null, auditCode.getSystemAction(), auditCode.getUserAction());
+
+        return defaultValue;
+    }
+
     /**
      * Shutdown the access service.
      */
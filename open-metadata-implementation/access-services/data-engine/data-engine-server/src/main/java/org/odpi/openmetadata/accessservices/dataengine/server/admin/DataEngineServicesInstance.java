@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.dataengine.server.admin;
 
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
+import org.odpi.openmetadata.accessservices.dataengine.server.executors.DataEngineIngestionExecutor;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.PortHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.ProcessHandler;
@@ -26,16 +27,23 @@ class DataEngineServicesInstance extends OCFOMASServiceInstance {
     private SoftwareServerRegistrationHandler softwareServerRegistrationHandler;
     private DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler;
     private PortHandler portHandler;
+    private DataEngineIngestionExecutor ingestionExecutor;
 
     /**
      * Set up the local repository connector that will service the REST Calls.
      *
-     * @param repositoryConnector link to the repository responsible for servicing the REST calls.
+     * @param repositoryConnector          link to the repository responsible for servicing the REST calls.
+     * @param supportedZones               list of zones that Data Engine OMAS is allowed to serve Assets from
+     * @param auditLog                     destination for audit log events
+     * @param ingestionMaxParallelism      maximum number of threads used for bulk ingestion
+     * @param ingestionQueueSize           maximum number of ingestion tasks waiting for a thread
+     * @param ingestionRequestConcurrency  maximum number of ingestion tasks running for a single request
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
     DataEngineServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones,
-                               OMRSAuditLog auditLog) throws NewInstanceException {
+                               OMRSAuditLog auditLog, int ingestionMaxParallelism, int ingestionQueueSize,
+                               int ingestionRequestConcurrency) throws NewInstanceException {
         super(description.getAccessServiceName(), repositoryConnector, auditLog);
         super.supportedZones = supportedZones;
 
@@ -48,6 +56,8 @@ class DataEngineServicesInstance extends OCFOMASServiceInstance {
                     invalidParameterHandler, repositoryHandler, repositoryHelper, schemaTypeHandler);
             portHandler = new PortHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
                     repositoryHelper);
+            ingestionExecutor = new DataEngineIngestionExecutor(serverName, ingestionMaxParallelism,
+                    ingestionQueueSize, ingestionRequestConcurrency);
 
         } else {
             final String methodName = "new ServiceInstance";
@@ -95,4 +105,25 @@ class DataEngineServicesInstance extends OCFOMASServiceInstance {
     PortHandler getPortHandler() {
         return portHandler;
     }
+
+    /**
+     * Return the executor for bulk ingestion requests
+     *
+     * @return executor object
+     */
+    DataEngineIngestionExecutor getIngestionExecutor() {
+        return ingestionExecutor;
+    }
+
+    /**
+     * Release the ingestion threads and unregister from the instance map.
+     */
+    @Override
+    public void shutdown() {
+        if (ingestionExecutor != null) {
+            ingestionExecutor.shutdown();
+        }
+
+        super.shutdown();
+    }
 }
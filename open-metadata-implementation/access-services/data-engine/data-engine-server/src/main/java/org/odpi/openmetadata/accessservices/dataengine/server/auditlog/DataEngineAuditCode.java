@@ -47,7 +47,14 @@ public enum DataEngineAuditCode {
             "The access service detected an error during the start up of a specific server instance.  " +
                     "Its services are not available for the server.",
             "Review the error message and any other reported failures to determine the cause of the problem. " +
-                    " Once this is resolved, restart the server.");
+                    " Once this is resolved, restart the server."),
+
+    BAD_INGESTION_OPTION("OMAS-DATA-ENGINE-0006",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Data Engine Open Metadata Access Service (OMAS) has been passed an invalid value of {0} in the {1} " +
+                    "access service option and is using the default value of {2}",
+            "The access service has ignored the invalid value.",
+            "Correct the access service option in the configuration document to be a positive integer and restart the server.");
 
     private final String logMessageId;
     private final OMRSAuditLogRecordSeverity severity;
@@ -0,0 +1,195 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * DataEngineIngestionExecutor runs the bulk ingestion work of a single Data Engine OMAS server instance
+ * (creation of processes, ports, schema types and lineage mappings) on a bounded pool of threads that is
+ * owned by the server instance, rather than on the JVM-wide common fork-join pool.
+ * <p>
+ * The pool has a fixed maximum parallelism and a bounded work queue.  When the queue is full (or the pool
+ * has been shut down), new work is run on the requesting thread, which slows down the caller rather than
+ * growing the backlog.  Each call to {@link #invokeAll(List, Function)} is also limited to a number of
+ * concurrently running tasks so a single large import can not occupy the whole pool.
+ */
+public class DataEngineIngestionExecutor {
+    private static final Logger log = LoggerFactory.getLogger(DataEngineIngestionExecutor.class);
+
+    public static final int DEFAULT_MAX_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_QUEUE_SIZE = 256;
+    public static final int DEFAULT_REQUEST_CONCURRENCY = DEFAULT_MAX_PARALLELISM;
+
+    private static final ThreadLocal<DataEngineIngestionExecutor> workerExecutor = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor threadPool;
+    private final int requestConcurrency;
+
+    /**
+     * Create the executor for a server instance.
+     *
+     * @param serverName         name of the server instance - used to name the worker threads
+     * @param maxParallelism     maximum number of worker threads
+     * @param queueSize          maximum number of tasks waiting for a worker thread
+     * @param requestConcurrency maximum number of tasks from a single request running at the same time
+     */
+    public DataEngineIngestionExecutor(String serverName, int maxParallelism, int queueSize, int requestConcurrency) {
+        this.requestConcurrency = requestConcurrency;
+        this.threadPool = new ThreadPoolExecutor(maxParallelism, maxParallelism, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new IngestionThreadFactory(serverName),
+                (rejectedTask, pool) -> rejectedTask.run());
+        this.threadPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Apply the task to each of the items, spreading the work over the worker threads.  The call waits for all
+     * the tasks to complete.  Calls made from one of this executor's own worker threads run the tasks in the
+     * calling thread so that nested work can never wait on tasks queued behind it.
+     * <p>
+     * If a task fails, no more tasks are submitted, the tasks that have not started are cancelled and the call
+     * waits for the running tasks to finish before it throws the failure, so no work from the request is still
+     * running when it returns.
+     *
+     * @param items the items to process
+     * @param task  the work to perform for each item
+     * @param <T>   type of the items
+     * @param <R>   type of the results
+     *
+     * @return the results of the tasks, in the same order as the items
+     */
+    public <T, R> List<R> invokeAll(List<T> items, Function<T, R> task) {
+        List<R> results = new ArrayList<>(items.size());
+
+        if (items.size() < 2 || requestConcurrency < 2 || workerExecutor.get() == this || threadPool.isShutdown()) {
+            for (T item : items) {
+                results.add(task.apply(item));
+            }
+            return results;
+        }
+
+        Semaphore permits = new Semaphore(requestConcurrency);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<Future<R>> futures = new ArrayList<>(items.size());
+
+        for (T item : items) {
+            // Stop submitting work once a task has failed - the failure is thrown when its result is collected
+            if (failed.get()) {
+                break;
+            }
+
+            FutureTask<R> future = new FutureTask<>(() -> {
+                try {
+                    return task.apply(item);
+                } catch (RuntimeException | Error error) {
+                    failed.set(true);
+                    throw error;
+                }
+            });
+
+            futures.add(future);
+
+            // The permit is released even if the task is cancelled before it starts
+            permits.acquireUninterruptibly();
+            threadPool.execute(() -> {
+                try {
+                    future.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        try {
+            for (Future<R> future : futures) {
+                results.add(getResult(future));
+            }
+        } catch (RuntimeException | Error error) {
+            for (Future<R> future : futures) {
+                future.cancel(false);
+            }
+
+            // Every permit is free once all the submitted tasks have finished or been skipped
+            permits.acquireUninterruptibly(requestConcurrency);
+            throw error;
+        }
+
+        return results;
+    }
+
+    /**
+     * Stop accepting new work and release the worker threads once the running tasks complete.
+     */
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    private <R> R getResult(Future<R> future) {
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException error) {
+                    interrupted = true;
+                } catch (ExecutionException error) {
+                    Throwable cause = error.getCause();
+
+                    log.debug("Ingestion task failed", cause);
+
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Creates named daemon worker threads that remember which executor they belong to.
+     */
+    private class IngestionThreadFactory implements ThreadFactory {
+        private final String threadNamePrefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        IngestionThreadFactory(String serverName) {
+            this.threadNamePrefix = "DataEngineIngestion-" + serverName + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(() -> {
+                workerExecutor.set(DataEngineIngestionExecutor.this);
+                runnable.run();
+            }, threadNamePrefix + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -19,7 +19,6 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.PrimitiveSch
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -190,14 +189,8 @@ public class DataEngineSchemaTypeHandler {
                                                                             PropertyServerException {
         final String methodName = "findSchemaAttribute";
 
-        qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
-
-
-        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null,
-                SchemaTypePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedName, methodName);
-
-        EntityDetail retrievedEntity = repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
-                SchemaTypePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, properties,
+        EntityDetail retrievedEntity = repositoryHandler.getUniqueEntityByUniqueProperty(userId, qualifiedName,
+                SchemaTypePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_GUID,
                 SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, methodName);
 
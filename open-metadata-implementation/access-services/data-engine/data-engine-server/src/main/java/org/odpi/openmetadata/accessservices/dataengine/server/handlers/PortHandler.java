@@ -174,18 +174,12 @@ public class PortHandler {
                                                                                                  PropertyServerException {
         final String methodName = "getPortEntityDetailByQualifiedName";
 
-        qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
-
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(qualifiedName, PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 methodName);
 
-
-        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null,
-                PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedName, methodName);
-
-        return repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
-                PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, properties, PortPropertiesMapper.PORT_TYPE_GUID,
+        return repositoryHandler.getUniqueEntityByUniqueProperty(userId, qualifiedName,
+                PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, PortPropertiesMapper.PORT_TYPE_GUID,
                 PortPropertiesMapper.PORT_TYPE_NAME, methodName);
     }
 
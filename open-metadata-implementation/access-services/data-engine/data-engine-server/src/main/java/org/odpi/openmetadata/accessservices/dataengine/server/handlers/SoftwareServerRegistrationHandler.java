@@ -105,18 +105,12 @@ public class SoftwareServerRegistrationHandler {
                                                                                           PropertyServerException {
         final String methodName = "getSoftwareServerCapabilityByQualifiedName";
 
-        qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
-
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(qualifiedName, SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 methodName);
 
-
-        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null,
-                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedName, methodName);
-
-        EntityDetail retrievedEntity = repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
-                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, properties,
+        EntityDetail retrievedEntity = repositoryHandler.getUniqueEntityByUniqueProperty(userId, qualifiedName,
+                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 SoftwareServerPropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_GUID,
                 SoftwareServerPropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, methodName);
 
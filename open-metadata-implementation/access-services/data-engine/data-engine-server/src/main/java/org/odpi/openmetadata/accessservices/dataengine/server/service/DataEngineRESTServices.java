@@ -19,13 +19,13 @@ import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessesRequestBody
 import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypeRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.SoftwareServerCapabilityRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.server.admin.DataEngineInstanceHandler;
+import org.odpi.openmetadata.accessservices.dataengine.server.executors.DataEngineIngestionExecutor;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.PortHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.ProcessHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.SoftwareServerRegistrationHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
-import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -40,7 +40,7 @@ import org.springframework.http.HttpStatus;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -293,7 +293,7 @@ public class DataEngineRESTServices {
             Predicate<? super GUIDResponse> processStatusPredicate =
                     guidResponse -> guidResponse.getRelatedHTTPCode() == HttpStatus.OK.value();
             Map<Boolean, List<GUIDResponse>> mappedResponses =
-                    guidResponses.parallelStream().collect(Collectors.partitioningBy(processStatusPredicate));
+                    guidResponses.stream().collect(Collectors.partitioningBy(processStatusPredicate));
 
             List<GUIDResponse> createdProcesses = getGuidResponses(response, mappedResponses);
 
@@ -301,7 +301,7 @@ public class DataEngineRESTServices {
 
             createLineageMappings(userId, serverName, processesRequestBody.getLineageMappings(), response);
 
-            createdProcesses.parallelStream().forEach(guidResponse -> updateProcessStatus(userId, serverName,
+            invokeAll(userId, serverName, createdProcesses, guidResponse -> updateProcessStatus(userId, serverName,
                     guidResponse.getGUID(), InstanceStatus.ACTIVE));
         } catch (InvalidParameterException error) {
             restExceptionHandler.captureInvalidParameterException(response, error);
@@ -319,19 +319,19 @@ public class DataEngineRESTServices {
     private void handleFailedProcesses(ProcessListResponse response, Map<Boolean, List<GUIDResponse>> mappedResponses) {
         List<GUIDResponse> failedProcesses = mappedResponses.get(Boolean.FALSE);
 
-        response.setFailedGUIDs((failedProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList())));
-        failedProcesses.parallelStream().forEach(guidResponse -> captureException(guidResponse, response));
+        response.setFailedGUIDs((failedProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList())));
+        failedProcesses.forEach(guidResponse -> captureException(guidResponse, response));
     }
 
     private List<GUIDResponse> getGuidResponses(ProcessListResponse response, Map<Boolean, List<GUIDResponse>> mappedResponses) {
         List<GUIDResponse> createdProcesses = mappedResponses.get(Boolean.TRUE);
 
-        response.setGUIDs(createdProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
+        response.setGUIDs(createdProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
 
         return createdProcesses;
     }
 
-    private void captureException(FFDCResponseBase guidResponse, GUIDListResponse response) {
+    private void captureException(FFDCResponseBase guidResponse, FFDCResponseBase response) {
         response.setExceptionErrorMessage(guidResponse.getExceptionErrorMessage());
         response.setExceptionClassName(guidResponse.getExceptionClassName());
         response.setExceptionSystemAction(guidResponse.getExceptionSystemAction());
@@ -365,21 +365,53 @@ public class DataEngineRESTServices {
         return response;
     }
 
-    private List<GUIDResponse> createProcesses(String userId, String serverName, List<Process> processes) {
+    private List<GUIDResponse> createProcesses(String userId, String serverName, List<Process> processes) throws
+                                                                                                          InvalidParameterException,
+                                                                                                          PropertyServerException,
+                                                                                                          UserNotAuthorizedException {
         Predicate<? super Process> hasPortImplementationsPredicate =
                 process -> CollectionUtils.isNotEmpty(process.getPortImplementations());
         Map<Boolean, List<Process>> partitionedProcesses =
-                processes.parallelStream().collect(Collectors.partitioningBy(hasPortImplementationsPredicate));
+                processes.stream().collect(Collectors.partitioningBy(hasPortImplementationsPredicate));
 
-        List<GUIDResponse> guidResponses = new ArrayList<>();
+        Function<Process, GUIDResponse> processFunction = process -> createProcess(userId, serverName, process);
 
-        Consumer<Process> processConsumer = process -> guidResponses.add(createProcess(userId, serverName, process));
-        partitionedProcesses.get(Boolean.TRUE).parallelStream().forEach(processConsumer);
-        partitionedProcesses.get(Boolean.FALSE).parallelStream().forEach(processConsumer);
+        List<GUIDResponse> guidResponses = new ArrayList<>(invokeAll(userId, serverName,
+                partitionedProcesses.get(Boolean.TRUE), processFunction));
+        guidResponses.addAll(invokeAll(userId, serverName, partitionedProcesses.get(Boolean.FALSE), processFunction));
 
         return guidResponses;
     }
 
+    /**
+     * Apply the task to each of the items using the bulk ingestion executor of the server instance, so that
+     * large imports run on threads owned by this server rather than on the JVM-wide common pool.
+     *
+     * @param userId     the name of the calling user
+     * @param serverName name of server instance to call
+     * @param items      the items to process
+     * @param task       the work to perform for each item
+     * @param <T>        type of the items
+     * @param <R>        type of the results
+     *
+     * @return the results of the tasks, in the same order as the items
+     */
+    private <T, R> List<R> invokeAll(String userId, String serverName, List<T> items, Function<T, R> task) throws
+                                                                                                          InvalidParameterException,
+                                                                                                          PropertyServerException,
+                                                                                                          UserNotAuthorizedException {
+        final String methodName = "invokeAll";
+
+        DataEngineIngestionExecutor ingestionExecutor = instanceHandler.getIngestionExecutor(userId, serverName,
+                methodName);
+
+        if (ingestionExecutor != null) {
+            return ingestionExecutor.invokeAll(items, task);
+        }
+
+        return items.stream().map(task).collect(Collectors.toList());
+    }
+
     /**
      * Create ProcessPort relationships for an existing Process
      *
@@ -573,20 +605,32 @@ public class DataEngineRESTServices {
         DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler =
                 instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
 
-        lineageMappings.parallelStream().forEach(lineageMapping -> {
-            try {
-                dataEngineSchemaTypeHandler.addLineageMappingRelationship(userId, lineageMapping.getSourceAttribute(),
-                        lineageMapping.getTargetAttribute());
-            } catch (InvalidParameterException error) {
-                restExceptionHandler.captureInvalidParameterException(response, error);
-            } catch (PropertyServerException error) {
-                restExceptionHandler.capturePropertyServerException(response, error);
-            } catch (UserNotAuthorizedException error) {
-                restExceptionHandler.captureUserNotAuthorizedException(response, error);
-            } catch (NoSchemaAttributeException error) {
-                captureNoSchemaAttributeException(response, error);
-            }
-        });
+        List<VoidResponse> lineageMappingResponses = invokeAll(userId, serverName, lineageMappings,
+                lineageMapping -> addLineageMapping(userId, dataEngineSchemaTypeHandler, lineageMapping));
+
+        lineageMappingResponses.stream()
+                .filter(lineageMappingResponse -> lineageMappingResponse.getRelatedHTTPCode() != HttpStatus.OK.value())
+                .forEach(lineageMappingResponse -> captureException(lineageMappingResponse, response));
+    }
+
+    private VoidResponse addLineageMapping(String userId, DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler,
+                                           LineageMapping lineageMapping) {
+        VoidResponse response = new VoidResponse();
+
+        try {
+            dataEngineSchemaTypeHandler.addLineageMappingRelationship(userId, lineageMapping.getSourceAttribute(),
+                    lineageMapping.getTargetAttribute());
+        } catch (InvalidParameterException error) {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+        } catch (PropertyServerException error) {
+            restExceptionHandler.capturePropertyServerException(response, error);
+        } catch (UserNotAuthorizedException error) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+        } catch (NoSchemaAttributeException error) {
+            captureNoSchemaAttributeException(response, error);
+        }
+
+        return response;
     }
 
     private void captureNoSchemaAttributeException(FFDCResponseBase response, NoSchemaAttributeException error) {
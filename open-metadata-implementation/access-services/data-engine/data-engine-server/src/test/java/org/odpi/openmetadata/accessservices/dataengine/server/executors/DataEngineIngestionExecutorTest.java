@@ -0,0 +1,194 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataEngineIngestionExecutorTest {
+    private static final String SERVER_NAME = "server";
+    private static final String WORKER_THREAD_PREFIX = "DataEngineIngestion-" + SERVER_NAME + "-";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private DataEngineIngestionExecutor executor;
+
+    @AfterEach
+    void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void invokeAll_returnsResultsInItemOrder() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 4, 16, 4);
+
+        List<Integer> items = getItems(100);
+
+        List<Integer> results = executor.invokeAll(items, item -> {
+            pause(item % 3);
+            return item * 2;
+        });
+
+        List<Integer> expectedResults = new ArrayList<>();
+        for (Integer item : items) {
+            expectedResults.add(item * 2);
+        }
+
+        assertEquals(expectedResults, results);
+    }
+
+    @Test
+    void invokeAll_limitsRequestConcurrency() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 4, 64, 2);
+
+        AtomicInteger runningTasks = new AtomicInteger(0);
+        AtomicInteger maxRunningTasks = new AtomicInteger(0);
+
+        executor.invokeAll(getItems(20), item -> {
+            int running = runningTasks.incrementAndGet();
+            maxRunningTasks.accumulateAndGet(running, Math::max);
+            pause(10);
+            runningTasks.decrementAndGet();
+            return item;
+        });
+
+        assertTrue(maxRunningTasks.get() <= 2);
+    }
+
+    @Test
+    void invokeAll_nestedCallOnWorkerDoesNotDeadlock() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 2, 2, 2);
+
+        List<Integer> results = assertTimeoutPreemptively(TIMEOUT, () ->
+                executor.invokeAll(getItems(4), outerItem -> {
+                    List<Integer> innerResults = executor.invokeAll(getItems(4), innerItem -> outerItem * 10 + innerItem);
+
+                    int sum = 0;
+                    for (Integer innerResult : innerResults) {
+                        sum += innerResult;
+                    }
+                    return sum;
+                }));
+
+        List<Integer> expectedResults = new ArrayList<>();
+        for (int outerItem = 0; outerItem < 4; outerItem++) {
+            expectedResults.add(outerItem * 40 + 6);
+        }
+
+        assertEquals(expectedResults, results);
+    }
+
+    @Test
+    void invokeAll_runsTaskOnCallerWhenQueueIsFull() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 1, 1, 4);
+
+        Thread caller = Thread.currentThread();
+        CountDownLatch callerRanTask = new CountDownLatch(1);
+
+        // The single worker waits until a task has been run by the caller, which only happens once the queue is full
+        List<String> threadNames = assertTimeout(TIMEOUT, () ->
+                executor.invokeAll(getItems(4), item -> {
+                    if (Thread.currentThread() == caller) {
+                        callerRanTask.countDown();
+                    } else {
+                        await(callerRanTask);
+                    }
+                    return Thread.currentThread().getName();
+                }));
+
+        assertTrue(threadNames.contains(caller.getName()));
+        assertTrue(threadNames.stream().anyMatch(threadName -> threadName.startsWith(WORKER_THREAD_PREFIX)));
+    }
+
+    @Test
+    void invokeAll_runsTasksOnCallerAfterShutdown() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 4, 16, 4);
+        executor.shutdown();
+
+        String callerName = Thread.currentThread().getName();
+
+        List<String> threadNames = executor.invokeAll(getItems(10), item -> Thread.currentThread().getName());
+
+        assertEquals(10, threadNames.size());
+        assertTrue(threadNames.stream().allMatch(callerName::equals));
+    }
+
+    @Test
+    void invokeAll_throwsTaskExceptionToCaller() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 4, 16, 4);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () ->
+                executor.invokeAll(getItems(10), item -> {
+                    if (item == 7) {
+                        throw new IllegalArgumentException("item " + item);
+                    }
+                    return item;
+                }));
+
+        assertEquals("item 7", thrown.getMessage());
+    }
+
+    @Test
+    void invokeAll_waitsForRunningTasksBeforeThrowing() {
+        executor = new DataEngineIngestionExecutor(SERVER_NAME, 4, 64, 4);
+
+        AtomicInteger runningTasks = new AtomicInteger(0);
+        AtomicInteger startedTasks = new AtomicInteger(0);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                executor.invokeAll(getItems(40), item -> {
+                    runningTasks.incrementAndGet();
+                    startedTasks.incrementAndGet();
+                    try {
+                        if (item == 0) {
+                            throw new IllegalArgumentException("item " + item);
+                        }
+                        pause(50);
+                        return item;
+                    } finally {
+                        runningTasks.decrementAndGet();
+                    }
+                }));
+
+        assertEquals(0, runningTasks.get());
+        assertTrue(startedTasks.get() < 40);
+    }
+
+    private List<Integer> getItems(int count) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    private void pause(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT.getSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -220,8 +220,8 @@ class DataEngineSchemaTypeHandlerTest {
                                                                                    PropertyServerException {
         EntityDetail mockedEntity = Mockito.mock(EntityDetail.class);
         when(mockedEntity.getGUID()).thenReturn(guid);
-        when(repositoryHandler.getUniqueEntityByName(USER, qualifiedName,
-                SchemaTypePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, null,
+        when(repositoryHandler.getUniqueEntityByUniqueProperty(USER, qualifiedName,
+                SchemaTypePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_GUID,
                 SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, "findSchemaAttribute")).thenReturn(mockedEntity);
     }
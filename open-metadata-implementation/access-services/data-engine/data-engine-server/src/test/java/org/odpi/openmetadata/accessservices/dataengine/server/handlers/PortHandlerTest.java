@@ -176,8 +176,8 @@ class PortHandlerTest {
         mockedInstanceProperties.setProperty(PortPropertiesMapper.PORT_TYPE_PROPERTY_NAME, mockedEnumValue);
 
         when(mockedPortEntity.getProperties()).thenReturn(mockedInstanceProperties);
-        when(repositoryHandler.getUniqueEntityByName(USER, DELEGATED_QUALIFIED_NAME,
-                PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, null, PortPropertiesMapper.PORT_TYPE_GUID,
+        when(repositoryHandler.getUniqueEntityByUniqueProperty(USER, DELEGATED_QUALIFIED_NAME,
+                PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, PortPropertiesMapper.PORT_TYPE_GUID,
                 PortPropertiesMapper.PORT_TYPE_NAME, "getPortEntityDetailByQualifiedName")).thenReturn(mockedPortEntity);
     }
 
@@ -101,8 +101,8 @@ class SoftwareServerRegistrationHandlerTest {
         EntityDetail entityDetail = Mockito.mock(EntityDetail.class);
         when(entityDetail.getGUID()).thenReturn(GUID);
 
-        when(repositoryHandler.getUniqueEntityByName(USER, QUALIFIED_NAME,
-                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, null,
+        when(repositoryHandler.getUniqueEntityByUniqueProperty(USER, QUALIFIED_NAME,
+                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 SoftwareServerPropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_GUID,
                 SoftwareServerPropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, methodName)).thenReturn(entityDetail);
 
@@ -125,8 +125,8 @@ class SoftwareServerRegistrationHandlerTest {
         String methodName = "getSoftwareServerCapabilityByQualifiedName";
 
         UserNotAuthorizedException mockedException = mockException(UserNotAuthorizedException.class, methodName);
-        when(repositoryHandler.getUniqueEntityByName(USER, QUALIFIED_NAME,
-                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, null,
+        when(repositoryHandler.getUniqueEntityByUniqueProperty(USER, QUALIFIED_NAME,
+                SoftwareServerPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 SoftwareServerPropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_GUID,
                 SoftwareServerPropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, methodName)).thenThrow(mockedException);
 
@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.dataplatform.eventprocessor;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.dataplatform.auditlog.DataPlatformAuditCode;
 import org.odpi.openmetadata.accessservices.dataplatform.events.DataPlatformEventHeader;
 import org.odpi.openmetadata.accessservices.dataplatform.events.NewViewEvent;
@@ -17,6 +16,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +25,6 @@ public class EventPublisher  extends OMRSInstanceEventProcessor  {
     private static final Logger log = LoggerFactory.getLogger(EventPublisher.class);
     private static final String eventPublisherName = "Data Platform OMAS Event Publisher";
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private OpenMetadataTopic dataPlatformOutTopicConnector;
     private OMRSAuditLog auditLog;
 
@@ -345,7 +344,7 @@ public class EventPublisher  extends OMRSInstanceEventProcessor  {
 
         try {
 
-            dataPlatformOutTopicConnector.sendEvent(OBJECT_MAPPER.writeValueAsString(event));
+            dataPlatformOutTopicConnector.sendEvent(JSONSerializer.writeValueAsString(event));
             successFlag = true;
 
         } catch (Throwable error) {
@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.accessservices.dataplatform.listeners;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.dataplatform.beans.InformationViewAsset;
 import org.odpi.openmetadata.accessservices.dataplatform.beans.View;
 import org.odpi.openmetadata.accessservices.dataplatform.contentmanager.OMEntityDao;
@@ -23,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSever
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +35,6 @@ public class DataPlatformInTopicListener implements OpenMetadataTopicListener {
 
 
     private static final Logger log = LoggerFactory.getLogger(DataPlatformInTopicListener.class);
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final OMEntityDao omEntityDao;
     private final OMRSAuditLog auditLog;
     private EventPublisher eventPublisher;
@@ -62,10 +61,10 @@ public class DataPlatformInTopicListener implements OpenMetadataTopicListener {
 
         try {
             //TODO: Use Strategy Pattern instead of multiple if else conditions
-            DataPlatformEventHeader dataPlatformEventHeader = OBJECT_MAPPER.readValue(eventAsString, DataPlatformEventHeader.class);
+            DataPlatformEventHeader dataPlatformEventHeader = JSONSerializer.readValue(eventAsString, DataPlatformEventHeader.class);
 
             if (dataPlatformEventHeader.getEventType() == DataPlatformEventType.NEW_DEPLOYED_DB_SCHEMA_EVENT) {
-                NewDeployedDatabaseSchemaEvent newDeployedDatabaseSchemaEvent = OBJECT_MAPPER.readValue(eventAsString, NewDeployedDatabaseSchemaEvent.class);
+                NewDeployedDatabaseSchemaEvent newDeployedDatabaseSchemaEvent = JSONSerializer.readValue(eventAsString, NewDeployedDatabaseSchemaEvent.class);
                 log.info("Started processing NewDeployedDatabaseSchemaEvent event in DataPlatform OMAS");
 
                 DeployedDatabaseSchemaAssetHandler handler = instance.getDeployedDatabaseSchemaAssetHandler();
@@ -75,7 +74,7 @@ public class DataPlatformInTopicListener implements OpenMetadataTopicListener {
 
             } else if (dataPlatformEventHeader.getEventType() == DataPlatformEventType.NEW_INFORMATION_VIEW_EVENT) {
 
-                NewViewEvent newViewEvent = OBJECT_MAPPER.readValue(eventAsString, NewViewEvent.class);
+                NewViewEvent newViewEvent = JSONSerializer.readValue(eventAsString, NewViewEvent.class);
                 log.info("Started processing NewView event in DataPlatform OMAS");
                 InformationViewAssetHandler informationViewAssetHandler = new InformationViewAssetHandler(newViewEvent, omEntityDao);
                 ViewHandler viewsBuilder = new ViewHandler(newViewEvent, omEntityDao, repositoryHelper);
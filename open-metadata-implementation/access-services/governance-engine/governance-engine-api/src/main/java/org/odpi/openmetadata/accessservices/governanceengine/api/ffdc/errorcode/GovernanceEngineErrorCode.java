@@ -59,6 +59,14 @@ public enum GovernanceEngineErrorCode {
             "The text field value passed on the {0} parameter of the {1} operation is null",
             "The system is unable to process the request without this text field value.",
             "Correct the code in the caller to provide the name."),
+    INVALID_PAGE_TOKEN(400, "OMAS-GOVERNANCEENGINE-400-012 ",
+            "The page token {0} passed on the {1} operation is not valid",
+            "The system is unable to resume the paged retrieval from this token.",
+            "Pass the page token returned with the previous page, or no page token to start from the first page."),
+    INVALID_PAGE_SIZE(400, "OMAS-GOVERNANCEENGINE-400-013 ",
+            "The page size {0} passed on the {1} operation is not valid",
+            "The system is unable to process the request with a negative page size.",
+            "Correct the code in the caller to provide a page size of zero or more."),
     OMRS_NOT_INITIALIZED(404, "OMAS-GOVERNANCEENGINE-404-001 ",
             "The open metadata repository services are not initialized for the {0} operation",
             "The system is unable to connect to the open metadata property handlers.",
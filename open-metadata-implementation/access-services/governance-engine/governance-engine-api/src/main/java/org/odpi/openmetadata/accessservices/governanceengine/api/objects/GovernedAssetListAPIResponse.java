@@ -23,6 +23,7 @@ public class GovernedAssetListAPIResponse extends GovernanceEngineOMASAPIRespons
 
     private static final long serialVersionUID = 1L;
     private List<GovernedAsset> assetList;
+    private String nextPageToken;
 
     /**
      * Return the Connection object.
@@ -42,4 +43,21 @@ public class GovernedAssetListAPIResponse extends GovernanceEngineOMASAPIRespons
         this.assetList = assetList;
     }
 
+    /**
+     * Return the token to pass on the next request to retrieve the following page of governed assets.
+     *
+     * @return page token - null means there are no more governed assets
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * Set up the token for retrieving the following page of governed assets.
+     *
+     * @param nextPageToken - page token
+     */
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
 }
@@ -0,0 +1,60 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.api.objects;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GovernedAssetPage is one page of governed assets together with the token used to request the next page.
+ * A null next page token means there are no more governed assets to retrieve.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GovernedAssetPage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<GovernedAsset> governedAssets;
+    private String nextPageToken;
+
+    public GovernedAssetPage() {
+    }
+
+    public GovernedAssetPage(List<GovernedAsset> governedAssets, String nextPageToken) {
+        this.governedAssets = governedAssets;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<GovernedAsset> getGovernedAssets() {
+        return governedAssets;
+    }
+
+    public void setGovernedAssets(List<GovernedAsset> governedAssets) {
+        this.governedAssets = governedAssets;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "GovernedAssetPage{" +
+                "governedAssets=" + governedAssets +
+                ", nextPageToken='" + nextPageToken + '\'' +
+                '}';
+    }
+}
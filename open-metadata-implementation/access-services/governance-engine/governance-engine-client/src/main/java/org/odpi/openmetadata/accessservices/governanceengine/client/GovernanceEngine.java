@@ -7,6 +7,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetAPIResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetListAPIResponse;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetPage;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.SoftwareServerCapabilityResponse;
 import org.slf4j.Logger;
@@ -14,6 +15,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -66,6 +69,42 @@ public class GovernanceEngine implements GovernanceEngineInterface {
         return Collections.emptyList();
     }
 
+    /**
+     * @param userId    - String - userId of user making request.
+     * @param type      - String - root asset type (can be null)
+     * @param pageToken - String - token returned with the previous page (null for the first page)
+     * @param pageSize  - int - maximum number of governed assets to return
+     * @return governedAssetPage                    - page of governed assets and the token for the next page
+     * @throws InvalidParameterException - one of the parameters is null or invalid.
+     */
+    @Override
+    public GovernedAssetPage getGovernedAssetPage(String userId, String type, String pageToken, int pageSize) throws InvalidParameterException {
+        final String methodName = "getGovernedAssetPage";
+        log.debug("Calling method: {}", methodName);
+
+        validateOMASServerURL(methodName);
+        validateUserId(userId, methodName);
+
+        StringBuilder url = new StringBuilder("/servers/{0}/open-metadata/access-services/governance-engine/users/{1}/assets?pageSize={2}");
+        List<Object> params = new ArrayList<>(Arrays.asList(serverName, userId, pageSize));
+        if (type != null) {
+            url.append("&type={").append(params.size()).append("}");
+            params.add(type);
+        }
+        if (pageToken != null) {
+            url.append("&pageToken={").append(params.size()).append("}");
+            params.add(pageToken);
+        }
+
+        GovernedAssetListAPIResponse response = getRestCall(url.toString(), GovernedAssetListAPIResponse.class, params.toArray());
+
+        if (response != null) {
+            return new GovernedAssetPage(response.getGovernedAssetList(), response.getNextPageToken());
+        }
+
+        return new GovernedAssetPage(Collections.emptyList(), null);
+    }
+
     /**
      * @param userId    - String - userId of user making request.
      * @param assetGuid - String - guid of asset component
@@ -9,6 +9,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions
 import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions.TypeNotFoundException;
 import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions.UserNotAuthorizedException;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetPage;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.SoftwareServerCapability;
 
 import java.util.List;
@@ -41,6 +42,22 @@ public interface GovernanceEngineInterface {
     List<GovernedAsset> getGovernedAssetList(String userId, String classification, String type)
             throws InvalidParameterException, UserNotAuthorizedException, ClassificationNotFoundException, MetadataServerException, TypeNotFoundException;
 
+    /**
+     * Return one page of the governed assets.  Pass the next page token from the returned page on the following
+     * call to continue the retrieval; a null next page token means there are no more governed assets.
+     *
+     * @param userId    - String - userId of user making request.
+     * @param type      - String - root type of asset (can be null)
+     * @param pageToken - String - token returned with the previous page (null for the first page)
+     * @param pageSize  - int - maximum number of governed assets to return
+     * @return GovernedAssetPage                    - page of governed assets and the token for the next page
+     * @throws InvalidParameterException       - one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException      - the requesting user is not authorized to issue this request.
+     * @throws MetadataServerException         - A failure occurred communicating with the metadata repository
+     */
+    GovernedAssetPage getGovernedAssetPage(String userId, String type, String pageToken, int pageSize)
+            throws InvalidParameterException, UserNotAuthorizedException, MetadataServerException;
+
     /**
      * @param userId    - String - userId of user making request.
      * @param assetGuid - String - guid of asset component
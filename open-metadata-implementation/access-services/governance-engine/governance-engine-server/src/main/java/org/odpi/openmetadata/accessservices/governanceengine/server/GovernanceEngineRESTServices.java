@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions
 import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions.PropertyServerException;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetAPIResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetListAPIResponse;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetPage;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.SoftwareServerCapabilityRequestBody;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.SoftwareServerCapabilityResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetHandler;
@@ -74,12 +75,38 @@ public class GovernanceEngineRESTServices {
     public GovernedAssetListAPIResponse getGovernedAssets(String serverName,
                                                           String userId,
                                                           List<String> type) {
+        return getGovernedAssets(serverName, userId, type, null, 0);
+    }
+
+    /**
+     * Returns one page of the governed assets
+     * <p>
+     * These include the tag associations but not the definitions of those tags.  The response carries the
+     * token to pass on the next call to retrieve the following page; no token means there are no more assets.
+     *
+     * @param serverName - name of the server that the request is for
+     * @param userId     - String - userId of user making request.
+     * @param type       types to start query from
+     * @param pageToken  token returned with the previous page - null for the first page
+     * @param pageSize   maximum number of governed assets to return - 0 means no limit
+     * @return GovernedAssetComponentList or
+     * InvalidParameterException - one of the parameters is null or invalid.
+     * PropertyServerException - there is a problem retrieving information from the property (metadata) handlers.
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public GovernedAssetListAPIResponse getGovernedAssets(String serverName,
+                                                          String userId,
+                                                          List<String> type,
+                                                          String pageToken,
+                                                          int pageSize) {
         GovernedAssetListAPIResponse response = new GovernedAssetListAPIResponse();
 
         try {
             GovernedAssetHandler governedAssetHandler = new GovernedAssetHandler(instanceHandler.getRepositoryConnector(serverName));
 
-            response.setGovernedAssetList(governedAssetHandler.getGovernedAssets(userId, type));
+            GovernedAssetPage governedAssetPage = governedAssetHandler.getGovernedAssets(userId, type, pageToken, pageSize);
+            response.setGovernedAssetList(governedAssetPage.getGovernedAssets());
+            response.setNextPageToken(governedAssetPage.getNextPageToken());
         } catch (InvalidParameterException error) {
             exceptionHandler.captureInvalidParameterException(response, error);
         } catch (MetadataServerException error) {
@@ -66,4 +66,28 @@ public final class GovernanceEngineValidator {
                     errorCode.getUserAction());
         }
     }
+
+
+    /**
+     * Throw an exception if the supplied page size is negative
+     *
+     * @param pageSize   - page size to validate
+     * @param methodName - name of the method making the call.
+     * @throws InvalidParameterException - the page size is negative
+     */
+    static void validatePageSize(int pageSize,
+                                 String methodName) throws InvalidParameterException {
+        if (pageSize < 0) {
+            GovernanceEngineErrorCode errorCode = GovernanceEngineErrorCode.INVALID_PAGE_SIZE;
+            String errorMessage = errorCode.getErrorMessageId()
+                    + errorCode.getFormattedErrorMessage(Integer.toString(pageSize), methodName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                    MethodHandles.lookup().lookupClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+    }
 }
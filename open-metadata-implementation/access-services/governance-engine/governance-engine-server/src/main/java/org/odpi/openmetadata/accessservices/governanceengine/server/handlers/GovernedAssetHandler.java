@@ -8,9 +8,11 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.Context;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernanceClassification;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetPage;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.governanceengine.server.processor.ContextBuilder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
@@ -62,6 +64,8 @@ public class GovernedAssetHandler {
 
     private OMRSMetadataCollection metadataCollection;
     private OMRSRepositoryConnector repositoryConnector;
+    private static final String PAGE_TOKEN_SEPARATOR = ":";
+
     private Map<String, String> knownTypeDefs = new HashMap<>();
     private ContextBuilder contextBuilder = new ContextBuilder();
 
@@ -104,20 +108,64 @@ public class GovernedAssetHandler {
      */
     public List<GovernedAsset> getGovernedAssets(String userId,
                                                  List<String> type) throws InvalidParameterException, EntityProxyOnlyException, TypeErrorException, FunctionNotSupportedException, PropertyErrorException, EntityNotKnownException, TypeDefNotKnownException, PagingErrorException, UserNotAuthorizedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, ClassificationErrorException {
+        return getGovernedAssets(userId, type, null, 0).getGovernedAssets();
+    }
+
+    /**
+     * Returns one page of the governed assets with associated tags.  The assets of each requested type are
+     * retrieved in turn, a page at a time, so the caller can process any number of governed assets without
+     * holding them all in memory.
+     *
+     * @param userId    - String - userId of user making request.
+     * @param type      - types to start query from.
+     * @param pageToken - token returned with the previous page - null for the first page.
+     * @param pageSize  - maximum number of governed assets to return.
+     * @return the page of governed assets and the token to request the next page
+     * @throws InvalidParameterException - one of the parameters is null or invalid.
+     */
+    public GovernedAssetPage getGovernedAssets(String userId,
+                                               List<String> type,
+                                               String pageToken,
+                                               int pageSize) throws InvalidParameterException, EntityProxyOnlyException, TypeErrorException, FunctionNotSupportedException, PropertyErrorException, EntityNotKnownException, TypeDefNotKnownException, PagingErrorException, UserNotAuthorizedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, ClassificationErrorException {
         final String methodName = "getGovernedAssets";
         GovernanceEngineValidator.validateUserId(userId, methodName);
+        GovernanceEngineValidator.validatePageSize(pageSize, methodName);
+
+        List<String> searchedTypes = type == null ? Collections.singletonList(null) : type;
+
+        int typeIndex = 0;
+        int fromElement = 0;
+        if (pageToken != null) {
+            int[] position = parsePageToken(pageToken, searchedTypes.size(), methodName);
+            typeIndex = position[0];
+            fromElement = position[1];
+        }
 
         List<EntityDetail> response = new ArrayList<>();
 
-        if (type == null) {
-            response = getEntitiesByClassification(userId, null);
-        } else {
-            for (String searchedType : type) {
-                String typeGUID = getTypeGuidFromTypeName(userId, searchedType);
-                response.addAll(getEntitiesByClassification(userId, typeGUID));
+        while (typeIndex < searchedTypes.size() && (pageSize == 0 || response.size() < pageSize)) {
+            String searchedType = searchedTypes.get(typeIndex);
+            String typeGUID = searchedType == null ? null : getTypeGuidFromTypeName(searchedType, userId);
+            int remaining = pageSize == 0 ? 0 : pageSize - response.size();
+
+            List<EntityDetail> entities = getEntitiesByClassification(userId, typeGUID, fromElement, remaining);
+            int retrieved = entities == null ? 0 : entities.size();
+
+            if (retrieved > 0) {
+                response.addAll(entities);
+            }
+
+            if (remaining == 0 || retrieved < remaining) {
+                typeIndex++;
+                fromElement = 0;
+            } else {
+                fromElement += retrieved;
             }
         }
-        return getGovernedAssets(response);
+
+        String nextPageToken = typeIndex < searchedTypes.size() ? typeIndex + PAGE_TOKEN_SEPARATOR + fromElement : null;
+
+        return new GovernedAssetPage(getGovernedAssets(response), nextPageToken);
     }
 
     /**
@@ -208,19 +256,47 @@ public class GovernedAssetHandler {
 
     }
 
-    private List<EntityDetail> getEntitiesByClassification(String userId, String typeGuid) throws ClassificationErrorException, UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
+    private List<EntityDetail> getEntitiesByClassification(String userId, String typeGuid, int fromElement, int pageSize) throws ClassificationErrorException, UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
 
+        // the results are ordered by GUID so that the offset in a page token always refers to the same sequence
         return metadataCollection.findEntitiesByClassification(userId,
                 typeGuid,
                 SECURITY_TAG,
                 null,
                 null,
-                0,
+                fromElement,
                 null,
                 null,
                 null,
-                null,
-                0);
+                SequencingOrder.GUID,
+                pageSize);
+    }
+
+    private int[] parsePageToken(String pageToken, int typeCount, String methodName) throws InvalidParameterException {
+        String[] position = pageToken.split(PAGE_TOKEN_SEPARATOR);
+
+        if (position.length == 2) {
+            try {
+                int typeIndex = Integer.parseInt(position[0]);
+                int fromElement = Integer.parseInt(position[1]);
+
+                if (typeIndex >= 0 && typeIndex < typeCount && fromElement >= 0) {
+                    return new int[]{typeIndex, fromElement};
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+
+        GovernanceEngineErrorCode errorCode = GovernanceEngineErrorCode.INVALID_PAGE_TOKEN;
+        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(pageToken, methodName);
+
+        throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                this.getClass().getName(),
+                methodName,
+                errorMessage,
+                errorCode.getSystemAction(),
+                errorCode.getUserAction());
     }
 
     private GovernanceClassification getGovernanceClassification(Classification classification) {
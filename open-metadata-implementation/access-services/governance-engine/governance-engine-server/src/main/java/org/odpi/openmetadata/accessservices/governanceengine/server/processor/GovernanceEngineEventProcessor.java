@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.accessservices.governanceengine.server.processor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEvent;
 import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEventType;
 import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions.MetadataServerException;
@@ -23,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeDefNotKnownException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,8 +94,7 @@ public class GovernanceEngineEventProcessor {
 
     private void sendEvent(GovernanceEngineEvent event) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            governanceEngineOutputTopic.sendEvent(mapper.writeValueAsString(event));
+            governanceEngineOutputTopic.sendEvent(JSONSerializer.writeValueAsString(event));
             log.info("[Governance Engine]event send");
         } catch (JsonProcessingException e) {
             log.error("[Governance Engine] Unable to map the json to string");
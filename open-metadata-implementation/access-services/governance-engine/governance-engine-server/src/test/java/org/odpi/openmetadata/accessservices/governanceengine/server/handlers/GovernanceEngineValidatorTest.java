@@ -16,6 +16,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernanceEngineValidator.validateGUID;
+import static org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernanceEngineValidator.validatePageSize;
 import static org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernanceEngineValidator.validateUserId;
 
 @SuiteDisplayName("Governance Engine Server GovernanceEngineValidator")
@@ -74,6 +75,19 @@ public class GovernanceEngineValidatorTest {
     }
 
 
+    @Test
+    @DisplayName("validatePageSize - check negative page size handled")
+    void validatePageSizeNegative() {
+        thrown = assertThrows(InvalidParameterException.class, () -> validatePageSize(-1, defMethodName));
+        assertTrue(thrown.getMessage().contains("OMAS-GOVERNANCEENGINE-400-013"));
+    }
+
+    @Test
+    @DisplayName("validatePageSize - check unlimited page size passes")
+    void validatePageSizeZero() throws InvalidParameterException {
+        validatePageSize(0, defMethodName);
+    }
+
     @Test
     @DisplayName("validateAssetType - check null handled")
     void validateAssetTypeNull() {
@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.accessservices.governanceengine.server.handlers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.suite.api.SuiteDisplayName;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.accessservices.governanceengine.server.util.Constants.QUALIFIED_NAME;
+import static org.odpi.openmetadata.accessservices.governanceengine.server.util.Constants.SECURITY_TAG;
+
+@SuiteDisplayName("Governance Engine Server GovernedAssetHandler")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+public class GovernedAssetHandlerTest {
+
+    private static final String defUserId = "ernie46";
+    private static final String firstTypeName = "FirstType";
+    private static final String firstTypeGUID = "first-type-guid";
+    private static final String secondTypeName = "SecondType";
+    private static final String secondTypeGUID = "second-type-guid";
+
+    @Mock
+    private OMRSRepositoryConnector repositoryConnector;
+    @Mock
+    private OMRSMetadataCollection metadataCollection;
+
+    private GovernedAssetHandler governedAssetHandler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(repositoryConnector.getMetadataCollection()).thenReturn(metadataCollection);
+
+        governedAssetHandler = new GovernedAssetHandler(repositoryConnector);
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - pages walk the types in turn and resume from the page token")
+    void getGovernedAssetsPagesAcrossTypes() throws Exception {
+        mockType(firstTypeName, firstTypeGUID, getEntities(firstTypeName, 3));
+        mockType(secondTypeName, secondTypeGUID, getEntities(secondTypeName, 2));
+
+        List<String> types = Arrays.asList(firstTypeName, secondTypeName);
+
+        GovernedAssetPage page = governedAssetHandler.getGovernedAssets(defUserId, types, null, 2);
+        assertEquals(Arrays.asList("FirstType-0", "FirstType-1"), getGUIDs(page));
+        assertEquals("0:2", page.getNextPageToken());
+
+        page = governedAssetHandler.getGovernedAssets(defUserId, types, page.getNextPageToken(), 2);
+        assertEquals(Arrays.asList("FirstType-2", "SecondType-0"), getGUIDs(page));
+        assertEquals("1:1", page.getNextPageToken());
+
+        page = governedAssetHandler.getGovernedAssets(defUserId, types, page.getNextPageToken(), 2);
+        assertEquals(Collections.singletonList("SecondType-1"), getGUIDs(page));
+        assertNull(page.getNextPageToken());
+
+        verify(metadataCollection, atLeastOnce()).findEntitiesByClassification(eq(defUserId), eq(firstTypeGUID), eq(SECURITY_TAG),
+                isNull(), isNull(), anyInt(), isNull(), isNull(), isNull(), eq(SequencingOrder.GUID), anyInt());
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - an exactly full last page is followed by an empty page with no token")
+    void getGovernedAssetsExactlyFullLastPage() throws Exception {
+        mockType(firstTypeName, firstTypeGUID, getEntities(firstTypeName, 2));
+
+        List<String> types = Collections.singletonList(firstTypeName);
+
+        GovernedAssetPage page = governedAssetHandler.getGovernedAssets(defUserId, types, null, 2);
+        assertEquals(Arrays.asList("FirstType-0", "FirstType-1"), getGUIDs(page));
+        assertEquals("0:2", page.getNextPageToken());
+
+        page = governedAssetHandler.getGovernedAssets(defUserId, types, page.getNextPageToken(), 2);
+        assertTrue(page.getGovernedAssets().isEmpty());
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - a page size of 0 returns every asset in one page")
+    void getGovernedAssetsUnlimitedPage() throws Exception {
+        mockType(firstTypeName, firstTypeGUID, getEntities(firstTypeName, 3));
+        mockType(secondTypeName, secondTypeGUID, getEntities(secondTypeName, 2));
+
+        GovernedAssetPage page = governedAssetHandler.getGovernedAssets(defUserId, Arrays.asList(firstTypeName, secondTypeName), null, 0);
+
+        assertEquals(5, page.getGovernedAssets().size());
+        assertNull(page.getNextPageToken());
+    }
+
+    private void mockType(String typeName, String typeGUID, List<EntityDetail> entities) throws Exception {
+        EntityDef typeDef = new EntityDef();
+        typeDef.setGUID(typeGUID);
+        typeDef.setName(typeName);
+
+        when(metadataCollection.getTypeDefByName(defUserId, typeName)).thenReturn(typeDef);
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(typeGUID), eq(SECURITY_TAG),
+                isNull(), isNull(), anyInt(), isNull(), isNull(), isNull(), eq(SequencingOrder.GUID), anyInt()))
+                .thenAnswer(invocation -> {
+                    int fromElement = invocation.getArgument(5);
+                    int pageSize = invocation.getArgument(10);
+                    int toElement = pageSize == 0 ? entities.size() : Math.min(fromElement + pageSize, entities.size());
+
+                    if (fromElement >= toElement) {
+                        return null;
+                    }
+                    return new ArrayList<>(entities.subList(fromElement, toElement));
+                });
+    }
+
+    private List<EntityDetail> getEntities(String typeName, int count) {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            InstanceType instanceType = new InstanceType();
+            instanceType.setTypeDefName(typeName);
+
+            EntityDetail entityDetail = new EntityDetail();
+            entityDetail.setGUID(typeName + "-" + i);
+            entityDetail.setType(instanceType);
+            entityDetail.setProperties(getProperties(typeName + "-" + i));
+
+            entities.add(entityDetail);
+        }
+
+        return entities;
+    }
+
+    private InstanceProperties getProperties(String qualifiedName) {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(qualifiedName);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(QUALIFIED_NAME, propertyValue);
+
+        return properties;
+    }
+
+    private List<String> getGUIDs(GovernedAssetPage page) {
+        List<String> guids = new ArrayList<>();
+
+        for (GovernedAsset governedAsset : page.getGovernedAssets()) {
+            guids.add(governedAsset.getGuid());
+        }
+
+        return guids;
+    }
+}
@@ -33,8 +33,10 @@ public class GovernanceEngineOMASResource {
      * <p>
      * These include the tag associations but not the definitions of those tags
      *
-     * @param userId - String - userId of user making request.
-     * @param type   - the type of the entities that are returned
+     * @param userId    - String - userId of user making request.
+     * @param type      - the type of the entities that are returned
+     * @param pageToken - token returned with the previous page of governed assets - absent for the first page
+     * @param pageSize  - maximum number of governed assets to return - 0 (the default) means no limit
      * @return GovernedAssetComponentList or
      * InvalidParameterException - one of the parameters is null or invalid.
      * UnrecognizedConnectionNameException - there is no connection defined for this name.
@@ -45,8 +47,10 @@ public class GovernanceEngineOMASResource {
     @RequestMapping(method = RequestMethod.GET, path = "/assets", produces = MediaType.APPLICATION_JSON_VALUE)
     public GovernedAssetListAPIResponse getGovernedAssets(@PathVariable String serverName,
                                                           @PathVariable String userId,
-                                                          @RequestParam(value = "type", required = false) List<String> type) {
-        return restAPI.getGovernedAssets(serverName, userId, type);
+                                                          @RequestParam(value = "type", required = false) List<String> type,
+                                                          @RequestParam(value = "pageToken", required = false) String pageToken,
+                                                          @RequestParam(value = "pageSize", required = false, defaultValue = "0") Integer pageSize) {
+        return restAPI.getGovernedAssets(serverName, userId, type, pageToken, pageSize);
     }
 
     /**
@@ -4,7 +4,6 @@
 package org.odpi.openmetadata.accessservices.informationview.eventprocessor;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.informationview.events.InformationViewHeader;
 import org.odpi.openmetadata.accessservices.informationview.events.SemanticAssignment;
 import org.odpi.openmetadata.accessservices.informationview.events.TableColumn;
@@ -33,6 +32,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyEx
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +46,6 @@ public class EventPublisher extends OMRSInstanceEventProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(EventPublisher.class);
     private static final String eventPublisherName = "Information View OMAS Event Publisher";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private OpenMetadataTopic informationViewOutTopicConnector;
     private OMRSRepositoryConnector enterpriseConnector;
     private ColumnContextBuilder columnContextBuilder;
@@ -492,7 +491,7 @@ public class EventPublisher extends OMRSInstanceEventProcessor {
 
         try {
 
-            informationViewOutTopicConnector.sendEvent(OBJECT_MAPPER.writeValueAsString(event));
+            informationViewOutTopicConnector.sendEvent(JSONSerializer.writeValueAsString(event));
             successFlag = true;
 
         } catch (Throwable error) {
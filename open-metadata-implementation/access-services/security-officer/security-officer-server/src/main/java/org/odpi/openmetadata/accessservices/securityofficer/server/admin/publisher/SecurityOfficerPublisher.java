@@ -5,7 +5,6 @@
 package org.odpi.openmetadata.accessservices.securityofficer.server.admin.publisher;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.securityofficer.api.events.SecurityOfficerEvent;
 import org.odpi.openmetadata.accessservices.securityofficer.api.events.SecurityOfficerTagEvent;
 import org.odpi.openmetadata.accessservices.securityofficer.api.ffdc.errorcode.SecurityOfficerErrorCode;
@@ -23,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +38,6 @@ public class SecurityOfficerPublisher extends OMRSInstanceEventProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(SecurityOfficerPublisher.class);
     private static final String eventPublisherName = "Security Officer OMAS Event Publisher";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private SecurityOfficerEventProcessor securityOfficerEventProcessor;
     private OpenMetadataTopicConnector openMetadataTopicConnector;
     private OMRSAuditLog auditLog;
@@ -223,7 +222,7 @@ public class SecurityOfficerPublisher extends OMRSInstanceEventProcessor {
     }
 
     public void sendEvent(SecurityOfficerEvent securityOfficerEvent) throws JsonProcessingException {
-        String event = OBJECT_MAPPER.writeValueAsString(securityOfficerEvent);
+        String event = JSONSerializer.writeValueAsString(securityOfficerEvent);
 
         try {
             openMetadataTopicConnector.sendEvent(event);
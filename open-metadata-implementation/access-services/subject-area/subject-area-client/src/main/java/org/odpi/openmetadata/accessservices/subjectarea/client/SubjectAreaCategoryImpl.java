@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.accessservices.subjectarea.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.SubjectAreaDefinition;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.SequencingOrder;
@@ -16,6 +15,7 @@ import org.odpi.openmetadata.accessservices.subjectarea.validators.InputValidato
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.*;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 
 import java.util.Date;
 import java.util.List;
@@ -71,10 +71,9 @@ public class SubjectAreaCategoryImpl extends SubjectAreaBaseImpl implements org.
         InputValidator.validateUserIdNotNull(className,methodName,userId);
         final String url = this.omasServerURL + String.format(BASE_URL,serverName,userId);
         InputValidator.validateUserIdNotNull(className,methodName,userId);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedCategory);
+            requestBody = JSONSerializer.writeValueAsString(suppliedCategory);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -501,10 +500,9 @@ public class SubjectAreaCategoryImpl extends SubjectAreaBaseImpl implements org.
         InputValidator.validateUserIdNotNull(className,methodName,userId);
         final String url = this.omasServerURL + String.format(BASE_URL,serverName,userId);
         InputValidator.validateUserIdNotNull(className,methodName,userId);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedSubjectAreaDefinition);
+            requestBody = JSONSerializer.writeValueAsString(suppliedSubjectAreaDefinition);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -797,10 +795,9 @@ public class SubjectAreaCategoryImpl extends SubjectAreaBaseImpl implements org.
 
         final String urlTemplate = this.omasServerURL +BASE_URL +"/%s?isReplace=%b";
         String url = String.format(urlTemplate,serverName,userId,guid,isReplace);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedCategory);
+            requestBody = JSONSerializer.writeValueAsString(suppliedCategory);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -846,10 +843,9 @@ public class SubjectAreaCategoryImpl extends SubjectAreaBaseImpl implements org.
 
         final String urlTemplate = this.omasServerURL +BASE_URL +"/%s?isReplace=%b";
         String url = String.format(urlTemplate,serverName,userId,guid,isReplace);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedSubjectAreaDefinition);
+            requestBody = JSONSerializer.writeValueAsString(suppliedSubjectAreaDefinition);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.accessservices.subjectarea.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.SequencingOrder;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Line;
@@ -15,6 +14,7 @@ import org.odpi.openmetadata.accessservices.subjectarea.responses.*;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.QueryUtils;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.RestCaller;
 import org.odpi.openmetadata.accessservices.subjectarea.validators.InputValidator;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,10 +78,9 @@ public class SubjectAreaGlossaryImpl extends SubjectAreaBaseImpl implements org.
         InputValidator.validateUserIdNotNull(className,methodName,userId);
         final String url = this.omasServerURL + String.format(BASE_URL,serverName,userId);
         InputValidator.validateNodeType(className,methodName,suppliedGlossary.getNodeType(), NodeType.Glossary,NodeType.Taxonomy,NodeType.TaxonomyAndCanonicalGlossary,NodeType.CanonicalGlossary);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedGlossary);
+            requestBody = JSONSerializer.writeValueAsString(suppliedGlossary);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -495,10 +494,9 @@ public class SubjectAreaGlossaryImpl extends SubjectAreaBaseImpl implements org.
 
         final String urlTemplate = this.omasServerURL +BASE_URL+"/%s?isReplace=%b";
         String url = String.format(urlTemplate,serverName,userId,guid,isReplace);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedGlossary);
+            requestBody = JSONSerializer.writeValueAsString(suppliedGlossary);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.accessservices.subjectarea.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.*;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.SequencingOrder;
@@ -16,6 +15,7 @@ import org.odpi.openmetadata.accessservices.subjectarea.utils.DetectUtils;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.QueryUtils;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.RestCaller;
 import org.odpi.openmetadata.accessservices.subjectarea.validators.InputValidator;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,10 +82,9 @@ public class SubjectAreaProjectImpl extends SubjectAreaBaseImpl implements org.o
         final String url = this.omasServerURL + String.format(BASE_URL,serverName,userId);
         InputValidator.validateNodeType(className,methodName,suppliedProject.getNodeType(), NodeType.Project,NodeType.GlossaryProject);
         suppliedProject.setNodeType(NodeType.GlossaryProject);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedProject);
+            requestBody = JSONSerializer.writeValueAsString(suppliedProject);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -543,10 +542,9 @@ public class SubjectAreaProjectImpl extends SubjectAreaBaseImpl implements org.o
 
         final String urlTemplate = this.omasServerURL +BASE_URL+"/%s?isReplace=%b";
         String url = String.format(urlTemplate,serverName,userId,guid,isReplace);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedProject);
+            requestBody = JSONSerializer.writeValueAsString(suppliedProject);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
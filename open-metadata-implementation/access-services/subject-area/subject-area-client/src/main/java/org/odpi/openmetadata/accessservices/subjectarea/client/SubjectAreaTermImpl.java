@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.accessservices.subjectarea.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.*;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.SequencingOrder;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Line;
@@ -13,6 +12,7 @@ import org.odpi.openmetadata.accessservices.subjectarea.utils.QueryUtils;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.DetectUtils;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.RestCaller;
 import org.odpi.openmetadata.accessservices.subjectarea.validators.InputValidator;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,10 +74,9 @@ public class SubjectAreaTermImpl extends SubjectAreaBaseImpl implements org.odpi
         }
         InputValidator.validateUserIdNotNull(className,methodName,userId);
         final String url = this.omasServerURL + String.format(BASE_URL,serverName,userId);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedTerm);
+            requestBody = JSONSerializer.writeValueAsString(suppliedTerm);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
@@ -394,10 +393,9 @@ public class SubjectAreaTermImpl extends SubjectAreaBaseImpl implements org.odpi
 
         final String urlTemplate = this.omasServerURL +BASE_URL +"/%s?isReplace=%b";
         String url = String.format(urlTemplate,serverName,userId,guid,isReplace);
-        ObjectMapper mapper = new ObjectMapper();
         String requestBody = null;
         try {
-            requestBody = mapper.writeValueAsString(suppliedTerm);
+            requestBody = JSONSerializer.writeValueAsString(suppliedTerm);
         } catch (JsonProcessingException error) {
             RestCaller.throwJsonParseError(className,methodName,error);
         }
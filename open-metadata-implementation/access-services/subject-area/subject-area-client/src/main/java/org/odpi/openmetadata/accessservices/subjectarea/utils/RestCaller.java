@@ -3,12 +3,12 @@
 package org.odpi.openmetadata.accessservices.subjectarea.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.InvalidParameterException;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.MetadataServerUncontactableException;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.VoidResponse;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
 
@@ -176,9 +176,8 @@ public class RestCaller {
                     errorCode.getUserAction(),
                     error);
         }
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            restResponse =  mapper.readValue(resultBody,SubjectAreaOMASAPIResponse.class);
+            restResponse =  JSONSerializer.readValue(resultBody,SubjectAreaOMASAPIResponse.class);
         } catch (IOException ioException) {
             SubjectAreaErrorCode errorCode = SubjectAreaErrorCode.CLIENT_SIDE_API_REST_RESPONSE_ERROR;
             String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
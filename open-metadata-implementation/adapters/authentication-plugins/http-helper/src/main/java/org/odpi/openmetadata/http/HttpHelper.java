@@ -15,6 +15,8 @@ public class HttpHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpHelper.class);
 
+    private static volatile SSLContext noStrictSSLContext = null;
+
     /**
      * Allows using self signed certificates https connections
      * makes all the clients and servers trusted no matter the certificate
@@ -44,9 +46,20 @@ public class HttpHelper {
             sc.init(null, trustAllCerts, new java.security.SecureRandom());
             HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
             HttpsURLConnection.setDefaultHostnameVerifier ((hostname, session) -> true);
+            noStrictSSLContext = sc;
         } catch (GeneralSecurityException e) {
             LOGGER.error("The configuration for no strict SSL went wrong");
         }
     }
 
+    /**
+     * Returns the all-trusting SSL context installed by noStrictSSL so that HTTP clients
+     * that do not use the HttpsURLConnection defaults can accept the same certificates.
+     *
+     * @return SSL context, or null if strict SSL is in force
+     */
+    public static SSLContext getNoStrictSSLContext() {
+        return noStrictSSLContext;
+    }
+
 }
@@ -26,6 +26,7 @@ public class HttpHelperTest {
 
         assertNotEquals(hostnameVerifier,HttpsURLConnection.getDefaultHostnameVerifier());
         assertTrue(HttpsURLConnection.getDefaultHostnameVerifier().verify(value,sslSession));
+        assertNotNull(HttpHelper.getNoStrictSSLContext());
     }
 
 }
\ No newline at end of file
@@ -1,13 +1,13 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
@@ -77,9 +77,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
+                String configStoreFileContents = JSONSerializer.writeValueAsString(omagServerConfig);
 
                 FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, false);
             }
@@ -107,9 +105,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
             String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
 
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+            newConfigProperties = JSONSerializer.readValue(configStoreFileContents, OMAGServerConfig.class);
         }
         catch (IOException ioException)
         {
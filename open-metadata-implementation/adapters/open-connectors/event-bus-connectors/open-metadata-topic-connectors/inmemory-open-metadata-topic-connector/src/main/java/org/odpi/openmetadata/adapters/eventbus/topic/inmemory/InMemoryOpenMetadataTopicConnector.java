@@ -60,6 +60,7 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
     {
         this.putEvent(event);
 
+        super.notifyEventsAvailable();
     }
 
 
@@ -14,6 +14,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -25,6 +26,12 @@ import org.slf4j.LoggerFactory;
 /**
  * KafkaOpenMetadataEventConsumer is used to process events from kafka topic and is part of native
  * Apache Kafka event/messaging infrastructure.
+ *
+ * The consumer polls Kafka back-to-back while events are flowing.  The poll blocks for up to the poll timeout
+ * when there are no new events so there is no need to sleep between polls.  When the connector's queue of
+ * unprocessed events grows beyond the maximum queue size, polling stops until the queue has drained.
+ * The offsets of the events that have been passed to the connector are committed asynchronously on the commit
+ * interval and synchronously when partitions are revoked or the consumer shuts down.
  */
 public class KafkaOpenMetadataEventConsumer implements Runnable
 {
@@ -33,8 +40,9 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     private OMRSAuditLog auditLog;
 
     private final long recoverySleepTimeSec; 
-    private final long pollTimeout; ;
+    private final long pollTimeout;
     private final long maxQueueSize;
+    private final long commitInterval;
 
     private				 KafkaOpenMetadataEventConsumerConfiguration config;
     private              KafkaConsumer<String, String>   consumer;
@@ -44,6 +52,8 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     private              KafkaOpenMetadataTopicConnector connector;
 
     private Map<TopicPartition, OffsetAndMetadata> currentOffsets = new HashMap<>();
+    private boolean uncommittedOffsets = false;
+    private long nextCommitTimestamp = 0;
     private long maxNextPollTimestampToAvoidConsumerTimeout = 0;
     private final long maxMsBetweenPolls;
     
@@ -55,6 +65,11 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     
     private Boolean running = true;
 
+    /*
+     * Time to wait before checking the size of the connector's queue again when it is full.
+     */
+    private static final long queueFullWaitTimeMs = 100;
+
     /**
      * Constructor for the event consumer.
      *
@@ -96,6 +111,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         this.maxQueueSize = config.getIntProperty(KafkaOpenMetadataEventConsumerProperty.MAX_QUEUE_SIZE);
         this.consumerTimeoutPreventionSafetyWindowMs = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_TIMEOUT_PREVENTION_SAFETY_WINDOW_MS);
         this.pollTimeout = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.POLL_TIMEOUT);
+        this.commitInterval = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.COMMIT_INTERVAL);
     }
 
   
@@ -139,15 +155,28 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             	
                 	
             	int nUnprocessedEvents = connector.getNumberOfUnprocessedEvents();
-            	if (! pollRequired && nUnprocessedEvents > maxQueueSize)
+            	if (nUnprocessedEvents > maxQueueSize)
             	{
-            		//The connector queue is too big.  Wait until the size goes down until
-            		//polling again.  If we let the events just accumulate, we will
-            		//eventually run out of memory if the consumer cannot keep up.
-            		log.warn("Skipping Kafka polling since unprocessed message queue size {} is greater than {}", nUnprocessedEvents, maxQueueSize);
-            		awaitNextPollingTime();
+            		if (! pollRequired)
+            		{
+            			//The connector queue is too big.  Wait until the size goes down until
+            			//polling again.  If we let the events just accumulate, we will
+            			//eventually run out of memory if the consumer cannot keep up.
+            			log.debug("Skipping Kafka polling since unprocessed message queue size {} is greater than {}", nUnprocessedEvents, maxQueueSize);
+            			awaitNextPollingTime();
+            			continue;
+            		}
+
+            		//A poll is needed to keep the consumer alive.  Pause the partitions so the
+            		//poll does not return any more events.
+            		log.warn("Polling Kafka with paused partitions since unprocessed message queue size {} is greater than {}", nUnprocessedEvents, maxQueueSize);
+            		updateNextMaxPollTimestamp();
+
+            		Collection<TopicPartition> assignment = consumer.assignment();
+            		consumer.pause(assignment);
+            		consumer.poll(Duration.ZERO);
+            		consumer.resume(assignment);
             		continue;
-            	
             	}
 
             	updateNextMaxPollTimestamp();
@@ -196,7 +225,10 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                      */
                     TopicPartition partition = new TopicPartition(record.topic(), record.partition());
                     currentOffsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                    uncommittedOffsets = true;
                 }
+
+                commitOffsetsIfDue();
             }
             catch (WakeupException e)
             {
@@ -220,10 +252,6 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                 }
                 recoverAfterError();
             }
-            finally
-            {
-                awaitNextPollingTime();
-            }
         }
 
         if (consumer != null)
@@ -241,10 +269,29 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     }
 
 
+    /**
+     * Commit the offsets of the events passed to the connector if the commit interval has passed.  The commit is
+     * asynchronous so it does not hold up the next poll.  A failed commit is not retried because the next commit
+     * will include the same (or later) offsets.
+     */
+    private void commitOffsetsIfDue()
+    {
+        long now = System.currentTimeMillis();
+
+        if ((uncommittedOffsets) && (now >= nextCommitTimestamp))
+        {
+            consumer.commitAsync(new HashMap<>(currentOffsets), new CommitCallback());
+
+            uncommittedOffsets = false;
+            nextCommitTimestamp = now + commitInterval;
+        }
+    }
+
+
 	private void awaitNextPollingTime() {
 		try
 		{
-		    Thread.sleep(1000);
+		    Thread.sleep(queueFullWaitTimeMs);
 		}
 		catch (InterruptedException e)
 		{
@@ -315,6 +362,24 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         {
             log.info("Lost partitions in rebalance. Committing current offsets:" + currentOffsets);
             consumer.commitSync(currentOffsets);
+
+            /*
+             * The offsets of the revoked partitions now belong to the new owner of the partitions.
+             */
+            currentOffsets.keySet().removeAll(partitions);
+            uncommittedOffsets = false;
+        }
+    }
+
+
+    private class CommitCallback implements OffsetCommitCallback
+    {
+        public void onComplete(Map<TopicPartition, OffsetAndMetadata> offsets, Exception exception)
+        {
+            if (exception != null)
+            {
+                log.debug("Unable to commit offsets " + offsets + ": " + exception.getMessage());
+            }
         }
     }
 }
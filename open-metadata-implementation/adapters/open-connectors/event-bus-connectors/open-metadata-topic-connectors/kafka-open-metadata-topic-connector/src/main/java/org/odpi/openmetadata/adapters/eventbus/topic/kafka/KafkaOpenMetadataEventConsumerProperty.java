@@ -36,7 +36,13 @@ public enum KafkaOpenMetadataEventConsumerProperty
 	/*
 	 * The amount of time to sleep after we encounter a Kafka error, in seconds
 	 */
-	RECOVERY_SLEEP_TIME("recovery_sleep_time_sec", "10");
+	RECOVERY_SLEEP_TIME("recovery_sleep_time_sec", "10"),
+
+	/*
+	 * The minimum time (in ms) between the asynchronous commits of the offsets of the events that
+	 * have been passed to the connector.  Zero means commit after every batch of events.
+	 */
+	COMMIT_INTERVAL("commit_interval_ms", "1000");
 
 	private String propertyName;
 	private String defaultValue;
@@ -2,9 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -21,10 +23,24 @@ import java.util.concurrent.ExecutionException;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * By default, each event is sent synchronously: the producer thread waits for Apache Kafka to acknowledge an event
+ * before sending the next one.  When the async_send property is set to true in the egeria_kafka_producer
+ * configuration properties, events are passed to the Kafka producer as soon as they are buffered and the
+ * acknowledgements are processed in a callback.  This allows the Kafka producer to batch the events according to
+ * its batch.size, linger.ms and compression.type properties.  Events that Kafka fails to send, either in the callback
+ * or because the call to send fails, are returned to the front of the send buffer and retried after the recovery
+ * sleep time.
+ *
+ * When the producer is shut down, any events that are still buffered are passed to Kafka before it is closed.
+ * Events that still cannot be sent are reported in the audit log.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private volatile List<String> sendBuffer = new ArrayList<>();
+    static final String asyncSendPropertyName = "async_send";
+
+    private final Deque<String> sendBuffer   = new ArrayDeque<>();
+    private final List<String>  failedEvents = new ArrayList<>();
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
@@ -43,7 +59,10 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     private Producer<String, String>        producer;
     private KafkaOpenMetadataTopicConnector connector;
 
+    private boolean asyncSend;
     private long    messageSendCount = 0;
+    private long    eventRetryCount  = 0;
+    private boolean sendFailed       = false;
 
 
     /**
@@ -53,12 +72,14 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
      * @param producerProperties properties for the consumer.
+     * @param producerEgeriaProperties properties that control the behaviour of this class.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
      */
     KafkaOpenMetadataEventProducer(String                          topicName,
                                    String                          localServerId,
                                    Properties                      producerProperties,
+                                   Properties                      producerEgeriaProperties,
                                    KafkaOpenMetadataTopicConnector connector,
                                    OMRSAuditLog                    auditLog)
     {
@@ -68,6 +89,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         this.connector = connector;
         this.producerProperties = producerProperties;
         this.listenerThreadName = defaultThreadName + topicName;
+        this.asyncSend = Boolean.parseBoolean(producerEgeriaProperties.getProperty(asyncSendPropertyName, "false"));
 
 
         final String           actionDescription = "new producer";
@@ -96,7 +118,8 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         final String methodName = "publishEvent";
 
         boolean                  eventSent = false;
-        long                     eventRetryCount = 0;
+
+        eventRetryCount = 0;
 
         while (!eventSent)
         {
@@ -106,7 +129,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                 ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
                 producer.send(record).get();
                 eventSent = true;
-                messageSendCount++;
+                this.incrementMessageSendCount();
             }
             catch (ExecutionException error)
             {
@@ -129,7 +152,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                                            auditCode.getLogMessageId(),
                                            auditCode.getSeverity(),
                                            auditCode.getFormattedLogMessage(topicName,
-                                                                            Long.toString(messageSendCount),
+                                                                            Long.toString(this.getMessageSendCount()),
                                                                             Long.toString(this.getSendBufferSize()),
                                                                             error.getMessage()),
                                            null,
@@ -160,15 +183,144 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                                                     errorCode.getUserAction(),
                                                     error);
             }
-            finally
+        }
+    }
+
+
+    /**
+     * Passes the supplied event to the Kafka producer without waiting for it to be sent.  The result
+     * is processed by the callback on the Kafka producer's I/O thread.  If the Kafka producer's buffer is full, this
+     * call blocks until there is space.  If the call to the Kafka producer fails, the event is saved so that it
+     * is sent again once the error has cleared.
+     *
+     * @param event object containing the event properties.
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    private void publishEventAsync(String event) throws ConnectorCheckedException
+    {
+        final String methodName = "publishEventAsync";
+
+        try
+        {
+            log.debug("Sending message asynchronously " + event);
+            ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
+            producer.send(record, new SendCallback(event));
+        }
+        catch (WakeupException error)
+        {
+            log.error("Wake up for shut down " + error.toString());
+            this.saveFailedEvent(event);
+        }
+        catch (Throwable error)
+        {
+            log.error("Exception in sendEvent " + error.toString());
+            this.saveFailedEvent(event);
+
+            KafkaOpenMetadataTopicConnectorErrorCode errorCode = KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT;
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(error.getClass().getName(),
+                                                                                                     topicName,
+                                                                                                     error.getMessage());
+
+            throw new ConnectorCheckedException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction(),
+                                                error);
+        }
+    }
+
+
+    /**
+     * Process the result of an asynchronous send.
+     *
+     * @param event event that was sent
+     * @param error exception from Kafka or null if the event was sent successfully
+     */
+    private void processSendResult(String    event,
+                                   Exception error)
+    {
+        final String methodName = "processSendResult";
+
+        if (error == null)
+        {
+            this.incrementMessageSendCount();
+
+            synchronized (this)
             {
-                /*
-                 * Producers have a thread and an in memory buffer
-                 */
-                producer.flush();
+                eventRetryCount = 0;
             }
+
+            return;
         }
 
+        log.debug("Kafka had trouble sending event: " + event + "exception message is " + error.getMessage());
+
+        boolean logError;
+
+        synchronized (this)
+        {
+            this.saveFailedEvent(event);
+
+            logError = (eventRetryCount == 0);
+
+            eventRetryCount++;
+            if (eventRetryCount == 10)
+            {
+                eventRetryCount = 0;
+            }
+        }
+
+        if (logError)
+        {
+            KafkaOpenMetadataTopicConnectorAuditCode auditCode;
+
+            auditCode = KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(topicName,
+                                                                Long.toString(this.getMessageSendCount()),
+                                                                Long.toString(this.getSendBufferSize()),
+                                                                error.getMessage()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Callback from the Kafka producer when an asynchronous send completes.
+     */
+    private class SendCallback implements Callback
+    {
+        private String event;
+
+
+        /**
+         * Constructor saves the event in case it needs to be resent.
+         *
+         * @param event event being sent
+         */
+        SendCallback(String event)
+        {
+            this.event = event;
+        }
+
+
+        /**
+         * Called on the Kafka producer's I/O thread once the event has been acknowledged or has failed.
+         *
+         * @param metadata details of where the event was stored
+         * @param error exception from Kafka or null if the event was sent successfully
+         */
+        @Override
+        public void onCompletion(RecordMetadata metadata, Exception error)
+        {
+            processSendResult(event, error);
+        }
     }
 
 
@@ -190,31 +342,38 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                            auditCode.getUserAction());
 
 
-        this.producer = new KafkaProducer<>(producerProperties);
+        this.producer = this.createProducer();
 
         while (isRunning())
         {
             try
             {
-                String bufferedEvent = this.getEvent();
+                if (this.checkSendFailed())
+                {
+                    this.recoverAfterError();
+                    this.requeueFailedEvents();
+                }
 
                 /*
-                 * If there are no events waiting then sleep
+                 * Wait for an event to be buffered
                  */
-                if (bufferedEvent == null)
-                {
-                    Thread.sleep(sleepTime);
-                }
-                else
+                String bufferedEvent = this.waitForEvent();
+
+                /*
+                 * Send all waiting events
+                 */
+                while (bufferedEvent != null)
                 {
-                    /*
-                     * Send all waiting events
-                     */
-                    while (bufferedEvent != null)
+                    if (asyncSend)
+                    {
+                        publishEventAsync(bufferedEvent);
+                    }
+                    else
                     {
                         publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
                     }
+
+                    bufferedEvent = this.getEvent();
                 }
             }
             catch (InterruptedException   error)
@@ -225,23 +384,111 @@ public class KafkaOpenMetadataEventProducer implements Runnable
             {
                 log.error("Bad exception from sending events " + error.getMessage());
                 this.recoverAfterError();
+
+                if (this.checkSendFailed())
+                {
+                    this.requeueFailedEvents();
+                }
             }
         }
 
+        this.flushEvents();
+
+        /*
+         * Closing the producer waits for the events that have been passed to it to be sent.
+         */
         this.producer.close();
         this.producer = null;
 
+        int unsentEventCount = this.getSendBufferSize();
+
+        this.logUnsentEvents();
+
         auditCode = KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN;
         auditLog.logRecord(listenerThreadName,
                            auditCode.getLogMessageId(),
                            auditCode.getSeverity(),
-                           auditCode.getFormattedLogMessage(topicName, Integer.toString(getSendBufferSize()), Long.toString(messageSendCount)),
+                           auditCode.getFormattedLogMessage(topicName, Integer.toString(unsentEventCount), Long.toString(getMessageSendCount())),
                            this.producerProperties.toString(),
                            auditCode.getSystemAction(),
                            auditCode.getUserAction());
     }
 
 
+    /**
+     * Create the Kafka producer used to send the events.
+     *
+     * @return producer
+     */
+    Producer<String, String> createProducer()
+    {
+        return new KafkaProducer<>(producerProperties);
+    }
+
+
+    /**
+     * Pass any events that are still buffered to the Kafka producer as the connector shuts down.  Each event
+     * is only tried once since the producer is about to close.  Events that fail are saved so that they can be
+     * reported by logUnsentEvents().
+     */
+    private void flushEvents()
+    {
+        this.requeueFailedEvents();
+
+        String bufferedEvent = this.getEvent();
+
+        while (bufferedEvent != null)
+        {
+            try
+            {
+                ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, bufferedEvent);
+                producer.send(record, new SendCallback(bufferedEvent));
+            }
+            catch (Throwable error)
+            {
+                log.error("Exception sending event during shut down " + error.toString());
+                this.saveFailedEvent(bufferedEvent);
+            }
+
+            bufferedEvent = this.getEvent();
+        }
+    }
+
+
+    /**
+     * Report the events that were not sent before the producer closed.
+     */
+    private void logUnsentEvents()
+    {
+        final String actionDescription = "logUnsentEvents";
+
+        List<String> unsentEvents;
+
+        synchronized (this)
+        {
+            unsentEvents = new ArrayList<>(failedEvents);
+            unsentEvents.addAll(sendBuffer);
+
+            failedEvents.clear();
+            sendBuffer.clear();
+        }
+
+        if (! unsentEvents.isEmpty())
+        {
+            log.error("Discarding " + unsentEvents.size() + " unsent events for topic " + topicName + ": " + unsentEvents);
+
+            KafkaOpenMetadataTopicConnectorAuditCode auditCode = KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT;
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(topicName, Integer.toString(unsentEvents.size())),
+                               unsentEvents.toString(),
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+
+
     /**
      * Supports putting events to the in memory OMRS Topic
      *
@@ -249,7 +496,8 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      */
     private synchronized void putEvent(String  newEvent)
     {
-        sendBuffer.add(newEvent);
+        sendBuffer.addLast(newEvent);
+        notifyAll();
     }
 
 
@@ -260,7 +508,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      */
     private synchronized int getSendBufferSize()
     {
-        return sendBuffer.size();
+        return sendBuffer.size() + failedEvents.size();
     }
 
 
@@ -271,12 +519,87 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      */
     private synchronized String getEvent()
     {
-        if (sendBuffer.isEmpty())
+        return sendBuffer.pollFirst();
+    }
+
+
+    /**
+     * Returns the next event found on the in memory OMRS Topic, waiting for up to the sleep time for
+     * an event to arrive.  The wait ends as soon as an event is buffered or the producer is shut down.
+     *
+     * @return next event or null if no event arrived
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    private synchronized String waitForEvent() throws InterruptedException
+    {
+        if (sendBuffer.isEmpty() && running)
+        {
+            wait(sleepTime);
+        }
+
+        return sendBuffer.pollFirst();
+    }
+
+
+    /**
+     * Save an event that failed to send.  The failed events are returned to the front of the send buffer
+     * once the error has had time to clear.
+     *
+     * @param event event that was not sent
+     */
+    private synchronized void saveFailedEvent(String event)
+    {
+        failedEvents.add(event);
+        sendFailed = true;
+    }
+
+
+    /**
+     * Return whether an asynchronous send has failed since the last call.
+     *
+     * @return boolean
+     */
+    private synchronized boolean checkSendFailed()
+    {
+        boolean result = sendFailed;
+
+        sendFailed = false;
+
+        return result;
+    }
+
+
+    /**
+     * Return the events that failed to send to the front of the send buffer, keeping them in their original order.
+     */
+    private synchronized void requeueFailedEvents()
+    {
+        for (int i = failedEvents.size() - 1; i >= 0; i--)
         {
-            return null;
+            sendBuffer.addFirst(failedEvents.get(i));
         }
 
-        return sendBuffer.remove(0);
+        failedEvents.clear();
+    }
+
+
+    /**
+     * Count an event that has been sent successfully.
+     */
+    private synchronized void incrementMessageSendCount()
+    {
+        messageSendCount++;
+    }
+
+
+    /**
+     * Return the number of events that have been sent successfully.
+     *
+     * @return count
+     */
+    private synchronized long getMessageSendCount()
+    {
+        return messageSendCount;
     }
 
 
@@ -335,6 +658,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     private synchronized void stopRunning()
     {
         running = false;
+        notifyAll();
     }
 
 }
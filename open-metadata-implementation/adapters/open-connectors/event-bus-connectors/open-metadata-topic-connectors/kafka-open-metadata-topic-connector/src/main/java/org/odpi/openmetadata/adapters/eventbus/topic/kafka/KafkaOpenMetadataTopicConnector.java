@@ -22,6 +22,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private Properties producerProperties = new Properties();
+    private Properties producerEgeriaProperties = new Properties();
     
     private Properties consumerEgeriaProperties = new Properties();
     private Properties consumerProperties = new Properties();
@@ -54,8 +55,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         producerProperties.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
 
         consumerProperties.put("bootstrap.servers", "localhost:9092");
-        consumerProperties.put("enable.auto.commit", "true");
-        consumerProperties.put("auto.commit.interval.ms", "1000");
+        consumerProperties.put("enable.auto.commit", "false");
         consumerProperties.put("session.timeout.ms", "30000");
         consumerProperties.put("max.partition.fetch.bytes",	10485760);
         consumerProperties.put("key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
@@ -147,31 +147,22 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     {
         final String                             actionDescription = "initializeKafkaProperties";
         KafkaOpenMetadataTopicConnectorAuditCode auditCode;
-        Map<String, Object>   propertiesMap;
 
         try
         {
             Object              propertiesObject;
 
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.producerPropertyName);
-            if (propertiesObject != null)
-            {
-                propertiesMap = (Map<String, Object>)propertiesObject;
-                for (Map.Entry<String, Object> entry : propertiesMap.entrySet())
-                {
-                    producerProperties.setProperty(entry.getKey(), (String) entry.getValue());
-                }
-            }
+            copyProperties(propertiesObject, producerProperties);
+
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
 
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.consumerPropertyName);
-            if (propertiesObject != null)
-            {
-                propertiesMap = (Map<String, Object>)propertiesObject;
-                for (Map.Entry<String, Object> entry : propertiesMap.entrySet())
-                {
-                    consumerProperties.setProperty(entry.getKey(), (String) entry.getValue());
-                }
-            }
+            copyProperties(propertiesObject, consumerProperties);
+
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaConsumerPropertyName);
+            copyProperties(propertiesObject, consumerEgeriaProperties);
         }
         catch (Throwable   error)
         {
@@ -187,6 +178,13 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Copy the properties from a map in the connection's configuration properties.  Numeric and boolean
+     * values (such as linger.ms or batch.size) are converted to strings.
+     *
+     * @param propertiesObject map of properties
+     * @param target properties object to update
+     */
 	private void copyProperties(Object propertiesObject, Properties target)
     {
 		Map<String, Object> propertiesMap;
@@ -195,7 +193,10 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 		    propertiesMap = (Map<String, Object>)propertiesObject;
 		    for (Map.Entry<String, Object> entry : propertiesMap.entrySet())
 		    {
-		        target.setProperty(entry.getKey(), (String) entry.getValue());
+		        if (entry.getValue() != null)
+		        {
+		            target.setProperty(entry.getKey(), entry.getValue().toString());
+		        }
 		    }
 		}
 	}
@@ -220,7 +221,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
         consumerThread.start();
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerEgeriaProperties, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
         producerThread.start();
 
@@ -279,6 +280,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     {
         log.debug("distribute event to listeners" + event);
         incomingEventsList.add(event);
+
+        super.notifyEventsAvailable();
     }
 
 
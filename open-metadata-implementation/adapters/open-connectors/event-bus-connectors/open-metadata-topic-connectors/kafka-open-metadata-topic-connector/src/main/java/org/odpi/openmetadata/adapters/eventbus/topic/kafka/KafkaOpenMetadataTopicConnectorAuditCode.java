@@ -103,7 +103,15 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode
              OMRSAuditLogRecordSeverity.ERROR,
              "Property {0} is missing from the Kafka Event Bus configuration",
              "The system is unable to connect to the event bus.",
-             "Add the missing property to the event bus properties in the server configuration.")
+             "Add the missing property to the event bus properties in the server configuration."),
+
+    KAFKA_PRODUCER_EVENTS_NOT_SENT("OCF-KAFKA-TOPIC-CONNECTOR-0014",
+             OMRSAuditLogRecordSeverity.ERROR,
+             "The Apache Kafka producer for topic {0} has shut down without sending {1} events",
+             "The local server has requested shut down of the Apache Kafka connector while events were still waiting to be sent.  " +
+                                     "These events have been discarded.",
+             "Review the operational status of Apache Kafka and the earlier messages from this connector to understand why " +
+                                     "the events could not be sent.  The events are listed in the additional information of this message.")
 
     ;
 
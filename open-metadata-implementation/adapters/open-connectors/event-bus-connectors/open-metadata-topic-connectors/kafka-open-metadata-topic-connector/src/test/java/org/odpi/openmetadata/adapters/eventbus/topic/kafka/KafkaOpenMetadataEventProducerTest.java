@@ -0,0 +1,342 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the KafkaOpenMetadataEventProducer sends events synchronously and asynchronously, resends the
+ * events that Kafka fails to send, and sends or reports the events that are still buffered when it shuts down.
+ */
+public class KafkaOpenMetadataEventProducerTest
+{
+    private static final String topicName = "TestTopic";
+    private static final long   timeout   = 10000L;
+
+
+    /**
+     * Audit log that remembers the messages it is passed.
+     */
+    private static class RecordingAuditLog extends OMRSAuditLog
+    {
+        private final List<String> logMessageIds          = new ArrayList<>();
+        private final List<String> additionalInformations = new ArrayList<>();
+
+        RecordingAuditLog()
+        {
+            super(null, 0, "Test", "Test audit log", null);
+        }
+
+        @Override
+        public synchronized void logRecord(String                      actionDescription,
+                                           String                      logMessageId,
+                                           OMRSAuditLogRecordSeverity  severity,
+                                           String                      logMessage,
+                                           String                      additionalInformation,
+                                           String                      systemAction,
+                                           String                      userAction)
+        {
+            logMessageIds.add(logMessageId);
+            additionalInformations.add(additionalInformation);
+        }
+
+        synchronized String getAdditionalInformation(KafkaOpenMetadataTopicConnectorAuditCode auditCode)
+        {
+            int index = logMessageIds.indexOf(auditCode.getLogMessageId());
+
+            return (index == -1) ? null : additionalInformations.get(index);
+        }
+
+        synchronized boolean isLogged(KafkaOpenMetadataTopicConnectorAuditCode auditCode)
+        {
+            return logMessageIds.contains(auditCode.getLogMessageId());
+        }
+    }
+
+
+    /**
+     * Mock Kafka producer that throws an exception from the requested number of calls to send.
+     */
+    private static class FailingMockProducer extends MockProducer<String, String>
+    {
+        private final RuntimeException error;
+        private       int              failureCount;
+
+        FailingMockProducer(RuntimeException error,
+                            int              failureCount)
+        {
+            super(true, new StringSerializer(), new StringSerializer());
+
+            this.error = error;
+            this.failureCount = failureCount;
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record,
+                                                        Callback                       callback)
+        {
+            if (failureCount != 0)
+            {
+                failureCount--;
+                throw error;
+            }
+
+            return super.send(record, callback);
+        }
+    }
+
+
+    private KafkaOpenMetadataEventProducer getEventProducer(boolean                  asyncSend,
+                                                            Producer<String, String> kafkaProducer,
+                                                            OMRSAuditLog             auditLog)
+    {
+        Properties producerEgeriaProperties = new Properties();
+
+        producerEgeriaProperties.setProperty(KafkaOpenMetadataEventProducer.asyncSendPropertyName, Boolean.toString(asyncSend));
+
+        return new KafkaOpenMetadataEventProducer(topicName,
+                                                  "TestServerId",
+                                                  new Properties(),
+                                                  producerEgeriaProperties,
+                                                  null,
+                                                  auditLog)
+        {
+            @Override
+            Producer<String, String> createProducer()
+            {
+                return kafkaProducer;
+            }
+
+            @Override
+            protected void recoverAfterError()
+            {
+                /*
+                 * No need to wait for the mock producer to recover.
+                 */
+            }
+        };
+    }
+
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + timeout;
+
+        while ((! condition.getAsBoolean()) && (System.currentTimeMillis() < endTime))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+
+    private List<String> getSentEvents(MockProducer<String, String> kafkaProducer)
+    {
+        List<String> sentEvents = new ArrayList<>();
+
+        for (ProducerRecord<String, String> record : kafkaProducer.history())
+        {
+            assertEquals(record.topic(), topicName);
+            sentEvents.add(record.value());
+        }
+
+        return sentEvents;
+    }
+
+
+    private void stop(KafkaOpenMetadataEventProducer eventProducer,
+                      Thread                         producerThread) throws InterruptedException
+    {
+        eventProducer.safeCloseProducer();
+        producerThread.join(timeout);
+
+        assertFalse(producerThread.isAlive());
+    }
+
+
+    private void testSend(boolean asyncSend) throws Exception
+    {
+        MockProducer<String, String>   kafkaProducer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        RecordingAuditLog              auditLog      = new RecordingAuditLog();
+        KafkaOpenMetadataEventProducer eventProducer = getEventProducer(asyncSend, kafkaProducer, auditLog);
+        Thread                         producerThread = new Thread(eventProducer);
+
+        producerThread.start();
+
+        eventProducer.sendEvent("Event1");
+        eventProducer.sendEvent("Event2");
+        eventProducer.sendEvent("Event3");
+
+        waitFor(() -> kafkaProducer.history().size() == 3);
+        stop(eventProducer, producerThread);
+
+        List<String> expectedEvents = new ArrayList<>();
+
+        expectedEvents.add("Event1");
+        expectedEvents.add("Event2");
+        expectedEvents.add("Event3");
+
+        assertEquals(getSentEvents(kafkaProducer), expectedEvents);
+        assertTrue(kafkaProducer.closed());
+        assertFalse(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP));
+        assertFalse(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT));
+        assertTrue(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN));
+    }
+
+
+    @Test public void testSynchronousSend() throws Exception
+    {
+        testSend(false);
+    }
+
+
+    @Test public void testAsynchronousSend() throws Exception
+    {
+        testSend(true);
+    }
+
+
+    @Test public void testAsynchronousSendFailureIsRetried() throws Exception
+    {
+        MockProducer<String, String>   kafkaProducer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        RecordingAuditLog              auditLog      = new RecordingAuditLog();
+        KafkaOpenMetadataEventProducer eventProducer = getEventProducer(true, kafkaProducer, auditLog);
+        Thread                         producerThread = new Thread(eventProducer);
+
+        producerThread.start();
+
+        eventProducer.sendEvent("Event1");
+        eventProducer.sendEvent("Event2");
+
+        waitFor(() -> kafkaProducer.history().size() == 2);
+
+        /*
+         * Event1 fails in the callback and is sent again.
+         */
+        assertTrue(kafkaProducer.errorNext(new KafkaException("Test send failure")));
+        assertTrue(kafkaProducer.completeNext());
+
+        waitFor(() -> kafkaProducer.history().size() == 3);
+
+        assertTrue(kafkaProducer.completeNext());
+        stop(eventProducer, producerThread);
+
+        List<String> sentEvents = getSentEvents(kafkaProducer);
+
+        assertEquals(sentEvents.get(2), "Event1");
+        assertTrue(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP));
+        assertFalse(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT));
+    }
+
+
+    @Test public void testSendExceptionIsRetried() throws Exception
+    {
+        MockProducer<String, String>   kafkaProducer = new FailingMockProducer(new KafkaException("Test send failure"), 1);
+        RecordingAuditLog              auditLog      = new RecordingAuditLog();
+        KafkaOpenMetadataEventProducer eventProducer = getEventProducer(true, kafkaProducer, auditLog);
+        Thread                         producerThread = new Thread(eventProducer);
+
+        eventProducer.sendEvent("Event1");
+        eventProducer.sendEvent("Event2");
+
+        producerThread.start();
+
+        waitFor(() -> kafkaProducer.history().size() == 2);
+        stop(eventProducer, producerThread);
+
+        List<String> expectedEvents = new ArrayList<>();
+
+        expectedEvents.add("Event1");
+        expectedEvents.add("Event2");
+
+        assertEquals(getSentEvents(kafkaProducer), expectedEvents);
+        assertFalse(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT));
+    }
+
+
+    @Test public void testWakeupIsRetried() throws Exception
+    {
+        MockProducer<String, String>   kafkaProducer = new FailingMockProducer(new WakeupException(), 1);
+        RecordingAuditLog              auditLog      = new RecordingAuditLog();
+        KafkaOpenMetadataEventProducer eventProducer = getEventProducer(true, kafkaProducer, auditLog);
+        Thread                         producerThread = new Thread(eventProducer);
+
+        producerThread.start();
+
+        eventProducer.sendEvent("Event1");
+
+        waitFor(() -> kafkaProducer.history().size() == 1);
+        stop(eventProducer, producerThread);
+
+        assertEquals(getSentEvents(kafkaProducer).get(0), "Event1");
+        assertFalse(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT));
+    }
+
+
+    @Test public void testBufferedEventsSentAtShutdown()
+    {
+        MockProducer<String, String>   kafkaProducer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        RecordingAuditLog              auditLog      = new RecordingAuditLog();
+        KafkaOpenMetadataEventProducer eventProducer = getEventProducer(false, kafkaProducer, auditLog);
+
+        eventProducer.sendEvent("Event1");
+        eventProducer.sendEvent("Event2");
+
+        /*
+         * The producer is shut down before it starts so the events are sent as it closes.
+         */
+        eventProducer.safeCloseProducer();
+        eventProducer.run();
+
+        List<String> expectedEvents = new ArrayList<>();
+
+        expectedEvents.add("Event1");
+        expectedEvents.add("Event2");
+
+        assertEquals(getSentEvents(kafkaProducer), expectedEvents);
+        assertTrue(kafkaProducer.closed());
+        assertFalse(auditLog.isLogged(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT));
+    }
+
+
+    @Test public void testUnsentEventsReportedAtShutdown()
+    {
+        MockProducer<String, String>   kafkaProducer = new FailingMockProducer(new KafkaException("Test send failure"), -1);
+        RecordingAuditLog              auditLog      = new RecordingAuditLog();
+        KafkaOpenMetadataEventProducer eventProducer = getEventProducer(true, kafkaProducer, auditLog);
+
+        eventProducer.sendEvent("Event1");
+        eventProducer.sendEvent("Event2");
+
+        eventProducer.safeCloseProducer();
+        eventProducer.run();
+
+        assertTrue(kafkaProducer.history().isEmpty());
+        assertTrue(kafkaProducer.closed());
+
+        String unsentEvents = auditLog.getAdditionalInformation(KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_EVENTS_NOT_SENT);
+
+        assertEquals(unsentEvents, "[Event1, Event2]");
+    }
+}
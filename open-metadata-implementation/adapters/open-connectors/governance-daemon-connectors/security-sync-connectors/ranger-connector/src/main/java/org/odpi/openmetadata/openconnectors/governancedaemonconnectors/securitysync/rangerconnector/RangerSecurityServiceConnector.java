@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.Context;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernanceClassification;
@@ -16,6 +15,7 @@ import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitys
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTag;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTagDef;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.ResourceTagMapper;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
@@ -70,34 +70,86 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
 
     @Override
     public void importTaggedResources(List<GovernedAsset> governedAssets) {
-        Set<RangerTag> tags = new HashSet<>();
-        List<RangerServiceResource> resources = new ArrayList<>();
-        Map<String, Set<String>> tagToResource = buildResourceToTagsAssociationMap(governedAssets, tags, resources);
-
+        TaggedResourceImport taggedResourceImport = startTaggedResourceImport();
+        taggedResourceImport.importPage(governedAssets);
+        taggedResourceImport.finish();
+    }
+
+    /**
+     * Start an import of tagged resources that receives the governed assets a page at a time. The existing
+     * resources, tags and associations are read from Ranger once, when the import starts.
+     *
+     * @return the import that the pages of governed assets are passed to
+     */
+    public TaggedResourceImport startTaggedResourceImport() {
         createRangerTagDef();
-        List<ResourceTagMapper> exitingAssociationResourceTags = getExistingAssociationResourceTags();
-        if (exitingAssociationResourceTags.isEmpty()) {
-            resources.forEach(this::createRangerServiceResource);
-            tags.forEach(this::createRangerTag);
-            tagToResource.forEach((key, value) -> value.forEach(x -> createAssociationResourceToSecurityTag(key, x)));
-            return;
+        return new TaggedResourceImport(getExistingAssociationResourceTags());
+    }
+
+    /**
+     * Synchronizes the security tags of the governed assets with Ranger, one page of governed assets at a time.
+     */
+    public class TaggedResourceImport {
+
+        private final boolean initialLoad;
+        private final List<RangerServiceResource> existingResources;
+        private final Set<RangerTag> existingTags;
+        private final Map<String, Set<String>> existingAssociations;
+        private boolean taggedResourcesImported = false;
+
+        private TaggedResourceImport(List<ResourceTagMapper> existingAssociationResourceTags) {
+            initialLoad = existingAssociationResourceTags.isEmpty();
+
+            if (initialLoad) {
+                existingResources = Collections.emptyList();
+                existingTags = new HashSet<>();
+                existingAssociations = Collections.emptyMap();
+                return;
+            }
+
+            existingResources = getExistingResources();
+            existingTags = new HashSet<>(getExistingTags());
+            existingAssociations = mapResourceTagsById(existingAssociationResourceTags, mapResourceIds(existingResources), mapTagIds(existingTags));
         }
 
-        List<RangerServiceResource> existingResources = getExistingResources();
-        Map<Long, RangerServiceResource> existingResourcesMap = mapResourceIds(existingResources);
-        Set<RangerTag> rangerExistingTags = getExistingTags();
-        Map<Long, RangerTag> existingTagsMap = mapTagIds(rangerExistingTags);
+        /**
+         * Create the resources, tags and associations for the governed assets of a page. A page without any
+         * security labels leaves Ranger unchanged.
+         *
+         * @param governedAssets the governed assets of the page
+         */
+        public void importPage(List<GovernedAsset> governedAssets) {
+            Set<RangerTag> tags = new HashSet<>();
+            List<RangerServiceResource> resources = new ArrayList<>();
+            Map<String, Set<String>> tagToResource = buildResourceToTagsAssociationMap(governedAssets, tags, resources);
+
+            if (tagToResource.isEmpty()) {
+                return;
+            }
+            taggedResourcesImported = true;
+
+            syncTags(tags, existingTags);
+            existingTags.addAll(tags);
 
-        Map<String, Set<String>> existingAssoc = mapResourceTagsById(exitingAssociationResourceTags, existingResourcesMap, existingTagsMap);
+            if (initialLoad) {
+                resources.forEach(RangerSecurityServiceConnector.this::createRangerServiceResource);
+                tagToResource.forEach((key, value) -> value.forEach(x -> createAssociationResourceToSecurityTag(key, x)));
+                return;
+            }
 
-        if (tagToResource.isEmpty()) {
-            existingAssoc.forEach((key, value) -> value.forEach(x -> deleteAssociationResourceToSecurityTagBasedOnIds(key, x)));
-            return;
+            syncResources(resources, existingResources);
+            syncAssociations(tagToResource, existingAssociations);
         }
 
-        syncTags(tags, rangerExistingTags);
-        syncResources(resources, existingResources);
-        syncAssociations(tagToResource, existingAssoc);
+        /**
+         * Complete the import once every page has been imported. When none of the governed assets have security
+         * labels any more, the existing associations are deleted.
+         */
+        public void finish() {
+            if (!taggedResourcesImported) {
+                existingAssociations.forEach((key, value) -> value.forEach(x -> deleteAssociationResourceToSecurityTagBasedOnIds(key, x)));
+            }
+        }
     }
 
     @Override
@@ -501,9 +553,8 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     }
 
     private String getBody(Object resource) {
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            return objectMapper.writeValueAsString(resource);
+            return JSONSerializer.writeValueAsString(resource);
         } catch (JsonProcessingException e) {
             log.error("error write json ");
         }
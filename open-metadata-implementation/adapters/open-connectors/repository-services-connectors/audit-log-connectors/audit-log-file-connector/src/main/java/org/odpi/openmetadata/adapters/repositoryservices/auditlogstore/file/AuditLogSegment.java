@@ -0,0 +1,415 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AuditLogSegment manages one file of the file based audit log.  Log records are appended to the file as
+ * single lines of JSON.  The segment keeps a sparse index of the file in memory as a list of
+ * AuditLogSegmentBlocks.  The index is saved alongside the file when the segment is closed, and rebuilt
+ * from the file if it is missing (for example, after the server stopped while the segment was active).
+ */
+class AuditLogSegment
+{
+    private static final String filePrefix         = "auditlog-";
+    private static final String logFileExtension   = ".log";
+    private static final String indexFileExtension = ".index";
+    private static final byte   recordSeparator    = '\n';
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogSegment.class);
+
+    private final long                       sequenceNumber;
+    private final File                       logFile;
+    private final File                       indexFile;
+    private final int                        indexBlockSize;
+    private final List<AuditLogSegmentBlock> blocks  = new ArrayList<>();
+    private       FileChannel                channel = null;
+    private       long                       size    = 0;
+
+
+    /**
+     * Constructor for a segment in the audit log directory.
+     *
+     * @param directory audit log directory
+     * @param sequenceNumber position of the segment in the audit log
+     * @param indexBlockSize maximum number of log records described by each block of the index
+     */
+    AuditLogSegment(File     directory,
+                    long     sequenceNumber,
+                    int      indexBlockSize)
+    {
+        String fileName = filePrefix + String.format("%019d", sequenceNumber);
+
+        this.sequenceNumber = sequenceNumber;
+        this.logFile        = new File(directory, fileName + logFileExtension);
+        this.indexFile      = new File(directory, fileName + indexFileExtension);
+        this.indexBlockSize = indexBlockSize;
+    }
+
+
+    /**
+     * Return the sequence number of an audit log segment file.
+     *
+     * @param file file in the audit log directory
+     * @return sequence number or -1 if the file is not a segment file
+     */
+    static long getSequenceNumber(File   file)
+    {
+        String fileName = file.getName();
+
+        if ((fileName.startsWith(filePrefix)) && (fileName.endsWith(logFileExtension)))
+        {
+            try
+            {
+                return Long.parseLong(fileName.substring(filePrefix.length(), fileName.length() - logFileExtension.length()));
+            }
+            catch (NumberFormatException error)
+            {
+                log.debug("Ignoring file " + fileName + " in audit log directory");
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Load the index of an existing segment, rebuilding it from the log file if it was not saved or can not
+     * be read (for example, because the server stopped while it was being written).
+     *
+     * @throws IOException the log file can not be read
+     */
+    void load() throws IOException
+    {
+        blocks.clear();
+
+        if (indexFile.exists())
+        {
+            try
+            {
+                AuditLogSegmentBlock[] savedBlocks = JSONSerializer.readValue(Files.readAllBytes(indexFile.toPath()),
+                                                                              AuditLogSegmentBlock[].class);
+
+                if (savedBlocks != null)
+                {
+                    blocks.addAll(Arrays.asList(savedBlocks));
+                }
+
+                size = logFile.length();
+
+                return;
+            }
+            catch (IOException error)
+            {
+                log.error("Rebuilding unreadable index " + indexFile.getName() + ": " + error.getMessage());
+
+                blocks.clear();
+            }
+        }
+
+        this.rebuildIndex();
+    }
+
+
+    /**
+     * Rebuild the index by reading every log record in the file.  Any partly written record at the end of
+     * the file is removed.
+     *
+     * @throws IOException the file can not be read
+     */
+    private void rebuildIndex() throws IOException
+    {
+        byte[] contents    = Files.readAllBytes(logFile.toPath());
+        int    recordStart = 0;
+
+        size = 0;
+
+        for (int i = 0; i < contents.length; i++)
+        {
+            if (contents[i] == recordSeparator)
+            {
+                try
+                {
+                    OMRSAuditLogRecord logRecord = JSONSerializer.readValue(Arrays.copyOfRange(contents, recordStart, i),
+                                                                            OMRSAuditLogRecord.class);
+
+                    this.indexLogRecord(logRecord, i + 1 - recordStart);
+                }
+                catch (IOException error)
+                {
+                    log.error("Skipping unreadable log record in " + logFile.getName() + " at offset " + recordStart);
+
+                    this.indexLogRecord(null, i + 1 - recordStart);
+                }
+
+                recordStart = i + 1;
+            }
+        }
+
+        if (recordStart < contents.length)
+        {
+            log.debug("Removing partly written log record from " + logFile.getName());
+
+            try (FileChannel truncateChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.WRITE))
+            {
+                truncateChannel.truncate(recordStart);
+            }
+        }
+    }
+
+
+    /**
+     * Open the segment so that log records can be appended to it.  The saved index is removed as it
+     * no longer describes the whole file.
+     *
+     * @throws IOException the file can not be opened
+     */
+    void openForAppend() throws IOException
+    {
+        channel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(size);
+
+        Files.deleteIfExists(indexFile.toPath());
+    }
+
+
+    /**
+     * Append a log record to the end of the segment.  The record is not guaranteed to be on disk until
+     * force is called.
+     *
+     * @param logRecord log record to write
+     * @throws IOException the log record can not be written
+     */
+    void append(OMRSAuditLogRecord   logRecord) throws IOException
+    {
+        byte[]     json   = JSONSerializer.writeValueAsString(logRecord).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1);
+
+        buffer.put(json);
+        buffer.put(recordSeparator);
+        buffer.flip();
+
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+
+        this.indexLogRecord(logRecord, json.length + 1);
+    }
+
+
+    /**
+     * Add a log record that has been written to the end of the file to the index.
+     *
+     * @param logRecord log record (null if it could not be read)
+     * @param length number of bytes used by the log record
+     */
+    private void indexLogRecord(OMRSAuditLogRecord   logRecord,
+                                long                 length)
+    {
+        AuditLogSegmentBlock block = null;
+
+        if (! blocks.isEmpty())
+        {
+            block = blocks.get(blocks.size() - 1);
+        }
+
+        if ((block == null) || (block.getRecordCount() >= indexBlockSize))
+        {
+            block = new AuditLogSegmentBlock(size);
+            blocks.add(block);
+        }
+
+        if (logRecord == null)
+        {
+            block.setEndOffset(block.getEndOffset() + length);
+        }
+        else
+        {
+            String reportingComponent = null;
+
+            if (logRecord.getReportingComponent() != null)
+            {
+                reportingComponent = logRecord.getReportingComponent().getComponentName();
+            }
+
+            block.addLogRecord(logRecord.getTimeStamp() == null ? 0 : logRecord.getTimeStamp().getTime(),
+                               logRecord.getSeverity(),
+                               reportingComponent,
+                               length);
+        }
+
+        size = size + length;
+    }
+
+
+    /**
+     * Make sure that all appended log records are on disk.
+     *
+     * @throws IOException the file can not be written
+     */
+    void force() throws IOException
+    {
+        if (channel != null)
+        {
+            channel.force(false);
+        }
+    }
+
+
+    /**
+     * Stop appending to the segment and save its index.
+     *
+     * @throws IOException the files can not be written
+     */
+    void close() throws IOException
+    {
+        if (channel != null)
+        {
+            channel.force(false);
+            channel.close();
+            channel = null;
+
+            Files.write(indexFile.toPath(),
+                        JSONSerializer.writeValueAsString(blocks.toArray(new AuditLogSegmentBlock[0])).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+
+    /**
+     * Remove the segment's files.
+     *
+     * @throws IOException the files can not be deleted
+     */
+    void delete() throws IOException
+    {
+        if (channel != null)
+        {
+            channel.close();
+            channel = null;
+        }
+
+        Files.deleteIfExists(logFile.toPath());
+        Files.deleteIfExists(indexFile.toPath());
+    }
+
+
+    /**
+     * Read the log records described by a block of the index.
+     *
+     * @param block block from this segment's index
+     * @return list of log records in the order they were written
+     * @throws IOException the file can not be read
+     */
+    List<OMRSAuditLogRecord> readLogRecords(AuditLogSegmentBlock   block) throws IOException
+    {
+        List<OMRSAuditLogRecord> logRecords = new ArrayList<>();
+        ByteBuffer               buffer     = ByteBuffer.allocate((int)(block.getEndOffset() - block.getStartOffset()));
+
+        try (FileChannel readChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ))
+        {
+            long position = block.getStartOffset();
+
+            while (buffer.hasRemaining())
+            {
+                int bytesRead = readChannel.read(buffer, position);
+
+                if (bytesRead < 0)
+                {
+                    break;
+                }
+
+                position = position + bytesRead;
+            }
+        }
+
+        byte[] contents    = buffer.array();
+        int    recordStart = 0;
+
+        for (int i = 0; i < buffer.position(); i++)
+        {
+            if (contents[i] == recordSeparator)
+            {
+                try
+                {
+                    logRecords.add(JSONSerializer.readValue(Arrays.copyOfRange(contents, recordStart, i),
+                                                            OMRSAuditLogRecord.class));
+                }
+                catch (IOException error)
+                {
+                    log.error("Skipping unreadable log record in " + logFile.getName() + " at offset " + (block.getStartOffset() + recordStart));
+                }
+
+                recordStart = i + 1;
+            }
+        }
+
+        return logRecords;
+    }
+
+
+    /**
+     * Return the position of the segment in the audit log.
+     *
+     * @return sequence number
+     */
+    long getSequenceNumber()
+    {
+        return sequenceNumber;
+    }
+
+
+    /**
+     * Return the blocks of the segment's index.
+     *
+     * @return list of blocks in file order
+     */
+    List<AuditLogSegmentBlock> getBlocks()
+    {
+        return blocks;
+    }
+
+
+    /**
+     * Return the size of the segment's log file.
+     *
+     * @return size in bytes
+     */
+    long getSize()
+    {
+        return size;
+    }
+
+
+    /**
+     * Return the latest time stamp of the log records in the segment.
+     *
+     * @return milliseconds since the epoch (Long.MIN_VALUE if the segment is empty)
+     */
+    long getLastTimeStamp()
+    {
+        long lastTimeStamp = Long.MIN_VALUE;
+
+        for (AuditLogSegmentBlock block : blocks)
+        {
+            lastTimeStamp = Math.max(lastTimeStamp, block.getLastTimeStamp());
+        }
+
+        return lastTimeStamp;
+    }
+}
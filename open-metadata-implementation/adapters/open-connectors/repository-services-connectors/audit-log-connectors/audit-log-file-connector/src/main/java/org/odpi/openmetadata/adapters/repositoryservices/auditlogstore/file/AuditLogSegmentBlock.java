@@ -0,0 +1,266 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AuditLogSegmentBlock is an entry in the sparse index of an audit log segment.  It describes a consecutive
+ * run of log records in the segment file: where they are stored, the range of their time stamps and the
+ * severities and reporting components they include.  A query only reads the blocks that could contain
+ * matching log records.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AuditLogSegmentBlock
+{
+    private long        startOffset         = 0;
+    private long        endOffset           = 0;
+    private int         recordCount         = 0;
+    private long        firstTimeStamp      = Long.MAX_VALUE;
+    private long        lastTimeStamp       = Long.MIN_VALUE;
+    private Set<String> severities          = new HashSet<>();
+    private Set<String> reportingComponents = new HashSet<>();
+
+
+    /**
+     * Default constructor
+     */
+    public AuditLogSegmentBlock()
+    {
+    }
+
+
+    /**
+     * Constructor for a new block starting at the supplied position in the segment file.
+     *
+     * @param startOffset position of the first log record in the block
+     */
+    AuditLogSegmentBlock(long   startOffset)
+    {
+        this.startOffset = startOffset;
+        this.endOffset   = startOffset;
+    }
+
+
+    /**
+     * Add the details of a log record that has been written to the end of the block.
+     *
+     * @param timeStamp time stamp of the log record
+     * @param severity severity of the log record
+     * @param reportingComponent name of the component that logged the record
+     * @param length number of bytes used to store the log record
+     */
+    void addLogRecord(long     timeStamp,
+                      String   severity,
+                      String   reportingComponent,
+                      long     length)
+    {
+        recordCount++;
+        endOffset = endOffset + length;
+
+        firstTimeStamp = Math.min(firstTimeStamp, timeStamp);
+        lastTimeStamp  = Math.max(lastTimeStamp, timeStamp);
+
+        if (severity != null)
+        {
+            severities.add(severity);
+        }
+
+        if (reportingComponent != null)
+        {
+            reportingComponents.add(reportingComponent);
+        }
+    }
+
+
+    /**
+     * Return whether the block could include log records that match the query.
+     *
+     * @param severity severity of the log records required (null for any)
+     * @param reportingComponent name of the component that logged the records (null for any)
+     * @param startTime earliest time stamp of the log records required
+     * @param endTime latest time stamp of the log records required
+     * @return boolean flag
+     */
+    boolean mayMatch(String   severity,
+                     String   reportingComponent,
+                     long     startTime,
+                     long     endTime)
+    {
+        if ((recordCount == 0) || (lastTimeStamp < startTime) || (firstTimeStamp > endTime))
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severities.contains(severity)))
+        {
+            return false;
+        }
+
+        return (reportingComponent == null) || (reportingComponents.contains(reportingComponent));
+    }
+
+
+    /**
+     * Return the position of the first log record in the block.
+     *
+     * @return offset in bytes
+     */
+    public long getStartOffset()
+    {
+        return startOffset;
+    }
+
+
+    /**
+     * Set up the position of the first log record in the block.
+     *
+     * @param startOffset offset in bytes
+     */
+    public void setStartOffset(long startOffset)
+    {
+        this.startOffset = startOffset;
+    }
+
+
+    /**
+     * Return the position after the last log record in the block.
+     *
+     * @return offset in bytes
+     */
+    public long getEndOffset()
+    {
+        return endOffset;
+    }
+
+
+    /**
+     * Set up the position after the last log record in the block.
+     *
+     * @param endOffset offset in bytes
+     */
+    public void setEndOffset(long endOffset)
+    {
+        this.endOffset = endOffset;
+    }
+
+
+    /**
+     * Return the number of log records in the block.
+     *
+     * @return count
+     */
+    public int getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of log records in the block.
+     *
+     * @param recordCount count
+     */
+    public void setRecordCount(int recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the earliest time stamp of the log records in the block.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getFirstTimeStamp()
+    {
+        return firstTimeStamp;
+    }
+
+
+    /**
+     * Set up the earliest time stamp of the log records in the block.
+     *
+     * @param firstTimeStamp milliseconds since the epoch
+     */
+    public void setFirstTimeStamp(long firstTimeStamp)
+    {
+        this.firstTimeStamp = firstTimeStamp;
+    }
+
+
+    /**
+     * Return the latest time stamp of the log records in the block.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getLastTimeStamp()
+    {
+        return lastTimeStamp;
+    }
+
+
+    /**
+     * Set up the latest time stamp of the log records in the block.
+     *
+     * @param lastTimeStamp milliseconds since the epoch
+     */
+    public void setLastTimeStamp(long lastTimeStamp)
+    {
+        this.lastTimeStamp = lastTimeStamp;
+    }
+
+
+    /**
+     * Return the severities of the log records in the block.
+     *
+     * @return set of severity names
+     */
+    public Set<String> getSeverities()
+    {
+        return severities;
+    }
+
+
+    /**
+     * Set up the severities of the log records in the block.
+     *
+     * @param severities set of severity names
+     */
+    public void setSeverities(Set<String> severities)
+    {
+        this.severities = severities == null ? new HashSet<>() : severities;
+    }
+
+
+    /**
+     * Return the names of the components that logged the records in the block.
+     *
+     * @return set of component names
+     */
+    public Set<String> getReportingComponents()
+    {
+        return reportingComponents;
+    }
+
+
+    /**
+     * Set up the names of the components that logged the records in the block.
+     *
+     * @param reportingComponents set of component names
+     */
+    public void setReportingComponents(Set<String> reportingComponents)
+    {
+        this.reportingComponents = reportingComponents == null ? new HashSet<>() : reportingComponents;
+    }
+}
@@ -2,6 +2,10 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -11,16 +15,41 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorExcept
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * FileBasedAuditLogStoreConnector provides a connector implementation for a file based audit log.
- * The audit log is stored in a directory and each audit log record is stored as a file with a filename build
- * from the record's unique identifier (guid).
+ * The audit log is stored in a directory as a sequence of append-only segment files.  Each log record is
+ * written as a line of JSON to the newest segment, and a new segment is started when it reaches its
+ * maximum size.  Each segment has a sparse index of the time stamps, severities and reporting components
+ * of its log records so queries only read the parts of the files that could contain matching records.
+ * The oldest segments are removed when the audit log exceeds its configured size or age.
  */
 public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
 {
+    /*
+     * This is the name of the audit log directory that is used if there is no address in the endpoint.
+     */
+    private static final String defaultDirectoryName = "omag.auditlog";
+
+    private static final int    defaultSegmentSize    = 10 * 1024 * 1024;
+    private static final int    defaultIndexBlockSize = 256;
+    private static final int    defaultRetentionSize  = 1024;
+    private static final int    defaultRetentionDays  = 0;
+
+    private static final long   megabyte = 1024L * 1024L;
+    private static final long   day      = 24L * 60L * 60L * 1000L;
+
+    private String                 directoryName = defaultDirectoryName;
+    private List<AuditLogSegment>  segments      = null;
+    private AuditLogSegment        activeSegment = null;
+
     private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogStoreConnector.class);
 
 
@@ -32,6 +61,26 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     }
 
 
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if ((endpoint != null) && (endpoint.getAddress() != null))
+        {
+            directoryName = endpoint.getAddress();
+        }
+    }
+
+
     /**
      * Store the audit log record in the audit log store.
      *
@@ -41,36 +90,119 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
      */
     public String storeLogRecord(OMRSAuditLogRecord logRecord) throws InvalidParameterException
     {
-        final String   methodName = "storeLogRecord";
+        this.storeLogRecords(Collections.singletonList(logRecord));
+
+        return logRecord.getGUID();
+    }
+
+
+    /**
+     * Store a batch of audit log records in the audit log store.  The records are appended to the active
+     * segment and then forced to disk together.
+     *
+     * @param logRecords  log records to store
+     * @throws InvalidParameterException indicates that one of the log records is invalid.
+     */
+    @Override
+    public synchronized void storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException
+    {
+        final String   methodName = "storeLogRecords";
 
-        if (logRecord == null)
+        if (logRecords == null)
         {
-            OMRSErrorCode errorCode    = OMRSErrorCode.NULL_LOG_RECORD;
-            String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage();
+            return;
+        }
 
-            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
-                                                this.getClass().getName(),
-                                                methodName,
-                                                errorMessage,
-                                                errorCode.getSystemAction(),
-                                                errorCode.getUserAction());
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            if (logRecord == null)
+            {
+                OMRSErrorCode errorCode    = OMRSErrorCode.NULL_LOG_RECORD;
+                String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage();
+
+                throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    errorMessage,
+                                                    errorCode.getSystemAction(),
+                                                    errorCode.getUserAction());
+            }
         }
 
-        log.debug("AuditLogRecord: " + logRecord.toString());
+        try
+        {
+            this.openAuditLog();
 
-        return null;
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                if (logRecord.getGUID() == null)
+                {
+                    logRecord.setGUID(UUID.randomUUID().toString());
+                }
+
+                if (logRecord.getTimeStamp() == null)
+                {
+                    logRecord.setTimeStamp(new Date());
+                }
+
+                if ((activeSegment.getSize() > 0) && (activeSegment.getSize() >= this.getSegmentSize()))
+                {
+                    this.startNewSegment();
+                }
+
+                activeSegment.append(logRecord);
+            }
+
+            activeSegment.force();
+        }
+        catch (IOException error)
+        {
+            throw this.getIOErrorException(methodName, error);
+        }
     }
 
 
     /**
-     * Retrieve a specific audit log record.
+     * Retrieve a specific audit log record.  There is no index of the unique identifiers, so the segments are
+     * read from the newest to the oldest until the log record is found.
      *
      * @param logRecordId  unique identifier for the log record
      * @return requested audit log record
      * @throws InvalidParameterException indicates that the logRecordId parameter is invalid.
      */
-    public OMRSAuditLogRecord  getAuditLogRecord(String     logRecordId) throws InvalidParameterException
+    public synchronized OMRSAuditLogRecord  getAuditLogRecord(String     logRecordId) throws InvalidParameterException
     {
+        final String   methodName = "getAuditLogRecord";
+
+        if (logRecordId == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            this.openAuditLog();
+
+            for (int segmentIndex = segments.size() - 1; segmentIndex >= 0; segmentIndex--)
+            {
+                AuditLogSegment  segment = segments.get(segmentIndex);
+
+                for (AuditLogSegmentBlock block : segment.getBlocks())
+                {
+                    for (OMRSAuditLogRecord logRecord : segment.readLogRecords(block))
+                    {
+                        if (logRecordId.equals(logRecord.getGUID()))
+                        {
+                            return logRecord;
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException error)
+        {
+            throw this.getIOErrorException(methodName, error);
+        }
 
         return null;
     }
@@ -94,7 +226,9 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                   int     maximumRecords) throws InvalidParameterException,
                                                                                                  PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsByTimeStamp";
+
+        return this.findLogRecords(null, null, startDate, endDate, offset, maximumRecords, methodName);
     }
 
     /**
@@ -117,7 +251,9 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                  int      maximumRecords) throws InvalidParameterException,
                                                                                                  PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsBySeverity";
+
+        return this.findLogRecords(severity, null, startDate, endDate, offset, maximumRecords, methodName);
     }
 
 
@@ -141,7 +277,327 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                   int    maximumRecords) throws InvalidParameterException,
                                                                                                 PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsByComponent";
+
+        return this.findLogRecords(null, component, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Return the log records that match the query in the order they were stored.  Only the blocks of the
+     * segment indexes that could contain matching log records are read.
+     *
+     * @param severity  the severity value of messages to return (null for any)
+     * @param component  name of the component to retrieve events from (null for any)
+     * @param startDate  start of time period (null for the beginning of the audit log)
+     * @param endDate  end of time period (null for the end of the audit log)
+     * @param offset  offset of full collection to begin the return results
+     * @param maximumRecords  maximum number of log records to return (0 for no limit)
+     * @param methodName calling method
+     * @return list of log records or null if none match
+     * @throws InvalidParameterException the start date is after the end date
+     * @throws PagingErrorException the offset or the maximumRecords parameters are negative
+     */
+    private synchronized List<OMRSAuditLogRecord> findLogRecords(String   severity,
+                                                                 String   component,
+                                                                 Date     startDate,
+                                                                 Date     endDate,
+                                                                 int      offset,
+                                                                 int      maximumRecords,
+                                                                 String   methodName) throws InvalidParameterException,
+                                                                                             PagingErrorException
+    {
+        long startTime = (startDate == null) ? Long.MIN_VALUE : startDate.getTime();
+        long endTime   = (endDate == null) ? Long.MAX_VALUE : endDate.getTime();
+
+        if (startTime > endTime)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.BAD_LOG_RECORD_TIME_RANGE;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(startDate.toString(),
+                                                                            endDate.toString(),
+                                                                            methodName,
+                                                                            directoryName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        if ((offset < 0) || (maximumRecords < 0))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NEGATIVE_LOG_RECORD_PAGING;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(Integer.toString(offset),
+                                                                            Integer.toString(maximumRecords),
+                                                                            methodName,
+                                                                            directoryName);
+
+            throw new PagingErrorException(errorCode.getHTTPErrorCode(),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           errorMessage,
+                                           errorCode.getSystemAction(),
+                                           errorCode.getUserAction());
+        }
+
+        List<OMRSAuditLogRecord> results   = new ArrayList<>();
+        int                      toSkip    = offset;
+
+        try
+        {
+            this.openAuditLog();
+
+            for (AuditLogSegment segment : segments)
+            {
+                for (AuditLogSegmentBlock block : segment.getBlocks())
+                {
+                    if (block.mayMatch(severity, component, startTime, endTime))
+                    {
+                        for (OMRSAuditLogRecord logRecord : segment.readLogRecords(block))
+                        {
+                            if (this.matchesQuery(logRecord, severity, component, startTime, endTime))
+                            {
+                                if (toSkip > 0)
+                                {
+                                    toSkip--;
+                                }
+                                else
+                                {
+                                    results.add(logRecord);
+
+                                    if (results.size() == maximumRecords)
+                                    {
+                                        return results;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException error)
+        {
+            throw this.getIOErrorException(methodName, error);
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return whether a log record matches the query.
+     *
+     * @param logRecord log record read from the audit log
+     * @param severity  the severity value of messages to return (null for any)
+     * @param component  name of the component to retrieve events from (null for any)
+     * @param startTime start of time period
+     * @param endTime end of time period
+     * @return boolean flag
+     */
+    private boolean matchesQuery(OMRSAuditLogRecord   logRecord,
+                                 String               severity,
+                                 String               component,
+                                 long                 startTime,
+                                 long                 endTime)
+    {
+        long timeStamp = (logRecord.getTimeStamp() == null) ? 0 : logRecord.getTimeStamp().getTime();
+
+        if ((timeStamp < startTime) || (timeStamp > endTime))
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severity.equals(logRecord.getSeverity())))
+        {
+            return false;
+        }
+
+        return (component == null) ||
+               ((logRecord.getReportingComponent() != null) && (component.equals(logRecord.getReportingComponent().getComponentName())));
+    }
+
+
+    /**
+     * Load the existing segments from the audit log directory and open the newest segment for appending.
+     * This is called on first use since audit log stores are not always started.
+     *
+     * @throws IOException the audit log directory can not be used
+     */
+    private void openAuditLog() throws IOException
+    {
+        if (segments != null)
+        {
+            return;
+        }
+
+        File directory = new File(directoryName);
+
+        if ((! directory.isDirectory()) && (! directory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + directoryName);
+        }
+
+        List<Long> sequenceNumbers = new ArrayList<>();
+        File[]     files           = directory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                long sequenceNumber = AuditLogSegment.getSequenceNumber(file);
+
+                if (sequenceNumber >= 0)
+                {
+                    sequenceNumbers.add(sequenceNumber);
+                }
+            }
+        }
+
+        Collections.sort(sequenceNumbers);
+
+        List<AuditLogSegment> existingSegments = new ArrayList<>();
+
+        for (Long sequenceNumber : sequenceNumbers)
+        {
+            AuditLogSegment segment = new AuditLogSegment(directory, sequenceNumber, this.getIndexBlockSize());
+
+            segment.load();
+            existingSegments.add(segment);
+        }
+
+        if (existingSegments.isEmpty())
+        {
+            existingSegments.add(new AuditLogSegment(directory, 0, this.getIndexBlockSize()));
+        }
+
+        segments = existingSegments;
+        activeSegment = segments.get(segments.size() - 1);
+        activeSegment.openForAppend();
+
+        log.debug("Audit log opened in " + directoryName + " with " + segments.size() + " segments");
+
+        this.applyRetention();
+    }
+
+
+    /**
+     * Close the active segment and start appending to a new one.
+     *
+     * @throws IOException the segment files can not be written
+     */
+    private void startNewSegment() throws IOException
+    {
+        activeSegment.close();
+
+        activeSegment = new AuditLogSegment(new File(directoryName),
+                                            activeSegment.getSequenceNumber() + 1,
+                                            this.getIndexBlockSize());
+        activeSegment.openForAppend();
+        segments.add(activeSegment);
+
+        this.applyRetention();
+    }
+
+
+    /**
+     * Remove the oldest segments while the audit log is larger than the retention size or the segments
+     * are older than the retention period.  The active segment is never removed.
+     *
+     * @throws IOException the segment files can not be deleted
+     */
+    private void applyRetention() throws IOException
+    {
+        long retentionSize = ConnectorConfigurationProperties.getLongProperty(super.connectionProperties,
+                                                                              FileBasedAuditLogStoreProvider.retentionSizeProperty,
+                                                                              defaultRetentionSize) * megabyte;
+        long retentionAge  = ConnectorConfigurationProperties.getLongProperty(super.connectionProperties,
+                                                                              FileBasedAuditLogStoreProvider.retentionDaysProperty,
+                                                                              defaultRetentionDays) * day;
+        long totalSize     = 0;
+
+        for (AuditLogSegment segment : segments)
+        {
+            totalSize = totalSize + segment.getSize();
+        }
+
+        while (segments.size() > 1)
+        {
+            AuditLogSegment oldestSegment = segments.get(0);
+
+            boolean tooBig = (retentionSize > 0) && (totalSize > retentionSize);
+            boolean tooOld = (retentionAge > 0) && (oldestSegment.getLastTimeStamp() < System.currentTimeMillis() - retentionAge);
+
+            if ((! tooBig) && (! tooOld))
+            {
+                break;
+            }
+
+            log.debug("Removing audit log segment " + oldestSegment.getSequenceNumber() + " from " + directoryName);
+
+            oldestSegment.delete();
+            segments.remove(0);
+            totalSize = totalSize - oldestSegment.getSize();
+        }
+    }
+
+
+    /**
+     * Return the size at which a new segment is started.
+     *
+     * @return size in bytes
+     */
+    private long getSegmentSize()
+    {
+        return ConnectorConfigurationProperties.getLongProperty(super.connectionProperties,
+                                                                FileBasedAuditLogStoreProvider.segmentSizeProperty,
+                                                                defaultSegmentSize);
+    }
+
+
+    /**
+     * Return the maximum number of log records described by each block of a segment's index.
+     *
+     * @return count of log records
+     */
+    private int getIndexBlockSize()
+    {
+        return Math.max(ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                            FileBasedAuditLogStoreProvider.indexBlockSizeProperty,
+                                                                            defaultIndexBlockSize), 1);
+    }
+
+
+    /**
+     * Return the exception to throw when the audit log files can not be read or written.
+     *
+     * @param methodName calling method
+     * @param error caught exception
+     * @return exception to throw
+     */
+    private OMRSRuntimeException getIOErrorException(String       methodName,
+                                                     IOException  error)
+    {
+        OMRSErrorCode errorCode    = OMRSErrorCode.AUDIT_LOG_STORE_IO_ERROR;
+        String        errorMessage = errorCode.getErrorMessageId()
+                                   + errorCode.getFormattedErrorMessage(directoryName, methodName, error.getMessage());
+
+        return new OMRSRuntimeException(errorCode.getHTTPErrorCode(),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        errorMessage,
+                                        errorCode.getSystemAction(),
+                                        errorCode.getUserAction(),
+                                        error);
     }
 
 
@@ -157,12 +613,28 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Free up any resources held since the connector is no longer needed.
+     * Free up any resources held since the connector is no longer needed.  The index of the active
+     * segment is saved so it does not need to be rebuilt when the audit log is next opened.
      *
      * @throws ConnectorCheckedException there is a problem within the connector.
      */
-    public  void disconnect() throws ConnectorCheckedException
+    public synchronized void disconnect() throws ConnectorCheckedException
     {
+        if (activeSegment != null)
+        {
+            try
+            {
+                activeSegment.close();
+            }
+            catch (IOException error)
+            {
+                log.error("Error: " + error + " closing audit log in " + directoryName);
+            }
+
+            activeSegment = null;
+            segments = null;
+        }
+
         super.disconnect();
     }
 }
@@ -14,6 +14,11 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
     static final String  connectorTypeName = "File Based Audit Log Store Connector";
     static final String  connectorTypeDescription = "Connector supports storing of audit log messages in a file.";
 
+    public static final String  segmentSizeProperty    = "segmentSize";
+    public static final String  indexBlockSizeProperty = "indexBlockSize";
+    public static final String  retentionSizeProperty  = "retentionSize";
+    public static final String  retentionDaysProperty  = "retentionDays";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * audit log store implementation.
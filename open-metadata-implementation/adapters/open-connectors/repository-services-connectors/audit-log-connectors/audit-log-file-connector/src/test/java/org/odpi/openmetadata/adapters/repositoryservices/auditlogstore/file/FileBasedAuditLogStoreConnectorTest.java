@@ -0,0 +1,185 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecordOriginator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the FileBasedAuditLogStoreConnector stores log records across segments and can find them
+ * again by time stamp, severity and component, including after the audit log is reopened.
+ */
+public class FileBasedAuditLogStoreConnectorTest
+{
+    private FileBasedAuditLogStoreConnector getConnector(File  directory) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress(directory.getAbsolutePath());
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(FileBasedAuditLogStoreProvider.segmentSizeProperty, 4096);
+        configurationProperties.put(FileBasedAuditLogStoreProvider.indexBlockSizeProperty, 8);
+
+        Connection connection = new Connection();
+
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        FileBasedAuditLogStoreConnector connector = new FileBasedAuditLogStoreConnector();
+
+        connector.initialize("TestInstance", new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    private OMRSAuditLogRecord getLogRecord(int    recordNumber,
+                                            Date   timeStamp)
+    {
+        OMRSAuditLogRecordOriginator   originator = new OMRSAuditLogRecordOriginator();
+        OMRSAuditLogReportingComponent component  = new OMRSAuditLogReportingComponent(recordNumber % 3,
+                                                                                        "Component" + (recordNumber % 3),
+                                                                                        null,
+                                                                                        null);
+
+        originator.setServerName("TestServer");
+
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord(originator,
+                                                              component,
+                                                              (recordNumber % 10 == 0) ? "Error" : "Information",
+                                                              "TEST-" + recordNumber,
+                                                              "Test message " + recordNumber,
+                                                              null,
+                                                              null,
+                                                              null);
+        logRecord.setTimeStamp(timeStamp);
+
+        return logRecord;
+    }
+
+
+    @Test public void testStoreAndQuery() throws Exception
+    {
+        File directory = Files.createTempDirectory("auditlog").toFile();
+
+        FileBasedAuditLogStoreConnector connector = getConnector(directory);
+
+        long                     baseTime   = 1000000000000L;
+        List<OMRSAuditLogRecord> logRecords = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++)
+        {
+            logRecords.add(getLogRecord(i, new Date(baseTime + i * 1000L)));
+        }
+
+        connector.storeLogRecords(logRecords.subList(0, 100));
+
+        for (int i = 100; i < 200; i++)
+        {
+            connector.storeLogRecord(logRecords.get(i));
+        }
+
+        assertTrue(directory.listFiles().length > 2);
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsByTimeStamp(new Date(baseTime + 50000L),
+                                                                                   new Date(baseTime + 59000L),
+                                                                                   0,
+                                                                                   0);
+        assertTrue(results.size() == 10);
+        assertTrue(results.get(0).getMessageId().equals("TEST-50"));
+
+        results = connector.getAuditLogRecordsByTimeStamp(null, null, 195, 100);
+        assertTrue(results.size() == 5);
+
+        results = connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0);
+        assertTrue(results.size() == 20);
+
+        results = connector.getAuditLogRecordsByComponent("Component1", new Date(baseTime), new Date(baseTime + 9000L), 0, 0);
+        assertTrue(results.size() == 3);
+
+        assertTrue(connector.getAuditLogRecordsBySeverity("Unknown", null, null, 0, 0) == null);
+        assertTrue(connector.getAuditLogRecord(logRecords.get(7).getGUID()).getMessageId().equals("TEST-7"));
+
+        connector.disconnect();
+
+        connector = getConnector(directory);
+
+        results = connector.getAuditLogRecordsBySeverity("Error", new Date(baseTime + 100000L), null, 0, 0);
+        assertTrue(results.size() == 10);
+
+        connector.storeLogRecord(getLogRecord(200, new Date(baseTime + 200000L)));
+
+        results = connector.getAuditLogRecordsByTimeStamp(new Date(baseTime + 199000L), null, 0, 0);
+        assertTrue(results.size() == 2);
+
+        connector.disconnect();
+
+        for (File file : directory.listFiles())
+        {
+            file.delete();
+        }
+
+        directory.delete();
+    }
+
+
+    @Test public void testUnreadableIndexRebuilt() throws Exception
+    {
+        File directory = Files.createTempDirectory("auditlog").toFile();
+
+        FileBasedAuditLogStoreConnector connector = getConnector(directory);
+
+        long baseTime = 1000000000000L;
+
+        for (int i = 0; i < 50; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i, new Date(baseTime + i * 1000L)));
+        }
+
+        connector.disconnect();
+
+        for (File file : directory.listFiles())
+        {
+            if (file.getName().endsWith(".index"))
+            {
+                Files.write(file.toPath(), "[{\"startOffset\":".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        connector = getConnector(directory);
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0);
+        assertTrue(results.size() == 5);
+
+        results = connector.getAuditLogRecordsByTimeStamp(new Date(baseTime + 10000L), new Date(baseTime + 19000L), 0, 0);
+        assertTrue(results.size() == 10);
+
+        connector.disconnect();
+
+        for (File file : directory.listFiles())
+        {
+            file.delete();
+        }
+
+        directory.delete();
+    }
+}
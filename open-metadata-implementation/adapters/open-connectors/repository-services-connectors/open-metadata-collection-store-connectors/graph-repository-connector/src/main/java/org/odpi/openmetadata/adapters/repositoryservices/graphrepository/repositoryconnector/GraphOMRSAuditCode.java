@@ -44,6 +44,11 @@ public enum GraphOMRSAuditCode {
             "The OMRS Graph Repository has been opened.",
             "The local server has created and initialized the Local OMRS Graph Repository database.",
             "No action is required. This is part of the normal operation of the Graph Repository."),
+    GRAPH_REPOSITORY_LEGACY_DIRECTORY("OMRS-GRAPH-REPOSITORY-0004",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The OMRS Graph Repository for metadata collection {0} is using the existing graph database in {1}.",
+            "The local server found a graph database in the directory used by earlier releases and has opened it rather than creating a new graph database for the metadata collection.",
+            "No action is required. To use a graph database per metadata collection, move the berkeley and searchindex directories into a subdirectory named after the metadataCollectionId, or set storage.directory and index.search.directory in the repository connection."),
     ;
 
     private String                     logMessageId;
@@ -218,6 +218,37 @@ public class GraphOMRSConstants {
 
 
 
+    /*
+     *  HISTORY
+     */
+
+    // A History vertex holds a superseded version of an entity or relationship, serialized as JSON, together with
+    // the interval [validFrom, validTo) in which it was the current version. The times are held as milliseconds.
+
+    public static final String PROPERTY_KEY_PREFIX_HISTORY                 = "vh";
+
+    public static final String PROPERTY_NAME_HISTORY_CATEGORY               = "category";
+    public static final String PROPERTY_NAME_HISTORY_END_ONE_GUID           = "endOneGUID";
+    public static final String PROPERTY_NAME_HISTORY_END_TWO_GUID           = "endTwoGUID";
+    public static final String PROPERTY_NAME_HISTORY_VALID_FROM             = "validFrom";
+    public static final String PROPERTY_NAME_HISTORY_VALID_TO               = "validTo";
+    public static final String PROPERTY_NAME_HISTORY_INSTANCE               = "instance";
+
+    public static final String PROPERTY_KEY_HISTORY_GUID                   = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_GUID;
+    public static final String PROPERTY_KEY_HISTORY_TYPE_NAME              = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_TYPE_NAME;
+    public static final String PROPERTY_KEY_HISTORY_CATEGORY               = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_HISTORY_CATEGORY;
+    public static final String PROPERTY_KEY_HISTORY_END_ONE_GUID           = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_HISTORY_END_ONE_GUID;
+    public static final String PROPERTY_KEY_HISTORY_END_TWO_GUID           = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_HISTORY_END_TWO_GUID;
+    public static final String PROPERTY_KEY_HISTORY_VALID_FROM             = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_HISTORY_VALID_FROM;
+    public static final String PROPERTY_KEY_HISTORY_VALID_TO               = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_HISTORY_VALID_TO;
+    public static final String PROPERTY_KEY_HISTORY_INSTANCE               = PROPERTY_KEY_PREFIX_HISTORY + PROPERTY_NAME_HISTORY_INSTANCE;
+
+    // Values of the category property of a History vertex
+    public static final String HISTORY_CATEGORY_ENTITY                     = "Entity";
+    public static final String HISTORY_CATEGORY_RELATIONSHIP               = "Relationship";
+
+
+
     public enum ElementType {
         Vertex,
         Edge
@@ -125,6 +125,14 @@ public enum GraphOMRSErrorCode
             "There is an already a relationship with GUID {0} so cannot honour request to create relationship in {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because there is already a relationship with the same GUID.",
             "Correct the caller's code and retry the request."),
+    TRANSACTION_CONFLICT(400, "OMRS-GRAPH-REPOSITORY-400-024 ",
+            "The graph transaction could not be committed after {0} attempts because of conflicts with concurrent transactions in {1} method of class {2} to open metadata repository {3}",
+            "The system was unable to perform the request because other requests were updating the same instances.",
+            "Retry the request. If the problem persists, increase the transactionRetryLimit or transactionRetryInterval configuration properties of the repository connection."),
+    INSTANCE_HISTORY_ERROR(400, "OMRS-GRAPH-REPOSITORY-400-025 ",
+            "The history of the instance with GUID {0} could not be saved or retrieved in {1} method of class {2} to open metadata repository {3}",
+            "The system was unable to serialize or deserialize a version of the instance.",
+            "Check the system logs for the cause of the serialization failure and retry the request."),
 
     ;
 
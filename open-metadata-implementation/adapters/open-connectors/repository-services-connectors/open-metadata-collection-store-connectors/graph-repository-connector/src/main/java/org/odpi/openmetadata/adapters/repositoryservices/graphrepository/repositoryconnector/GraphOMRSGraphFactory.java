@@ -22,6 +22,8 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
@@ -36,14 +38,24 @@ public class GraphOMRSGraphFactory {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSGraphFactory.class);
 
-    private static JanusGraph   graph;
-    private static String       thisRepositoryName;
-    private static String       thisMetadataCollectionId;
     private static String       INDEX_NAME                   = "search";
-    private static OMRSAuditLog thisAuditLog                 = null;
     private static String       controlVertexIdPropertyName  = "ControlVertexIdentifier";
     private static String       controlVertexIdPropertyValue = "ControlVertexIdentifier";
 
+    // Defaults for the storage and index configuration, used when they are not set in the connection.
+    private static final String defaultStorageBackend        = "berkeleyje";
+    private static final String defaultIndexBackend          = "lucene";
+    private static final String defaultGraphDirectory        = "./egeria-graph-repository";
+
+    // Configuration properties with these prefixes are passed to JanusGraph unchanged.
+    private static final String[] graphConfigurationPrefixes = { "storage.", "cache.", "ids.", "index.", "query.", "schema.", "tx.", "metrics." };
+
+    // Each metadata collection has its own graph, so the graph and the details of its repository are held per instance.
+    private JanusGraph   graph                        = null;
+    private String       thisRepositoryName;
+    private String       thisMetadataCollectionId;
+    private OMRSAuditLog thisAuditLog;
+
 
     public enum MixedIndexMapping {
         Default,
@@ -51,40 +63,103 @@ public class GraphOMRSGraphFactory {
         String
     }
 
-    public static JanusGraph open(String       metadataCollectionId,
-                                  String       repositoryName,
-                                  OMRSAuditLog auditLog)
+    public GraphOMRSGraphFactory(String       metadataCollectionId,
+                                 String       repositoryName,
+                                 OMRSAuditLog auditLog)
+    {
+        this.thisMetadataCollectionId = metadataCollectionId;
+        this.thisRepositoryName       = repositoryName;
+        this.thisAuditLog             = auditLog;
+    }
+
+
+    /*
+     * Open the graph for the metadata collection.
+     *
+     * The storage and index backends, the caches and the ID allocation are configured from the configuration properties
+     * of the repository connection. Any property whose name starts with one of the JanusGraph configuration namespaces
+     * (storage., cache., ids., index., query., schema., tx. and metrics.) is passed to JanusGraph unchanged - for example
+     * storage.backend, storage.directory, storage.hostname, cache.db-cache, cache.db-cache-size, ids.block-size,
+     * index.search.backend and index.search.directory.
+     *
+     * If no storage backend is configured, the graph is stored in BerkeleyDB with a Lucene index, in a directory for the
+     * metadata collection under ./egeria-graph-repository. This means several graph repositories can run on the same
+     * platform. A graph created by an earlier release in ./egeria-graph-repository/berkeley is still opened from there.
+     */
+    public JanusGraph open(Map<String, Object> configurationProperties)
             throws
             RepositoryErrorException
     {
 
         final String methodName = "open";
 
-        thisMetadataCollectionId = metadataCollectionId;
-        thisRepositoryName       = repositoryName;
-        thisAuditLog             = auditLog;
-
         // Open method is called from within synchronized block in graph repository metadata store class.
 
         // Use the JGF.Builder and construct the configuration in-line.
-        // There is no synch yet on this.
 
-        // Run with a Lucene indexing backend for now - if you pull in ES you need to use JG-server
+        // Run with a Lucene indexing backend by default - if you pull in ES you need to use JG-server
         // or start your own ES cluster. If/when you pull the janusgraph-es module into the build
         // you will need to configure the component-scan otherwise Spring boot tries to autoconfigure a
         // REST client which fails (on HttpHost).
 
-        final String storageBackend = "berkeleyje";
-        final String storagePath = "./egeria-graph-repository/berkeley";
+        Map<String, Object> graphConfiguration = new HashMap<>();
+
+        if (configurationProperties != null) {
+            for (Map.Entry<String, Object> property : configurationProperties.entrySet()) {
+                if (isGraphConfigurationProperty(property.getKey()) && property.getValue() != null) {
+                    graphConfiguration.put(property.getKey(), property.getValue());
+                }
+            }
+        }
+
+        String graphDirectory = defaultGraphDirectory + "/" + thisMetadataCollectionId;
 
-        final String indexBackend = "lucene";
-        final String indexPath = "./egeria-graph-repository/searchindex";
+        // Earlier releases kept a single graph directly under ./egeria-graph-repository. If that graph exists, and the
+        // location of the graph has not been configured, carry on using it so that existing metadata is not left behind.
+        if (!graphConfiguration.containsKey(GraphOMRSRepositoryConnectorProvider.storageBackendProperty)
+                && !graphConfiguration.containsKey(GraphOMRSRepositoryConnectorProvider.storageDirectoryProperty)
+                && Files.isDirectory(Paths.get(defaultGraphDirectory, "berkeley"))) {
 
-        JanusGraphFactory.Builder config = JanusGraphFactory.build().
-                set("storage.backend", storageBackend).
-                set("storage.directory", storagePath).
-                set("index.search.backend", indexBackend).
-                set("index.search.directory", indexPath);
+            graphDirectory = defaultGraphDirectory;
+
+            log.info("{} using existing graph at {}/berkeley for metadataCollectionId {}", methodName, defaultGraphDirectory, thisMetadataCollectionId);
+
+            if (thisAuditLog != null) {
+                GraphOMRSAuditCode auditCode = GraphOMRSAuditCode.GRAPH_REPOSITORY_LEGACY_DIRECTORY;
+                thisAuditLog.logRecord(
+                        methodName,
+                        auditCode.getLogMessageId(),
+                        auditCode.getSeverity(),
+                        auditCode.getFormattedLogMessage(thisMetadataCollectionId, defaultGraphDirectory),
+                        null,
+                        auditCode.getSystemAction(),
+                        auditCode.getUserAction());
+            }
+        }
+
+        if (!graphConfiguration.containsKey(GraphOMRSRepositoryConnectorProvider.storageBackendProperty)) {
+            graphConfiguration.put(GraphOMRSRepositoryConnectorProvider.storageBackendProperty, defaultStorageBackend);
+            graphConfiguration.putIfAbsent(GraphOMRSRepositoryConnectorProvider.storageDirectoryProperty, graphDirectory + "/berkeley");
+        }
+
+        if (!graphConfiguration.containsKey(GraphOMRSRepositoryConnectorProvider.indexBackendProperty)) {
+            graphConfiguration.put(GraphOMRSRepositoryConnectorProvider.indexBackendProperty, defaultIndexBackend);
+            graphConfiguration.putIfAbsent(GraphOMRSRepositoryConnectorProvider.indexDirectoryProperty, graphDirectory + "/searchindex");
+        }
+
+        // Identify the store in messages by its directory, or its host(s) for a remote backend
+        Object storageLocation = graphConfiguration.get(GraphOMRSRepositoryConnectorProvider.storageDirectoryProperty);
+        if (storageLocation == null) {
+            storageLocation = graphConfiguration.get(GraphOMRSRepositoryConnectorProvider.storageHostnameProperty);
+        }
+        final String storagePath = graphConfiguration.get(GraphOMRSRepositoryConnectorProvider.storageBackendProperty) + ":" + storageLocation;
+
+        log.info("{} opening graph for metadataCollectionId {} stored at {}", methodName, thisMetadataCollectionId, storagePath);
+
+        JanusGraphFactory.Builder config = JanusGraphFactory.build();
+        for (Map.Entry<String, Object> property : graphConfiguration.entrySet()) {
+            config.set(property.getKey(), property.getValue());
+        }
 
         try {
 
@@ -94,7 +169,7 @@ public class GraphOMRSGraphFactory {
             log.error("{} could not open graph stored at {}", methodName, storagePath);
             GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.CANNOT_OPEN_GRAPH_DB;
 
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(storagePath, methodName, GraphOMRSGraphFactory.class.getName(), repositoryName);
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(storagePath, methodName, GraphOMRSGraphFactory.class.getName(), thisRepositoryName);
 
             throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
                     GraphOMRSGraphFactory.class.getName(),
@@ -180,7 +255,7 @@ public class GraphOMRSGraphFactory {
                             property(controlVertexIdPropertyName, controlVertexIdPropertyValue).
                             property("creationDate", now).
                             property("lastOpenDate", now).
-                            property("metadataCollectionId", metadataCollectionId).
+                            property("metadataCollectionId", thisMetadataCollectionId).
                             next();
 
                     // Update the lastOpenDate
@@ -230,7 +305,7 @@ public class GraphOMRSGraphFactory {
             // Whether graph was new or existed, ensure the graph schema is up to date
             try {
                 log.info("Updating graph schema, if necessary");
-                GraphOMRSGraphFactory.initialize(graph);
+                initialize(graph);
             }
             catch (RepositoryErrorException e) {
                 // rollback and re-throw
@@ -256,8 +331,23 @@ public class GraphOMRSGraphFactory {
 
 
 
+    // isGraphConfigurationProperty
+    // Return whether a connection configuration property is a JanusGraph configuration option.
+    private static boolean isGraphConfigurationProperty(String propertyName)
+    {
+        if (propertyName != null) {
+            for (String prefix : graphConfigurationPrefixes) {
+                if (propertyName.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+
     // This method is idempotent.
-    private static void initialize(JanusGraph graph)
+    private void initialize(JanusGraph graph)
         throws
             RepositoryErrorException
     {
@@ -281,6 +371,8 @@ public class GraphOMRSGraphFactory {
                 management.makeVertexLabel("Entity").make();
             if (management.getVertexLabel("Classification") == null)
                 management.makeVertexLabel("Classification").make();
+            if (management.getVertexLabel("History") == null)
+                management.makeVertexLabel("History").make();
             // Each edge has a label that reflects the TypeDefCategory - i.e. Relationship
             if (management.getEdgeLabel("Relationship") == null)
                 management.makeEdgeLabel("Relationship").make();
@@ -388,6 +480,22 @@ public class GraphOMRSGraphFactory {
             createMixedIndexForVertexCoreProperty(PROPERTY_NAME_INSTANCE_LICENSE,         PROPERTY_KEY_CLASSIFICATION_INSTANCE_LICENSE);
             createMixedIndexForVertexCoreProperty(PROPERTY_NAME_REPLICATED_BY,            PROPERTY_KEY_CLASSIFICATION_REPLICATED_BY);
 
+            /*
+             *  History index
+             */
+
+            // A History vertex has the following properties, which (apart from the serialized instance) are all in
+            // a single mixed index so that a point-in-time query for an instance, a type or a relationship end is
+            // answered by one indexed range query:
+            // guid                                -   mixed (String)
+            // typeName                            -   mixed (String)
+            // category                            -   mixed (String)
+            // endOneGUID, endTwoGUID              -   mixed (String) - relationships only
+            // validFrom, validTo                  -   mixed (numeric range)
+            // instance                            -   none - the serialized EntityDetail or Relationship
+
+            createHistoryIndex();
+
         }
         catch (Exception e) {
 
@@ -441,14 +549,14 @@ public class GraphOMRSGraphFactory {
 
 
 
-    public static void createMixedIndexForVertexCoreProperty(String propName, String propKeyName)
+    public void createMixedIndexForVertexCoreProperty(String propName, String propKeyName)
     {
         String className = corePropertyTypes.get(propName);
         MixedIndexMapping mapping = corePropertyMixedIndexMappings.get(propKeyName);
         createMixedIndexForVertexProperty(propName, propKeyName, className, mapping);
     }
 
-    public static void createMixedIndexForVertexProperty(String propName, String propKeyName, String className, MixedIndexMapping mapping) {
+    public void createMixedIndexForVertexProperty(String propName, String propKeyName, String className, MixedIndexMapping mapping) {
 
         final String methodName = "createMixedIndexForVertexProperty";
 
@@ -531,7 +639,76 @@ public class GraphOMRSGraphFactory {
 
     }
 
-    private static void createCompositeIndexForVertexProperty(String propertyName, String propertyKeyName, boolean unique)
+    // createHistoryIndex
+    // Create the property keys of the History vertices and the mixed index that serves point-in-time queries.
+    private void createHistoryIndex()
+    {
+
+        final String methodName = "createHistoryIndex";
+
+        final String indexName  = "vertexIndexHistory";
+
+        JanusGraphManagement management = graph.openManagement();
+
+        try {
+            // Check if index exists
+            JanusGraphIndex existingIndex = management.getGraphIndex(indexName);
+            if (existingIndex != null) {
+                log.info("{} index {} already exists", methodName, indexName);
+                management.rollback();
+                return;
+            }
+
+            log.info("{} index create {} for history vertices", methodName, indexName);
+
+            PropertyKey guidKey       = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_GUID,         String.class);
+            PropertyKey typeNameKey   = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_TYPE_NAME,    String.class);
+            PropertyKey categoryKey   = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_CATEGORY,     String.class);
+            PropertyKey endOneKey     = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_END_ONE_GUID, String.class);
+            PropertyKey endTwoKey     = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_END_TWO_GUID, String.class);
+            PropertyKey validFromKey  = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_VALID_FROM,   Long.class);
+            PropertyKey validToKey    = getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_VALID_TO,     Long.class);
+            getOrMakePropertyKey(management, PROPERTY_KEY_HISTORY_INSTANCE, String.class);
+
+            // GUIDs and names are matched exactly so use the String mapping to avoid them being tokenized.
+            management.buildIndex(indexName, Vertex.class)
+                    .addKey(guidKey,      Mapping.STRING.asParameter())
+                    .addKey(typeNameKey,  Mapping.STRING.asParameter())
+                    .addKey(categoryKey,  Mapping.STRING.asParameter())
+                    .addKey(endOneKey,    Mapping.STRING.asParameter())
+                    .addKey(endTwoKey,    Mapping.STRING.asParameter())
+                    .addKey(validFromKey)
+                    .addKey(validToKey)
+                    .indexOnly(management.getVertexLabel("History"))
+                    .buildMixedIndex(INDEX_NAME);
+            management.commit();
+            log.debug("{} index created {}", methodName, indexName);
+
+            // Enable the index - the keys are only used by History vertices so there is nothing to reindex
+            log.debug("{} awaitGraphIndexStatus ENABLED for {}", methodName, indexName);
+            ManagementSystem.awaitGraphIndexStatus(graph, indexName).status(SchemaStatus.ENABLED).timeout(10, ChronoUnit.SECONDS).call();
+            log.debug("{} index {} ready", methodName, indexName);
+
+        }
+        catch (Exception e) {
+
+            log.error("{} !!! Caught exception from history index construction, exception {}", methodName, e);
+            management.rollback();
+        }
+
+    }
+
+    // getOrMakePropertyKey
+    private PropertyKey getOrMakePropertyKey(JanusGraphManagement management, String propertyKeyName, Class<?> clazz)
+    {
+        PropertyKey propertyKey = management.getPropertyKey(propertyKeyName);
+        if (propertyKey == null) {
+            propertyKey = management.makePropertyKey(propertyKeyName).dataType(clazz).make();
+        }
+        return propertyKey;
+    }
+
+    private void createCompositeIndexForVertexProperty(String propertyName, String propertyKeyName, boolean unique)
     {
 
         final String methodName = "createCompositeIndexForVertexProperty";
@@ -547,6 +724,34 @@ public class GraphOMRSGraphFactory {
             return;
         }
 
+        buildCompositeIndexForVertexProperty(propertyKeyName, clazz, unique);
+    }
+
+    // Create a composite index for a type-defined vertex property that is looked up by exact value - e.g. a unique property
+    // such as qualifiedName. Unlike the mixed index on the same property, the composite index answers an equality lookup
+    // without going to the search backend. Uniqueness is not enforced by the graph because reference copies from other
+    // repositories may carry the same value.
+    public void createCompositeIndexForVertexProperty(String propName, String propKeyName, String className)
+    {
+
+        final String methodName = "createCompositeIndexForVertexProperty";
+
+        Class clazz;
+        try {
+            clazz = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            log.error("{} no index created for property {}; class {} not found", methodName, propName, className);
+            return;
+        }
+
+        buildCompositeIndexForVertexProperty(propKeyName, clazz, false);
+    }
+
+    private void buildCompositeIndexForVertexProperty(String propertyKeyName, Class clazz, boolean unique)
+    {
+
+        final String methodName = "buildCompositeIndexForVertexProperty";
+
         String indexName = "vertexIndexComposite" + propertyKeyName;
         log.info("INDEX CREATE {}", indexName);
 
@@ -613,13 +818,13 @@ public class GraphOMRSGraphFactory {
     }
 
 
-    public static void createMixedIndexForEdgeCoreProperty(String propName, String propKeyName) {
+    public void createMixedIndexForEdgeCoreProperty(String propName, String propKeyName) {
         String className = corePropertyTypes.get(propName);
         MixedIndexMapping mapping = corePropertyMixedIndexMappings.get(propKeyName);
         createMixedIndexForEdgeProperty(propName, propKeyName, className, mapping);
     }
 
-    public static void createMixedIndexForEdgeProperty(String propName, String propKeyName, String className, MixedIndexMapping mapping) {
+    public void createMixedIndexForEdgeProperty(String propName, String propKeyName, String className, MixedIndexMapping mapping) {
 
         final String methodName = "createMixedIndexForEdgeProperty";
 
@@ -715,7 +920,7 @@ public class GraphOMRSGraphFactory {
 
     }
 
-    private static void createCompositeIndexForEdgeProperty(String propertyName, String propertyKeyName) {
+    private void createCompositeIndexForEdgeProperty(String propertyName, String propertyKeyName) {
 
         final String methodName = "createCompositeIndexForEdgeProperty";
 
@@ -793,7 +998,7 @@ public class GraphOMRSGraphFactory {
     }
 
 
-    private static boolean createControlIndex() {
+    private boolean createControlIndex() {
 
         final String methodName = "createControlIndex";
 
@@ -853,7 +1058,7 @@ public class GraphOMRSGraphFactory {
 
 
 
-    private static boolean checkAndUpdateControlInformation(Vertex controlVertex, String storagePath)
+    private boolean checkAndUpdateControlInformation(Vertex controlVertex, String storagePath)
         throws
         RepositoryErrorException
     {
@@ -930,7 +1135,7 @@ public class GraphOMRSGraphFactory {
             // Ensure graph schema is up to date
             log.info("Ensuring graph schema is up to date");
             try {
-                GraphOMRSGraphFactory.initialize(graph);
+                initialize(graph);
                 // Update the lastOpenDate
                 Date now = new Date();
                 controlVertex.property("lastOpenDate", now);
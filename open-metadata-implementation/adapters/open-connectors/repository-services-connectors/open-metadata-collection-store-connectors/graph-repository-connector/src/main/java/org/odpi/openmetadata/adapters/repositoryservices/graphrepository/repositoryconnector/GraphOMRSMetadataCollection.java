@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
@@ -19,6 +20,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
@@ -33,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -56,13 +59,20 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
      * @param repositoryHelper     - class used to build type definitions and instances.
      * @param repositoryValidator  - class used to validate type definitions and instances.
      * @param metadataCollectionId - unique Identifier of the metadata collection Id.
+     * @param auditLog             - audit log for the repository.
+     * @param transactionRetryLimit - number of times a conflicting graph transaction is retried.
+     * @param transactionRetryInterval - milliseconds to wait before the first retry of a conflicting graph transaction.
+     * @param storageProperties    - JanusGraph configuration options for the graph.
      */
     public GraphOMRSMetadataCollection(GraphOMRSRepositoryConnector parentConnector,
                                        String                       repositoryName,
                                        OMRSRepositoryHelper         repositoryHelper,
                                        OMRSRepositoryValidator      repositoryValidator,
                                        String                       metadataCollectionId,
-                                       OMRSAuditLog                 auditLog)
+                                       OMRSAuditLog                 auditLog,
+                                       int                          transactionRetryLimit,
+                                       int                          transactionRetryInterval,
+                                       Map<String, Object>          storageProperties)
 
 
     {
@@ -82,7 +92,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         this.auditLog = auditLog;
 
         try {
-            this.graphStore = new GraphOMRSMetadataStore(metadataCollectionId, repositoryName, repositoryHelper, auditLog);
+            this.graphStore = new GraphOMRSMetadataStore(metadataCollectionId, repositoryName, repositoryHelper, auditLog,
+                                                         transactionRetryLimit, transactionRetryInterval, storageProperties);
         }
         catch(RepositoryErrorException e) {
             log.error("{} could not create graph metadata collection for repository name {}", methodName, repositoryName);
@@ -91,6 +102,15 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // disconnect closes the graph store when the repository connector is disconnected.
+    void disconnect()
+    {
+        if (graphStore != null) {
+            graphStore.close();
+        }
+    }
+
+
     // verifyTypeDef will always return result from superclass because all knowledge of types is delegated to the RCM.
     public boolean verifyTypeDef(String  userId,
                                  TypeDef typeDef)
@@ -376,6 +396,73 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getEntityDetail (asOfTime)
+    public EntityDetail getEntityDetail(String     userId,
+                                        String     guid,
+                                        Date       asOfTime)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            EntityNotKnownException,
+            EntityProxyOnlyException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "getEntityDetail";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstanceParameterValidation(userId, guid, asOfTime, methodName);
+
+        /*
+         * Perform operation
+         */
+
+        EntityDetail entity = graphStore.getEntityDetailFromStore(guid, asOfTime);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+
+        return entity;
+    }
+
+
+    // getEntityDetails
+    public List<EntityDetail> getEntityDetails(String        userId,
+                                               List<String>  guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+
+        List<EntityDetail> entities = graphStore.getEntityDetailsFromStore(guids);
+
+        List<EntityDetail> results = new ArrayList<>();
+        for (EntityDetail entity : entities) {
+            if (entity.getStatus() != InstanceStatus.DELETED) {
+                results.add(entity);
+            }
+        }
+
+        if (results.isEmpty()) {
+            return null;
+        }
+
+        return results;
+    }
+
+
     // addRelationship
     public Relationship addRelationship(String               userId,
                                         String               relationshipTypeGUID,
@@ -560,6 +647,35 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getRelationship (asOfTime)
+    public Relationship getRelationship(String    userId,
+                                        String    guid,
+                                        Date      asOfTime)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            RelationshipNotKnownException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationship";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstanceParameterValidation(userId, guid, asOfTime, methodName);
+
+        /*
+         * Process operation
+         */
+        Relationship  relationship = graphStore.getRelationshipFromStore(guid, asOfTime);
+
+        repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
+        repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
+
+        return relationship;
+    }
+
+
     // updateEntityStatus
     public EntityDetail updateEntityStatus(String           userId,
                                            String           entityGUID,
@@ -1107,25 +1223,15 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
         repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        List<Relationship> entityRelationships = new ArrayList<>();
-
-        if (asOfTime != null) {
-            OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
-
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
-                    this.getClass().getName(),
-                    repositoryName);
+        List<Relationship> filteredRelationships = new ArrayList<>();
+        List<Relationship> relationships;
 
-            throw new FunctionNotSupportedException(errorCode.getHTTPErrorCode(),
-                    this.getClass().getName(),
-                    methodName,
-                    errorMessage,
-                    errorCode.getSystemAction(),
-                    errorCode.getUserAction());
+        if (asOfTime == null) {
+            relationships = graphStore.getRelationshipsForEntity(entityGUID);
+        }
+        else {
+            relationships = graphStore.getRelationshipsForEntity(entityGUID, asOfTime);
         }
-
-        List<Relationship> filteredRelationships = new ArrayList<>();
-        List<Relationship> relationships = graphStore.getRelationshipsForEntity(entityGUID);
 
         for (Relationship  relationship : relationships) {
 
@@ -1203,13 +1309,6 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 pageSize);
 
 
-        if (asOfTime != null) {
-            log.error("{} does not support asOfTime searches", methodName);
-
-            super.reportUnsupportedOptionalFunction(methodName);
-        }
-
-
         /*
          * Perform operation
          */
@@ -1251,6 +1350,10 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 // Invoke a type specific search. The search will expect the regexp to match fully to the value.
                 List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true);
 
+                if (asOfTime != null) {
+                    entitiesForCurrentType = getEntityVersionsAsOf(entitiesForCurrentType, actualTypeName, matchProperties, matchCriteria, null, asOfTime, methodName);
+                }
+
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
                     if (returnEntities == null) {
                         returnEntities = new ArrayList<>();
@@ -1286,6 +1389,79 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // findEntitiesByUniqueProperty
+    // A unique property of the requested type is looked up by exact value using the composite index on its property
+    // key - a single query covers the type and all of its subtypes because they share the qualified property name.
+    // Requests for any entity type, or for a property that is not a unique property of the type, use the regex search.
+    public List<EntityDetail> findEntitiesByUniqueProperty(String    userId,
+                                                           String    entityTypeGUID,
+                                                           String    propertyName,
+                                                           String    propertyValue,
+                                                           int       pageSize)
+            throws
+            InvalidParameterException,
+            TypeErrorException,
+            RepositoryErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+
+        final String methodName = "findEntitiesByUniqueProperty";
+        final String entityTypeGUIDParameterName = "entityTypeGUID";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyParameterValidation(userId,
+                entityTypeGUID,
+                propertyName,
+                propertyValue,
+                pageSize);
+
+
+        /*
+         * Perform operation
+         */
+
+        if (entityTypeGUID == null) {
+            return super.findEntitiesByUniqueProperty(userId, entityTypeGUID, propertyName, propertyValue, pageSize);
+        }
+
+        TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, entityTypeGUIDParameterName, entityTypeGUID, methodName);
+        Map<String, String> qualifiedPropertyNames = GraphOMRSMapperUtils.getQualifiedPropertyNamesForTypeDef(typeDef, repositoryName, repositoryHelper);
+        String qualifiedPropertyName = qualifiedPropertyNames.get(propertyName);
+
+        boolean uniqueProperty = false;
+        List<TypeDefAttribute> propertyDefs = repositoryHelper.getAllPropertiesForTypeDef(repositoryName, typeDef, methodName);
+        if (propertyDefs != null) {
+            for (TypeDefAttribute typeDefAttribute : propertyDefs) {
+                if ((typeDefAttribute != null) && (propertyName.equals(typeDefAttribute.getAttributeName())) && (typeDefAttribute.isUnique())) {
+                    uniqueProperty = true;
+                }
+            }
+        }
+
+        if ((qualifiedPropertyName == null) || (!uniqueProperty)) {
+            log.debug("{}: property {} is not a unique property of entity type {}", methodName, propertyName, typeDef.getName());
+            return super.findEntitiesByUniqueProperty(userId, entityTypeGUID, propertyName, propertyValue, pageSize);
+        }
+
+        List<EntityDetail> retainedEntities = new ArrayList<>();
+        for (EntityDetail entity : graphStore.findEntitiesByUniqueProperty(qualifiedPropertyName, propertyValue)) {
+            if ((entity != null)
+                    && (entity.getStatus() != InstanceStatus.DELETED)
+                    && (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity))) {
+
+                retainedEntities.add(entity);
+            }
+        }
+
+        return repositoryHelper.formatEntityResults(retainedEntities, 0, null, null, pageSize);
+    }
+
+
     // findRelationshipsByProperty
     public  List<Relationship> findRelationshipsByProperty(String                    userId,
                                                            String                    relationshipTypeGUID,
@@ -1326,23 +1502,6 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         this.validateTypeGUID(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
 
 
-        if (asOfTime != null) {
-            log.error("{} does not support asOfTime searches", methodName);
-
-            OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
-
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
-                    this.getClass().getName(),
-                    repositoryName);
-
-            throw new FunctionNotSupportedException(errorCode.getHTTPErrorCode(),
-                    this.getClass().getName(),
-                    methodName,
-                    errorMessage,
-                    errorCode.getSystemAction(),
-                    errorCode.getUserAction());
-        }
-
         /*
          * Perform operation
          */
@@ -1362,6 +1521,10 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
             returnRelationships = graphStore.findRelationshipsByProperty(specifiedTypeName, matchProperties, matchCriteria, true);
 
+            if (asOfTime != null) {
+                returnRelationships = getRelationshipVersionsAsOf(returnRelationships, specifiedTypeName, matchProperties, matchCriteria, null, asOfTime, methodName);
+            }
+
         }
         else {
             // search all types
@@ -1381,6 +1544,10 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                     List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(actualTypeName, matchProperties, matchCriteria, true);
 
+                    if (asOfTime != null) {
+                        relationshipsForCurrentType = getRelationshipVersionsAsOf(relationshipsForCurrentType, actualTypeName, matchProperties, matchCriteria, null, asOfTime, methodName);
+                    }
+
                     if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty()) {
                         if (returnRelationships == null) {
                             returnRelationships = new ArrayList<>();
@@ -1484,23 +1651,6 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 pageSize);
 
 
-        if (asOfTime != null) {
-            log.error("{} does not support asOfTime searches", methodName);
-
-            OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
-
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
-                    this.getClass().getName(),
-                    repositoryName);
-
-            throw new FunctionNotSupportedException(errorCode.getHTTPErrorCode(),
-                    this.getClass().getName(),
-                    methodName,
-                    errorMessage,
-                    errorCode.getSystemAction(),
-                    errorCode.getUserAction());
-        }
-
 
         /*
          * Perform operation
@@ -1546,6 +1696,10 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 // Do not tolerate substring matches - instead always the regex must match the whole value - i.e. set fullMatch parameter to true.
                 List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, MatchCriteria.ANY, true);
 
+                if (asOfTime != null) {
+                    entitiesForCurrentType = getEntityVersionsAsOf(entitiesForCurrentType, actualTypeName, null, null, searchCriteria, asOfTime, methodName);
+                }
+
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
                     if (returnEntities == null) {
@@ -1620,23 +1774,6 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 pageSize);
 
 
-        if (asOfTime != null) {
-            log.error("{} does not support asOfTime searches", methodName);
-
-            OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
-
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
-                    this.getClass().getName(),
-                    repositoryName);
-
-            throw new FunctionNotSupportedException(errorCode.getHTTPErrorCode(),
-                    this.getClass().getName(),
-                    methodName,
-                    errorMessage,
-                    errorCode.getSystemAction(),
-                    errorCode.getUserAction());
-        }
-
         /*
          * Perform operation
          */
@@ -1687,6 +1824,10 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             // Expect the regex to fully match the value
             List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(currentTypeName, matchProperties, MatchCriteria.ANY, true);
 
+            if (asOfTime != null) {
+                relationshipsForCurrentType = getRelationshipVersionsAsOf(relationshipsForCurrentType, currentTypeName, null, null, searchCriteria, asOfTime, methodName);
+            }
+
             if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty()) {
                 if (returnRelationships == null) {
                     returnRelationships = new ArrayList<>();
@@ -1943,25 +2084,6 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 pageSize);
 
 
-        if (asOfTime != null) {
-            // Not supported
-            log.error("{} does not support asOfTime parameter", methodName);
-
-            OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
-
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
-                    this.getClass().getName(),
-                    repositoryName);
-
-            throw new FunctionNotSupportedException(errorCode.getHTTPErrorCode(),
-                    this.getClass().getName(),
-                    methodName,
-                    errorMessage,
-                    errorCode.getSystemAction(),
-                    errorCode.getUserAction());
-        }
-
-
         /*
          * Perform operation
          */
@@ -2005,6 +2127,28 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 //
                 List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByClassification(classificationName, matchClassificationProperties, matchCriteria, actualTypeName);
 
+                if (asOfTime != null) {
+                    // Keep the current versions that were already current at asOfTime and add the superseded versions
+                    // that were current then and had a matching classification
+                    entitiesForCurrentType = retainVersionsCurrentAsOf(entitiesForCurrentType, asOfTime);
+
+                    for (EntityDetail entity : graphStore.findEntityHistoryAsOf(actualTypeName, asOfTime)) {
+                        if (entity.getClassifications() != null) {
+                            for (Classification classification : entity.getClassifications()) {
+                                if (classificationName.equals(classification.getName())
+                                        && repositoryValidator.verifyMatchingInstancePropertyValues(matchClassificationProperties,
+                                                                                                    classification,
+                                                                                                    classification.getProperties(),
+                                                                                                    matchCriteria,
+                                                                                                    false)) {
+                                    entitiesForCurrentType.add(entity);
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                }
+
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
                     if (returnEntities == null) {
@@ -2041,6 +2185,104 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
 
 
+    /*
+     * Point-in-time searches
+     *
+     * A search with an asOfTime keeps the current versions found by the usual search if they were already current at
+     * asOfTime, and adds the superseded versions that were current at asOfTime. These are retrieved for each type by an
+     * indexed query of the instance history and matched here, in the same way as the in-memory repository matches them.
+     */
+
+
+    // getEntityVersionsAsOf
+    // Match the entity history either against matchProperties (using matchCriteria) or, if it is not null, against searchCriteria.
+    private List<EntityDetail> getEntityVersionsAsOf(List<EntityDetail>  currentEntities,
+                                                     String              typeName,
+                                                     InstanceProperties  matchProperties,
+                                                     MatchCriteria       matchCriteria,
+                                                     String              searchCriteria,
+                                                     Date                asOfTime,
+                                                     String              methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        List<EntityDetail> entities = retainVersionsCurrentAsOf(currentEntities, asOfTime);
+
+        for (EntityDetail entity : graphStore.findEntityHistoryAsOf(typeName, asOfTime)) {
+            if (matchesSearch(entity, entity.getProperties(), matchProperties, matchCriteria, searchCriteria, methodName)) {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
+    // getRelationshipVersionsAsOf
+    // Match the relationship history either against matchProperties (using matchCriteria) or, if it is not null, against searchCriteria.
+    private List<Relationship> getRelationshipVersionsAsOf(List<Relationship>  currentRelationships,
+                                                           String              typeName,
+                                                           InstanceProperties  matchProperties,
+                                                           MatchCriteria       matchCriteria,
+                                                           String              searchCriteria,
+                                                           Date                asOfTime,
+                                                           String              methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        List<Relationship> relationships = retainVersionsCurrentAsOf(currentRelationships, asOfTime);
+
+        for (Relationship relationship : graphStore.findRelationshipHistoryAsOf(typeName, asOfTime)) {
+            if (matchesSearch(relationship, relationship.getProperties(), matchProperties, matchCriteria, searchCriteria, methodName)) {
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
+    // matchesSearch
+    private boolean matchesSearch(InstanceHeader      instance,
+                                  InstanceProperties  instanceProperties,
+                                  InstanceProperties  matchProperties,
+                                  MatchCriteria       matchCriteria,
+                                  String              searchCriteria,
+                                  String              methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        if (searchCriteria != null) {
+            return repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName, instanceProperties, searchCriteria, methodName);
+        }
+
+        return repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, instance, instanceProperties, matchCriteria, false);
+    }
+
+
+    // retainVersionsCurrentAsOf
+    // Keep the current versions whose effective time (updateTime, or createTime if never updated) is not later than asOfTime.
+    private <T extends InstanceHeader> List<T> retainVersionsCurrentAsOf(List<T> currentVersions, Date asOfTime)
+    {
+        List<T> retainedVersions = new ArrayList<>();
+
+        if (currentVersions != null) {
+            for (T instance : currentVersions) {
+                Date effectiveTime = instance.getUpdateTime() != null ? instance.getUpdateTime() : instance.getCreateTime();
+                if (effectiveTime == null || !effectiveTime.after(asOfTime)) {
+                    retainedVersions.add(instance);
+                }
+            }
+        }
+
+        return retainedVersions;
+    }
+
+
+
     // deleteEntity
      public EntityDetail deleteEntity(String    userId,
                                       String    typeDefGUID,
@@ -2871,6 +3113,64 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /*
+     * Bulk save of reference copies. Rather than saving each instance in its own transaction, the instances
+     * are validated up front and then passed to the graph store, which writes them in chunked transactions.
+     * As in the base implementation, any instances from the local metadata collection are ignored.
+     */
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            EntityConflictException,
+            RelationshipConflictException,
+            InvalidEntityException,
+            InvalidRelationshipException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName                = "saveInstanceReferenceCopies";
+        final String  entityParameterName       = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        if (instances == null) {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+        if (instances.getEntities() != null) {
+            for (EntityDetail entity : instances.getEntities()) {
+                if ((entity != null) && (!metadataCollectionId.equals(entity.getMetadataCollectionId()))) {
+                    super.saveReferenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        List<Relationship> relationships = new ArrayList<>();
+        if (instances.getRelationships() != null) {
+            for (Relationship relationship : instances.getRelationships()) {
+                if ((relationship != null) && (!metadataCollectionId.equals(relationship.getMetadataCollectionId()))) {
+                    super.saveReferenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        /*
+         * Save entities and relationships
+         */
+        graphStore.saveInstanceReferenceCopiesToStore(entities, relationships);
+    }
+
+
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
                                                String   typeDefGUID,
@@ -12,7 +12,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.attribute.Text;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
@@ -20,6 +24,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
@@ -53,10 +58,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * GraphOMRSMetadataStore provides the graph store for the GraphRepositoryConnector
@@ -67,6 +75,9 @@ class GraphOMRSMetadataStore {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataStore.class);
 
+    // Maximum number of instances written in each transaction by saveInstanceReferenceCopiesToStore
+    private static final int BULK_SAVE_CHUNK_SIZE = 1000;
+
     private String               repositoryName;
     private String               metadataCollectionId;
     private String               metadataCollectionName = null;
@@ -74,11 +85,24 @@ class GraphOMRSMetadataStore {
     private OMRSAuditLog         auditLog;
 
     // The instance graph is used to store entities (vertices) and relationships (edges).
+    // The graph factory opened the graph and maintains its indexes.
     private JanusGraph instanceGraph;
+    private GraphOMRSGraphFactory graphFactory;
     private GraphOMRSRelationshipMapper relationshipMapper;
     private GraphOMRSEntityMapper entityMapper;
     private GraphOMRSClassificationMapper classificationMapper;
 
+    // Retry policy for write transactions that fail because they conflict with a concurrent transaction
+    private int  transactionRetryLimit;
+    private long transactionRetryInterval;
+
+
+    /*
+     * The store methods are not synchronized. Each thread works in its own JanusGraph transaction (the transaction
+     * behind instanceGraph.traversal() is bound to the calling thread) so reads run concurrently. Writes rely on the
+     * locking of the unique entity GUID index to detect a concurrent write of the same GUID; a write whose
+     * transaction cannot be committed because of a lock conflict is rolled back and run again by runWithRetry.
+     */
 
     /**
      * Default constructor
@@ -86,7 +110,10 @@ class GraphOMRSMetadataStore {
     public GraphOMRSMetadataStore(String               metadataCollectionId,
                                   String               repositoryName,
                                   OMRSRepositoryHelper repositoryHelper,
-                                  OMRSAuditLog         auditLog)
+                                  OMRSAuditLog         auditLog,
+                                  int                  transactionRetryLimit,
+                                  long                 transactionRetryInterval,
+                                  Map<String, Object>  storageProperties)
         throws
             RepositoryErrorException
     {
@@ -97,10 +124,13 @@ class GraphOMRSMetadataStore {
         this.repositoryName = repositoryName;
         this.repositoryHelper = repositoryHelper;
         this.auditLog = auditLog;
+        this.transactionRetryLimit = transactionRetryLimit;
+        this.transactionRetryInterval = transactionRetryInterval;
 
         try {
             synchronized (GraphOMRSMetadataStore.class) {
-                instanceGraph = GraphOMRSGraphFactory.open(metadataCollectionId, repositoryName, auditLog);
+                graphFactory = new GraphOMRSGraphFactory(metadataCollectionId, repositoryName, auditLog);
+                instanceGraph = graphFactory.open(storageProperties);
             }
         }
         catch (RepositoryErrorException e) {
@@ -115,13 +145,123 @@ class GraphOMRSMetadataStore {
     }
 
 
+    // close
+    // Close the graph when the repository is shut down so that its storage can be reopened.
+    void close()
+    {
+        final String methodName = "close";
+
+        if (instanceGraph != null) {
+            try {
+                instanceGraph.close();
+            } catch (Exception e) {
+                log.error("{} caught exception closing graph for metadataCollectionId {}: {}", methodName, metadataCollectionId, e.getMessage());
+            }
+            instanceGraph = null;
+        }
+    }
+
+
+    /*
+     * A unit of work against the graph. It must start its own transaction and commit or roll it back, so that it
+     * can be run again from the start if the commit fails because of a conflict with a concurrent transaction.
+     */
+    @FunctionalInterface
+    private interface GraphTransaction<T, E extends Exception> {
+        T run() throws E, RepositoryErrorException;
+    }
+
+
+    // runWithRetry
+    // Run a unit of work, retrying it (up to transactionRetryLimit times, with an increasing pause between
+    // attempts) if it fails because of a locking conflict or a temporary failure of the storage backend.
+    private <T, E extends Exception> T runWithRetry(String methodName, GraphTransaction<T, E> transaction)
+            throws
+            E,
+            RepositoryErrorException
+    {
+        int attempt = 0;
+
+        while (true) {
+            try {
+                return transaction.run();
+
+            } catch (RuntimeException e) {
+
+                if (instanceGraph.tx().isOpen()) {
+                    instanceGraph.tx().rollback();
+                }
+
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+
+                if (attempt >= transactionRetryLimit) {
+                    log.error("{} transaction failed after {} attempts: {}", methodName, attempt + 1, e.getMessage());
+                    GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.TRANSACTION_CONFLICT;
+
+                    String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(Integer.toString(attempt + 1), methodName,
+                            this.getClass().getName(),
+                            repositoryName);
+
+                    throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                            this.getClass().getName(),
+                            methodName,
+                            errorMessage,
+                            errorCode.getSystemAction(),
+                            errorCode.getUserAction());
+                }
+
+                attempt++;
+                log.debug("{} transaction conflict, retry {} of {}: {}", methodName, attempt, transactionRetryLimit, e.getMessage());
+
+                try {
+                    Thread.sleep(transactionRetryInterval * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+
+    // isRetryable
+    // A transaction is worth retrying if it failed because a lock could not be acquired or the storage backend
+    // reported a temporary failure.
+    private boolean isRetryable(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null) {
+            if (cause instanceof PermanentLockingException || cause instanceof TemporaryBackendException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     // A note on existence checking:
     // The MDC will NOT have already checked that there is not already an entity or entity proxy wth the same GUID.
     // Although we KNOW that this is an attempt to create a new entity and that the GUID has just been generated,
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        return runWithRetry("createEntityInStore", () -> doCreateEntityInStore(entity));
+    }
+
+    private EntityDetail doCreateEntityInStore(EntityDetail entity)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -237,7 +377,18 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        runWithRetry("createEntityProxyInStore", () -> {
+            doCreateEntityProxyInStore(entityProxy);
+            return null;
+        });
+    }
+
+    private void doCreateEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -340,7 +491,18 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
+    void saveEntityReferenceCopyToStore(EntityDetail entity)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        runWithRetry("saveEntityReferenceCopyToStore", () -> {
+            doSaveEntityReferenceCopyToStore(entity);
+            return null;
+        });
+    }
+
+    private void doSaveEntityReferenceCopyToStore(EntityDetail entity)
         throws
             InvalidParameterException,
             RepositoryErrorException
@@ -350,6 +512,7 @@ class GraphOMRSMetadataStore {
         final String methodName = "saveEntityReferenceCopyToStore";
 
         Vertex vertex;
+        boolean existingVertex = false;
 
         GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
@@ -357,6 +520,7 @@ class GraphOMRSMetadataStore {
         if (vertexIt.hasNext()) {
 
             vertex = vertexIt.next();
+            existingVertex = true;
             log.debug("{} found existing vertex {}", methodName, vertex);
 
             /*
@@ -406,6 +570,10 @@ class GraphOMRSMetadataStore {
 
 
         try {
+            if (existingVertex) {
+                saveEntityHistory(g, vertex, effectiveTime(entity));
+            }
+
             entityMapper.mapEntityDetailToVertex(entity, vertex);
 
             // Create a vertex per classification and link them to the entity vertex
@@ -445,7 +613,7 @@ class GraphOMRSMetadataStore {
 
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
             throws
             EntityNotKnownException,
             EntityProxyOnlyException,
@@ -546,7 +714,68 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    /*
+     * Retrieve a list of entities with a single traversal rather than a traversal per entity.
+     * Entities that are not found, or are only proxies, are skipped. The results are returned in
+     * the order of the requested guids.
+     */
+    List<EntityDetail> getEntityDetailsFromStore(List<String> guids)
+            throws
+            RepositoryErrorException
+    {
+
+        String methodName = "getEntityDetailsFromStore";
+
+        Map<String, EntityDetail> entitiesByGUID = new HashMap<>();
+
+        // Look in the graph
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids));
+
+        try {
+            while (gt.hasNext()) {
+                Vertex vertex = gt.next();
+                log.debug("{} found entity vertex {}", methodName, vertex);
+
+                // Skip any proxies - only full entities are returned
+                if (Boolean.TRUE.equals(entityMapper.isProxy(vertex))) {
+                    log.debug("{} skipping proxy entity vertex {}", methodName, vertex);
+                    continue;
+                }
+
+                try {
+                    EntityDetail entity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, entity);
+                    entitiesByGUID.put(entity.getGUID(), entity);
+                }
+                catch (EntityProxyOnlyException e) {
+                    log.debug("{} skipping proxy entity vertex {}", methodName, vertex);
+                }
+            }
+        }
+        catch (RepositoryErrorException e) {
+
+            log.error("{} Caught exception {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw e;
+        }
+
+        g.tx().commit();
+
+        List<EntityDetail> entities = new ArrayList<>();
+        for (String guid : guids) {
+            EntityDetail entity = entitiesByGUID.get(guid);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+    EntitySummary getEntitySummaryFromStore(String guid)
             throws
             EntityNotKnownException,
             RepositoryErrorException
@@ -618,7 +847,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
             throws
             RepositoryErrorException
     {
@@ -676,7 +905,18 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        runWithRetry("createRelationshipInStore", () -> {
+            doCreateRelationshipInStore(relationship);
+            return null;
+        });
+    }
+
+    private void doCreateRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -812,7 +1052,18 @@ class GraphOMRSMetadataStore {
      *       - else metadataCollectionId is not local and values match
      *             update existing edge by mapping relationship
      */
-    synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
+    void saveRelationshipReferenceCopyToStore(Relationship relationship)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        runWithRetry("saveRelationshipReferenceCopyToStore", () -> {
+            doSaveRelationshipReferenceCopyToStore(relationship);
+            return null;
+        });
+    }
+
+    private void doSaveRelationshipReferenceCopyToStore(Relationship relationship)
             throws
             InvalidParameterException,
             RepositoryErrorException
@@ -867,80 +1118,776 @@ class GraphOMRSMetadataStore {
         }
         else {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            doCreateEntityProxyInStore(entityOne);
+        }
+
+        // Process end 2
+        EntityProxy entityTwo = relationship.getEntityTwoProxy();
+        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityTwo.getGUID());
+
+        if (vertexIt.hasNext()) {
+
+            vertex = vertexIt.next();
+            log.debug("{} found existing vertex {}", methodName, vertex);
+
+            /*
+             * Check the metadataCollectionId matches the metadataCollectionId of the
+             * passed entity. It does not matter if it is the local metadataCollectionId
+             * or not - the entity will be reused in either case.
+             */
+            String vertexMetadataCollectionId = entityMapper.getEntityMetadataCollectionId(vertex);
+
+            if (!vertexMetadataCollectionId.equals(entityOne.getMetadataCollectionId())) {
+
+                /*
+                 *  Error condition
+                 *  The passed entity proxy does not match the locally stored entity (in terms of home).
+                 *
+                 */
+
+                log.error("{} found an existing vertex from a different source, with metadataCollectionId {}", methodName, vertexMetadataCollectionId);
+                g.tx().rollback();
+                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS;
+
+                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityOne.getGUID(), methodName,
+                        this.getClass().getName(),
+                        repositoryName);
+
+                throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                        this.getClass().getName(),
+                        methodName,
+                        errorMessage,
+                        errorCode.getSystemAction(),
+                        errorCode.getUserAction());
+            }
+        }
+        else {
+            // Entity does not exist, create proxy
+            doCreateEntityProxyInStore(entityTwo);
+        }
+
+
+        /*
+         * Both ends have been checked and there are vertices for both.
+         * Because we might have either created or retrieved the vertices for the entities, re-fetch them here
+         * and throw an exception on any error.
+         */
+
+        Vertex vertexOne = null;
+        Vertex vertexTwo = null;
+
+        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityOne.getGUID());
+        if (vertexIt.hasNext()) {
+            vertexOne = vertexIt.next();
+        }
+        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityTwo.getGUID());
+        if (vertexIt.hasNext()) {
+            vertexTwo = vertexIt.next();
+        }
+        if (vertexOne == null || vertexTwo == null) {
+
+            // Error!!
+            log.error("{} Could not locate or create vertex for entity with guid {} used in relationship {}", methodName, vertexOne==null?entityOne.getGUID():entityTwo.getGUID(),relationship.getGUID());
+            g.tx().rollback();
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+
+
+        // Process relationship
+        Edge  edge;
+        boolean existingEdge = false;
+
+        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
+
+        if (edgeIt.hasNext()) {
+
+            edge = edgeIt.next();
+            existingEdge = true;
+            log.debug("{} found existing edge {}", methodName, edge);
+
+            /*
+             * Check the metadataCollectionId is not local and that it matches the metadataCollectionId of the
+             * passed relationship
+             */
+            String edgeMetadataCollectionId = relationshipMapper.getRelationshipMetadataCollectionId(edge);
+
+            if (    metadataCollectionId.equals(relationship.getMetadataCollectionId())
+                || !edgeMetadataCollectionId.equals(relationship.getMetadataCollectionId()) ) {
+
+                /*
+                 *  Error condition
+                 *  Either the local repository is being asked to save a reference copy of something it already owns,
+                 *  or it already has a reference copy of a relationship from a repository other than the one that
+                 *  submitted this reference copy.
+                 */
+
+                log.error("{} found an existing edge from a different source, with metadataCollectionId {}", methodName, edgeMetadataCollectionId);
+                g.tx().rollback();
+                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_ALREADY_EXISTS;
+
+                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
+                        this.getClass().getName(),
+                        repositoryName);
+
+                throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                        this.getClass().getName(),
+                        methodName,
+                        errorMessage,
+                        errorCode.getSystemAction(),
+                        errorCode.getUserAction());
+            }
+
+
+        }
+        else {
+            // No existing edge found. Create an edge for the relationship
+            edge = vertexOne.addEdge("Relationship", vertexTwo);
+        }
+
+
+
+        // Populate the edge with the relationship
+        try {
+
+            if (existingEdge) {
+                saveRelationshipHistory(g, edge, effectiveTime(relationship));
+            }
+
+            relationshipMapper.mapRelationshipToEdge(relationship, edge);
+
+        }
+        catch (Exception e) {
+            log.error("{} Caught exception from relationship mapper {}", methodName, e.getMessage());
+            g.tx().rollback();
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        log.debug("{} Commit tx containing creation of edge", methodName);
+        g.tx().commit();
+
+        return;
+    }
+
+
+    /*
+     *  Bulk save of reference copies, as received in batch instance events and refresh traffic.
+     *
+     *  The instances are saved with the same rules as saveEntityReferenceCopyToStore and
+     *  saveRelationshipReferenceCopyToStore, but instead of a lookup and a commit per instance, each chunk of
+     *  BULK_SAVE_CHUNK_SIZE instances is written in a single transaction, after resolving any existing vertices
+     *  and edges for the chunk with one lookup. The chunk transactions are ordinary (locking) transactions, not
+     *  batch loading ones: a chunk may contain instances that a concurrent request or another chunk is writing, and
+     *  the locks on the unique GUID index are what stop that from creating a second vertex for the same GUID.
+     *
+     *  All of the entities are saved before any of the relationships so that relationship ends that are in the
+     *  same instance graph are found rather than being created as proxies.
+     *  A chunk that conflicts with a concurrent transaction is retried in the same way as the single instance
+     *  methods. If a chunk fails it is rolled back and an exception is thrown; chunks that have already been
+     *  committed are not undone.
+     */
+    void saveInstanceReferenceCopiesToStore(List<EntityDetail> entities, List<Relationship> relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "saveInstanceReferenceCopiesToStore";
+
+        log.debug("{} save {} entities and {} relationships", methodName,
+                entities == null ? 0 : entities.size(), relationships == null ? 0 : relationships.size());
+
+        if (entities != null) {
+            for (int start = 0; start < entities.size(); start += BULK_SAVE_CHUNK_SIZE) {
+                List<EntityDetail> chunk = entities.subList(start, Math.min(start + BULK_SAVE_CHUNK_SIZE, entities.size()));
+                runWithRetry(methodName, () -> {
+                    saveEntityReferenceCopyChunk(chunk);
+                    return null;
+                });
+            }
+        }
+
+        if (relationships != null) {
+            for (int start = 0; start < relationships.size(); start += BULK_SAVE_CHUNK_SIZE) {
+                List<Relationship> chunk = relationships.subList(start, Math.min(start + BULK_SAVE_CHUNK_SIZE, relationships.size()));
+                runWithRetry(methodName, () -> {
+                    saveRelationshipReferenceCopyChunk(chunk);
+                    return null;
+                });
+            }
+        }
+    }
+
+
+    // saveEntityReferenceCopyChunk
+    private void saveEntityReferenceCopyChunk(List<EntityDetail> entities)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "saveEntityReferenceCopyChunk";
+
+        JanusGraphTransaction tx = instanceGraph.newTransaction();
+        GraphTraversalSource g = tx.traversal();
+
+        String currentGUID = null;
+
+        try {
+            Set<String> guids = new HashSet<>();
+            for (EntityDetail entity : entities) {
+                guids.add(entity.getGUID());
+            }
+            Map<String, Vertex> entityVertices = getEntityVerticesByGUID(g, guids);
+
+            for (EntityDetail entity : entities) {
+
+                currentGUID = entity.getGUID();
+                Vertex vertex = entityVertices.get(currentGUID);
+
+                if (vertex != null) {
+
+                    log.debug("{} found existing vertex {}", methodName, vertex);
+
+                    /*
+                     * Check the metadataCollectionId is not local and that it matches the metadataCollectionId of the
+                     * passed entity
+                     */
+                    String vertexMetadataCollectionId = entityMapper.getEntityMetadataCollectionId(vertex);
+
+                    if (   metadataCollectionId.equals(entity.getMetadataCollectionId())
+                        || !vertexMetadataCollectionId.equals(entity.getMetadataCollectionId()) ) {
+
+                        log.error("{} found an existing vertex from a different source, with metadataCollectionId {}", methodName, vertexMetadataCollectionId);
+                        GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS;
+
+                        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(currentGUID, methodName,
+                                this.getClass().getName(),
+                                repositoryName);
+
+                        throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                this.getClass().getName(),
+                                methodName,
+                                errorMessage,
+                                errorCode.getSystemAction(),
+                                errorCode.getUserAction());
+                    }
+
+                    saveEntityHistory(g, vertex, effectiveTime(entity));
+
+                    // The mapping of an entity detail to the vertex will clear the proxy flag, even if previously set.
+                    entityMapper.mapEntityDetailToVertex(entity, vertex);
+                    updateEntityClassifications(entity, vertex, g);
+
+                } else {
+
+                    // No existing vertex found - create one
+                    log.debug("{} create vertex for entity {}", methodName, currentGUID);
+                    vertex = g.addV("Entity").next();
+                    entityMapper.mapEntityDetailToVertex(entity, vertex);
+                    addEntityClassifications(entity, vertex, g);
+
+                    // Remember the new vertex in case the same entity appears again in this chunk
+                    entityVertices.put(currentGUID, vertex);
+                }
+            }
+
+        } catch (InvalidParameterException e) {
+            tx.rollback();
+            throw e;
+
+        } catch (Exception e) {
+            log.error("{} Caught exception saving entity {}: {}", methodName, currentGUID, e.getMessage());
+            tx.rollback();
+
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_NOT_CREATED;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(currentGUID, methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        log.debug("{} Commit tx containing {} entities", methodName, entities.size());
+        try {
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+
+    // saveRelationshipReferenceCopyChunk
+    private void saveRelationshipReferenceCopyChunk(List<Relationship> relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "saveRelationshipReferenceCopyChunk";
+
+        JanusGraphTransaction tx = instanceGraph.newTransaction();
+        GraphTraversalSource g = tx.traversal();
+
+        String currentGUID = null;
+
+        try {
+            Set<String> entityGUIDs = new HashSet<>();
+            Set<String> relationshipGUIDs = new HashSet<>();
+            for (Relationship relationship : relationships) {
+                entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+                entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+                relationshipGUIDs.add(relationship.getGUID());
+            }
+            Map<String, Vertex> entityVertices = getEntityVerticesByGUID(g, entityGUIDs);
+            Map<String, Edge> relationshipEdges = getRelationshipEdgesByGUID(g, relationshipGUIDs);
+
+            for (Relationship relationship : relationships) {
+
+                currentGUID = relationship.getGUID();
+
+                // Process the ends, creating a proxy for any entity that is not already stored
+                Vertex vertexOne = getEntityProxyVertex(g, relationship.getEntityOneProxy(), entityVertices);
+                Vertex vertexTwo = getEntityProxyVertex(g, relationship.getEntityTwoProxy(), entityVertices);
+
+                // Process relationship
+                Edge edge = relationshipEdges.get(currentGUID);
+
+                if (edge != null) {
+
+                    log.debug("{} found existing edge {}", methodName, edge);
+
+                    /*
+                     * Check the metadataCollectionId is not local and that it matches the metadataCollectionId of the
+                     * passed relationship
+                     */
+                    String edgeMetadataCollectionId = relationshipMapper.getRelationshipMetadataCollectionId(edge);
+
+                    if (   metadataCollectionId.equals(relationship.getMetadataCollectionId())
+                        || !edgeMetadataCollectionId.equals(relationship.getMetadataCollectionId()) ) {
+
+                        log.error("{} found an existing edge from a different source, with metadataCollectionId {}", methodName, edgeMetadataCollectionId);
+                        GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_ALREADY_EXISTS;
+
+                        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(currentGUID, methodName,
+                                this.getClass().getName(),
+                                repositoryName);
+
+                        throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                this.getClass().getName(),
+                                methodName,
+                                errorMessage,
+                                errorCode.getSystemAction(),
+                                errorCode.getUserAction());
+                    }
+
+                    saveRelationshipHistory(g, edge, effectiveTime(relationship));
+
+                } else {
+
+                    // No existing edge found. Create an edge for the relationship
+                    edge = vertexOne.addEdge("Relationship", vertexTwo);
+                    relationshipEdges.put(currentGUID, edge);
+                }
+
+                relationshipMapper.mapRelationshipToEdge(relationship, edge);
+            }
+
+        } catch (InvalidParameterException e) {
+            tx.rollback();
+            throw e;
+
+        } catch (Exception e) {
+            log.error("{} Caught exception saving relationship {}: {}", methodName, currentGUID, e.getMessage());
+            tx.rollback();
+
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(currentGUID, methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        log.debug("{} Commit tx containing {} relationships", methodName, relationships.size());
+        try {
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+
+    // getEntityProxyVertex
+    // Return the vertex for a relationship end, creating a proxy if the entity is not known.
+    // It does not matter if an existing entity has the local metadataCollectionId or not - the entity will be reused
+    // in either case - but it must match the metadataCollectionId of the passed proxy.
+    private Vertex getEntityProxyVertex(GraphTraversalSource g, EntityProxy entityProxy, Map<String, Vertex> entityVertices)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "getEntityProxyVertex";
+
+        Vertex vertex = entityVertices.get(entityProxy.getGUID());
+
+        if (vertex != null) {
+
+            String vertexMetadataCollectionId = entityMapper.getEntityMetadataCollectionId(vertex);
+
+            if (!vertexMetadataCollectionId.equals(entityProxy.getMetadataCollectionId())) {
+
+                log.error("{} found an existing vertex from a different source, with metadataCollectionId {}", methodName, vertexMetadataCollectionId);
+                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS;
+
+                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityProxy.getGUID(), methodName,
+                        this.getClass().getName(),
+                        repositoryName);
+
+                throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                        this.getClass().getName(),
+                        methodName,
+                        errorMessage,
+                        errorCode.getSystemAction(),
+                        errorCode.getUserAction());
+            }
+
+        } else {
+
+            // Entity does not exist, create proxy
+            log.debug("{} create proxy vertex for entity {}", methodName, entityProxy.getGUID());
+            vertex = g.addV("Entity").next();
+            entityMapper.mapEntityProxyToVertex(entityProxy, vertex);
+            addEntityClassifications(entityProxy, vertex, g);
+            entityVertices.put(entityProxy.getGUID(), vertex);
+        }
+
+        return vertex;
+    }
+
+
+    // addEntityClassifications
+    // Create a vertex per classification and link them to a newly created entity vertex
+    private void addEntityClassifications(EntitySummary entity, Vertex vertex, GraphTraversalSource g)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "addEntityClassifications";
+
+        List<Classification> classifications = entity.getClassifications();
+        if (classifications != null) {
+            for (Classification classification : classifications) {
+                log.debug("{} add classification: {} ", methodName, classification.getName());
+                Vertex classificationVertex = g.addV("Classification").next();
+                classificationMapper.mapClassificationToVertex(classification, classificationVertex);
+                vertex.addEdge("Classifier", classificationVertex);
+            }
+        }
+    }
+
+
+    // getEntityVerticesByGUID
+    // Resolve the entity vertices (including proxies) for a set of GUIDs with a single lookup
+    private Map<String, Vertex> getEntityVerticesByGUID(GraphTraversalSource g, Set<String> guids)
+    {
+        Map<String, Vertex> entityVertices = new HashMap<>();
+
+        if (!guids.isEmpty()) {
+            Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids));
+            while (vertexIt.hasNext()) {
+                Vertex vertex = vertexIt.next();
+                entityVertices.put(entityMapper.getEntityGUID(vertex), vertex);
+            }
+        }
+
+        return entityVertices;
+    }
+
+
+    // getRelationshipEdgesByGUID
+    // Resolve the relationship edges for a set of GUIDs with a single lookup
+    private Map<String, Edge> getRelationshipEdgesByGUID(GraphTraversalSource g, Set<String> guids)
+    {
+        Map<String, Edge> relationshipEdges = new HashMap<>();
+
+        if (!guids.isEmpty()) {
+            Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(guids));
+            while (edgeIt.hasNext()) {
+                Edge edge = edgeIt.next();
+                relationshipEdges.put(edge.value(PROPERTY_KEY_RELATIONSHIP_GUID), edge);
+            }
+        }
+
+        return relationshipEdges;
+    }
+
+
+    /*
+     *  Instance history
+     *
+     *  When an entity or relationship is updated, or is removed from the store, the version that it replaces is saved
+     *  as a History vertex, serialized as JSON, with the interval [validFrom, validTo) in which it was the current
+     *  version. validFrom is the effective time of the version (its updateTime, or its createTime if it has never been
+     *  updated) and validTo is the effective time of the version that replaced it (or the time it was removed).
+     *  The History vertices are covered by a single mixed index, so the version of an instance (or the versions of a
+     *  type or of the relationships of an entity) that was current at a point in time is found with one indexed range
+     *  query. The current version of an instance is never copied to the history - it is used by a point-in-time query
+     *  when its own effective time is not later than the requested time.
+     */
+
+
+    // getEntityDetailFromStore
+    // Return the version of the entity that was current at asOfTime, or null if the entity was not known at that time.
+    EntityDetail getEntityDetailFromStore(String guid, Date asOfTime)
+            throws
+            EntityProxyOnlyException,
+            RepositoryErrorException
+    {
+        final String methodName = "getEntityDetailFromStore";
+
+        EntityDetail entity = null;
+        boolean      isProxy = false;
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        try {
+            Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
+            if (vertexIt.hasNext()) {
+                Vertex vertex = vertexIt.next();
+                log.debug("{} found entity vertex {}", methodName, vertex);
+
+                isProxy = entityMapper.isProxy(vertex);
+                if (!isProxy) {
+                    EntityDetail currentEntity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, currentEntity);
+                    if (effectiveTime(currentEntity) <= asOfTime.getTime()) {
+                        entity = currentEntity;
+                    }
+                }
+            }
+
+            if (entity == null) {
+                Iterator<Vertex> historyIt = getHistoryAsOf(g, HISTORY_CATEGORY_ENTITY, asOfTime).has(PROPERTY_KEY_HISTORY_GUID, guid);
+                if (historyIt.hasNext()) {
+                    entity = readHistoryVersion(historyIt.next(), EntityDetail.class, guid);
+                }
+            }
+        }
+        catch (RepositoryErrorException e) {
+            g.tx().rollback();
+            throw e;
+        }
+
+        g.tx().commit();
+
+        if (entity == null && isProxy) {
+            log.error("{} found entity but it is only a proxy, guid {}", methodName, guid);
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_PROXY_ONLY;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(guid, methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new EntityProxyOnlyException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        return entity;
+    }
+
+
+    // getRelationshipFromStore
+    // Return the version of the relationship that was current at asOfTime, or null if the relationship was not known at that time.
+    Relationship getRelationshipFromStore(String guid, Date asOfTime)
+            throws
+            RepositoryErrorException
+    {
+        Relationship relationship = getRelationshipFromStore(guid);
+
+        if (relationship != null && effectiveTime(relationship) <= asOfTime.getTime()) {
+            return relationship;
+        }
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        relationship = null;
+        try {
+            Iterator<Vertex> historyIt = getHistoryAsOf(g, HISTORY_CATEGORY_RELATIONSHIP, asOfTime).has(PROPERTY_KEY_HISTORY_GUID, guid);
+            if (historyIt.hasNext()) {
+                relationship = readHistoryVersion(historyIt.next(), Relationship.class, guid);
+            }
+        }
+        catch (RepositoryErrorException e) {
+            g.tx().rollback();
+            throw e;
+        }
+
+        g.tx().commit();
+
+        return relationship;
+    }
+
+
+    // getRelationshipsForEntity
+    // Return the versions of the entity's relationships that were current at asOfTime.
+    List<Relationship> getRelationshipsForEntity(String entityGUID, Date asOfTime)
+            throws
+            TypeErrorException,
+            RepositoryErrorException
+    {
+        Map<String, Relationship> relationships = new HashMap<>();
+
+        for (Relationship relationship : getRelationshipsForEntity(entityGUID)) {
+            if (effectiveTime(relationship) <= asOfTime.getTime()) {
+                relationships.put(relationship.getGUID(), relationship);
+            }
+        }
+
+        // An entity can be at either end of a relationship. The ends are queried separately so that each query is
+        // served by the history index.
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        try {
+            for (String endKey : new String[] { PROPERTY_KEY_HISTORY_END_ONE_GUID, PROPERTY_KEY_HISTORY_END_TWO_GUID }) {
+                Iterator<Vertex> historyIt = getHistoryAsOf(g, HISTORY_CATEGORY_RELATIONSHIP, asOfTime).has(endKey, entityGUID);
+                while (historyIt.hasNext()) {
+                    Relationship relationship = readHistoryVersion(historyIt.next(), Relationship.class, entityGUID);
+                    relationships.put(relationship.getGUID(), relationship);
+                }
+            }
+        }
+        catch (RepositoryErrorException e) {
+            g.tx().rollback();
+            throw e;
         }
 
-        // Process end 2
-        EntityProxy entityTwo = relationship.getEntityTwoProxy();
-        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityTwo.getGUID());
+        g.tx().commit();
 
-        if (vertexIt.hasNext()) {
+        return new ArrayList<>(relationships.values());
+    }
 
-            vertex = vertexIt.next();
-            log.debug("{} found existing vertex {}", methodName, vertex);
 
-            /*
-             * Check the metadataCollectionId matches the metadataCollectionId of the
-             * passed entity. It does not matter if it is the local metadataCollectionId
-             * or not - the entity will be reused in either case.
-             */
-            String vertexMetadataCollectionId = entityMapper.getEntityMetadataCollectionId(vertex);
+    // findEntityHistoryAsOf
+    // Return the superseded versions of entities of the given type that were current at asOfTime. The current
+    // versions of the entities are not included - the caller searches them in the usual way.
+    List<EntityDetail> findEntityHistoryAsOf(String typeDefName, Date asOfTime)
+            throws
+            RepositoryErrorException
+    {
+        return findHistoryAsOf(HISTORY_CATEGORY_ENTITY, typeDefName, asOfTime, EntityDetail.class);
+    }
 
-            if (!vertexMetadataCollectionId.equals(entityOne.getMetadataCollectionId())) {
 
-                /*
-                 *  Error condition
-                 *  The passed entity proxy does not match the locally stored entity (in terms of home).
-                 *
-                 */
+    // findRelationshipHistoryAsOf
+    // Return the superseded versions of relationships of the given type that were current at asOfTime. The current
+    // versions of the relationships are not included - the caller searches them in the usual way.
+    List<Relationship> findRelationshipHistoryAsOf(String typeDefName, Date asOfTime)
+            throws
+            RepositoryErrorException
+    {
+        return findHistoryAsOf(HISTORY_CATEGORY_RELATIONSHIP, typeDefName, asOfTime, Relationship.class);
+    }
 
-                log.error("{} found an existing vertex from a different source, with metadataCollectionId {}", methodName, vertexMetadataCollectionId);
-                g.tx().rollback();
-                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS;
 
-                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityOne.getGUID(), methodName,
-                        this.getClass().getName(),
-                        repositoryName);
+    // findHistoryAsOf
+    private <T> List<T> findHistoryAsOf(String category, String typeDefName, Date asOfTime, Class<T> instanceClass)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "findHistoryAsOf";
 
-                throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
-                        this.getClass().getName(),
-                        methodName,
-                        errorMessage,
-                        errorCode.getSystemAction(),
-                        errorCode.getUserAction());
+        List<T> versions = new ArrayList<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        try {
+            Iterator<Vertex> historyIt = getHistoryAsOf(g, category, asOfTime).has(PROPERTY_KEY_HISTORY_TYPE_NAME, typeDefName);
+            while (historyIt.hasNext()) {
+                versions.add(readHistoryVersion(historyIt.next(), instanceClass, typeDefName));
             }
         }
-        else {
-            // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+        catch (RepositoryErrorException e) {
+            g.tx().rollback();
+            throw e;
         }
 
+        g.tx().commit();
 
-        /*
-         * Both ends have been checked and there are vertices for both.
-         * Because we might have either created or retrieved the vertices for the entities, re-fetch them here
-         * and throw an exception on any error.
-         */
+        log.debug("{} found {} {} versions of type {} current at {}", methodName, versions.size(), category, typeDefName, asOfTime);
 
-        Vertex vertexOne = null;
-        Vertex vertexTwo = null;
+        return versions;
+    }
 
-        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityOne.getGUID());
-        if (vertexIt.hasNext()) {
-            vertexOne = vertexIt.next();
-        }
-        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityTwo.getGUID());
-        if (vertexIt.hasNext()) {
-            vertexTwo = vertexIt.next();
-        }
-        if (vertexOne == null || vertexTwo == null) {
 
-            // Error!!
-            log.error("{} Could not locate or create vertex for entity with guid {} used in relationship {}", methodName, vertexOne==null?entityOne.getGUID():entityTwo.getGUID(),relationship.getGUID());
-            g.tx().rollback();
-            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED;
+    // getHistoryAsOf
+    // Start a traversal of the History vertices of a category whose validity interval contains asOfTime. The has
+    // steps are folded into a single query of the history index.
+    private GraphTraversal<Vertex, Vertex> getHistoryAsOf(GraphTraversalSource g, String category, Date asOfTime)
+    {
+        return g.V().hasLabel("History")
+                .has(PROPERTY_KEY_HISTORY_CATEGORY, category)
+                .has(PROPERTY_KEY_HISTORY_VALID_FROM, P.lte(asOfTime.getTime()))
+                .has(PROPERTY_KEY_HISTORY_VALID_TO, P.gt(asOfTime.getTime()));
+    }
 
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
+
+    // readHistoryVersion
+    private <T> T readHistoryVersion(Vertex historyVertex, Class<T> instanceClass, String guid)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "readHistoryVersion";
+
+        try {
+            String json = historyVertex.value(PROPERTY_KEY_HISTORY_INSTANCE);
+            return JSONSerializer.readValue(json, instanceClass);
+        }
+        catch (Exception e) {
+            log.error("{} caught exception reading history for {}: {}", methodName, guid, e.getMessage());
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.INSTANCE_HISTORY_ERROR;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(guid, methodName,
                     this.getClass().getName(),
                     repositoryName);
 
@@ -951,72 +1898,84 @@ class GraphOMRSMetadataStore {
                     errorCode.getSystemAction(),
                     errorCode.getUserAction());
         }
+    }
 
 
+    // saveEntityHistory
+    // Save the version of the entity held in the vertex, which is being superseded at supersededAt, as a History vertex.
+    private void saveEntityHistory(GraphTraversalSource g, Vertex vertex, long supersededAt)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "saveEntityHistory";
 
-        // Process relationship
-        Edge  edge;
-
-        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
-
-        if (edgeIt.hasNext()) {
-
-            edge = edgeIt.next();
-            log.debug("{} found existing edge {}", methodName, edge);
-
-            /*
-             * Check the metadataCollectionId is not local and that it matches the metadataCollectionId of the
-             * passed relationship
-             */
-            String edgeMetadataCollectionId = relationshipMapper.getRelationshipMetadataCollectionId(edge);
-
-            if (    metadataCollectionId.equals(relationship.getMetadataCollectionId())
-                || !edgeMetadataCollectionId.equals(relationship.getMetadataCollectionId()) ) {
+        EntityDetail entity = new EntityDetail();
+        try {
+            entityMapper.mapVertexToEntityDetail(vertex, entity);
+        }
+        catch (EntityProxyOnlyException e) {
+            // A proxy is not a version of the entity so it has no history
+            log.debug("{} no history saved for entity proxy vertex {}", methodName, vertex);
+            return;
+        }
 
-                /*
-                 *  Error condition
-                 *  Either the local repository is being asked to save a reference copy of something it already owns,
-                 *  or it already has a reference copy of a relationship from a repository other than the one that
-                 *  submitted this reference copy.
-                 */
+        Vertex historyVertex = saveHistoryVersion(g, HISTORY_CATEGORY_ENTITY, entity, supersededAt);
+        if (historyVertex != null) {
+            historyVertex.property(PROPERTY_KEY_HISTORY_TYPE_NAME, entity.getType().getTypeDefName());
+        }
+    }
 
-                log.error("{} found an existing edge from a different source, with metadataCollectionId {}", methodName, edgeMetadataCollectionId);
-                g.tx().rollback();
-                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_ALREADY_EXISTS;
 
-                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
-                        this.getClass().getName(),
-                        repositoryName);
+    // saveRelationshipHistory
+    // Save the version of the relationship held in the edge, which is being superseded at supersededAt, as a History vertex.
+    private void saveRelationshipHistory(GraphTraversalSource g, Edge edge, long supersededAt)
+            throws
+            RepositoryErrorException
+    {
+        Relationship relationship = new Relationship();
+        relationshipMapper.mapEdgeToRelationship(edge, relationship);
+
+        EntityProxy entityOneProxy = new EntityProxy();
+        entityMapper.mapVertexToEntityProxy(edge.outVertex(), entityOneProxy);
+        relationship.setEntityOneProxy(entityOneProxy);
+
+        EntityProxy entityTwoProxy = new EntityProxy();
+        entityMapper.mapVertexToEntityProxy(edge.inVertex(), entityTwoProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        Vertex historyVertex = saveHistoryVersion(g, HISTORY_CATEGORY_RELATIONSHIP, relationship, supersededAt);
+        if (historyVertex != null) {
+            historyVertex.property(PROPERTY_KEY_HISTORY_TYPE_NAME, relationship.getType().getTypeDefName());
+            historyVertex.property(PROPERTY_KEY_HISTORY_END_ONE_GUID, entityOneProxy.getGUID());
+            historyVertex.property(PROPERTY_KEY_HISTORY_END_TWO_GUID, entityTwoProxy.getGUID());
+        }
+    }
 
-                throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
-                        this.getClass().getName(),
-                        methodName,
-                        errorMessage,
-                        errorCode.getSystemAction(),
-                        errorCode.getUserAction());
-            }
 
+    // saveHistoryVersion
+    // Create the History vertex for a superseded version. A version that is not superseded by a later one (for example
+    // when the same version of a reference copy is saved again) is not saved, and null is returned.
+    private Vertex saveHistoryVersion(GraphTraversalSource g, String category, InstanceHeader instance, long supersededAt)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "saveHistoryVersion";
 
+        long validFrom = effectiveTime(instance);
+        if (supersededAt <= validFrom) {
+            log.debug("{} version {} of {} is not superseded, no history saved", methodName, instance.getVersion(), instance.getGUID());
+            return null;
         }
-        else {
-            // No existing edge found. Create an edge for the relationship
-            edge = vertexOne.addEdge("Relationship", vertexTwo);
-        }
-
 
-
-        // Populate the edge with the relationship
+        String json;
         try {
-
-            relationshipMapper.mapRelationshipToEdge(relationship, edge);
-
+            json = JSONSerializer.writeValueAsString(instance);
         }
         catch (Exception e) {
-            log.error("{} Caught exception from relationship mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
-            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED;
+            log.error("{} caught exception serializing {}: {}", methodName, instance.getGUID(), e.getMessage());
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.INSTANCE_HISTORY_ERROR;
 
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(instance.getGUID(), methodName,
                     this.getClass().getName(),
                     repositoryName);
 
@@ -1028,16 +1987,32 @@ class GraphOMRSMetadataStore {
                     errorCode.getUserAction());
         }
 
-        log.debug("{} Commit tx containing creation of edge", methodName);
-        g.tx().commit();
+        Vertex historyVertex = g.addV("History").next();
+        historyVertex.property(PROPERTY_KEY_HISTORY_GUID, instance.getGUID());
+        historyVertex.property(PROPERTY_KEY_HISTORY_CATEGORY, category);
+        historyVertex.property(PROPERTY_KEY_HISTORY_VALID_FROM, validFrom);
+        historyVertex.property(PROPERTY_KEY_HISTORY_VALID_TO, supersededAt);
+        historyVertex.property(PROPERTY_KEY_HISTORY_INSTANCE, json);
 
-        return;
+        log.debug("{} saved version {} of {} valid from {} to {}", methodName, instance.getVersion(), instance.getGUID(), validFrom, supersededAt);
+
+        return historyVertex;
+    }
+
+
+    // effectiveTime
+    // The time from which a version of an instance is the current version.
+    private long effectiveTime(InstanceHeader instance)
+    {
+        Date effectiveTime = instance.getUpdateTime() != null ? instance.getUpdateTime() : instance.getCreateTime();
+
+        return effectiveTime != null ? effectiveTime.getTime() : 0L;
     }
 
 
 
 
-    protected synchronized Relationship getRelationshipFromStore(String guid)
+    protected Relationship getRelationshipFromStore(String guid)
             throws RepositoryErrorException
     {
         String methodName = "getRelationshipFromStore";
@@ -1108,7 +2083,17 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized void updateEntityInStore(EntityDetail entity)
+    void updateEntityInStore(EntityDetail entity)
+            throws
+            RepositoryErrorException
+    {
+        runWithRetry("updateEntityInStore", () -> {
+            doUpdateEntityInStore(entity);
+            return null;
+        });
+    }
+
+    private void doUpdateEntityInStore(EntityDetail entity)
             throws
             RepositoryErrorException
     {
@@ -1135,6 +2120,8 @@ class GraphOMRSMetadataStore {
                 Boolean isProxy = entityMapper.isProxy(vertex);
                 if (!isProxy) {
 
+                    saveEntityHistory(g, vertex, effectiveTime(entity));
+
                     entityMapper.mapEntityDetailToVertex(entity, vertex);
 
                     updateEntityClassifications(entity, vertex, g);
@@ -1163,7 +2150,17 @@ class GraphOMRSMetadataStore {
 
     }
 
-    synchronized void updateEntityProxyInStore(EntityProxy entityProxy)
+    void updateEntityProxyInStore(EntityProxy entityProxy)
+            throws
+            RepositoryErrorException
+    {
+        runWithRetry("updateEntityProxyInStore", () -> {
+            doUpdateEntityProxyInStore(entityProxy);
+            return null;
+        });
+    }
+
+    private void doUpdateEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException
     {
@@ -1300,7 +2297,17 @@ class GraphOMRSMetadataStore {
 
 
     // updateRelationshipInStore
-    synchronized void updateRelationshipInStore(Relationship relationship)
+    void updateRelationshipInStore(Relationship relationship)
+            throws
+            RepositoryErrorException
+    {
+        runWithRetry("updateRelationshipInStore", () -> {
+            doUpdateRelationshipInStore(relationship);
+            return null;
+        });
+    }
+
+    private void doUpdateRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException
     {
@@ -1318,6 +2325,8 @@ class GraphOMRSMetadataStore {
 
             try {
 
+                saveRelationshipHistory(g, edge, effectiveTime(relationship));
+
                 relationshipMapper.mapRelationshipToEdge(relationship, edge);
 
             } catch (Exception e) {
@@ -1347,7 +2356,19 @@ class GraphOMRSMetadataStore {
     //
     // This method will remove the entity vertex and any classifier edges and classification vertices linked off it
 
-    synchronized void removeEntityFromStore(String entityGUID)
+    void removeEntityFromStore(String entityGUID)
+            throws
+            RepositoryErrorException
+    {
+        runWithRetry("removeEntityFromStore", () -> {
+            doRemoveEntityFromStore(entityGUID);
+            return null;
+        });
+    }
+
+    private void doRemoveEntityFromStore(String entityGUID)
+            throws
+            RepositoryErrorException
     {
         final String methodName = "removeEntityFromStore";
 
@@ -1368,6 +2389,15 @@ class GraphOMRSMetadataStore {
 
                 log.debug("{} found entity vertex {} to be removed", methodName, vertex);
 
+                // Keep the last version of the entity, with its classifications, in the history
+                try {
+                    saveEntityHistory(g, vertex, System.currentTimeMillis());
+                }
+                catch (RepositoryErrorException e) {
+                    g.tx().rollback();
+                    throw e;
+                }
+
                 // Look for associated classifications.
                 Iterator<Edge> classifierEdges = vertex.edges(Direction.OUT, "Classifier");
                 while (classifierEdges.hasNext()) {
@@ -1397,7 +2427,17 @@ class GraphOMRSMetadataStore {
     }
 
     // removeEntityProxyFromStore
-    synchronized void removeEntityProxyFromStore(String entityGUID)
+    void removeEntityProxyFromStore(String entityGUID)
+            throws
+            RepositoryErrorException
+    {
+        runWithRetry("removeEntityProxyFromStore", () -> {
+            doRemoveEntityProxyFromStore(entityGUID);
+            return null;
+        });
+    }
+
+    private void doRemoveEntityProxyFromStore(String entityGUID)
     {
         final String methodName = "removeEntityProxyFromStore";
         // TODO - could capture existing entity and move it to 'history'
@@ -1449,10 +2489,21 @@ class GraphOMRSMetadataStore {
     }
 
     // removeRelationshipFromStore
-    synchronized void removeRelationshipFromStore(String relationshipGUID)
+    void removeRelationshipFromStore(String relationshipGUID)
+            throws
+            RepositoryErrorException
+    {
+        runWithRetry("removeRelationshipFromStore", () -> {
+            doRemoveRelationshipFromStore(relationshipGUID);
+            return null;
+        });
+    }
+
+    private void doRemoveRelationshipFromStore(String relationshipGUID)
+            throws
+            RepositoryErrorException
     {
         final String methodName = "removeRelationshipFromStore";
-        // TODO - could capture existing entity and move it to 'history'
 
         // Look in the graph
         GraphTraversalSource g = instanceGraph.traversal();
@@ -1461,6 +2512,16 @@ class GraphOMRSMetadataStore {
         if (edgeIt.hasNext()) {
             Edge edge = edgeIt.next();
             log.debug("{} found existing edge {}", methodName, edge);
+
+            // Keep the last version of the relationship in the history
+            try {
+                saveRelationshipHistory(g, edge, System.currentTimeMillis());
+            }
+            catch (RepositoryErrorException e) {
+                g.tx().rollback();
+                throw e;
+            }
+
             edge.remove();
             log.debug("{} removed relationship edge with guid {}", methodName, relationshipGUID);
         }
@@ -1469,7 +2530,7 @@ class GraphOMRSMetadataStore {
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
             throws
             TypeErrorException,
@@ -1720,6 +2781,58 @@ class GraphOMRSMetadataStore {
     }
 
 
+    // findEntitiesByUniqueProperty
+    // The equality step on the property key comes first so that the traversal is answered by the composite index on the
+    // unique property rather than by a regex query of the mixed index. The caller checks the types of the returned entities.
+    List<EntityDetail> findEntitiesByUniqueProperty(String qualifiedPropertyName,
+                                                    String propertyValue)
+            throws
+            RepositoryErrorException
+    {
+
+        final String methodName = "findEntitiesByUniqueProperty";
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().has(getPropertyKeyEntity(qualifiedPropertyName), propertyValue).hasLabel("Entity");
+
+        try {
+            while (gt.hasNext()) {
+                Vertex vertex = gt.next();
+                log.debug("{} found entity vertex {}", methodName, vertex);
+
+                // Skip any proxies - only full entities are returned
+                if (Boolean.TRUE.equals(entityMapper.isProxy(vertex))) {
+                    log.debug("{} skipping proxy entity vertex {}", methodName, vertex);
+                    continue;
+                }
+
+                try {
+                    EntityDetail entity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, entity);
+                    entities.add(entity);
+                }
+                catch (EntityProxyOnlyException e) {
+                    log.debug("{} skipping proxy entity vertex {}", methodName, vertex);
+                }
+            }
+        }
+        catch (RepositoryErrorException e) {
+
+            log.error("{} Caught exception {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw e;
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
+
     // findRelationshipsByProperty
     List<Relationship> findRelationshipsByProperty(String             typeDefName,
                                                    InstanceProperties matchProperties,
@@ -2015,12 +3128,20 @@ class GraphOMRSMetadataStore {
                         else
                             mapping = GraphOMRSGraphFactory.MixedIndexMapping.Default;
 
-                        GraphOMRSGraphFactory.createMixedIndexForVertexProperty(
+                        graphFactory.createMixedIndexForVertexProperty(
                                 qualifiedPropertyName,
                                 getPropertyKeyEntity(qualifiedPropertyName),
                                 primDefCat.getJavaClassName(),
                                 mapping);
 
+                        // A unique property (e.g. qualifiedName) is also looked up by exact value, so give it a composite index
+                        if (typeDefAttribute.isUnique()) {
+                            graphFactory.createCompositeIndexForVertexProperty(
+                                    qualifiedPropertyName,
+                                    getPropertyKeyEntity(qualifiedPropertyName),
+                                    primDefCat.getJavaClassName());
+                        }
+
                     }
                 }
             }
@@ -2074,7 +3195,7 @@ class GraphOMRSMetadataStore {
                         else
                             mapping = GraphOMRSGraphFactory.MixedIndexMapping.Default;
 
-                        GraphOMRSGraphFactory.createMixedIndexForVertexProperty(
+                        graphFactory.createMixedIndexForVertexProperty(
                                 qualifiedPropertyName,
                                 getPropertyKeyClassification(qualifiedPropertyName),
                                 primDefCat.getJavaClassName(),
@@ -2134,7 +3255,7 @@ class GraphOMRSMetadataStore {
                         else
                             mapping = GraphOMRSGraphFactory.MixedIndexMapping.Default;
 
-                        GraphOMRSGraphFactory.createMixedIndexForEdgeProperty(
+                        graphFactory.createMixedIndexForEdgeProperty(
                                 qualifiedPropertyName,
                                 getPropertyKeyRelationship(qualifiedPropertyName),
                                 primDefCat.getJavaClassName(),
@@ -2,14 +2,22 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * The GraphOMRSRepositoryConnector is a connector to a local open metadata repository that uses a graph store
  * for its persistence.
  */
 public class GraphOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    private static final int    defaultTransactionRetryLimit    = 3;
+    private static final int    defaultTransactionRetryInterval = 100;
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -40,7 +48,78 @@ public class GraphOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                        repositoryHelper,
                                                                        repositoryValidator,
                                                                        metadataCollectionId,
-                                                                       auditLog);
+                                                                       auditLog,
+                                                                       this.getTransactionRetryLimit(),
+                                                                       this.getTransactionRetryInterval(),
+                                                                       this.getConfigurationProperties());
+        }
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  This closes the graph.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    public void disconnect() throws ConnectorCheckedException
+    {
+        super.disconnect();
+
+        if (super.metadataCollection instanceof GraphOMRSMetadataCollection)
+        {
+            ((GraphOMRSMetadataCollection)super.metadataCollection).disconnect();
+        }
+    }
+
+
+    /**
+     * Return the configuration properties from the connection.  These include the JanusGraph options used to
+     * open the graph.
+     *
+     * @return map of property names to values (empty if none are set)
+     */
+    private Map<String, Object> getConfigurationProperties()
+    {
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                return configurationProperties;
+            }
         }
+
+        return new HashMap<>();
     }
+
+
+    /**
+     * Return the number of times a graph transaction that conflicts with a concurrent transaction is retried.
+     * This is set through the transactionRetryLimit configuration property.
+     *
+     * @return number of retries
+     */
+    public int getTransactionRetryLimit()
+    {
+        return ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                   GraphOMRSRepositoryConnectorProvider.transactionRetryLimitProperty,
+                                                                   defaultTransactionRetryLimit);
+    }
+
+
+    /**
+     * Return the time in milliseconds to wait before the first retry of a conflicting graph transaction.  The wait
+     * increases by this amount for each further retry.  This is set through the transactionRetryInterval
+     * configuration property.
+     *
+     * @return time in milliseconds
+     */
+    public int getTransactionRetryInterval()
+    {
+        return ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                   GraphOMRSRepositoryConnectorProvider.transactionRetryIntervalProperty,
+                                                                   defaultTransactionRetryInterval);
+    }
+
 }
\ No newline at end of file
@@ -23,6 +23,22 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
     static final String  connectorTypeName        = "OMRS Graph Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses graph repository store.";
 
+    public static final String  transactionRetryLimitProperty    = "transactionRetryLimit";
+    public static final String  transactionRetryIntervalProperty = "transactionRetryInterval";
+
+    /*
+     * JanusGraph configuration options that are commonly set in the configuration properties of the connection.
+     * Any other JanusGraph storage, cache, ids, index, query, schema, tx or metrics option may also be set.
+     */
+    public static final String  storageBackendProperty           = "storage.backend";
+    public static final String  storageDirectoryProperty         = "storage.directory";
+    public static final String  storageHostnameProperty          = "storage.hostname";
+    public static final String  dbCacheProperty                  = "cache.db-cache";
+    public static final String  dbCacheSizeProperty              = "cache.db-cache-size";
+    public static final String  idBlockSizeProperty              = "ids.block-size";
+    public static final String  indexBackendProperty             = "index.search.backend";
+    public static final String  indexDirectoryProperty           = "index.search.directory";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -0,0 +1,278 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InMemoryInstanceHistoryStore maintains the previous versions of the instances (entities or relationships) in the
+ * InMemoryOMRSMetadataStore.  The versions of each instance are held in a version chain that is sorted by the time
+ * that each version became effective (its update time, or create time if it has never been updated).
+ * This means the version of an instance that was effective at a particular time can be located with a binary search
+ * of its chain.
+ *
+ * Each version chain is an immutable list that is replaced whenever the chain changes so the chains can be
+ * read without locking.  Changes to the chains are serialized by the InMemoryOMRSMetadataStore.
+ *
+ * The number of versions retained can be limited by a retention policy.  This sets the maximum number of
+ * versions kept for each instance and/or the length of time (in milliseconds) that a version is kept after it
+ * has been replaced by a newer version.  Zero means no limit.
+ *
+ * @param <T> type of instance
+ */
+class InMemoryInstanceHistoryStore<T extends InstanceHeader>
+{
+    private final Map<String, List<T>> versionChains = new ConcurrentHashMap<>();
+
+    private volatile int  maxVersions     = 0;
+    private volatile long retentionPeriod = 0;
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryInstanceHistoryStore()
+    {
+    }
+
+
+    /**
+     * Set up the retention policy for the history.  It is applied to each version chain as it is updated.
+     *
+     * @param maxVersions maximum number of previous versions kept for each instance - zero means no limit
+     * @param retentionPeriod number of milliseconds a version is kept after it is replaced - zero means no limit
+     */
+    void setRetentionPolicy(int    maxVersions,
+                            long   retentionPeriod)
+    {
+        this.maxVersions = maxVersions;
+        this.retentionPeriod = retentionPeriod;
+    }
+
+
+    /**
+     * Return the unique identifiers of the instances that have previous versions.
+     *
+     * @return set of guids
+     */
+    Set<String> getGUIDs()
+    {
+        return Collections.unmodifiableSet(versionChains.keySet());
+    }
+
+
+    /**
+     * Add a previous version of an instance to its version chain.
+     *
+     * @param instance version of the instance
+     */
+    void addVersion(T   instance)
+    {
+        if ((instance == null) || (instance.getGUID() == null))
+        {
+            return;
+        }
+
+        String  guid     = instance.getGUID();
+        List<T> oldChain = versionChains.get(guid);
+        List<T> newChain = new ArrayList<>();
+
+        if (oldChain != null)
+        {
+            newChain.addAll(oldChain);
+        }
+
+        /*
+         * Versions are normally added in time order so this is usually an add to the end of the chain.
+         */
+        int position = this.getVersionPosition(newChain, getEffectiveTime(instance));
+
+        newChain.add(position + 1, instance);
+
+        this.applyRetentionPolicy(newChain);
+
+        versionChains.put(guid, Collections.unmodifiableList(newChain));
+    }
+
+
+    /**
+     * Remove and return the latest version of an instance from its version chain.
+     *
+     * @param guid unique identifier of the instance
+     * @return latest previous version or null if there is no history for this instance
+     */
+    T removeLatestVersion(String   guid)
+    {
+        if (guid == null)
+        {
+            return null;
+        }
+
+        List<T> oldChain = versionChains.get(guid);
+
+        if ((oldChain == null) || (oldChain.isEmpty()))
+        {
+            return null;
+        }
+
+        T latestVersion = oldChain.get(oldChain.size() - 1);
+
+        if (oldChain.size() == 1)
+        {
+            versionChains.remove(guid);
+        }
+        else
+        {
+            versionChains.put(guid, Collections.unmodifiableList(new ArrayList<>(oldChain.subList(0, oldChain.size() - 1))));
+        }
+
+        return latestVersion;
+    }
+
+
+    /**
+     * Return the version of an instance that was effective at the requested time.
+     *
+     * @param guid unique identifier of the instance
+     * @param asOfTime time of interest
+     * @return version of the instance or null if there was no version effective at that time
+     */
+    T getVersionAsOf(String   guid,
+                     Date     asOfTime)
+    {
+        if ((guid == null) || (asOfTime == null))
+        {
+            return null;
+        }
+
+        List<T> chain = versionChains.get(guid);
+
+        if (chain == null)
+        {
+            return null;
+        }
+
+        int position = this.getVersionPosition(chain, asOfTime.getTime());
+
+        if (position < 0)
+        {
+            return null;
+        }
+
+        T version = chain.get(position);
+
+        if (getEffectiveTime(version) == Long.MIN_VALUE)
+        {
+            /*
+             * A version with no timestamps can not be placed in time.
+             */
+            return null;
+        }
+
+        return version;
+    }
+
+
+    /**
+     * Return whether the supplied version of an instance was effective at the requested time.
+     *
+     * @param instance version of an instance
+     * @param asOfTime time of interest
+     * @return boolean
+     */
+    static boolean isEffectiveAsOf(InstanceHeader instance,
+                                   Date           asOfTime)
+    {
+        long effectiveTime = getEffectiveTime(instance);
+
+        return ((effectiveTime != Long.MIN_VALUE) && (effectiveTime <= asOfTime.getTime()));
+    }
+
+
+    /**
+     * Return the time that a version of an instance became effective.  This is its update time, or its
+     * create time if it has not been updated.
+     *
+     * @param instance version of an instance
+     * @return time in milliseconds or Long.MIN_VALUE if the instance has no timestamps
+     */
+    private static long getEffectiveTime(InstanceAuditHeader instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return Long.MIN_VALUE;
+    }
+
+
+    /**
+     * Binary search of a version chain for the last version that was effective at or before the requested time.
+     *
+     * @param chain version chain sorted by effective time
+     * @param time time of interest in milliseconds
+     * @return position in the chain or -1 if all versions are later than the requested time
+     */
+    private int getVersionPosition(List<T>  chain,
+                                   long     time)
+    {
+        int low  = 0;
+        int high = chain.size() - 1;
+
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+
+            if (getEffectiveTime(chain.get(middle)) <= time)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+
+        return high;
+    }
+
+
+    /**
+     * Remove the oldest versions from a version chain according to the retention policy.
+     *
+     * @param chain version chain sorted by effective time
+     */
+    private void applyRetentionPolicy(List<T>  chain)
+    {
+        if (maxVersions > 0)
+        {
+            while (chain.size() > maxVersions)
+            {
+                chain.remove(0);
+            }
+        }
+
+        if (retentionPeriod > 0)
+        {
+            long cutOffTime = System.currentTimeMillis() - retentionPeriod;
+
+            /*
+             * A version can be removed once the version that replaced it has been effective for longer than
+             * the retention period since it can no longer be returned by a query within the retention period.
+             */
+            while ((chain.size() > 1) && (getEffectiveTime(chain.get(1)) < cutOffTime))
+            {
+                chain.remove(0);
+            }
+        }
+    }
+}
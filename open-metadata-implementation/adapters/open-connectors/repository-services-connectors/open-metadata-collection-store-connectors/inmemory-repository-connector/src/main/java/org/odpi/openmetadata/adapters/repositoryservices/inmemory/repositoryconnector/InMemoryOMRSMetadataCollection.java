@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRegexMatcher;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -51,6 +52,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Set up the retention policy for the previous versions of the instances held in the repository store.
+     *
+     * @param maxHistoryVersions maximum number of previous versions kept for each instance - zero means no limit
+     * @param historyRetentionPeriod number of milliseconds a version is kept after it is replaced - zero means no limit
+     */
+    void setHistoryRetentionPolicy(int    maxHistoryVersions,
+                                   long   historyRetentionPeriod)
+    {
+        this.repositoryStore.setHistoryRetentionPolicy(maxHistoryVersions, historyRetentionPeriod);
+    }
+
+
     /* ===================================================
      * Group 3: Locating entity and relationship instances
      */
@@ -210,7 +224,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.getEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -228,6 +242,55 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  The entities are retrieved
+     * directly from the repository store.  Entities that are not known, are only proxies or have been
+     * deleted are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids, or one of the guids, is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String        userId,
+                                               List<String>  guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = repositoryStore.getEntity(guid);
+
+            if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+            {
+                results.add(entity);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -296,11 +359,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
         repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        List<Relationship> entityRelationships = new ArrayList<>();
+        List<Relationship>       entityRelationships = new ArrayList<>();
+        Collection<Relationship> candidateRelationships;
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        if (asOfTime == null)
+        {
+            candidateRelationships = repositoryStore.getRelationshipsForEntity(entityGUID);
+        }
+        else
+        {
+            candidateRelationships = repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
 
-        for (Relationship  storedRelationship : relationshipStore.values())
+        for (Relationship  storedRelationship : candidateRelationships)
         {
             if (storedRelationship != null)
             {
@@ -390,6 +461,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                 PagingErrorException,
                                                                                                 UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByProperty";
+
         /*
          * Validate parameters
          */
@@ -408,13 +481,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The indexes in the store narrow down the entities to those of the right type and classifications.
+         * Each candidate is then checked against the full set of criteria.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>  foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : this.getCandidateEntities(entityTypeGUID,
+                                                              limitResultsByClassification,
+                                                              asOfTime,
+                                                              methodName))
         {
             if (entity != null)
             {
@@ -437,6 +512,125 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the entities whose unique property (for example, qualifiedName) has exactly the requested value.
+     * If a TypeDef declares the property as unique, the entities are looked up in the store's unique property
+     * index rather than by matching a regular expression against every entity of the type.  Any other property
+     * is compared against every entity in the store so it does not add to the index.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities with the property value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByUniqueProperty(String    userId,
+                                                           String    entityTypeGUID,
+                                                           String    propertyName,
+                                                           String    propertyValue,
+                                                           int       pageSize) throws InvalidParameterException,
+                                                                                      TypeErrorException,
+                                                                                      RepositoryErrorException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyParameterValidation(userId,
+                                                              entityTypeGUID,
+                                                              propertyName,
+                                                              propertyValue,
+                                                              pageSize);
+
+        /*
+         * Perform operation
+         *
+         * The index may briefly lag an update to the entity store so each candidate's current
+         * property value is checked.
+         */
+        Collection<EntityDetail>  candidateEntities;
+
+        if ((! repositoryStore.isIndexedUniqueProperty(propertyName)) && (this.isUniqueProperty(propertyName)))
+        {
+            repositoryStore.addUniquePropertyIndex(propertyName);
+        }
+
+        if (repositoryStore.isIndexedUniqueProperty(propertyName))
+        {
+            candidateEntities = repositoryStore.getEntitiesByUniqueProperty(propertyName, propertyValue);
+        }
+        else
+        {
+            candidateEntities = repositoryStore.getEntities();
+        }
+
+        List<EntityDetail>  foundEntities = new ArrayList<>();
+
+        for (EntityDetail  entity : candidateEntities)
+        {
+            if ((entity != null) &&
+                (entity.getStatus() != InstanceStatus.DELETED) &&
+                (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                (entity.getProperties() != null))
+            {
+                InstancePropertyValue  instancePropertyValue = entity.getProperties().getPropertyValue(propertyName);
+
+                if ((instancePropertyValue instanceof PrimitivePropertyValue) &&
+                    (propertyValue.equals(String.valueOf(((PrimitivePropertyValue) instancePropertyValue).getPrimitiveValue()))))
+                {
+                    foundEntities.add(entity);
+                }
+            }
+        }
+
+        return repositoryHelper.formatEntityResults(foundEntities, 0, null, null, pageSize);
+    }
+
+
+    /**
+     * Return whether any of the known TypeDefs declares the named property as unique.
+     *
+     * @param propertyName name of the property
+     * @return boolean flag
+     */
+    private boolean isUniqueProperty(String   propertyName)
+    {
+        List<TypeDef>  typeDefs = repositoryHelper.getKnownTypeDefs();
+
+        if (typeDefs != null)
+        {
+            for (TypeDef  typeDef : typeDefs)
+            {
+                if ((typeDef != null) && (typeDef.getPropertiesDefinition() != null))
+                {
+                    for (TypeDefAttribute  attribute : typeDef.getPropertiesDefinition())
+                    {
+                        if ((attribute != null) && (attribute.isUnique()) && (propertyName.equals(attribute.getAttributeName())))
+                        {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -493,6 +687,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                        PagingErrorException,
                                                                                                        UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByClassification";
+
         /*
          * Validate parameters
          */
@@ -511,16 +707,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The classification index in the store narrows down the entities to those with the classification.
+         * Each candidate is then checked against the full set of criteria.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : this.getCandidateEntities(entityTypeGUID, classificationList, asOfTime, methodName))
         {
             if (entity != null)
             {
@@ -636,20 +831,26 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The indexes in the store narrow down the entities to those of the right type and classifications.
+         * The string properties of each candidate are then checked against the search criteria.
          */
+        OMRSRegexMatcher     searchMatcher = OMRSRegexMatcher.getMatcher(searchCriteria);
         List<EntityDetail>   foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        for (EntityDetail  entity : this.getCandidateEntities(entityTypeGUID,
+                                                               limitResultsByClassification,
+                                                               asOfTime,
+                                                               methodName))
         {
             if (entity != null)
             {
                 if ((entity.getStatus() != InstanceStatus.DELETED) &&
                     (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
+                    (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity)) &&
                     (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
                                                                                     entity.getProperties(),
-                                                                                    searchCriteria,
+                                                                                    searchMatcher,
                                                                                     methodName)))
                 {
                     foundEntities.add(entity);
@@ -761,7 +962,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.getRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -844,13 +1045,12 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The type index in the store narrows down the relationships to those of the right type.
+         * Each candidate is then checked against the full set of criteria.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>  foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : this.getCandidateRelationships(relationshipTypeGUID, asOfTime, methodName))
         {
             if (relationship != null)
             {
@@ -943,12 +1143,13 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored relationships.
+         * The type index in the store narrows down the relationships to those of the right type.
+         * The string properties of each candidate are then checked against the search criteria.
          */
+        OMRSRegexMatcher    searchMatcher      = OMRSRegexMatcher.getMatcher(searchCriteria);
         List<Relationship>  foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        for (Relationship  relationship : this.getCandidateRelationships(relationshipTypeGUID, asOfTime, methodName))
         {
             if (relationship != null)
             {
@@ -956,7 +1157,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship)) &&
                     (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
                                                                                      relationship.getProperties(),
-                                                                                     searchCriteria,
+                                                                                     searchMatcher,
                                                                                      methodName)))
                 {
                     foundRelationships.add(relationship);
@@ -3235,4 +3436,105 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             super.reportRelationshipNotKnown(relationshipGUID, methodName);
         }
     }
+
+
+    /**
+     * Return the entities from the store that could match a query.  For queries on the current
+     * entities, the indexes in the store are used to select the entities with the requested classifications
+     * or type.  Historical queries use the time-warped entity store.  The caller must still check each
+     * entity against the criteria of the query.
+     *
+     * @param entityTypeGUID unique identifier of the type of entity (null means any type)
+     * @param limitResultsByClassification classifications that must be present on the entities (null means any)
+     * @param asOfTime time of the query (null means now)
+     * @param methodName calling method
+     * @return candidate entities
+     * @throws TypeErrorException the type guid is not known
+     */
+    private Collection<EntityDetail> getCandidateEntities(String         entityTypeGUID,
+                                                          List<String>   limitResultsByClassification,
+                                                          Date           asOfTime,
+                                                          String         methodName) throws TypeErrorException
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        if ((limitResultsByClassification != null) && (! limitResultsByClassification.isEmpty()))
+        {
+            return repositoryStore.getClassifiedEntities(limitResultsByClassification);
+        }
+
+        if (entityTypeGUID != null)
+        {
+            return repositoryStore.getEntitiesOfType(this.getMatchingTypeNames(entityTypeGUID,
+                                                                               repositoryStore.getEntityTypeNames(),
+                                                                               methodName));
+        }
+
+        return repositoryStore.getEntities();
+    }
+
+
+    /**
+     * Return the relationships from the store that could match a query.  For queries on the current
+     * relationships, the type index in the store is used to select the relationships of the requested type.
+     * Historical queries use the time-warped relationship store.  The caller must still check each
+     * relationship against the criteria of the query.
+     *
+     * @param relationshipTypeGUID unique identifier of the type of relationship (null means any type)
+     * @param asOfTime time of the query (null means now)
+     * @param methodName calling method
+     * @return candidate relationships
+     * @throws TypeErrorException the type guid is not known
+     */
+    private Collection<Relationship> getCandidateRelationships(String  relationshipTypeGUID,
+                                                               Date    asOfTime,
+                                                               String  methodName) throws TypeErrorException
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        if (relationshipTypeGUID != null)
+        {
+            return repositoryStore.getRelationshipsOfType(this.getMatchingTypeNames(relationshipTypeGUID,
+                                                                                    repositoryStore.getRelationshipTypeNames(),
+                                                                                    methodName));
+        }
+
+        return repositoryStore.getRelationships();
+    }
+
+
+    /**
+     * Select the type names of the stored instances that are the requested type or one of its subtypes.
+     *
+     * @param typeGUID unique identifier of the requested type
+     * @param storedTypeNames names of the types of the instances in the store
+     * @param methodName calling method
+     * @return list of type names
+     * @throws TypeErrorException the type guid is not known
+     */
+    private List<String> getMatchingTypeNames(String       typeGUID,
+                                              Set<String>  storedTypeNames,
+                                              String       methodName) throws TypeErrorException
+    {
+        final String  typeGUIDParameterName = "typeGUID";
+
+        TypeDef       typeDef = repositoryHelper.getTypeDef(repositoryName, typeGUIDParameterName, typeGUID, methodName);
+        List<String>  matchingTypeNames = new ArrayList<>();
+
+        for (String storedTypeName : storedTypeNames)
+        {
+            if (repositoryHelper.isTypeOf(repositoryName, storedTypeName, typeDef.getName()))
+            {
+                matchingTypeNames.add(storedTypeName);
+            }
+        }
+
+        return matchingTypeNames;
+    }
 }
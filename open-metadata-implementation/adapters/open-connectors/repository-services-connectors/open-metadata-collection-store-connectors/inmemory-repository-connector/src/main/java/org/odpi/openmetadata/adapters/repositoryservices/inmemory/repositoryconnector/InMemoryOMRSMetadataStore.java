@@ -3,25 +3,70 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ *
+ * Alongside the entity and relationship stores it maintains secondary indexes of the current instances
+ * so that queries do not need to scan the whole store:
+ * <ul>
+ *     <li>the relationships attached to each entity (keyed by entity GUID)</li>
+ *     <li>the entities and relationships of each type (keyed by type name)</li>
+ *     <li>the entities with each classification (keyed by classification name)</li>
+ *     <li>the entities with each value of a unique property such as qualifiedName (keyed by property name
+ *     and value) - only the properties that a TypeDef declares as unique are indexed</li>
+ * </ul>
+ * The indexes are updated whenever an instance is added to, replaced in or removed from the active stores.
+ * They only cover the current versions of the instances - historical queries use the history stores.
+ *
+ * The history stores hold a version chain for each instance that is sorted by time so that the version of an
+ * instance that was effective at a requested time (asOfTime) is found with a binary search of its chain.
+ *
+ * The active stores and the indexes are concurrent maps.  Requests for the current versions of the instances
+ * read them directly without locking and without copying the stores.  Updates are serialized on the store's
+ * monitor so that each update to the active stores, the indexes and the history stores is applied as a unit.
+ * The version chains are immutable lists so historical queries do not need the lock either.
+ * A reader may see an update to the active store before the matching update to an index so callers
+ * must always verify the instances returned from an index lookup.
  */
 class InMemoryOMRSMetadataStore
 {
     private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private final    Map<String, EntityDetail>     entityStore              = new ConcurrentHashMap<>();
+    private final    Map<String, EntityProxy>      entityProxyStore         = new ConcurrentHashMap<>();
+    private final    InMemoryInstanceHistoryStore<EntityDetail> entityHistoryStore = new InMemoryInstanceHistoryStore<>();
+    private final    Map<String, Relationship>     relationshipStore        = new ConcurrentHashMap<>();
+    private final    InMemoryInstanceHistoryStore<Relationship> relationshipHistoryStore = new InMemoryInstanceHistoryStore<>();
+
+    /*
+     * Secondary indexes - the reverse maps record the keys that each instance is indexed under so the
+     * index entries can be removed even if the stored instance object has been changed in place.
+     */
+    private Map<String, Set<String>>   entityRelationshipIndex       = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>   entityTypeNameIndex           = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>   classificationNameIndex       = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>   relationshipTypeNameIndex     = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>   uniquePropertyIndex           = new ConcurrentHashMap<>();
+    private Set<String>                uniquePropertyNames           = ConcurrentHashMap.newKeySet();
+    private Map<String, String>        indexedEntityTypeNames        = new HashMap<>();
+    private Map<String, List<String>>  indexedClassificationNames    = new HashMap<>();
+    private Map<String, String>        indexedRelationshipTypeNames  = new HashMap<>();
+    private Map<String, List<String>>  indexedRelationshipEnds       = new HashMap<>();
+    private Map<String, List<String>>  indexedUniquePropertyKeys     = new HashMap<>();
 
 
     /**
@@ -44,13 +89,14 @@ class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return a list of entities from the store that are at the latest level.
+     * Return the entities from the store that are at the latest level.  This is a read-only view of the
+     * store rather than a copy.
      *
-     * @return list of EntityDetail objects
+     * @return collection of EntityDetail objects
      */
-    synchronized List<EntityDetail>   getEntities()
+    Collection<EntityDetail>   getEntities()
     {
-        return new ArrayList<>(entityStore.values());
+        return Collections.unmodifiableCollection(entityStore.values());
     }
 
 
@@ -60,8 +106,13 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
+        if (guid == null)
+        {
+            return null;
+        }
+
         return entityStore.get(guid);
     }
 
@@ -72,88 +123,197 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
+        if (guid == null)
+        {
+            return null;
+        }
+
         return entityProxyStore.get(guid);
     }
 
 
+    /**
+     * Return the names of the types of the entities currently in the store.
+     *
+     * @return set of type names
+     */
+    Set<String>  getEntityTypeNames()
+    {
+        return Collections.unmodifiableSet(entityTypeNameIndex.keySet());
+    }
+
+
+    /**
+     * Return the current versions of the entities that are of one of the requested types.
+     *
+     * @param typeNames names of the types of entity to return
+     * @return list of EntityDetail objects
+     */
+    List<EntityDetail>  getEntitiesOfType(Collection<String>   typeNames)
+    {
+        List<EntityDetail>  entities = new ArrayList<>();
+
+        if (typeNames != null)
+        {
+            for (String typeName : typeNames)
+            {
+                this.addIndexedInstances(entityTypeNameIndex.get(typeName), entityStore, entities);
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the current versions of the entities that have all of the requested classifications.
+     * The classification with the fewest entities is used to select the candidates.
+     *
+     * @param classificationNames names of the classifications
+     * @return list of EntityDetail objects (the caller should still verify the other classifications)
+     */
+    List<EntityDetail>  getClassifiedEntities(Collection<String>   classificationNames)
+    {
+        List<EntityDetail>  entities = new ArrayList<>();
+
+        if ((classificationNames != null) && (! classificationNames.isEmpty()))
+        {
+            Set<String>  smallestIndexEntry = null;
+
+            for (String classificationName : classificationNames)
+            {
+                Set<String>  indexEntry = classificationNameIndex.get(classificationName);
+
+                if (indexEntry == null)
+                {
+                    /*
+                     * No entity has this classification so no entity can match.
+                     */
+                    return entities;
+                }
+
+                if ((smallestIndexEntry == null) || (indexEntry.size() < smallestIndexEntry.size()))
+                {
+                    smallestIndexEntry = indexEntry;
+                }
+            }
+
+            this.addIndexedInstances(smallestIndexEntry, entityStore, entities);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return whether a property is in the unique property index.
+     *
+     * @param propertyName name of the property
+     * @return boolean flag
+     */
+    boolean isIndexedUniqueProperty(String   propertyName)
+    {
+        return uniquePropertyNames.contains(propertyName);
+    }
+
+
+    /**
+     * Return the current versions of the entities whose unique property has the requested value.
+     * The property must already have been added to the index with addUniquePropertyIndex.
+     *
+     * @param propertyName name of the unique property
+     * @param propertyValue exact value of the property
+     * @return list of EntityDetail objects (the caller should still verify the property value)
+     */
+    List<EntityDetail>  getEntitiesByUniqueProperty(String   propertyName,
+                                                    String   propertyValue)
+    {
+        List<EntityDetail>  entities = new ArrayList<>();
+
+        if ((propertyName != null) && (propertyValue != null))
+        {
+            this.addIndexedInstances(uniquePropertyIndex.get(this.getUniquePropertyKey(propertyName, propertyValue)),
+                                     entityStore,
+                                     entities);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Start indexing a property that a TypeDef declares as unique.  The property name is only published once
+     * all of the current entities are indexed so readers never use a partly built index.
+     *
+     * @param propertyName name of the unique property
+     */
+    synchronized void addUniquePropertyIndex(String   propertyName)
+    {
+        if (! uniquePropertyNames.contains(propertyName))
+        {
+            for (EntityDetail entity : entityStore.values())
+            {
+                this.indexUniqueProperty(entity, propertyName);
+            }
+
+            uniquePropertyNames.add(propertyName);
+        }
+    }
+
+
     /**
      * Return an entity store that contains entities as they were at the time supplied in the asOfTime
      * parameter
      *
      * @param asOfTime - time for the store (or null means now)
-     * @return entity store for the requested time
+     * @return entity store for the requested time - the current store is returned as a read-only view
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(entityStore);
+            return Collections.unmodifiableMap(entityStore);
         }
 
+        return this.timeWarpHistoricalEntityStore(asOfTime);
+    }
+
+
+    /**
+     * Build an entity store that contains entities as they were at the time supplied in the asOfTime
+     * parameter.  Each entity's version is located with a binary search of its version chain.
+     *
+     * @param asOfTime - time for the store
+     * @return entity store for the requested time
+     */
+    private Map<String, EntityDetail>  timeWarpHistoricalEntityStore(Date         asOfTime)
+    {
         Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
+        for (String entityGUID : entityStore.keySet())
         {
+            EntityDetail entity = this.getEntity(entityGUID, asOfTime);
+
             if (entity != null)
             {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
-
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
+                timeWarpedEntityStore.put(entityGUID, entity);
             }
         }
 
         /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
+         * Now pick up the entities that are no longer in the active store.
          */
-        for (EntityDetail oldEntity : entityHistoryStore)
+        for (String entityGUID : entityHistoryStore.getGUIDs())
         {
-            if (oldEntity != null)
+            if (! timeWarpedEntityStore.containsKey(entityGUID))
             {
-                String entityGUID = oldEntity.getGUID();
+                EntityDetail entity = this.getEntity(entityGUID, asOfTime);
 
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
-
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
+                if (entity != null)
                 {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
+                    timeWarpedEntityStore.put(entityGUID, entity);
                 }
             }
         }
@@ -163,13 +323,40 @@ class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return the list of relationships at their current level.
+     * Return the version of the entity identified by the guid that was effective at the time supplied in the
+     * asOfTime parameter.
      *
-     * @return list of relationships
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the entity (or null means now)
+     * @return entity object or null if the entity did not exist at that time
      */
-    synchronized List<Relationship>   getRelationships()
+    EntityDetail  getEntity(String   guid,
+                            Date     asOfTime)
     {
-        return new ArrayList<>(relationshipStore.values());
+        EntityDetail  currentEntity = this.getEntity(guid);
+
+        if (asOfTime == null)
+        {
+            return currentEntity;
+        }
+
+        if ((currentEntity != null) && (InMemoryInstanceHistoryStore.isEffectiveAsOf(currentEntity, asOfTime)))
+        {
+            return currentEntity;
+        }
+
+        return entityHistoryStore.getVersionAsOf(guid, asOfTime);
+    }
+
+
+    /**
+     * Return the relationships at their current level.  This is a read-only view of the store rather than a copy.
+     *
+     * @return collection of relationships
+     */
+    Collection<Relationship>   getRelationships()
+    {
+        return Collections.unmodifiableCollection(relationshipStore.values());
     }
 
 
@@ -179,87 +366,120 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    protected Relationship  getRelationship(String   guid)
     {
+        if (guid == null)
+        {
+            return null;
+        }
+
         return relationshipStore.get(guid);
     }
 
+
+    /**
+     * Return the current versions of the relationships that are connected to the requested entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return list of relationships
+     */
+    List<Relationship>   getRelationshipsForEntity(String   entityGUID)
+    {
+        List<Relationship>  relationships = new ArrayList<>();
+
+        if (entityGUID != null)
+        {
+            this.addIndexedInstances(entityRelationshipIndex.get(entityGUID), relationshipStore, relationships);
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Return the names of the types of the relationships currently in the store.
+     *
+     * @return set of type names
+     */
+    Set<String>  getRelationshipTypeNames()
+    {
+        return Collections.unmodifiableSet(relationshipTypeNameIndex.keySet());
+    }
+
+
+    /**
+     * Return the current versions of the relationships that are of one of the requested types.
+     *
+     * @param typeNames names of the types of relationship to return
+     * @return list of relationships
+     */
+    List<Relationship>  getRelationshipsOfType(Collection<String>   typeNames)
+    {
+        List<Relationship>  relationships = new ArrayList<>();
+
+        if (typeNames != null)
+        {
+            for (String typeName : typeNames)
+            {
+                this.addIndexedInstances(relationshipTypeNameIndex.get(typeName), relationshipStore, relationships);
+            }
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
      * parameter
      *
      * @param asOfTime - time for the store (or null means now)
-     * @return relationship store for the requested time
+     * @return relationship store for the requested time - the current store is returned as a read-only view
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(relationshipStore);
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
+        return this.timeWarpHistoricalRelationshipStore(asOfTime);
+    }
+
+
+    /**
+     * Build a relationship store that contains relationships as they were at the time supplied in the asOfTime
+     * parameter.  Each relationship's version is located with a binary search of its version chain.
+     *
+     * @param asOfTime - time for the store
+     * @return relationship store for the requested time
+     */
+    private Map<String, Relationship>  timeWarpHistoricalRelationshipStore(Date         asOfTime)
+    {
         Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
+        for (String relationshipGUID : relationshipStore.keySet())
         {
+            Relationship relationship = this.getRelationship(relationshipGUID, asOfTime);
+
             if (relationship != null)
             {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
-
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
+                timeWarpedRelationshipStore.put(relationshipGUID, relationship);
             }
         }
 
         /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
+         * Now pick up the relationships that are no longer in the active store.
          */
-        for (Relationship oldRelationship : relationshipHistoryStore)
+        for (String relationshipGUID : relationshipHistoryStore.getGUIDs())
         {
-            if (oldRelationship != null)
+            if (! timeWarpedRelationshipStore.containsKey(relationshipGUID))
             {
-                String relationshipGUID = oldRelationship.getGUID();
+                Relationship relationship = this.getRelationship(relationshipGUID, asOfTime);
 
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
+                if (relationship != null)
                 {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
+                    timeWarpedRelationshipStore.put(relationshipGUID, relationship);
                 }
             }
         }
@@ -267,6 +487,34 @@ class InMemoryOMRSMetadataStore
         return timeWarpedRelationshipStore;
     }
 
+
+    /**
+     * Return the version of the relationship identified by the guid that was effective at the time supplied in the
+     * asOfTime parameter.
+     *
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the relationship (or null means now)
+     * @return relationship object or null if the relationship did not exist at that time
+     */
+    Relationship  getRelationship(String   guid,
+                                  Date     asOfTime)
+    {
+        Relationship  currentRelationship = this.getRelationship(guid);
+
+        if (asOfTime == null)
+        {
+            return currentRelationship;
+        }
+
+        if ((currentRelationship != null) && (InMemoryInstanceHistoryStore.isEffectiveAsOf(currentRelationship, asOfTime)))
+        {
+            return currentRelationship;
+        }
+
+        return relationshipHistoryStore.getVersionAsOf(guid, asOfTime);
+    }
+
+
     /**
      * Create a new entity in the entity store.
      *
@@ -276,17 +524,17 @@ class InMemoryOMRSMetadataStore
     synchronized EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (entityStore.containsKey(entity.getGUID()))
         {
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
 
+        entityStore.put(entity.getGUID(), entity);
+        this.indexEntity(entity);
+
         return entity;
     }
 
@@ -303,14 +551,14 @@ class InMemoryOMRSMetadataStore
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (relationshipStore.containsKey(relationship.getGUID()))
         {
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
+        relationshipStore.put(relationship.getGUID(), relationship);
+        this.indexRelationship(relationship);
+
         return relationship;
     }
 
@@ -336,9 +584,11 @@ class InMemoryOMRSMetadataStore
     {
         EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
 
+        this.indexEntity(entity);
+
         if (oldEntity != null)
         {
-            entityHistoryStore.add(0, oldEntity);
+            entityHistoryStore.addVersion(oldEntity);
         }
     }
 
@@ -364,9 +614,11 @@ class InMemoryOMRSMetadataStore
     {
         Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
 
+        this.indexRelationship(relationship);
+
         if (oldRelationship != null)
         {
-            relationshipHistoryStore.add(0, oldRelationship);
+            relationshipHistoryStore.addVersion(oldRelationship);
         }
     }
 
@@ -380,6 +632,7 @@ class InMemoryOMRSMetadataStore
     synchronized void saveReferenceEntityToStore(EntityDetail    entity)
     {
         entityStore.put(entity.getGUID(), entity);
+        this.indexEntity(entity);
     }
 
 
@@ -392,50 +645,39 @@ class InMemoryOMRSMetadataStore
     synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
     {
         relationshipStore.put(relationship.getGUID(), relationship);
+        this.indexRelationship(relationship);
     }
 
 
     /**
-     * Retrieve the previous version of a Relationship.  This is the first instance of this element that
-     * appears in the history.
+     * Retrieve the previous version of a Relationship from the history store and restore it in the relationship
+     * store.  This is the latest version in the relationship's version chain.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
     synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
-        if (guid != null)
+        Relationship  previousVersionOfRelationship = relationshipHistoryStore.removeLatestVersion(guid);
+
+        if (previousVersionOfRelationship != null)
         {
             Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
-
-            long versionNumber = 0;
+            Relationship  restoredRelationship         = new Relationship(previousVersionOfRelationship);
 
             if (currentVersionOfRelationship != null)
             {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
+                restoredRelationship.setVersion(currentVersionOfRelationship.getVersion() + 1);
             }
-
-            int  elementPosition = 0;
-
-            for (Relationship relationship : relationshipHistoryStore)
+            else
             {
-                if (relationship != null)
-                {
-                    if (guid.equals(relationship.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        relationship.setVersion(versionNumber);
-                        relationshipHistoryStore.remove(elementPosition);
-                        relationshipStore.put(guid, relationship);
-                        return relationship;
-                    }
-                }
-
-                elementPosition ++;
+                restoredRelationship.setVersion(previousVersionOfRelationship.getVersion() + 1);
             }
+
+            relationshipStore.put(guid, restoredRelationship);
+            this.indexRelationship(restoredRelationship);
+
+            return restoredRelationship;
         }
 
         return null;
@@ -444,51 +686,53 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Retrieve the previous version of an Entity from the history store and restore it in the entity store.
-     * This is the first instance of this element that appears in the history.
+     * This is the latest version in the entity's version chain.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
     synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
-        if (guid != null)
+        EntityDetail  previousVersionOfEntity = entityHistoryStore.removeLatestVersion(guid);
+
+        if (previousVersionOfEntity != null)
         {
             EntityDetail  currentVersionOfEntity = entityStore.get(guid);
-
-            long versionNumber = 0;
+            EntityDetail  restoredEntity         = new EntityDetail(previousVersionOfEntity);
 
             if (currentVersionOfEntity != null)
             {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
+                restoredEntity.setVersion(currentVersionOfEntity.getVersion() + 1);
             }
-
-            int  elementPosition = 0;
-
-            for (EntityDetail entity : entityHistoryStore)
+            else
             {
-                if (entity != null)
-                {
-                    if (guid.equals(entity.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-                        entity.setVersion(versionNumber);
-                        entityHistoryStore.remove(elementPosition);
-                        entityStore.put(guid, entity);
-                        return entity;
-                    }
-                }
-
-                elementPosition ++;
+                restoredEntity.setVersion(previousVersionOfEntity.getVersion() + 1);
             }
+
+            entityStore.put(guid, restoredEntity);
+            this.indexEntity(restoredEntity);
+
+            return restoredEntity;
         }
 
         return null;
     }
 
 
+    /**
+     * Set up the retention policy for the history stores.
+     *
+     * @param maxHistoryVersions maximum number of previous versions kept for each instance - zero means no limit
+     * @param historyRetentionPeriod number of milliseconds a version is kept after it is replaced - zero means no limit
+     */
+    void setHistoryRetentionPolicy(int    maxHistoryVersions,
+                                   long   historyRetentionPeriod)
+    {
+        entityHistoryStore.setRetentionPolicy(maxHistoryVersions, historyRetentionPeriod);
+        relationshipHistoryStore.setRetentionPolicy(maxHistoryVersions, historyRetentionPeriod);
+    }
+
+
     /**
      * Remove an entity from the active store and add it to the history store.
      *
@@ -497,7 +741,8 @@ class InMemoryOMRSMetadataStore
     synchronized void removeEntityFromStore(EntityDetail     entity)
     {
         entityStore.remove(entity.getGUID());
-        entityHistoryStore.add(0, entity);
+        this.unindexEntity(entity.getGUID());
+        entityHistoryStore.addVersion(entity);
     }
 
 
@@ -508,11 +753,18 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void removeReferenceEntityFromStore(String     guid)
     {
+        if (guid == null)
+        {
+            return;
+        }
+
         EntityDetail entity = entityStore.remove(guid);
 
+        this.unindexEntity(guid);
+
         if (entity != null)
         {
-            entityHistoryStore.add(0, entity);
+            entityHistoryStore.addVersion(entity);
         }
     }
 
@@ -524,6 +776,11 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void removeEntityProxyFromStore(String     guid)
     {
+        if (guid == null)
+        {
+            return;
+        }
+
         entityProxyStore.remove(guid);
     }
 
@@ -536,7 +793,8 @@ class InMemoryOMRSMetadataStore
     synchronized void removeRelationshipFromStore(Relationship     relationship)
     {
         relationshipStore.remove(relationship.getGUID());
-        relationshipHistoryStore.add(0, relationship);
+        this.unindexRelationship(relationship.getGUID());
+        relationshipHistoryStore.addVersion(relationship);
     }
 
 
@@ -547,12 +805,289 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void removeReferenceRelationshipFromStore(String     guid)
     {
+        if (guid == null)
+        {
+            return;
+        }
+
         Relationship  relationship = relationshipStore.remove(guid);
 
+        this.unindexRelationship(guid);
+
         if (relationship != null)
         {
-            relationshipHistoryStore.add(0, relationship);
+            relationshipHistoryStore.addVersion(relationship);
         }
     }
 
+
+    /**
+     * Add the instances identified in an index entry to the supplied list.
+     *
+     * @param indexEntry set of instance GUIDs from one of the indexes (may be null)
+     * @param store store holding the instances
+     * @param instances list to add the instances to
+     * @param <T> type of instance
+     */
+    private <T> void addIndexedInstances(Set<String>     indexEntry,
+                                         Map<String, T>  store,
+                                         List<T>         instances)
+    {
+        if (indexEntry != null)
+        {
+            for (String guid : indexEntry)
+            {
+                T instance = store.get(guid);
+
+                if (instance != null)
+                {
+                    instances.add(instance);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add an instance GUID to an index entry.
+     *
+     * @param index index to update
+     * @param key key of the index entry
+     * @param guid unique identifier of the instance
+     */
+    private void addToIndex(Map<String, Set<String>> index,
+                            String                   key,
+                            String                   guid)
+    {
+        if (key != null)
+        {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(guid);
+        }
+    }
+
+
+    /**
+     * Remove an instance GUID from an index entry.  Empty entries are removed from the index.
+     *
+     * @param index index to update
+     * @param key key of the index entry
+     * @param guid unique identifier of the instance
+     */
+    private void removeFromIndex(Map<String, Set<String>> index,
+                                 String                   key,
+                                 String                   guid)
+    {
+        if (key != null)
+        {
+            Set<String> indexEntry = index.get(key);
+
+            if (indexEntry != null)
+            {
+                indexEntry.remove(guid);
+
+                if (indexEntry.isEmpty())
+                {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the type name of an instance.
+     *
+     * @param instance instance to query
+     * @return type name or null
+     */
+    private String getTypeName(InstanceHeader   instance)
+    {
+        InstanceType type = instance.getType();
+
+        if (type != null)
+        {
+            return type.getTypeDefName();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the key of an entry in the unique property index.
+     *
+     * @param propertyName name of the unique property
+     * @param propertyValue value of the property
+     * @return index key
+     */
+    private String getUniquePropertyKey(String   propertyName,
+                                        String   propertyValue)
+    {
+        return propertyName + ":" + propertyValue;
+    }
+
+
+    /**
+     * Add an entity to the index of one of the unique properties.  Only primitive values are indexed.
+     *
+     * @param entity entity that has been stored
+     * @param propertyName name of the unique property
+     */
+    private void indexUniqueProperty(EntityDetail   entity,
+                                     String         propertyName)
+    {
+        InstanceProperties properties = entity.getProperties();
+
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if ((propertyValue instanceof PrimitivePropertyValue) &&
+                (((PrimitivePropertyValue) propertyValue).getPrimitiveValue() != null))
+            {
+                String guid = entity.getGUID();
+                String key  = this.getUniquePropertyKey(propertyName,
+                                                        ((PrimitivePropertyValue) propertyValue).getPrimitiveValue().toString());
+
+                this.addToIndex(uniquePropertyIndex, key, guid);
+                indexedUniquePropertyKeys.computeIfAbsent(guid, k -> new ArrayList<>()).add(key);
+            }
+        }
+    }
+
+
+    /**
+     * Update the indexes for the current version of an entity.
+     *
+     * @param entity entity that has been stored
+     */
+    private void indexEntity(EntityDetail   entity)
+    {
+        String guid = entity.getGUID();
+
+        this.unindexEntity(guid);
+
+        String typeName = this.getTypeName(entity);
+
+        if (typeName != null)
+        {
+            this.addToIndex(entityTypeNameIndex, typeName, guid);
+            indexedEntityTypeNames.put(guid, typeName);
+        }
+
+        List<Classification> classifications = entity.getClassifications();
+
+        if (classifications != null)
+        {
+            List<String>  classificationNames = new ArrayList<>();
+
+            for (Classification classification : classifications)
+            {
+                if ((classification != null) && (classification.getName() != null))
+                {
+                    this.addToIndex(classificationNameIndex, classification.getName(), guid);
+                    classificationNames.add(classification.getName());
+                }
+            }
+
+            indexedClassificationNames.put(guid, classificationNames);
+        }
+
+        for (String propertyName : uniquePropertyNames)
+        {
+            this.indexUniqueProperty(entity, propertyName);
+        }
+    }
+
+
+    /**
+     * Remove an entity from the indexes.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void unindexEntity(String   guid)
+    {
+        this.removeFromIndex(entityTypeNameIndex, indexedEntityTypeNames.remove(guid), guid);
+
+        List<String>  classificationNames = indexedClassificationNames.remove(guid);
+
+        if (classificationNames != null)
+        {
+            for (String classificationName : classificationNames)
+            {
+                this.removeFromIndex(classificationNameIndex, classificationName, guid);
+            }
+        }
+
+        List<String>  uniquePropertyKeys = indexedUniquePropertyKeys.remove(guid);
+
+        if (uniquePropertyKeys != null)
+        {
+            for (String uniquePropertyKey : uniquePropertyKeys)
+            {
+                this.removeFromIndex(uniquePropertyIndex, uniquePropertyKey, guid);
+            }
+        }
+    }
+
+
+    /**
+     * Update the indexes for the current version of a relationship.
+     *
+     * @param relationship relationship that has been stored
+     */
+    private void indexRelationship(Relationship   relationship)
+    {
+        String guid = relationship.getGUID();
+
+        this.unindexRelationship(guid);
+
+        String typeName = this.getTypeName(relationship);
+
+        if (typeName != null)
+        {
+            this.addToIndex(relationshipTypeNameIndex, typeName, guid);
+            indexedRelationshipTypeNames.put(guid, typeName);
+        }
+
+        List<String>  entityGUIDs = new ArrayList<>();
+
+        if (relationship.getEntityOneProxy() != null)
+        {
+            entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+        }
+
+        if (relationship.getEntityTwoProxy() != null)
+        {
+            entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+        }
+
+        for (String entityGUID : entityGUIDs)
+        {
+            this.addToIndex(entityRelationshipIndex, entityGUID, guid);
+        }
+
+        indexedRelationshipEnds.put(guid, entityGUIDs);
+    }
+
+
+    /**
+     * Remove a relationship from the indexes.
+     *
+     * @param guid unique identifier of the relationship
+     */
+    private void unindexRelationship(String   guid)
+    {
+        this.removeFromIndex(relationshipTypeNameIndex, indexedRelationshipTypeNames.remove(guid), guid);
+
+        List<String>  entityGUIDs = indexedRelationshipEnds.remove(guid);
+
+        if (entityGUIDs != null)
+        {
+            for (String entityGUID : entityGUIDs)
+            {
+                this.removeFromIndex(entityRelationshipIndex, entityGUID, guid);
+            }
+        }
+    }
 }
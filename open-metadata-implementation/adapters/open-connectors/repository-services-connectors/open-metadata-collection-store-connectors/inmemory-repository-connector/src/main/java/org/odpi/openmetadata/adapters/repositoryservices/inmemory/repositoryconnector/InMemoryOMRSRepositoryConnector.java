@@ -5,13 +5,24 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
  * other members of connected open metadata repository cohorts.
+ *
+ * The number of previous versions of each instance that are kept for as of time queries can be limited with the
+ * maxHistoryVersions configuration property in the connection and the time (in milliseconds) that a version is
+ * kept after it has been replaced is set by the historyRetentionPeriod configuration property.
+ * By default, all versions are kept.
  */
 public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    private static final String maxHistoryVersionsProperty     = "maxHistoryVersions";
+    private static final String historyRetentionPeriodProperty = "historyRetentionPeriod";
+
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -37,11 +48,50 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
             /*
              * Initialize the metadata collection only once the connector is properly set up.
              */
-            super.metadataCollection = new InMemoryOMRSMetadataCollection(this,
-                                                                          super.serverName,
-                                                                          repositoryHelper,
-                                                                          repositoryValidator,
-                                                                          metadataCollectionId);
+            InMemoryOMRSMetadataCollection inMemoryMetadataCollection = new InMemoryOMRSMetadataCollection(this,
+                                                                                                           super.serverName,
+                                                                                                           repositoryHelper,
+                                                                                                           repositoryValidator,
+                                                                                                           metadataCollectionId);
+
+            this.setHistoryRetentionPolicy(inMemoryMetadataCollection);
+
+            super.metadataCollection = inMemoryMetadataCollection;
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Pass the history retention policy from the connection's configuration properties to the metadata collection.
+     *
+     * @param inMemoryMetadataCollection new metadata collection
+     */
+    private void setHistoryRetentionPolicy(InMemoryOMRSMetadataCollection inMemoryMetadataCollection)
+    {
+        int  maxHistoryVersions     = 0;
+        long historyRetentionPeriod = 0;
+
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object maxVersions     = configurationProperties.get(maxHistoryVersionsProperty);
+                Object retentionPeriod = configurationProperties.get(historyRetentionPeriodProperty);
+
+                if (maxVersions instanceof Integer)
+                {
+                    maxHistoryVersions = (Integer)maxVersions;
+                }
+
+                if (retentionPeriod instanceof Number)
+                {
+                    historyRetentionPeriod = ((Number)retentionPeriod).longValue();
+                }
+            }
+        }
+
+        inMemoryMetadataCollection.setHistoryRetentionPolicy(maxHistoryVersions, historyRetentionPeriod);
+    }
+}
@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Verify that the InMemoryInstanceHistoryStore returns the version of an instance that was effective at a
+ * requested time and applies its retention policy.
+ */
+public class InMemoryInstanceHistoryStoreTest
+{
+    private EntityDetail getEntity(String guid, long version, long updateTime)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setCreateTime(new Date(1000));
+        if (updateTime > 1000)
+        {
+            entity.setUpdateTime(new Date(updateTime));
+        }
+
+        return entity;
+    }
+
+
+    @Test
+    public void testVersionAsOf()
+    {
+        InMemoryInstanceHistoryStore<EntityDetail> historyStore = new InMemoryInstanceHistoryStore<>();
+
+        historyStore.addVersion(getEntity("1", 1, 1000));
+        historyStore.addVersion(getEntity("1", 3, 3000));
+        historyStore.addVersion(getEntity("1", 2, 2000));
+
+        assertNull(historyStore.getVersionAsOf("1", new Date(999)));
+        assertEquals(historyStore.getVersionAsOf("1", new Date(1000)).getVersion(), 1);
+        assertEquals(historyStore.getVersionAsOf("1", new Date(2500)).getVersion(), 2);
+        assertEquals(historyStore.getVersionAsOf("1", new Date(9000)).getVersion(), 3);
+        assertNull(historyStore.getVersionAsOf("2", new Date(9000)));
+
+        assertEquals(historyStore.removeLatestVersion("1").getVersion(), 3);
+        assertEquals(historyStore.getVersionAsOf("1", new Date(9000)).getVersion(), 2);
+    }
+
+
+    @Test
+    public void testRetentionPolicy()
+    {
+        InMemoryInstanceHistoryStore<EntityDetail> historyStore = new InMemoryInstanceHistoryStore<>();
+
+        historyStore.setRetentionPolicy(2, 0);
+
+        historyStore.addVersion(getEntity("1", 1, 1000));
+        historyStore.addVersion(getEntity("1", 2, 2000));
+        historyStore.addVersion(getEntity("1", 3, 3000));
+
+        assertNull(historyStore.getVersionAsOf("1", new Date(1500)));
+        assertEquals(historyStore.getVersionAsOf("1", new Date(2500)).getVersion(), 2);
+
+        historyStore.setRetentionPolicy(0, 60000);
+
+        long now = System.currentTimeMillis();
+        historyStore.addVersion(getEntity("1", 4, now));
+
+        assertEquals(historyStore.getVersionAsOf("1", new Date(now)).getVersion(), 4);
+        assertEquals(historyStore.getVersionAsOf("1", new Date(now - 1)).getVersion(), 3);
+        assertNull(historyStore.getVersionAsOf("1", new Date(2500)));
+    }
+}
@@ -0,0 +1,183 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the secondary indexes in the InMemoryOMRSMetadataStore are maintained as instances are
+ * added, updated and removed.
+ */
+public class InMemoryOMRSMetadataStoreTest
+{
+    private EntityDetail getEntity(String guid, String typeName, String... classificationNames)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName(typeName);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(type);
+
+        List<Classification> classifications = new ArrayList<>();
+        for (String classificationName : classificationNames)
+        {
+            Classification classification = new Classification();
+            classification.setName(classificationName);
+            classifications.add(classification);
+        }
+        entity.setClassifications(classifications);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid, String typeName, String end1GUID, String end2GUID)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName(typeName);
+
+        EntityProxy end1 = new EntityProxy();
+        end1.setGUID(end1GUID);
+        EntityProxy end2 = new EntityProxy();
+        end2.setGUID(end2GUID);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setEntityOneProxy(end1);
+        relationship.setEntityTwoProxy(end2);
+
+        return relationship;
+    }
+
+
+    @Test
+    public void testEntityIndexes()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1", "Asset", "Confidentiality"));
+        store.createEntityInStore(getEntity("2", "Asset"));
+        store.createEntityInStore(getEntity("3", "Process", "Confidentiality"));
+
+        assertEquals(store.getEntityTypeNames().size(), 2);
+        assertEquals(store.getEntitiesOfType(Collections.singletonList("Asset")).size(), 2);
+        assertEquals(store.getClassifiedEntities(Collections.singletonList("Confidentiality")).size(), 2);
+        assertTrue(store.getClassifiedEntities(Collections.singletonList("Retention")).isEmpty());
+
+        store.updateEntityInStore(getEntity("1", "Asset"));
+        assertEquals(store.getClassifiedEntities(Collections.singletonList("Confidentiality")).size(), 1);
+
+        store.removeEntityFromStore(store.getEntity("3"));
+        assertTrue(store.getClassifiedEntities(Collections.singletonList("Confidentiality")).isEmpty());
+        assertTrue(store.getEntitiesOfType(Collections.singletonList("Process")).isEmpty());
+
+        store.retrievePreviousVersionOfEntity("3");
+        assertEquals(store.getEntitiesOfType(Collections.singletonList("Process")).size(), 1);
+    }
+
+
+    @Test
+    public void testRelationshipIndexes()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createRelationshipInStore(getRelationship("r1", "AssetSchemaType", "1", "2"));
+        store.createRelationshipInStore(getRelationship("r2", "ProcessPort", "1", "3"));
+
+        assertEquals(store.getRelationshipsForEntity("1").size(), 2);
+        assertEquals(store.getRelationshipsForEntity("2").size(), 1);
+        assertTrue(store.getRelationshipsForEntity("4").isEmpty());
+        assertEquals(store.getRelationshipsOfType(Collections.singletonList("ProcessPort")).size(), 1);
+
+        store.removeReferenceRelationshipFromStore("r1");
+        assertEquals(store.getRelationshipsForEntity("1").size(), 1);
+        assertTrue(store.getRelationshipsForEntity("2").isEmpty());
+        assertTrue(store.getRelationshipsOfType(Collections.singletonList("AssetSchemaType")).isEmpty());
+    }
+
+
+    private EntityDetail getNamedEntity(String guid, String qualifiedName)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(qualifiedName);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("qualifiedName", propertyValue);
+
+        EntityDetail entity = getEntity(guid, "Asset");
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    @Test
+    public void testUniquePropertyIndex()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getNamedEntity("1", "a.b"));
+        store.createEntityInStore(getNamedEntity("2", "a*b"));
+
+        assertFalse(store.isIndexedUniqueProperty("qualifiedName"));
+        store.addUniquePropertyIndex("qualifiedName");
+        assertTrue(store.isIndexedUniqueProperty("qualifiedName"));
+
+        assertEquals(store.getEntitiesByUniqueProperty("qualifiedName", "a.b").size(), 1);
+        assertEquals(store.getEntitiesByUniqueProperty("qualifiedName", "a.b").get(0).getGUID(), "1");
+        assertTrue(store.getEntitiesByUniqueProperty("qualifiedName", "a.c").isEmpty());
+
+        store.createEntityInStore(getNamedEntity("3", "a.c"));
+        assertEquals(store.getEntitiesByUniqueProperty("qualifiedName", "a.c").size(), 1);
+
+        store.updateEntityInStore(getNamedEntity("1", "a.d"));
+        assertTrue(store.getEntitiesByUniqueProperty("qualifiedName", "a.b").isEmpty());
+        assertEquals(store.getEntitiesByUniqueProperty("qualifiedName", "a.d").size(), 1);
+
+        store.removeEntityFromStore(store.getEntity("2"));
+        assertTrue(store.getEntitiesByUniqueProperty("qualifiedName", "a*b").isEmpty());
+    }
+
+
+    @Test
+    public void testCurrentStoreIsReadOnlyView()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        Collection<EntityDetail>  entities = store.getEntities();
+        Map<String, EntityDetail> entityStore = store.timeWarpEntityStore(null);
+
+        store.createEntityInStore(getEntity("1", "Asset"));
+
+        assertEquals(entities.size(), 1);
+        assertEquals(entityStore.get("1").getGUID(), "1");
+        assertNull(store.getEntity(null));
+
+        try
+        {
+            entities.clear();
+            fail("The current store should be read-only");
+        }
+        catch (UnsupportedOperationException error)
+        {
+            assertEquals(store.getEntities().size(), 1);
+        }
+    }
+}
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnect
 
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientFactory;
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -1266,6 +1267,71 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities with a single REST call.
+     * Entities that are not known, or are only proxies in the metadata collection, are skipped.
+     * If the remote server does not support this call, the entities are retrieved one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Null means none of the entities are known.
+     * @throws InvalidParameterException  the list of guids, or one of the guids, is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String    methodName  = "getEntityDetails";
+        final String    urlTemplate = "users/{0}/instances/entities/by-guids";
+
+        GUIDListRequest    guidListRequest = new GUIDListRequest();
+        EntityListResponse restResult;
+
+        guidListRequest.setGUIDs(guids);
+
+        try
+        {
+            restResult = this.callEntityListPostRESTCall(methodName,
+                                                         restURLRoot + urlTemplate,
+                                                         guidListRequest,
+                                                         userId);
+
+            this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            /*
+             * The remote repository does not support the retrieval of a list of entities
+             * so fall back to retrieving them one at a time.
+             */
+            return super.getEntityDetails(userId, guids);
+        }
+        catch (RepositoryErrorException error)
+        {
+            if (this.isURLNotFound(error))
+            {
+                /*
+                 * The remote server is at a level that does not support the retrieval of a list of entities
+                 * so fall back to retrieving them one at a time.
+                 */
+                return super.getEntityDetails(userId, guids);
+            }
+
+            throw error;
+        }
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -4649,6 +4715,34 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return whether a failed REST call was rejected by the remote server because it does not support
+     * the requested URL (HTTP status 404).  This is used to detect servers at an earlier level.
+     *
+     * @param error exception from the REST call
+     * @return boolean flag
+     */
+    private boolean isURLNotFound(RepositoryErrorException   error)
+    {
+        final int urlNotFoundHTTPCode = 404;
+
+        Throwable cause = error.getCause();
+
+        while (cause != null)
+        {
+            if ((cause instanceof RESTServerException) &&
+                (((RESTServerException)cause).getReportedHTTPCode() == urlNotFoundHTTPCode))
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     /*
      * ============================================
      * Extracting complex types from REST results
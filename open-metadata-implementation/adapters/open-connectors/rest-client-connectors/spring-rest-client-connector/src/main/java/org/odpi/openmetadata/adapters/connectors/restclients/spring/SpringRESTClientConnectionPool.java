@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.odpi.openmetadata.http.HttpHelper;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import javax.net.ssl.SSLContext;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpringRESTClientConnectionPool manages the pools of HTTP connections used by the SpringRESTClientConnectors.
+ * A new SpringRESTClientConnector is created for each client of a remote server so the pools are shared by
+ * all of the connectors in the JVM that use the same pool settings.  This means connections (and their TLS sessions)
+ * are reused across calls and across clients rather than being opened for each REST call.
+ *
+ * Idle connections are kept alive for the length of time requested by the server, or the configured keep alive time
+ * if the server does not say.  They are closed by the pool once they have been idle for longer than the keep alive time.
+ *
+ * When the platform has turned off strict SSL (see HttpHelper.noStrictSSL()), the pools accept any server certificate
+ * and host name, in the same way as the default HttpsURLConnection settings.
+ */
+class SpringRESTClientConnectionPool
+{
+    private static final Map<String, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+
+
+    /**
+     * Return a request factory that issues requests through the shared pool with the requested settings.
+     * The pool is created on first use.
+     *
+     * @param maxConnections maximum number of connections in the pool
+     * @param maxConnectionsPerRoute maximum number of connections in the pool to a single host and port
+     * @param keepAliveTime milliseconds an idle connection is kept open if the server does not specify a time - zero means no limit
+     * @param connectTimeout milliseconds to wait for a connection to be established - zero means no limit
+     * @param readTimeout milliseconds to wait for data from the server - zero means no limit
+     * @return request factory for a RestTemplate
+     */
+    static ClientHttpRequestFactory getRequestFactory(int    maxConnections,
+                                                      int    maxConnectionsPerRoute,
+                                                      long   keepAliveTime,
+                                                      int    connectTimeout,
+                                                      int    readTimeout)
+    {
+        SSLContext noStrictSSLContext = HttpHelper.getNoStrictSSLContext();
+
+        String poolKey = maxConnections + ":" + maxConnectionsPerRoute + ":" + keepAliveTime + ":" + (noStrictSSLContext == null);
+
+        CloseableHttpClient httpClient = httpClients.computeIfAbsent(poolKey,
+                                                                     key -> createHttpClient(maxConnections,
+                                                                                             maxConnectionsPerRoute,
+                                                                                             keepAliveTime,
+                                                                                             noStrictSSLContext));
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+
+        return requestFactory;
+    }
+
+
+    /**
+     * Create a pooled HTTP client.
+     *
+     * @param maxConnections maximum number of connections in the pool
+     * @param maxConnectionsPerRoute maximum number of connections in the pool to a single host and port
+     * @param keepAliveTime milliseconds an idle connection is kept open if the server does not specify a time - zero means no limit
+     * @param noStrictSSLContext all-trusting SSL context to use when strict SSL is off - null means use the default
+     * @return HTTP client
+     */
+    private static CloseableHttpClient createHttpClient(int          maxConnections,
+                                                        int          maxConnectionsPerRoute,
+                                                        long         keepAliveTime,
+                                                        SSLContext   noStrictSSLContext)
+    {
+        PoolingHttpClientConnectionManager connectionManager;
+
+        if (noStrictSSLContext == null)
+        {
+            connectionManager = new PoolingHttpClientConnectionManager();
+        }
+        else
+        {
+            /*
+             * The SSL context of the builder is ignored once a connection manager is supplied, so the
+             * socket factory is registered with the connection manager.
+             */
+            Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", new SSLConnectionSocketFactory(noStrictSSLContext, NoopHostnameVerifier.INSTANCE))
+                    .build();
+
+            connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        }
+
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) ->
+        {
+            long serverKeepAliveTime = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+
+            if (serverKeepAliveTime > 0)
+            {
+                return serverKeepAliveTime;
+            }
+
+            return keepAliveTime;
+        };
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                                                               .setConnectionManager(connectionManager)
+                                                               .setKeepAliveStrategy(keepAliveStrategy)
+                                                               .evictExpiredConnections();
+
+        if (keepAliveTime > 0)
+        {
+            httpClientBuilder.evictIdleConnections(keepAliveTime, TimeUnit.MILLISECONDS);
+        }
+
+        return httpClientBuilder.build();
+    }
+}
@@ -6,6 +6,7 @@ import org.codehaus.plexus.util.Base64;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.RESTClientConnectorErrorCode;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
@@ -14,9 +15,13 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.Charset;
+import java.util.Map;
 
 
 /**
@@ -24,6 +29,12 @@ import java.nio.charset.Charset;
  */
 public class SpringRESTClientConnector extends RESTClientConnector
 {
+    private static final int  defaultMaxConnections         = 200;
+    private static final int  defaultMaxConnectionsPerRoute = 20;
+    private static final int  defaultConnectTimeout         = 0;
+    private static final int  defaultReadTimeout            = 0;
+    private static final long defaultKeepAliveTime          = 30000;
+
     private RestTemplate restTemplate             = new RestTemplate();
     private String       serverName               = null;
     private String       serverPlatformURLRoot    = null;
@@ -51,6 +62,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
     {
         super.initialize(connectorInstanceId, connectionProperties);
 
+        this.restTemplate = new RestTemplate(this.getRequestFactory(connectionProperties));
+
         EndpointProperties   endpoint             = connectionProperties.getEndpoint();
 
         if (endpoint != null)
@@ -83,6 +96,74 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Return the factory for the HTTP requests issued by the RestTemplate.  By default, requests are issued through
+     * a pool of HTTP connections that is shared with the other connectors in the JVM that use the same pool settings.
+     * The pool settings and timeouts can be changed through the configuration properties.  Setting the connectionPool
+     * property to false means a new connection is opened for each request.
+     *
+     * @param connectionProperties properties of the connection
+     * @return request factory
+     */
+    private ClientHttpRequestFactory getRequestFactory(ConnectionProperties  connectionProperties)
+    {
+        boolean useConnectionPool      = true;
+        int     maxConnections         = ConnectorConfigurationProperties.getIntegerProperty(connectionProperties,
+                                                                                             SpringRESTClientConnectorProvider.maxConnectionsProperty,
+                                                                                             defaultMaxConnections);
+        int     maxConnectionsPerRoute = ConnectorConfigurationProperties.getIntegerProperty(connectionProperties,
+                                                                                             SpringRESTClientConnectorProvider.maxConnectionsPerRouteProperty,
+                                                                                             defaultMaxConnectionsPerRoute);
+        int     connectTimeout         = ConnectorConfigurationProperties.getIntegerProperty(connectionProperties,
+                                                                                             SpringRESTClientConnectorProvider.connectTimeoutProperty,
+                                                                                             defaultConnectTimeout);
+        int     readTimeout            = ConnectorConfigurationProperties.getIntegerProperty(connectionProperties,
+                                                                                             SpringRESTClientConnectorProvider.readTimeoutProperty,
+                                                                                             defaultReadTimeout);
+        long    keepAliveTime          = ConnectorConfigurationProperties.getLongProperty(connectionProperties,
+                                                                                          SpringRESTClientConnectorProvider.keepAliveTimeProperty,
+                                                                                          defaultKeepAliveTime);
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object connectionPoolOption = configurationProperties.get(SpringRESTClientConnectorProvider.connectionPoolProperty);
+
+            if (connectionPoolOption instanceof Boolean)
+            {
+                useConnectionPool = (Boolean)connectionPoolOption;
+            }
+            else if (connectionPoolOption instanceof String)
+            {
+                useConnectionPool = Boolean.parseBoolean((String)connectionPoolOption);
+            }
+        }
+
+        if (useConnectionPool)
+        {
+            log.debug("Using connection pool with maximum of " + maxConnections + " connections and " + maxConnectionsPerRoute + " connections per route.");
+
+            return SpringRESTClientConnectionPool.getRequestFactory(maxConnections,
+                                                                    maxConnectionsPerRoute,
+                                                                    keepAliveTime,
+                                                                    connectTimeout,
+                                                                    readTimeout);
+        }
+        else
+        {
+            log.debug("Using a new connection for each request.");
+
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+
+            requestFactory.setConnectTimeout(connectTimeout);
+            requestFactory.setReadTimeout(readTimeout);
+
+            return requestFactory;
+        }
+    }
+
+
     /**
      * Create the HTTP header for basic authorization.
      *
@@ -160,7 +241,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPCode(error, errorCode.getHTTPErrorCode()),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -229,7 +310,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPCode(error, errorCode.getHTTPErrorCode()),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -309,7 +390,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPCode(error, errorCode.getHTTPErrorCode()),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -392,7 +473,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPCode(error, errorCode.getHTTPErrorCode()),
                                               this.getClass().getName(),
                                               methodName,
                                               errorMessage,
@@ -401,4 +482,24 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                               error);
         }
     }
+
+
+    /**
+     * Return the HTTP status code returned by the server if the exception was caused by an error response,
+     * so that callers can tell, for example, that the requested URL is not supported by the server.
+     *
+     * @param error exception from the REST call
+     * @param defaultHTTPCode code to return if the server did not return an error response
+     * @return HTTP status code
+     */
+    private int getHTTPCode(Throwable   error,
+                            int         defaultHTTPCode)
+    {
+        if (error instanceof HttpStatusCodeException)
+        {
+            return ((HttpStatusCodeException)error).getRawStatusCode();
+        }
+
+        return defaultHTTPCode;
+    }
 }
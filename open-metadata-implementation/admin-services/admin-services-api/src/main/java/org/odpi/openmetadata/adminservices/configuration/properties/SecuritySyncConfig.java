@@ -30,6 +30,7 @@ public class SecuritySyncConfig extends AdminServicesConfigHeader {
     private String securitySyncTagServiceName;
     private String securitySyncAccessResourceServiceName;
     private Long pollingInterval;
+    private Integer governedAssetPageSize;
     private Connection securitySyncServerConnection;
 
     private String securitySyncInTopicName;
@@ -63,6 +64,7 @@ public class SecuritySyncConfig extends AdminServicesConfigHeader {
             securitySyncTagServiceName = template.securitySyncTagServiceName;
             securitySyncAccessResourceServiceName = template.securitySyncAccessResourceServiceName;
             pollingInterval = template.pollingInterval;
+            governedAssetPageSize = template.governedAssetPageSize;
             securitySyncServerConnection = template.securitySyncServerConnection;
 
             securitySyncInTopic = template.securitySyncInTopic;
@@ -222,6 +224,22 @@ public class SecuritySyncConfig extends AdminServicesConfigHeader {
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * @return the number of governed assets retrieved from the Governance Engine OMAS on each call
+     */
+    public Integer getGovernedAssetPageSize() {
+        return governedAssetPageSize;
+    }
+
+    /**
+     * Set up the number of governed assets retrieved from the Governance Engine OMAS on each call
+     *
+     * @param governedAssetPageSize number of governed assets in each page
+     */
+    public void setGovernedAssetPageSize(Integer governedAssetPageSize) {
+        this.governedAssetPageSize = governedAssetPageSize;
+    }
+
     /**
      * Return the Input Topic Name for Security Sync
      *
@@ -333,6 +351,7 @@ public class SecuritySyncConfig extends AdminServicesConfigHeader {
                 ", securitySyncTagServiceName='" + securitySyncTagServiceName + '\'' +
                 ", securitySyncAccessResourceServiceName='" + securitySyncAccessResourceServiceName + '\'' +
                 ", pollingInterval='" + pollingInterval + '\'' +
+                ", governedAssetPageSize='" + governedAssetPageSize + '\'' +
                 ", securitySyncInTopicName='" + securitySyncInTopicName + '\'' +
                 ", securitySyncInTopic=" + securitySyncInTopic +
                 ", securitySyncOutTopicName='" + securitySyncOutTopicName + '\'' +
@@ -363,6 +382,7 @@ public class SecuritySyncConfig extends AdminServicesConfigHeader {
                 Objects.equals(getSecuritySyncTagServiceName(), that.getSecuritySyncTagServiceName()) &&
                 Objects.equals(getSecuritySyncAccessResourceServiceName(), that.getSecuritySyncAccessResourceServiceName()) &&
                 Objects.equals(getPollingInterval(), that.getPollingInterval()) &&
+                Objects.equals(getGovernedAssetPageSize(), that.getGovernedAssetPageSize()) &&
                 Objects.equals(getSecuritySyncInTopic(), that.getSecuritySyncInTopic()) &&
                 Objects.equals(getSecuritySyncOutTopic(), that.getSecuritySyncOutTopic()) &&
                 Objects.equals(getSecuritySyncInTopicName(), that.getSecuritySyncInTopicName()) &&
@@ -385,6 +405,7 @@ public class SecuritySyncConfig extends AdminServicesConfigHeader {
                 getSecuritySyncTagServiceName(),
                 getSecuritySyncAccessResourceServiceName(),
                 getPollingInterval(),
+                getGovernedAssetPageSize(),
                 getSecuritySyncInTopic(),
                 getSecuritySyncOutTopic(),
                 getSecuritySyncInTopicName(),
@@ -12,18 +12,22 @@ import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHisto
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ *
+ * The registered services are looked up on every REST request so the lookup does not lock the server instance.
+ * Changes to the registered services are synchronized.
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private          String                                 serverName;
+    private          List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private          Date                                   serverStartTime    = new Date();
+    private final    OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -158,7 +162,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -173,7 +177,7 @@ class OMAGServerInstance
     synchronized  void registerService(String                    serviceName,
                                        OMAGServerServiceInstance serviceInstance)
     {
-        if (serviceInstance != null)
+        if ((serviceName != null) && (serviceInstance != null))
         {
             serviceInstanceMap.put(serviceName, serviceInstance);
             serviceInstance.setSecurityVerifier(securityVerifier);
@@ -192,10 +196,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -207,7 +211,12 @@ class OMAGServerInstance
             throw new UserNotAuthorizedException(error);
         }
 
-        OMAGServerServiceInstance serverServiceInstance = serviceInstanceMap.get(serviceName);
+        OMAGServerServiceInstance serverServiceInstance = null;
+
+        if (serviceName != null)
+        {
+            serverServiceInstance = serviceInstanceMap.get(serviceName);
+        }
 
         if (serverServiceInstance == null)
         {
@@ -236,7 +245,10 @@ class OMAGServerInstance
      */
     synchronized  void unRegisterService(String   serviceName)
     {
-        serviceInstanceMap.remove(serviceName);
+        if (serviceName != null)
+        {
+            serviceInstanceMap.remove(serviceName);
+        }
     }
 
 
@@ -258,7 +270,7 @@ class OMAGServerInstance
                                                      + errorCode.getFormattedErrorMessage(serverName,
                                                                                           serviceInstanceMap.keySet().toString());
 
-            this.serviceInstanceMap = new HashMap<>();
+            this.serviceInstanceMap = new ConcurrentHashMap<>();
             throw new PropertyServerException(errorCode.getHTTPErrorCode(),
                                               this.getClass().getName(),
                                               methodName,
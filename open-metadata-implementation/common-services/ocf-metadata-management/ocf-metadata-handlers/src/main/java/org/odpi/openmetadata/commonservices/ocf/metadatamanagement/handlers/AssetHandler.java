@@ -19,7 +19,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +59,30 @@ public class AssetHandler
 
     protected int                     maxPageSize;
 
+    /*
+     * When the supported zones restrict the visible assets, the position of a page of visible assets in the
+     * repository results is only known by reading the results that come before it.  The repository offset that
+     * follows each page returned is remembered here (keyed on the query and the visible offset of the next page)
+     * so that a caller reading the pages in order does not cause the earlier results to be read again.
+     *
+     * This makes the handler hold state between requests.  The map is bounded so its memory use is fixed, and
+     * losing an entry only costs a re-read of the earlier results.  A saved offset is not adjusted when assets
+     * are added to or removed from the repository between requests, so, as with repository paging, a page read
+     * after such a change may repeat or miss an asset.
+     */
+    private static final int          maxVisibleAssetCursors = 100;
+
+    private final Map<String, Integer> visibleAssetCursors = new LinkedHashMap<String, Integer>(16, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest)
+        {
+            return size() > maxVisibleAssetCursors;
+        }
+    };
+
 
     /**
      * Construct the asset handler with information needed to work with Asset objects.
@@ -1308,6 +1335,294 @@ public class AssetHandler
     }
 
 
+    /**
+     * Return a page of assets that are visible to the caller.  The zones of each entity are checked before it
+     * is converted to a bean so invisible assets are skipped cheaply.
+     *
+     * When the supported zones restrict the visible assets, startFrom counts visible assets rather than
+     * repository results, and further pages are retrieved from the repository until the page is full or there
+     * are no more matching entities.  The repository results before startFrom have to be read and filtered to
+     * find where the page starts, unless the page follows one returned earlier for the same query, in which case
+     * the repository offset saved with that page is used.  Reading the pages out of order (or after the saved
+     * offset has been discarded) therefore costs a read of all of the earlier results.
+     *
+     * Without supported zones, startFrom is a repository offset, so only one page of repository results is read.
+     * Assets the caller is not authorized to read are removed from it, which may leave the page short, but the
+     * next page still starts at startFrom + pageSize without repeating any assets.
+     *
+     * @param userId calling user
+     * @param matchProperties properties to match on (null means all assets of the type)
+     * @param typeGUID type of asset to retrieve
+     * @param typeName type of asset to retrieve
+     * @param startFrom starting element (used in paging through large result sets)
+     * @param pageSize maximum number of results to return (0 means no limit)
+     * @param methodName calling method
+     * @return list of visible assets or null if none are visible
+     * @throws PropertyServerException there is a problem retrieving information from the property server(s).
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private List<Asset>  getVisibleAssets(String              userId,
+                                          InstanceProperties  matchProperties,
+                                          String              typeGUID,
+                                          String              typeName,
+                                          int                 startFrom,
+                                          int                 pageSize,
+                                          String              methodName) throws PropertyServerException,
+                                                                                 UserNotAuthorizedException
+    {
+        List<Asset>  results = new ArrayList<>();
+
+        boolean zoned               = (supportedZones != null) && (! supportedZones.isEmpty());
+        int     repositoryStartFrom = startFrom;
+        int     visibleToSkip       = 0;
+        String  cursorKey           = null;
+
+        if (zoned)
+        {
+            repositoryStartFrom = 0;
+            visibleToSkip       = startFrom;
+
+            if (pageSize > 0)
+            {
+                cursorKey = this.getVisibleAssetCursorKey(userId, matchProperties, typeGUID, typeName, pageSize);
+
+                Integer savedStartFrom;
+
+                synchronized (visibleAssetCursors)
+                {
+                    savedStartFrom = visibleAssetCursors.get(cursorKey + startFrom);
+                }
+
+                if (savedStartFrom != null)
+                {
+                    repositoryStartFrom = savedStartFrom;
+                    visibleToSkip       = 0;
+                }
+            }
+        }
+
+        while (true)
+        {
+            List<EntityDetail>  retrievedEntities;
+
+            if (matchProperties == null)
+            {
+                retrievedEntities = repositoryHandler.getEntitiesForType(userId,
+                                                                         typeGUID,
+                                                                         typeName,
+                                                                         repositoryStartFrom,
+                                                                         pageSize,
+                                                                         methodName);
+            }
+            else
+            {
+                retrievedEntities = repositoryHandler.getEntitiesByName(userId,
+                                                                        matchProperties,
+                                                                        typeGUID,
+                                                                        repositoryStartFrom,
+                                                                        pageSize,
+                                                                        methodName);
+            }
+
+            if ((retrievedEntities == null) || (retrievedEntities.isEmpty()))
+            {
+                break;
+            }
+
+            int  retrievedCount = 0;
+
+            for (EntityDetail entity : retrievedEntities)
+            {
+                retrievedCount++;
+
+                if ((entity != null) && (this.isEntityInSupportedZones(entity, methodName)))
+                {
+                    AssetConverter  converter = new AssetConverter(entity, null, repositoryHelper, serviceName);
+                    Asset           asset = converter.getAssetBean();
+
+                    try
+                    {
+                        securityVerifier.validateUserForAssetRead(userId, asset);
+                    }
+                    catch (UserNotAuthorizedException error)
+                    {
+                        /*
+                         * ignore unreadable asset
+                         */
+                        continue;
+                    }
+
+                    if (visibleToSkip > 0)
+                    {
+                        visibleToSkip--;
+                    }
+                    else
+                    {
+                        results.add(asset);
+
+                        if (results.size() == pageSize)
+                        {
+                            if (cursorKey != null)
+                            {
+                                synchronized (visibleAssetCursors)
+                                {
+                                    visibleAssetCursors.put(cursorKey + (startFrom + pageSize),
+                                                            repositoryStartFrom + retrievedCount);
+                                }
+                            }
+
+                            return results;
+                        }
+                    }
+                }
+            }
+
+            if ((pageSize == 0) || (retrievedEntities.size() < pageSize))
+            {
+                /*
+                 * The repository has returned all of the matching entities.
+                 */
+                break;
+            }
+
+            if (! zoned)
+            {
+                /*
+                 * startFrom is a repository offset so the page must end where the repository page ends.
+                 */
+                break;
+            }
+
+            repositoryStartFrom = repositoryStartFrom + retrievedEntities.size();
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return results;
+        }
+    }
+
+
+    /**
+     * Return the key used to save the repository offsets of the pages of a query in visibleAssetCursors.
+     * The match properties are added by name and value, in name order, so that the same query always produces
+     * the same key.
+     *
+     * @param userId calling user
+     * @param matchProperties properties to match on (null means all assets of the type)
+     * @param typeGUID type of asset to retrieve
+     * @param typeName type of asset to retrieve
+     * @param pageSize maximum number of results to return
+     * @return key prefix - the visible offset of the page is added to it
+     */
+    private String getVisibleAssetCursorKey(String              userId,
+                                            InstanceProperties  matchProperties,
+                                            String              typeGUID,
+                                            String              typeName,
+                                            int                 pageSize)
+    {
+        StringBuilder cursorKey = new StringBuilder();
+
+        cursorKey.append(userId).append(':').append(typeGUID).append(':').append(typeName).append(':').append(pageSize).append(':');
+
+        if (matchProperties != null)
+        {
+            List<String>     propertyNames = new ArrayList<>();
+            Iterator<String> iterator      = matchProperties.getPropertyNames();
+
+            while (iterator.hasNext())
+            {
+                propertyNames.add(iterator.next());
+            }
+
+            Collections.sort(propertyNames);
+
+            for (String propertyName : propertyNames)
+            {
+                InstancePropertyValue propertyValue = matchProperties.getPropertyValue(propertyName);
+
+                cursorKey.append(propertyName).append('=');
+
+                if (propertyValue != null)
+                {
+                    cursorKey.append(propertyValue.valueAsString());
+                }
+
+                cursorKey.append(';');
+            }
+        }
+
+        return cursorKey.append(':').toString();
+    }
+
+
+    /**
+     * Determine whether an asset entity is visible through the supported zones.  This is equivalent to
+     * the zone check made on the asset bean but works directly from the entity's properties so no bean
+     * or exception is created for an invisible asset.  The zones in the AssetZoneMembership classification
+     * override the (deprecated) zoneMembership property of the entity.
+     *
+     * @param entity retrieved asset entity
+     * @param methodName calling method
+     * @return boolean flag
+     */
+    private boolean isEntityInSupportedZones(EntityDetail  entity,
+                                             String        methodName)
+    {
+        if ((supportedZones == null) || (supportedZones.isEmpty()))
+        {
+            return true;
+        }
+
+        List<String>  assetZones = null;
+
+        if (entity.getProperties() != null)
+        {
+            assetZones = repositoryHelper.getStringArrayProperty(serviceName,
+                                                                 AssetMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
+                                                                 entity.getProperties(),
+                                                                 methodName);
+        }
+
+        List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> entityClassifications = entity.getClassifications();
+
+        if (entityClassifications != null)
+        {
+            for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification entityClassification : entityClassifications)
+            {
+                if ((entityClassification != null) &&
+                    (AssetMapper.ASSET_ZONES_CLASSIFICATION_NAME.equals(entityClassification.getName())) &&
+                    (entityClassification.getProperties() != null))
+                {
+                    assetZones = repositoryHelper.getStringArrayProperty(serviceName,
+                                                                         AssetMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
+                                                                         entityClassification.getProperties(),
+                                                                         methodName);
+                }
+            }
+        }
+
+        if ((assetZones == null) || (assetZones.isEmpty()))
+        {
+            return true;
+        }
+
+        for (String  assetZoneName : assetZones)
+        {
+            if ((assetZoneName != null) && (supportedZones.contains(assetZoneName)))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
 
     /**
      * Retrieve the requested asset object.
@@ -1633,29 +1948,24 @@ public class AssetHandler
             typeName = subTypeName;
         }
 
-        List<EntityDetail> entities = repositoryHandler.getEntitiesForType(userId,
-                                                                           typeGUID,
-                                                                           typeName,
-                                                                           startFrom,
-                                                                           pageSize,
-                                                                           methodName);
+        List<Asset> assets = this.getVisibleAssets(userId,
+                                                   null,
+                                                   typeGUID,
+                                                   typeName,
+                                                   startFrom,
+                                                   pageSize,
+                                                   methodName);
 
-        if (entities != null)
+        if (assets != null)
         {
             List<String> assetGUIDs = new ArrayList<>();
 
-            for (EntityDetail entity : entities)
+            for (Asset asset : assets)
             {
-                if (entity != null)
-                {
-                    assetGUIDs.add(entity.getGUID());
-                }
+                assetGUIDs.add(asset.getGUID());
             }
 
-            if (! assetGUIDs.isEmpty())
-            {
-                return assetGUIDs;
-            }
+            return assetGUIDs;
         }
 
         return null;
@@ -1726,58 +2036,25 @@ public class AssetHandler
                                                 serviceName,
                                                 serverName);
 
-        List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesByName(userId,
-                                                                                   builder.getQualifiedNameInstanceProperties(methodName),
-                                                                                   AssetMapper.ASSET_TYPE_GUID,
-                                                                                   startFrom,
-                                                                                   pageSize,
-                                                                                   methodName);
-        if (retrievedEntities == null)
-        {
-            retrievedEntities = repositoryHandler.getEntitiesByName(userId,
-                                                                    builder.getNameInstanceProperties(methodName),
-                                                                    AssetMapper.ASSET_TYPE_GUID,
-                                                                    startFrom,
-                                                                    pageSize,
-                                                                    methodName);
-        }
-
-        List<Asset>  results = new ArrayList<>();
-        if (retrievedEntities != null)
+        List<Asset> results = this.getVisibleAssets(userId,
+                                                    builder.getQualifiedNameInstanceProperties(methodName),
+                                                    AssetMapper.ASSET_TYPE_GUID,
+                                                    AssetMapper.ASSET_TYPE_NAME,
+                                                    startFrom,
+                                                    pageSize,
+                                                    methodName);
+        if (results == null)
         {
-            for (EntityDetail entity : retrievedEntities)
-            {
-                if (entity != null)
-                {
-                    AssetConverter  converter = new AssetConverter(entity, null, repositoryHelper, serviceName);
-                    Asset           asset = converter.getAssetBean();
-                    try
-                    {
-                        results.add(validatedVisibleAsset(userId,
-                                                          supportedZones,
-                                                          nameParameterName,
-                                                          asset,
-                                                          serviceName,
-                                                          methodName));
-                    }
-                    catch (Throwable error)
-                    {
-                        /*
-                         * ignore invisible asset
-                         */
-                    }
-                }
-            }
+            results = this.getVisibleAssets(userId,
+                                            builder.getNameInstanceProperties(methodName),
+                                            AssetMapper.ASSET_TYPE_GUID,
+                                            AssetMapper.ASSET_TYPE_NAME,
+                                            startFrom,
+                                            pageSize,
+                                            methodName);
         }
 
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+        return results;
     }
 
 
@@ -1816,49 +2093,13 @@ public class AssetHandler
                                                 serviceName,
                                                 serverName);
 
-        List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesByName(userId,
-                                                                                   builder.getSearchInstanceProperties(methodName),
-                                                                                   AssetMapper.ASSET_TYPE_GUID,
-                                                                                   startFrom,
-                                                                                   pageSize,
-                                                                                   methodName);
-
-        List<Asset>  results = new ArrayList<>();
-        if (retrievedEntities != null)
-        {
-            for (EntityDetail entity : retrievedEntities)
-            {
-                if (entity != null)
-                {
-                    AssetConverter  converter = new AssetConverter(entity, null, repositoryHelper, serviceName);
-                    Asset           asset = converter.getAssetBean();
-                    try
-                    {
-                        results.add(validatedVisibleAsset(userId,
-                                                          supportedZones,
-                                                          searchParameter,
-                                                          asset,
-                                                          serviceName,
-                                                          methodName));
-                    }
-                    catch (Throwable error)
-                    {
-                        /*
-                         * ignore invisible asset
-                         */
-                    }
-                }
-            }
-        }
-
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+        return this.getVisibleAssets(userId,
+                                     builder.getSearchInstanceProperties(methodName),
+                                     AssetMapper.ASSET_TYPE_GUID,
+                                     AssetMapper.ASSET_TYPE_NAME,
+                                     startFrom,
+                                     pageSize,
+                                     methodName);
     }
 
     /**
@@ -12,12 +12,12 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Certification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CertificationHandler manages Certification objects.  It runs server-side in
@@ -124,23 +124,31 @@ public class CertificationHandler
         if (relationships != null)
         {
             List<Certification>  results = new ArrayList<>();
+            List<String>  entityGUIDs = new ArrayList<>();
 
             for (Relationship relationship : relationships)
             {
-                if (relationship != null)
+                if ((relationship != null) && (relationship.getEntityTwoProxy() != null))
                 {
-                    EntityProxy entityProxy = relationship.getEntityTwoProxy();
+                    entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+                }
+            }
 
-                    if (entityProxy != null)
-                    {
-                        final String  entityParameterName = "entityProxyTwo.getGUID";
+            final String  entityParameterName = "entityProxyTwo.getGUID";
+            Map<String, EntityDetail> entities = repositoryHandler.getEntitiesByGUIDs(userId,
+                                                                                      entityGUIDs,
+                                                                                      entityParameterName,
+                                                                                      CertificationMapper.CERTIFICATION_TYPE_TYPE_NAME,
+                                                                                      methodName);
 
-                        EntityDetail entity = repositoryHandler.getEntityByGUID(userId,
-                                                                                entityProxy.getGUID(),
-                                                                                entityParameterName,
-                                                                                CertificationMapper.CERTIFICATION_TYPE_TYPE_NAME,
-                                                                                methodName);
+            for (Relationship relationship : relationships)
+            {
+                if ((relationship != null) && (relationship.getEntityTwoProxy() != null))
+                {
+                    EntityDetail entity = entities.get(relationship.getEntityTwoProxy().getGUID());
 
+                    if (entity != null)
+                    {
                         CertificationConverter converter = new CertificationConverter(entity,
                                                                                       relationship,
                                                                                       repositoryHelper,
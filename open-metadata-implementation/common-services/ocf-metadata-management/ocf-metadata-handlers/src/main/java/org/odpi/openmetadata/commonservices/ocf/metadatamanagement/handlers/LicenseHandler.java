@@ -12,12 +12,12 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.License;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * LicenseHandler manages License objects.  It runs server-side in
@@ -124,22 +124,31 @@ public class LicenseHandler
         if (relationships != null)
         {
             List<License>  results = new ArrayList<>();
+            List<String>  entityGUIDs = new ArrayList<>();
 
             for (Relationship relationship : relationships)
             {
-                if (relationship != null)
+                if ((relationship != null) && (relationship.getEntityTwoProxy() != null))
                 {
-                    EntityProxy entityProxy = relationship.getEntityTwoProxy();
+                    entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+                }
+            }
 
-                    if (entityProxy != null)
-                    {
-                        final String  entityParameterName = "entityProxyTwo.getGUID";
-                        EntityDetail entity = repositoryHandler.getEntityByGUID(userId,
-                                                                                entityProxy.getGUID(),
-                                                                                entityParameterName,
-                                                                                LicenseMapper.LICENSE_TYPE_TYPE_NAME,
-                                                                                methodName);
+            final String  entityParameterName = "entityProxyTwo.getGUID";
+            Map<String, EntityDetail> entities = repositoryHandler.getEntitiesByGUIDs(userId,
+                                                                                      entityGUIDs,
+                                                                                      entityParameterName,
+                                                                                      LicenseMapper.LICENSE_TYPE_TYPE_NAME,
+                                                                                      methodName);
+
+            for (Relationship relationship : relationships)
+            {
+                if ((relationship != null) && (relationship.getEntityTwoProxy() != null))
+                {
+                    EntityDetail entity = entities.get(relationship.getEntityTwoProxy().getGUID());
 
+                    if (entity != null)
+                    {
                         LicenseConverter converter = new LicenseConverter(entity,
                                                                           relationship,
                                                                           repositoryHelper,
@@ -14,7 +14,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -821,7 +823,9 @@ public class RepositoryHandler
 
 
     /**
-     * Return the list of entities at the other end of the requested relationship type.
+     * Return the list of entities at the other end of the requested relationship type.  One entity is returned
+     * for each relationship.  If the entity at the other end of a relationship can not be retrieved, the
+     * repository's exception is reported as a PropertyServerException.
      *
      * @param userId  user making the request
      * @param anchorEntityGUID  starting entity's GUID
@@ -861,6 +865,8 @@ public class RepositoryHandler
 
             if (relationships != null)
             {
+                List<String> requiredEndGUIDs = new ArrayList<>();
+
                 for (Relationship relationship : relationships)
                 {
                     EntityProxy requiredEnd = relationship.getEntityOneProxy();
@@ -869,7 +875,40 @@ public class RepositoryHandler
                         requiredEnd = relationship.getEntityTwoProxy();
                     }
 
-                    results.add(metadataCollection.getEntityDetail(userId, requiredEnd.getGUID()));
+                    requiredEndGUIDs.add(requiredEnd.getGUID());
+                }
+
+                /*
+                 * Retrieve all of the entities in one request rather than one request per relationship.
+                 */
+                List<EntityDetail>        entities          = metadataCollection.getEntityDetails(userId, requiredEndGUIDs);
+                Map<String, EntityDetail> retrievedEntities = new HashMap<>();
+
+                if (entities != null)
+                {
+                    for (EntityDetail entity : entities)
+                    {
+                        if (entity != null)
+                        {
+                            retrievedEntities.put(entity.getGUID(), entity);
+                        }
+                    }
+                }
+
+                for (String requiredEndGUID : requiredEndGUIDs)
+                {
+                    EntityDetail entity = retrievedEntities.get(requiredEndGUID);
+
+                    if (entity == null)
+                    {
+                        /*
+                         * getEntityDetails skips the entities it can not retrieve.  Requesting the missing
+                         * entity on its own produces the same exception as retrieving the entities one at a time.
+                         */
+                        entity = metadataCollection.getEntityDetail(userId, requiredEndGUID);
+                    }
+
+                    results.add(entity);
                 }
             }
             else
@@ -1313,6 +1352,69 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the requested entities, converting any errors from the repository services into the local
+     * OMAS exceptions.  The entities are retrieved in a single request to the repository.  Entities that
+     * are not known are not included in the results.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers for the entities
+     * @param guidParameterName name of the guid parameter for error handling
+     * @param entityTypeName expected type of the entities
+     * @param methodName calling method name
+     *
+     * @return map of entity detail objects indexed by guid
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entities.
+     */
+    public Map<String, EntityDetail>  getEntitiesByGUIDs(String                 userId,
+                                                         List<String>           guids,
+                                                         String                 guidParameterName,
+                                                         String                 entityTypeName,
+                                                         String                 methodName) throws InvalidParameterException,
+                                                                                                  UserNotAuthorizedException,
+                                                                                                  PropertyServerException
+    {
+        Map<String, EntityDetail> results = new HashMap<>();
+
+        if ((guids == null) || (guids.isEmpty()))
+        {
+            return results;
+        }
+
+        try
+        {
+            List<EntityDetail> entities = metadataCollection.getEntityDetails(userId, guids);
+
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    errorHandler.validateInstanceType(userId, entity, guidParameterName, entityTypeName, methodName);
+
+                    results.put(entity.getGUID(), entity);
+                }
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            throw error;
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
+        }
+
+        return results;
+    }
+
+
     /**
      * Test whether an entity is of a particular type or not.
      *
@@ -1522,6 +1624,63 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the entity with the requested value in a unique property such as qualifiedName.  The value is
+     * matched exactly (it is not a regular expression) so repositories are able to look it up in an index.
+     *
+     * @param userId calling userId
+     * @param propertyValue exact value of the property
+     * @param propertyName name of the unique property
+     * @param entityTypeGUID type of entity required
+     * @param entityTypeName name of the entity's type
+     * @param methodName calling method
+     *
+     * @return retrieved entity or null if there is no entity with the value
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    public EntityDetail  getUniqueEntityByUniqueProperty(String   userId,
+                                                         String   propertyValue,
+                                                         String   propertyName,
+                                                         String   entityTypeGUID,
+                                                         String   entityTypeName,
+                                                         String   methodName) throws UserNotAuthorizedException,
+                                                                                     PropertyServerException
+    {
+        try
+        {
+            List<EntityDetail> returnedEntities = metadataCollection.findEntitiesByUniqueProperty(userId,
+                                                                                                  entityTypeGUID,
+                                                                                                  propertyName,
+                                                                                                  propertyValue,
+                                                                                                  2);
+
+            if ((returnedEntities == null) || returnedEntities.isEmpty())
+            {
+                return null;
+            }
+            else if (returnedEntities.size() == 1)
+            {
+                return returnedEntities.get(0);
+            }
+            else
+            {
+                errorHandler.handleAmbiguousEntityName(propertyValue, propertyName, entityTypeName, returnedEntities, methodName);
+            }
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the requested entity by name.
      *
@@ -0,0 +1,140 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * ConnectorConfigurationProperties reads the numeric tuning options (such as queue sizes, thread counts and
+ * timeouts) that connectors accept through the configuration properties of their connection.  The configuration
+ * properties are often supplied as JSON, so a value may arrive as any type of number, or as a string.  These
+ * are all accepted.  A value that is not a whole number is logged and the default value is used instead.
+ *
+ * The methods are static so that connectors can use them without adding methods to their own class hierarchy.
+ */
+public final class ConnectorConfigurationProperties
+{
+    private static final Logger log = LoggerFactory.getLogger(ConnectorConfigurationProperties.class);
+
+
+    /**
+     * Private constructor since all methods are static.
+     */
+    private ConnectorConfigurationProperties()
+    {
+    }
+
+
+    /**
+     * Return the value of an integer configuration property from the connection.
+     *
+     * @param connectionProperties properties of the connection - may be null
+     * @param propertyName name of the property
+     * @param defaultValue value to return if the property is not set or is not valid
+     * @return property value
+     */
+    public static int getIntegerProperty(ConnectionProperties connectionProperties,
+                                         String               propertyName,
+                                         int                  defaultValue)
+    {
+        Long propertyValue = getWholeNumberProperty(connectionProperties, propertyName);
+
+        if (propertyValue == null)
+        {
+            return defaultValue;
+        }
+
+        if ((propertyValue < Integer.MIN_VALUE) || (propertyValue > Integer.MAX_VALUE))
+        {
+            log.warn("Ignoring configuration property {} since its value {} is out of range", propertyName, propertyValue);
+
+            return defaultValue;
+        }
+
+        return propertyValue.intValue();
+    }
+
+
+    /**
+     * Return the value of a long configuration property from the connection.
+     *
+     * @param connectionProperties properties of the connection - may be null
+     * @param propertyName name of the property
+     * @param defaultValue value to return if the property is not set or is not valid
+     * @return property value
+     */
+    public static long getLongProperty(ConnectionProperties connectionProperties,
+                                       String               propertyName,
+                                       long                 defaultValue)
+    {
+        Long propertyValue = getWholeNumberProperty(connectionProperties, propertyName);
+
+        if (propertyValue == null)
+        {
+            return defaultValue;
+        }
+
+        return propertyValue;
+    }
+
+
+    /**
+     * Return the value of a configuration property as a whole number.
+     *
+     * @param connectionProperties properties of the connection - may be null
+     * @param propertyName name of the property
+     * @return property value or null if it is not set or is not valid
+     */
+    private static Long getWholeNumberProperty(ConnectionProperties connectionProperties,
+                                               String               propertyName)
+    {
+        if (connectionProperties == null)
+        {
+            return null;
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties == null)
+        {
+            return null;
+        }
+
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue == null)
+        {
+            return null;
+        }
+
+        if ((propertyValue instanceof Long) || (propertyValue instanceof Integer) || (propertyValue instanceof Short))
+        {
+            return ((Number)propertyValue).longValue();
+        }
+
+        if ((propertyValue instanceof Number) && (((Number)propertyValue).doubleValue() % 1 == 0))
+        {
+            return ((Number)propertyValue).longValue();
+        }
+
+        if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Long.parseLong(((String)propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                // logged below
+            }
+        }
+
+        log.warn("Ignoring configuration property {} since its value {} is not a whole number", propertyName, propertyValue);
+
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSONSerializer provides the shared Jackson ObjectMapper used to convert the open metadata beans to and from JSON.
+ * Creating an ObjectMapper is expensive, as is the introspection of each bean class the first time it is
+ * serialized by a new ObjectMapper.  This class creates a single ObjectMapper for the JVM and caches an ObjectReader
+ * and ObjectWriter for each bean class so that the introspection is only performed once.
+ *
+ * The ObjectMapper, ObjectReaders and ObjectWriters are thread-safe.  The shared ObjectMapper must not be
+ * reconfigured by its callers.  Different behaviour (such as ignoring unknown properties) should be requested
+ * from an ObjectReader or ObjectWriter returned by this class since these create a new instance rather than
+ * changing the shared one.
+ */
+public class JSONSerializer
+{
+    private static final ObjectMapper                   objectMapper = new ObjectMapper();
+    private static final Map<Class<?>, ObjectReader>    readers      = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter>    writers      = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor since all methods are static.
+     */
+    private JSONSerializer()
+    {
+    }
+
+
+    /**
+     * Return the shared ObjectMapper.  It must not be reconfigured.
+     *
+     * @return object mapper
+     */
+    public static ObjectMapper getObjectMapper()
+    {
+        return objectMapper;
+    }
+
+
+    /**
+     * Return the ObjectReader for a bean class.
+     *
+     * @param beanClass class of the bean to read
+     * @return object reader
+     */
+    public static ObjectReader getReader(Class<?>   beanClass)
+    {
+        return readers.computeIfAbsent(beanClass, objectMapper::readerFor);
+    }
+
+
+    /**
+     * Return the ObjectWriter for a bean class.
+     *
+     * @param beanClass class of the bean to write
+     * @return object writer
+     */
+    public static ObjectWriter getWriter(Class<?>   beanClass)
+    {
+        return writers.computeIfAbsent(beanClass, objectMapper::writerFor);
+    }
+
+
+    /**
+     * Convert a JSON string into a bean.
+     *
+     * @param json JSON string
+     * @param beanClass class of the bean to return
+     * @param <T> type of the bean
+     * @return bean
+     * @throws IOException the JSON string is not valid for the bean class
+     */
+    public static <T> T readValue(String     json,
+                                  Class<T>   beanClass) throws IOException
+    {
+        return getReader(beanClass).readValue(json);
+    }
+
+
+    /**
+     * Convert a JSON byte array into a bean.
+     *
+     * @param json JSON bytes
+     * @param beanClass class of the bean to return
+     * @param <T> type of the bean
+     * @return bean
+     * @throws IOException the JSON is not valid for the bean class
+     */
+    public static <T> T readValue(byte[]     json,
+                                  Class<T>   beanClass) throws IOException
+    {
+        return getReader(beanClass).readValue(json);
+    }
+
+
+    /**
+     * Convert a bean into a JSON string.  The writer is selected using the class of the bean.
+     *
+     * @param bean bean to convert
+     * @return JSON string
+     * @throws JsonProcessingException the bean can not be serialized
+     */
+    public static String writeValueAsString(Object   bean) throws JsonProcessingException
+    {
+        if (bean == null)
+        {
+            return objectMapper.writeValueAsString(null);
+        }
+
+        return getWriter(bean.getClass()).writeValueAsString(bean);
+    }
+}
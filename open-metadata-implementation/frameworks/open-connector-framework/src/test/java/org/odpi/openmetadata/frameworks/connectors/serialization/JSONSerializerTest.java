@@ -0,0 +1,55 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.connectors.serialization;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+
+/**
+ * Validate that the JSONSerializer caches its readers and writers and converts beans to and from JSON.
+ */
+public class JSONSerializerTest
+{
+    /**
+     * Default constructor
+     */
+    public JSONSerializerTest()
+    {
+    }
+
+
+    /**
+     * Test that the same reader and writer are returned for a bean class.
+     */
+    @Test public void testCaching()
+    {
+        assertSame(JSONSerializer.getReader(Endpoint.class), JSONSerializer.getReader(Endpoint.class));
+        assertSame(JSONSerializer.getWriter(Endpoint.class), JSONSerializer.getWriter(Endpoint.class));
+        assertSame(JSONSerializer.getObjectMapper(), JSONSerializer.getObjectMapper());
+    }
+
+
+    /**
+     * Test that a bean survives a round trip through JSON.
+     */
+    @Test public void testRoundTrip() throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress("TestAddress");
+        endpoint.setProtocol("TestProtocol");
+
+        String   json = JSONSerializer.writeValueAsString(endpoint);
+        Endpoint copy = JSONSerializer.readValue(json, Endpoint.class);
+
+        assertEquals(copy.getAddress(), "TestAddress");
+        assertEquals(copy.getProtocol(), "TestProtocol");
+        assertEquals(JSONSerializer.readValue(json.getBytes(), Endpoint.class).getAddress(), "TestAddress");
+        assertEquals(JSONSerializer.writeValueAsString(null), "null");
+    }
+}
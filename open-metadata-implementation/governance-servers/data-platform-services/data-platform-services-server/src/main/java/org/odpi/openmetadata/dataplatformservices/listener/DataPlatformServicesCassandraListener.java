@@ -4,7 +4,6 @@ package org.odpi.openmetadata.dataplatformservices.listener;
 
 import com.datastax.driver.core.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.dataplatform.events.DataPlatformEventType;
 import org.odpi.openmetadata.accessservices.dataplatform.events.NewDeployedDatabaseSchemaEvent;
 import org.odpi.openmetadata.accessservices.dataplatform.properties.DataPlatform;
@@ -20,6 +19,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopic;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,8 +37,6 @@ public class DataPlatformServicesCassandraListener implements CassandraStoreList
     private OpenMetadataTopic dataPlatformServicesOutTopicConnector;
     private DataPlatformConfig dataPlatformConfig;
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public DataPlatformServicesCassandraListener(OMRSAuditLog auditLog, OpenMetadataTopic dataPlatformServicesOutTopicConnector, DataPlatformConfig dataPlatformConfig) {
         this.auditLog = auditLog;
         this.dataPlatformServicesOutTopicConnector = dataPlatformServicesOutTopicConnector;
@@ -91,7 +89,7 @@ public class DataPlatformServicesCassandraListener implements CassandraStoreList
             log.info("Sending event to Data Platform OMAS in topic");
             log.debug("event: ", newDeployedDatabaseSchemaEvent);
 
-            dataPlatformServicesOutTopicConnector.sendEvent(OBJECT_MAPPER.writeValueAsString(newDeployedDatabaseSchemaEvent));
+            dataPlatformServicesOutTopicConnector.sendEvent(JSONSerializer.writeValueAsString(newDeployedDatabaseSchemaEvent));
 
         } catch (ConnectorCheckedException | JsonProcessingException error) {
             log.error("Exception publishing event", error);
@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.governanceservers.openlineage.listeners;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.assetlineage.model.assetContext.AssetLineageEvent;
 import org.odpi.openmetadata.accessservices.assetlineage.model.event.AssetLineageEntityEvent;
 import org.odpi.openmetadata.accessservices.assetlineage.model.event.DeletePurgedRelationshipEvent;
@@ -12,6 +11,7 @@ import org.odpi.openmetadata.governanceservers.openlineage.responses.ffdc.OpenLi
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,7 +20,6 @@ import java.io.IOException;
 public class InTopicListener implements OpenMetadataTopicListener {
 
     private static final Logger log = LoggerFactory.getLogger(InTopicListener.class);
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final OMRSAuditLog auditLog;
     private GraphBuilder graphBuilder;
 
@@ -40,7 +39,7 @@ public class InTopicListener implements OpenMetadataTopicListener {
     public void processEvent(String eventAsString) {
         AssetLineageEvent event = null;
         try {
-            event = OBJECT_MAPPER.readValue(eventAsString, AssetLineageEvent.class);
+            event = JSONSerializer.readValue(eventAsString, AssetLineageEvent.class);
             log.info("Started processing OpenLineageEvent");
         } catch (Exception e) {
             log.error("Exception processing event from in topic", e);
@@ -59,15 +58,15 @@ public class InTopicListener implements OpenMetadataTopicListener {
         try {
             switch (event.getOmrsInstanceEventType()) {
                 case NEW_ENTITY_EVENT:
-                    AssetLineageEntityEvent newEntityEvent = OBJECT_MAPPER.readValue(eventAsString, AssetLineageEntityEvent.class);
+                    AssetLineageEntityEvent newEntityEvent = JSONSerializer.readValue(eventAsString, AssetLineageEntityEvent.class);
                     graphBuilder.createEntity(newEntityEvent);
                     break;
                 case NEW_RELATIONSHIP_EVENT:
-                        RelationshipEvent relationshipEvent =OBJECT_MAPPER.readValue(eventAsString, RelationshipEvent.class);
+                        RelationshipEvent relationshipEvent =JSONSerializer.readValue(eventAsString, RelationshipEvent.class);
                     graphBuilder.createRelationship(relationshipEvent);
                     break;
                 case DELETE_PURGED_RELATIONSHIP_EVENT:
-                         DeletePurgedRelationshipEvent deletePurgedRelationshipEvent =OBJECT_MAPPER.readValue(eventAsString, DeletePurgedRelationshipEvent.class);
+                         DeletePurgedRelationshipEvent deletePurgedRelationshipEvent =JSONSerializer.readValue(eventAsString, DeletePurgedRelationshipEvent.class);
                          graphBuilder.removeSemanticRelationship(deletePurgedRelationshipEvent);
                     break;
             }
@@ -5,18 +5,17 @@
 
 package org.odpi.openmetadata.securityofficerservices.listener;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.securityofficer.api.events.SecurityOfficerEventType;
 import org.odpi.openmetadata.accessservices.securityofficer.api.events.SecurityOfficerTagEvent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
 import org.odpi.openmetadata.securityofficerservices.processor.SecurityOfficerEventProcessor;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class SecurityOfficerEventListener implements OpenMetadataTopicListener {
 
     private static final Logger log = LoggerFactory.getLogger(SecurityOfficerEventListener.class);
-    private static ObjectMapper objectMapper = new ObjectMapper();
     private SecurityOfficerEventProcessor securityOfficerEventProcessor;
 
     public SecurityOfficerEventListener(SecurityOfficerEventProcessor securitySyncEventProcessor) {
@@ -28,7 +27,7 @@ public class SecurityOfficerEventListener implements OpenMetadataTopicListener {
         log.info("[Security Officer Server] Event Received");
 
         try {
-            SecurityOfficerTagEvent event = objectMapper.readValue(receivedEvent, SecurityOfficerTagEvent.class);
+            SecurityOfficerTagEvent event = JSONSerializer.readValue(receivedEvent, SecurityOfficerTagEvent.class);
             if (event.getEventType() == SecurityOfficerEventType.NEW_SECURITY_ASSIGNMENT ||
                     event.getEventType() == SecurityOfficerEventType.UPDATED_SECURITY_ASSIGNMENT) {
                 securityOfficerEventProcessor.processNewAssignment(event.getSchemaElementEntity());
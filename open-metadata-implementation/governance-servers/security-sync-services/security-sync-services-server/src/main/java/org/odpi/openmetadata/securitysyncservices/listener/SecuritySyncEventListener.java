@@ -2,17 +2,16 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.securitysyncservices.listener;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEvent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
 import org.odpi.openmetadata.securitysyncservices.processor.SecuritySyncEventProcessor;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class SecuritySyncEventListener implements OpenMetadataTopicListener {
 
     private static final Logger log = LoggerFactory.getLogger(SecuritySyncEventListener.class);
-    private static ObjectMapper objectMapper = new ObjectMapper();
     private SecuritySyncEventProcessor securitySyncEventProcessor;
 
     public SecuritySyncEventListener(SecuritySyncEventProcessor securitySyncEventProcessor) {
@@ -24,7 +23,7 @@ public class SecuritySyncEventListener implements OpenMetadataTopicListener {
         log.info("[Security Sync] Event Received");
 
         try {
-            GovernanceEngineEvent event = objectMapper.readValue(receivedEvent, GovernanceEngineEvent.class);
+            GovernanceEngineEvent event = JSONSerializer.readValue(receivedEvent, GovernanceEngineEvent.class);
             switch (event.getEventType()) {
                 case NEW_CLASSIFIED_ASSET:
                     securitySyncEventProcessor.processClassifiedGovernedAssetEvent(event.getGovernedAsset());
@@ -3,16 +3,17 @@
 package org.odpi.openmetadata.securitysyncservices.processor;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernanceClassification;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetListAPIResponse;
 import org.odpi.openmetadata.adminservices.configuration.properties.SecuritySyncConfig;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.RangerSecurityServiceConnector;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.RangerSecurityServiceConnector.TaggedResourceImport;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerSecurityServicePolicies;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerServiceResource;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTag;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.ResourceTagMapper;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
 import org.odpi.openmetadata.securitysyncservices.auditlog.SecuritySyncAuditCode;
@@ -41,6 +42,7 @@ public class SecuritySyncEventProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(SecuritySyncEventProcessor.class);
     private static final Long DEFAULT_POLLING_INTERVAL = 360L;
+    private static final Integer DEFAULT_GOVERNED_ASSET_PAGE_SIZE = 500;
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
     private OMRSAuditLog auditLog;
@@ -58,14 +60,29 @@ public class SecuritySyncEventProcessor {
     public void processExistingGovernedAssetsFromRepository() {
         logProcessing("processExistingGovernedAssetsFromRepository", SecuritySyncAuditCode.CLASSIFIED_GOVERNED_ASSET_INITIAL_LOAD);
 
-        GovernedAssetListAPIResponse governedAssetResponse = getGovernedAssets();
-        if (governedAssetResponse == null || governedAssetResponse.getRelatedHTTPCode() != 200) {
-            return;
-        }
+        String pageToken = null;
+        TaggedResourceImport taggedResourceImport = null;
+
+        do {
+            GovernedAssetListAPIResponse governedAssetResponse = getGovernedAssets(pageToken);
+            if (governedAssetResponse == null || governedAssetResponse.getRelatedHTTPCode() != 200) {
+                return;
+            }
+
+            if (taggedResourceImport == null) {
+                taggedResourceImport = rangerOpenConnector.startTaggedResourceImport();
+            }
 
-        List<GovernedAsset> governedAssets = governedAssetResponse.getGovernedAssetList();
+            List<GovernedAsset> governedAssets = governedAssetResponse.getGovernedAssetList();
+            if (governedAssets != null) {
+                taggedResourceImport.importPage(governedAssets);
+            }
+
+            pageToken = governedAssetResponse.getNextPageToken();
+        } while (pageToken != null);
 
-        rangerOpenConnector.importTaggedResources(governedAssets);
+        // only once every page has been read is it known whether any governed asset still has security labels
+        taggedResourceImport.finish();
     }
 
     public void syncSecurityPolicies() {
@@ -154,8 +171,8 @@ public class SecuritySyncEventProcessor {
                 auditCode.getUserAction());
     }
 
-    private GovernedAssetListAPIResponse getGovernedAssets() {
-        String governanceEngineURL = getGovernanceEngineURL();
+    private GovernedAssetListAPIResponse getGovernedAssets(String pageToken) {
+        String governanceEngineURL = getGovernanceEngineURL(pageToken);
 
         RestTemplate restTemplate = new RestTemplate();
         HttpHeaders headers = new HttpHeaders();
@@ -172,21 +189,27 @@ public class SecuritySyncEventProcessor {
         return null;
     }
 
-    private String getGovernanceEngineURL() {
+    private String getGovernanceEngineURL(String pageToken) {
+        Integer pageSize = securitySyncConfig.getGovernedAssetPageSize() != null ? securitySyncConfig.getGovernedAssetPageSize() : DEFAULT_GOVERNED_ASSET_PAGE_SIZE;
 
-        return MessageFormat.format(GOVERNANCE_ENGINE_OMAS_URL,
+        String governanceEngineURL = MessageFormat.format(GOVERNANCE_ENGINE_OMAS_URL,
                 securitySyncConfig.getAccessServiceRootURL(),
                 securitySyncConfig.getAccessServiceServerName(),
                 SECURITY_SYNC_SERVER,
-                SECURITY_TAGS);
+                SECURITY_TAGS) + "&pageSize=" + pageSize;
+
+        if (pageToken != null) {
+            governanceEngineURL += "&pageToken=" + pageToken;
+        }
+
+        return governanceEngineURL;
     }
 
     private Object mapToObject(ResponseEntity<String> result, Class className) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
         try {
-            return mapper.readValue(result.getBody(), className);
+            return JSONSerializer.getReader(className)
+                                 .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                 .readValue(result.getBody());
         } catch (IOException e) {
             log.error("403", e.getMessage(), e);
         }
@@ -15,18 +15,19 @@ import java.util.List;
 
 /**
  * OMRSAuditLogDestination provides information needed to log records to the configured audit log destinations
- * for a specific server instance.
+ * for a specific server instance.  Each audit log store is fed through its own OMRSAuditLogStoreQueue so
+ * the caller does not wait while the log record is stored.
  */
 public class OMRSAuditLogDestination
 {
     private final OMRSAuditLogRecordOriginator originator     = new OMRSAuditLogRecordOriginator();
-    private       List<OMRSAuditLogStore>      auditLogStores = null;
+    private       List<OMRSAuditLogStoreQueue> auditLogQueues = null;
 
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLog.class);
 
     public OMRSAuditLogDestination(List<OMRSAuditLogStore> auditLogStores)
     {
-        this.auditLogStores = auditLogStores;
+        this.auditLogQueues = this.getAuditLogQueues(auditLogStores);
     }
 
 
@@ -48,10 +49,34 @@ public class OMRSAuditLogDestination
         this.originator.setServerType(localServerType);
         this.originator.setOrganizationName(localOrganizationName);
 
-        if (auditLogStores != null)
+        this.auditLogQueues = this.getAuditLogQueues(auditLogStores);
+    }
+
+
+    /**
+     * Create a queue for each of the audit log stores.
+     *
+     * @param auditLogStores list of destinations for the audit log records
+     * @return list of queues or null if there are no audit log stores
+     */
+    private List<OMRSAuditLogStoreQueue> getAuditLogQueues(List<OMRSAuditLogStore> auditLogStores)
+    {
+        if (auditLogStores == null)
         {
-            this.auditLogStores = new ArrayList<>(auditLogStores);
+            return null;
+        }
+
+        List<OMRSAuditLogStoreQueue> queues = new ArrayList<>();
+
+        for (OMRSAuditLogStore  auditLogStore : auditLogStores)
+        {
+            if (auditLogStore != null)
+            {
+                queues.add(new OMRSAuditLogStoreQueue(originator.getServerName(), auditLogStore));
+            }
         }
+
+        return queues;
     }
 
 
@@ -103,37 +128,86 @@ public class OMRSAuditLogDestination
             severity = OMRSAuditLogRecordSeverity.UNKNOWN;
         }
 
-        if (auditLogStores != null)
+        if (auditLogQueues != null)
+        {
+            List<String> additionalInformationArray = null;
+
+            if (additionalInformation != null)
+            {
+                additionalInformationArray = new ArrayList<>();
+                additionalInformationArray.add(additionalInformation);
+            }
+
+            for (OMRSAuditLogStoreQueue  auditLogQueue : auditLogQueues)
+            {
+                OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord(originator,
+                                                                      reportingComponent,
+                                                                      severity.getName(),
+                                                                      logMessageId,
+                                                                      logMessage,
+                                                                      additionalInformationArray,
+                                                                      systemAction,
+                                                                      userAction);
+
+                auditLogQueue.addLogRecord(logRecord);
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of log records waiting to be stored across all of the audit log stores.
+     *
+     * @return count of queued log records
+     */
+    public int getQueuedRecordCount()
+    {
+        int count = 0;
+
+        if (auditLogQueues != null)
+        {
+            for (OMRSAuditLogStoreQueue  auditLogQueue : auditLogQueues)
+            {
+                count = count + auditLogQueue.getQueuedRecordCount();
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the number of log records that have been dropped because the queue for an audit log store was full.
+     *
+     * @return count of dropped log records
+     */
+    public long getDroppedRecordCount()
+    {
+        long count = 0;
+
+        if (auditLogQueues != null)
+        {
+            for (OMRSAuditLogStoreQueue  auditLogQueue : auditLogQueues)
+            {
+                count = count + auditLogQueue.getDroppedRecordCount();
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Store any queued log records and stop the threads that feed the audit log stores.  Log records
+     * logged after this call are stored on the calling thread.
+     */
+    public void disconnect()
+    {
+        if (auditLogQueues != null)
         {
-            for (OMRSAuditLogStore  auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreQueue  auditLogQueue : auditLogQueues)
             {
-                if (auditLogStore != null)
-                {
-                    List<String> additionalInformationArray = null;
-
-                    if (additionalInformation != null)
-                    {
-                        additionalInformationArray = new ArrayList<>();
-                        additionalInformationArray.add(additionalInformation);
-                    }
-
-                    OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord(originator,
-                                                                          reportingComponent,
-                                                                          severity.getName(),
-                                                                          logMessageId,
-                                                                          logMessage,
-                                                                          additionalInformationArray,
-                                                                          systemAction,
-                                                                          userAction);
-                    try
-                    {
-                        auditLogStore.storeLogRecord(logRecord);
-                    }
-                    catch (Throwable error)
-                    {
-                        log.error("Error: " + error + " writing audit log: " + logRecord);
-                    }
-                }
+                auditLogQueue.disconnect();
             }
         }
     }
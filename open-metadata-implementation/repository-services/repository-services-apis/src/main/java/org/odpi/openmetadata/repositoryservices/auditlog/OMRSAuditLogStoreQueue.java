@@ -0,0 +1,297 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * OMRSAuditLogStoreQueue passes log records to a single audit log store.  The log records are held in a
+ * bounded queue and stored, in batches, by a dedicated thread so that the thread logging the record does
+ * not wait for the audit log store.  When the queue is full, the logging thread either waits for space
+ * or the new log record is dropped, depending on the configuration of the audit log store.
+ *
+ * Log records are only added to the queue while the queue lock is held for reading and the queue is running.
+ * Disconnect takes the lock for writing to stop the queue, so no log record can be added after the drain
+ * thread has been told to stop; the drain thread stores every log record left in the queue before it ends.
+ * All calls to the audit log store are made while holding the store lock so log records stored on the
+ * calling thread (after disconnect) never overlap a batch that the drain thread is still storing.
+ */
+class OMRSAuditLogStoreQueue implements Runnable
+{
+    private static final long   pollInterval      = 500;
+    private static final long   disconnectTimeout = 5000;
+
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreQueue.class);
+
+    private final OMRSAuditLogStore                 auditLogStore;
+    private final BlockingQueue<OMRSAuditLogRecord> recordQueue;
+    private final int                               recordBatchSize;
+    private final boolean                           dropOnOverflow;
+    private final AtomicLong                        droppedRecordCount = new AtomicLong(0);
+
+    private final ReadWriteLock queueLock = new ReentrantReadWriteLock();
+    private final Object        storeLock = new Object();
+
+    private volatile boolean  running     = false;
+    private Thread            drainThread = null;
+
+
+    /**
+     * Set up the queue for an audit log store and start its drain thread.  Audit log stores that do not
+     * extend OMRSAuditLogStoreConnectorBase use the default queue settings.
+     *
+     * @param localServerName name of the local server (used in the thread name)
+     * @param auditLogStore destination for the log records
+     */
+    OMRSAuditLogStoreQueue(String             localServerName,
+                           OMRSAuditLogStore  auditLogStore)
+    {
+        int      queueSize  = OMRSAuditLogStoreConnectorBase.defaultRecordQueueSize;
+        int      batchSize  = OMRSAuditLogStoreConnectorBase.defaultRecordBatchSize;
+        boolean  dropRecord = false;
+
+        if (auditLogStore instanceof OMRSAuditLogStoreConnectorBase)
+        {
+            OMRSAuditLogStoreConnectorBase  auditLogStoreConnector = (OMRSAuditLogStoreConnectorBase)auditLogStore;
+
+            queueSize  = auditLogStoreConnector.getRecordQueueSize();
+            batchSize  = auditLogStoreConnector.getRecordBatchSize();
+            dropRecord = auditLogStoreConnector.isDroppingOnQueueOverflow();
+        }
+
+        this.auditLogStore   = auditLogStore;
+        this.recordBatchSize = Math.max(batchSize, 1);
+        this.dropOnOverflow  = dropRecord;
+
+        if (queueSize > 0)
+        {
+            this.recordQueue = new ArrayBlockingQueue<>(queueSize);
+            this.running     = true;
+            this.drainThread = new Thread(this, "OMRSAuditLog-" + localServerName + "-" + auditLogStore.getClass().getSimpleName());
+            this.drainThread.setDaemon(true);
+            this.drainThread.start();
+        }
+        else
+        {
+            this.recordQueue = null;
+        }
+    }
+
+
+    /**
+     * Pass a log record to the audit log store.  If the drain thread is not running, the log record
+     * is stored on the calling thread.
+     *
+     * @param logRecord log record to store
+     */
+    void addLogRecord(OMRSAuditLogRecord   logRecord)
+    {
+        if (running)
+        {
+            queueLock.readLock().lock();
+
+            try
+            {
+                /*
+                 * Check again now the lock is held - the queue may have been stopped while waiting.
+                 * While the lock is held the drain thread keeps running, so a put() that waits for space
+                 * will complete.
+                 */
+                if (running)
+                {
+                    if (dropOnOverflow)
+                    {
+                        if (! recordQueue.offer(logRecord))
+                        {
+                            droppedRecordCount.incrementAndGet();
+                        }
+                    }
+                    else
+                    {
+                        try
+                        {
+                            recordQueue.put(logRecord);
+                        }
+                        catch (InterruptedException error)
+                        {
+                            droppedRecordCount.incrementAndGet();
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+
+                    return;
+                }
+            }
+            finally
+            {
+                queueLock.readLock().unlock();
+            }
+        }
+
+        this.storeLogRecord(logRecord);
+    }
+
+
+    /**
+     * Return the number of log records waiting to be stored.
+     *
+     * @return count of queued log records
+     */
+    int getQueuedRecordCount()
+    {
+        if (recordQueue == null)
+        {
+            return 0;
+        }
+
+        return recordQueue.size();
+    }
+
+
+    /**
+     * Return the number of log records that have been dropped because the queue was full.
+     *
+     * @return count of dropped log records
+     */
+    long getDroppedRecordCount()
+    {
+        return droppedRecordCount.get();
+    }
+
+
+    /**
+     * Stop the queue and wait for the drain thread to store the log records remaining in the queue.  Log records
+     * added after this call are stored on the calling thread.  If the drain thread does not finish within the
+     * disconnect timeout, it carries on storing the remaining log records in the background.
+     */
+    void disconnect()
+    {
+        Thread  stoppingThread;
+
+        queueLock.writeLock().lock();
+
+        try
+        {
+            running = false;
+            stoppingThread = drainThread;
+            drainThread = null;
+        }
+        finally
+        {
+            queueLock.writeLock().unlock();
+        }
+
+        if (stoppingThread != null)
+        {
+            try
+            {
+                stoppingThread.join(disconnectTimeout);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (stoppingThread.isAlive())
+            {
+                log.debug("Audit log drain thread still storing " + recordQueue.size() + " log records after disconnect");
+            }
+        }
+    }
+
+
+    /**
+     * Drain the queue, passing the log records to the audit log store in batches.
+     */
+    @Override
+    public void run()
+    {
+        List<OMRSAuditLogRecord> logRecords = new ArrayList<>();
+
+        while (running || (! recordQueue.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord  logRecord = recordQueue.poll(pollInterval, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    logRecords.add(logRecord);
+                    recordQueue.drainTo(logRecords, recordBatchSize - 1);
+
+                    this.storeLogRecords(logRecords);
+                    logRecords.clear();
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Audit log drain thread interrupted");
+            }
+        }
+    }
+
+
+    /**
+     * Pass a batch of log records to the audit log store.
+     *
+     * @param logRecords log records to store
+     */
+    private void storeLogRecords(List<OMRSAuditLogRecord> logRecords)
+    {
+        synchronized (storeLock)
+        {
+            if ((logRecords.size() > 1) && (auditLogStore instanceof OMRSAuditLogStoreConnectorBase))
+            {
+                try
+                {
+                    ((OMRSAuditLogStoreConnectorBase)auditLogStore).storeLogRecords(logRecords);
+                }
+                catch (Throwable error)
+                {
+                    log.error("Error: " + error + " writing " + logRecords.size() + " records to audit log");
+                }
+            }
+            else
+            {
+                for (OMRSAuditLogRecord logRecord : logRecords)
+                {
+                    this.storeLogRecord(logRecord);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Pass a single log record to the audit log store.
+     *
+     * @param logRecord log record to store
+     */
+    private void storeLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        synchronized (storeLock)
+        {
+            try
+            {
+                auditLogStore.storeLogRecord(logRecord);
+            }
+            catch (Throwable error)
+            {
+                log.error("Error: " + error + " writing audit log: " + logRecord);
+            }
+        }
+    }
+}
@@ -2,11 +2,14 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
 import org.odpi.openmetadata.frameworks.connectors.VirtualConnectorExtension;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
@@ -63,6 +66,12 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private static final String connectorName    = "OMRSTopicListener";
 
+    private static final int    defaultEventBatchSize   = 0;
+    private static final int    defaultEventBatchWindow = 1000;
+
+    private static final ObjectReader eventReader = JSONSerializer.getReader(OMRSEventBean.class);
+    private static final ObjectWriter eventWriter = JSONSerializer.getWriter(OMRSEventV1.class);
+
     private List<Connector> embeddedConnectors = null;
 
     private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
@@ -106,6 +115,45 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the maximum number of new and updated instances that the event publishers for this topic may combine
+     * into a single batch instances event.  This is set through the eventBatchSize configuration property.
+     * Zero (the default) means each instance event is sent as it occurs.
+     *
+     * @return maximum number of instances in a batch
+     */
+    public int getEventBatchSize()
+    {
+        return ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                   OMRSTopicProvider.eventBatchSizeProperty,
+                                                                   defaultEventBatchSize);
+    }
+
+
+    /**
+     * Return the maximum time in milliseconds that an instance event may be held in a batch before it is sent.
+     * This is set through the eventBatchWindow configuration property.  A batch must always be sent within a
+     * limited time so a value that is not positive is replaced by the default.
+     *
+     * @return time in milliseconds
+     */
+    public int getEventBatchWindow()
+    {
+        int eventBatchWindow = ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                                   OMRSTopicProvider.eventBatchWindowProperty,
+                                                                                   defaultEventBatchWindow);
+
+        if (eventBatchWindow <= 0)
+        {
+            log.debug("Ignoring eventBatchWindow of " + eventBatchWindow + "; using " + defaultEventBatchWindow);
+
+            return defaultEventBatchWindow;
+        }
+
+        return eventBatchWindow;
+    }
+
+
     /**
      * Setup the version of the protocol to use for events.
      *
@@ -363,13 +411,13 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                String jsonEvent = eventWriter.writeValueAsString(event);
 
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event));
+                        eventBusConnector.sendEvent(jsonEvent);
                     }
                 }
             }
@@ -433,9 +481,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                eventBean = eventReader.readValue(event);
             }
             catch (Throwable   exception)
             {
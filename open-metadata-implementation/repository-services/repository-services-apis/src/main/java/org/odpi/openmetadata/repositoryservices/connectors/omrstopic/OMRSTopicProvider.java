@@ -10,6 +10,9 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
  */
 public class OMRSTopicProvider extends ConnectorProviderBase
 {
+    public static final String  eventBatchSizeProperty   = "eventBatchSize";
+    public static final String  eventBatchWindowProperty = "eventBatchWindow";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
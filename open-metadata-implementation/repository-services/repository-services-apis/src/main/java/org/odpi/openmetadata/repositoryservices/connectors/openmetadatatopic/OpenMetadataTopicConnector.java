@@ -2,9 +2,12 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.auditable.AuditableConnector;
@@ -13,9 +16,11 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorExc
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -33,6 +38,18 @@ import java.util.Map;
  *         When the server no longer needs the topic, it will call disconnect().
  *     </li>
  * </ul>
+ * <p>
+ *     Each registered listener has its own queue of events and worker threads so a slow listener does not
+ *     hold up the others.  The size of each queue is set by the listenerQueueSize configuration property and the
+ *     number of worker threads for each listener is set by the listenerThreads configuration property.  With one
+ *     worker thread (the default) each listener receives the events in the order that they arrived.  With more
+ *     worker threads, only events with the same ordering key (see getEventOrderingKey()) are guaranteed to be
+ *     delivered in order.
+ * </p>
+ * <p>
+ *     An implementation can call notifyEventsAvailable() when new events arrive so they are distributed
+ *     immediately rather than at the next check for events (which occurs every sleepTime milliseconds).
+ * </p>
  */
 public abstract class OpenMetadataTopicConnector extends ConnectorBase implements OpenMetadataTopic,
                                                                                   Runnable,
@@ -43,12 +60,28 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     private static final String       defaultThreadName = "OpenMetadataTopicListener";
     private static final String       defaultTopicName  = "OpenMetadataTopic";
 
-    private volatile boolean keepRunning = false;
-
-    private List<OpenMetadataTopicListener> topicListeners     = new ArrayList<>();
-    private String                          listenerThreadName = defaultThreadName;
-    private String                          topicName          = defaultTopicName;
-    private int                             sleepTime          = 100;
+    private static final String       guidProperty                 = "guid";
+    private static final String       instanceSectionProperty      = "instanceEventSection";
+    private static final String       entityProperty               = "entity";
+    private static final String       relationshipProperty         = "relationship";
+    private static final String       instanceGUIDProperty         = "instanceGUID";
+    private static final String       originalEntityProperty       = "originalEntity";
+    private static final String       originalRelationshipProperty = "originalRelationship";
+    private static final String       typeDefSectionProperty       = "typeDefEventSection";
+    private static final String       typeDefGUIDProperty          = "typeDefGUID";
+    private static final String       typeDefProperty              = "typeDef";
+    private static final String       attributeTypeDefProperty     = "attributeTypeDef";
+
+    private static final int          defaultListenerQueueSize = 1000;
+    private static final int          defaultListenerThreads   = 1;
+
+    private volatile boolean keepRunning     = false;
+    private boolean          eventsAvailable = false;
+
+    private List<OpenMetadataTopicListenerQueue> topicListenerQueues = new CopyOnWriteArrayList<>();
+    private String                               listenerThreadName  = defaultThreadName;
+    private String                               topicName           = defaultTopicName;
+    private int                                  sleepTime           = 100;
 
     protected OMRSAuditLog auditLog = null;
 
@@ -90,27 +123,31 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         {
             try
             {
+                List<String> receivedEvents = null;
+
                 try
                 {
-                    List<String> receivedEvents = this.checkForEvents();
+                    receivedEvents = this.checkForEvents();
+                }
+                catch (Throwable   error)
+                {
+                    log.error("Bad exception from checkForEvents", error);
+                }
 
-                    if ((receivedEvents != null) && (!receivedEvents.isEmpty()))
+                if ((receivedEvents != null) && (!receivedEvents.isEmpty()))
+                {
+                    for (String event : receivedEvents)
                     {
-                        for (String event : receivedEvents)
+                        if (event != null)
                         {
-                            if (event != null)
-                            {
-                                this.distributeEvent(event);
-                            }
+                            this.distributeEvent(event);
                         }
                     }
                 }
-                catch (Throwable   error)
+                else
                 {
-                    log.error("Bad exception from checkForEvents", error);
+                    this.waitForEvents();
                 }
-
-                Thread.sleep(sleepTime);
             }
             catch (InterruptedException   wakeUp)
             {
@@ -118,6 +155,11 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
             }
         }
 
+        for (OpenMetadataTopicListenerQueue topicListenerQueue : topicListenerQueues)
+        {
+            topicListenerQueue.stop();
+        }
+
         auditCode = OMRSAuditCode.OPEN_METADATA_TOPIC_LISTENER_SHUTDOWN;
         auditLog.logRecord(listenerThreadName,
                            auditCode.getLogMessageId(),
@@ -130,34 +172,215 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
 
     /**
-     * Pass an event that has been received on the topic to each of the registered listeners.
+     * Wait for up to the sleep time for the implementation to signal that new events are available.
+     *
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    private synchronized void waitForEvents() throws InterruptedException
+    {
+        if ((! eventsAvailable) && (keepRunning))
+        {
+            wait(sleepTime);
+        }
+
+        eventsAvailable = false;
+    }
+
+
+    /**
+     * Signal that new events are available so that checkForEvents() is called straight away.
+     * Implementations that receive events on their own threads should call this method
+     * each time events are received.
+     */
+    protected synchronized void notifyEventsAvailable()
+    {
+        eventsAvailable = true;
+        notifyAll();
+    }
+
+
+    /**
+     * Pass an event that has been received on the topic to the queue of each of the registered listeners.
      *
      * @param event OMRSEvent to distribute
+     * @throws InterruptedException the thread was interrupted while waiting for space on a listener's queue
      */
-    private void distributeEvent(String event)
+    private void distributeEvent(String event) throws InterruptedException
     {
-        for (OpenMetadataTopicListener  topicListener : topicListeners)
+        String orderingKey = null;
+
+        if (this.isOrderingKeyRequired())
         {
             try
             {
-                topicListener.processEvent(event);
+                orderingKey = this.getEventOrderingKey(event);
             }
             catch (Throwable  error)
             {
-                final String   actionDescription = "distributeEvent";
-
-                OMRSAuditCode auditCode = OMRSAuditCode.EVENT_PROCESSING_ERROR;
-
-                auditLog.logException(actionDescription,
-                                      auditCode.getLogMessageId(),
-                                      auditCode.getSeverity(),
-                                      auditCode.getFormattedLogMessage(event, error.toString()),
-                                      event,
-                                      auditCode.getSystemAction(),
-                                      auditCode.getUserAction(),
-                                      error);
+                log.debug("Unable to extract ordering key from event " + event, error);
+            }
+        }
+
+        for (OpenMetadataTopicListenerQueue  topicListenerQueue : topicListenerQueues)
+        {
+            topicListenerQueue.addEvent(event, orderingKey);
+        }
+    }
+
+
+    /**
+     * Return whether any of the listener queues spreads its events over more than one worker thread.
+     * The ordering key is only needed in this case, so the event is not parsed otherwise.
+     *
+     * @return boolean flag
+     */
+    private boolean isOrderingKeyRequired()
+    {
+        for (OpenMetadataTopicListenerQueue  topicListenerQueue : topicListenerQueues)
+        {
+            if (topicListenerQueue.getWorkerCount() > 1)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the key used to select the worker thread that processes an event when the listeners have multiple
+     * worker threads.  Events with the same key are processed in the order they were received.
+     * By default, this is the guid of the instance (or type) that an OMRS event describes.  This is taken from the
+     * header of the entity or relationship in an instance event, rather than the first guid in the event, since
+     * the type information that precedes it also contains guids.  Events from other sources are keyed on
+     * their top-level guid property.  Events without a guid are processed by the first worker.
+     * Implementations may override this method if they are able to supply a better key.
+     *
+     * @param event received event
+     * @return ordering key or null
+     * @throws IOException the event is not valid JSON
+     */
+    protected String getEventOrderingKey(String event) throws IOException
+    {
+        JsonNode eventNode = JSONSerializer.getObjectMapper().readTree(event);
+
+        if (eventNode == null)
+        {
+            return null;
+        }
+
+        JsonNode instanceSection = eventNode.get(instanceSectionProperty);
+
+        if (instanceSection != null)
+        {
+            return this.getFirstText(instanceSection.path(entityProperty).path(guidProperty),
+                                     instanceSection.path(relationshipProperty).path(guidProperty),
+                                     instanceSection.path(instanceGUIDProperty),
+                                     instanceSection.path(originalEntityProperty).path(guidProperty),
+                                     instanceSection.path(originalRelationshipProperty).path(guidProperty));
+        }
+
+        JsonNode typeDefSection = eventNode.get(typeDefSectionProperty);
+
+        if (typeDefSection != null)
+        {
+            return this.getFirstText(typeDefSection.path(typeDefGUIDProperty),
+                                     typeDefSection.path(typeDefProperty).path(guidProperty),
+                                     typeDefSection.path(attributeTypeDefProperty).path(guidProperty));
+        }
+
+        return this.getFirstText(eventNode.path(guidProperty));
+    }
+
+
+    /**
+     * Return the first of the supplied JSON nodes that holds a text value.
+     *
+     * @param candidateNodes nodes to test in order
+     * @return text value or null
+     */
+    private String getFirstText(JsonNode... candidateNodes)
+    {
+        for (JsonNode candidateNode : candidateNodes)
+        {
+            if (candidateNode.isTextual())
+            {
+                return candidateNode.asText();
             }
         }
+
+        return null;
+    }
+
+
+    /**
+     * Pass an event to a listener.  This is called on the worker threads of the listener's queue.
+     *
+     * @param topicListener listener to call
+     * @param event OMRSEvent to deliver
+     */
+    void deliverEvent(OpenMetadataTopicListener  topicListener,
+                      String                     event)
+    {
+        try
+        {
+            topicListener.processEvent(event);
+        }
+        catch (Throwable  error)
+        {
+            final String   actionDescription = "distributeEvent";
+
+            OMRSAuditCode auditCode = OMRSAuditCode.EVENT_PROCESSING_ERROR;
+
+            auditLog.logException(actionDescription,
+                                  auditCode.getLogMessageId(),
+                                  auditCode.getSeverity(),
+                                  auditCode.getFormattedLogMessage(event, error.toString()),
+                                  event,
+                                  auditCode.getSystemAction(),
+                                  auditCode.getUserAction(),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Return the number of events waiting to be processed by each of the registered listeners.
+     * This is keyed by the name of the listener's queue which is made up from the listener's class name
+     * and the order it was registered.
+     *
+     * @return map of queue name to number of waiting events
+     */
+    public Map<String, Integer> getListenerQueueDepths()
+    {
+        Map<String, Integer> queueDepths = new HashMap<>();
+
+        for (OpenMetadataTopicListenerQueue topicListenerQueue : topicListenerQueues)
+        {
+            queueDepths.put(topicListenerQueue.getQueueName(), topicListenerQueue.getQueueDepth());
+        }
+
+        return queueDepths;
+    }
+
+
+    /**
+     * Return the largest number of events that have been waiting to be processed by each of the
+     * registered listeners.
+     *
+     * @return map of queue name to largest number of waiting events
+     */
+    public Map<String, Integer> getListenerMaxQueueDepths()
+    {
+        Map<String, Integer> queueDepths = new HashMap<>();
+
+        for (OpenMetadataTopicListenerQueue topicListenerQueue : topicListenerQueues)
+        {
+            queueDepths.put(topicListenerQueue.getQueueName(), topicListenerQueue.getMaxQueueDepth());
+        }
+
+        return queueDepths;
     }
 
 
@@ -179,7 +402,26 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     {
         if (topicListener != null)
         {
-            topicListeners.add(topicListener);
+            OpenMetadataTopicListenerQueue topicListenerQueue;
+
+            int listenerQueueSize = ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                                        OpenMetadataTopicProvider.listenerQueueSizeProperty,
+                                                                                        defaultListenerQueueSize);
+            int listenerThreads   = ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                                        OpenMetadataTopicProvider.listenerThreadsProperty,
+                                                                                        defaultListenerThreads);
+
+            topicListenerQueue = new OpenMetadataTopicListenerQueue(this,
+                                                                    topicListener,
+                                                                    topicListener.getClass().getSimpleName() + "-" + topicListenerQueues.size(),
+                                                                    listenerQueueSize,
+                                                                    listenerThreads);
+            topicListenerQueues.add(topicListenerQueue);
+
+            if (keepRunning)
+            {
+                topicListenerQueue.start(listenerThreadName);
+            }
 
             if (super.connectionProperties != null)
             {
@@ -230,17 +472,14 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                 listenerThreadName = defaultThreadName + ": " + topicName;
             }
 
-            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
-
-            if (configurationProperties != null)
-            {
-                Object   sleepTime = configurationProperties.get("sleepTime");
+            sleepTime = ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                            OpenMetadataTopicProvider.sleepTimeProperty,
+                                                                            sleepTime);
+        }
 
-                if (sleepTime instanceof Integer)
-                {
-                    this.sleepTime = (Integer)sleepTime;
-                }
-            }
+        for (OpenMetadataTopicListenerQueue topicListenerQueue : topicListenerQueues)
+        {
+            topicListenerQueue.start(listenerThreadName);
         }
 
         Thread listenerThread = new Thread(this, listenerThreadName);
@@ -258,5 +497,7 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         super.disconnect();
 
         keepRunning = false;
+
+        this.notifyEventsAvailable();
     }
 }
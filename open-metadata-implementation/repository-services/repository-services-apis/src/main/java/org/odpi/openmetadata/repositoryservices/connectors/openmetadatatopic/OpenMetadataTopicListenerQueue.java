@@ -0,0 +1,222 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenMetadataTopicListenerQueue holds the events waiting to be processed by a single OpenMetadataTopicListener.
+ * Each queue has its own worker threads so a slow listener does not delay the delivery of events to the
+ * other listeners registered with the same topic.
+ *
+ * When there is one worker thread, the events are delivered to the listener in the order they were received.
+ * When there are multiple worker threads, the events are spread across the workers using their ordering key.
+ * Events with the same ordering key (typically the guid of the instance they describe) are delivered in
+ * the order they were received.
+ *
+ * The queues are bounded.  If the listener falls too far behind, the thread adding events to the queue is blocked
+ * until there is space.
+ *
+ * When the queue is stopped, the workers deliver the events that are already queued before they exit.
+ */
+class OpenMetadataTopicListenerQueue
+{
+    private static final Logger log = LoggerFactory.getLogger(OpenMetadataTopicListenerQueue.class);
+
+    private static final long   pollTimeout = 1000;
+
+    private final OpenMetadataTopicConnector   topicConnector;
+    private final OpenMetadataTopicListener    topicListener;
+    private final String                       queueName;
+    private final List<BlockingQueue<String>>  workerQueues = new ArrayList<>();
+    private final List<Thread>                 workers      = new ArrayList<>();
+
+    private volatile boolean keepRunning  = false;
+    private volatile int     maxQueueDepth = 0;
+
+
+    /**
+     * Constructor sets up the queues for each worker.
+     *
+     * @param topicConnector connector that distributes the events
+     * @param topicListener listener to receive the events
+     * @param queueName name of the queue for thread names and metrics
+     * @param queueSize maximum number of events waiting for each worker
+     * @param workerCount number of worker threads
+     */
+    OpenMetadataTopicListenerQueue(OpenMetadataTopicConnector topicConnector,
+                                   OpenMetadataTopicListener  topicListener,
+                                   String                     queueName,
+                                   int                        queueSize,
+                                   int                        workerCount)
+    {
+        this.topicConnector = topicConnector;
+        this.topicListener = topicListener;
+        this.queueName = queueName;
+
+        for (int i = 0; i < Math.max(workerCount, 1); i++)
+        {
+            workerQueues.add(new ArrayBlockingQueue<>(Math.max(queueSize, 1)));
+        }
+    }
+
+
+    /**
+     * Return the name of the queue.
+     *
+     * @return name
+     */
+    String getQueueName()
+    {
+        return queueName;
+    }
+
+
+    /**
+     * Start the worker threads.
+     *
+     * @param threadNamePrefix prefix for the thread names
+     */
+    synchronized void start(String  threadNamePrefix)
+    {
+        if (keepRunning)
+        {
+            return;
+        }
+
+        keepRunning = true;
+
+        for (int i = 0; i < workerQueues.size(); i++)
+        {
+            BlockingQueue<String> workerQueue = workerQueues.get(i);
+
+            Thread worker = new Thread(() -> this.processEvents(workerQueue),
+                                       threadNamePrefix + ": " + queueName + ": " + i);
+            worker.setDaemon(true);
+            worker.start();
+
+            workers.add(worker);
+        }
+    }
+
+
+    /**
+     * Add an event to the queue, waiting for space if the queue is full.
+     *
+     * @param event event to deliver
+     * @param orderingKey key used to select the worker - null means the first worker
+     * @throws InterruptedException the thread was interrupted while waiting for space
+     */
+    void addEvent(String   event,
+                  String   orderingKey) throws InterruptedException
+    {
+        int worker = 0;
+
+        if ((orderingKey != null) && (workerQueues.size() > 1))
+        {
+            worker = (orderingKey.hashCode() & Integer.MAX_VALUE) % workerQueues.size();
+        }
+
+        BlockingQueue<String> workerQueue = workerQueues.get(worker);
+
+        if (! workerQueue.offer(event))
+        {
+            log.debug("Listener queue " + queueName + " is full");
+
+            workerQueue.put(event);
+        }
+
+        int queueDepth = this.getQueueDepth();
+
+        if (queueDepth > maxQueueDepth)
+        {
+            maxQueueDepth = queueDepth;
+        }
+    }
+
+
+    /**
+     * Return the number of worker threads that the events are spread over.
+     *
+     * @return count
+     */
+    int getWorkerCount()
+    {
+        return workerQueues.size();
+    }
+
+
+    /**
+     * Return the number of events waiting to be processed.
+     *
+     * @return count
+     */
+    int getQueueDepth()
+    {
+        int queueDepth = 0;
+
+        for (BlockingQueue<String> workerQueue : workerQueues)
+        {
+            queueDepth = queueDepth + workerQueue.size();
+        }
+
+        return queueDepth;
+    }
+
+
+    /**
+     * Return the largest number of events that have been waiting to be processed.
+     *
+     * @return count
+     */
+    int getMaxQueueDepth()
+    {
+        return maxQueueDepth;
+    }
+
+
+    /**
+     * Stop the worker threads.  The workers are not interrupted, so the events still in the queue are delivered
+     * to the listener before the workers exit.  The caller must not add any more events once the queue is stopped.
+     */
+    synchronized void stop()
+    {
+        keepRunning = false;
+
+        workers.clear();
+    }
+
+
+    /**
+     * The method run by each worker thread.  It returns once the queue is stopped and all of the queued
+     * events have been delivered.
+     *
+     * @param workerQueue queue of events for this worker
+     */
+    private void processEvents(BlockingQueue<String> workerQueue)
+    {
+        while ((keepRunning) || (! workerQueue.isEmpty()))
+        {
+            try
+            {
+                String event = workerQueue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+
+                if (event != null)
+                {
+                    topicConnector.deliverEvent(topicListener, event);
+                }
+            }
+            catch (InterruptedException wakeUp)
+            {
+                log.debug("Listener queue " + queueName + " woken up");
+            }
+        }
+    }
+}
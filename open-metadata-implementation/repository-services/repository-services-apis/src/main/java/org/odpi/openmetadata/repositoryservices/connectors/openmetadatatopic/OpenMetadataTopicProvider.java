@@ -10,7 +10,9 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
  */
 public abstract class OpenMetadataTopicProvider extends ConnectorProviderBase
 {
-    protected static final String  sleepTimeProperty = "sleepTime";
+    protected static final String  sleepTimeProperty         = "sleepTime";
+    protected static final String  listenerQueueSizeProperty = "listenerQueueSize";
+    protected static final String  listenerThreadsProperty   = "listenerThreads";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
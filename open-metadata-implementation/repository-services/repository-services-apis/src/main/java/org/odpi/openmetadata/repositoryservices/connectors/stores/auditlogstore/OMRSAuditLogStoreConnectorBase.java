@@ -3,16 +3,97 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore;
 
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * OMRSAuditLogStoreConnectorBase is the base class for connectors that support the OMRSAuditLog
  */
 public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase implements OMRSAuditLogStore
 {
+    public static final int  defaultRecordQueueSize = 1024;
+    public static final int  defaultRecordBatchSize = 100;
+
     /**
      * Default constructor
      */
     public OMRSAuditLogStoreConnectorBase()
     {
     }
+
+
+    /**
+     * Return the maximum number of log records that may be waiting to be stored in this audit log store.
+     * This is set through the recordQueueSize configuration property.  Zero means each log record is stored
+     * on the thread that logs it.
+     *
+     * @return maximum number of queued log records
+     */
+    public int getRecordQueueSize()
+    {
+        return ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                   OMRSAuditLogStoreProviderBase.recordQueueSizeProperty,
+                                                                   defaultRecordQueueSize);
+    }
+
+
+    /**
+     * Return the maximum number of queued log records that are passed to storeLogRecords in one call.
+     * This is set through the recordBatchSize configuration property.
+     *
+     * @return maximum number of log records in a batch
+     */
+    public int getRecordBatchSize()
+    {
+        return ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                   OMRSAuditLogStoreProviderBase.recordBatchSizeProperty,
+                                                                   defaultRecordBatchSize);
+    }
+
+
+    /**
+     * Return whether new log records are dropped when the queue for this audit log store is full.  This is set
+     * through the queueOverflowPolicy configuration property.  The default ("block") makes the logging thread
+     * wait for space in the queue.
+     *
+     * @return boolean flag
+     */
+    public boolean isDroppingOnQueueOverflow()
+    {
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                return OMRSAuditLogStoreProviderBase.dropOverflowPolicy.equals(
+                        configurationProperties.get(OMRSAuditLogStoreProviderBase.queueOverflowPolicyProperty));
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Store a batch of audit log records in the audit log store.  The default implementation stores each
+     * record in turn.  Audit log stores that can write many records more efficiently in one operation
+     * should override this method.
+     *
+     * @param logRecords  log records to store
+     * @throws InvalidParameterException indicates that one of the log records is invalid.
+     */
+    public void storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException
+    {
+        if (logRecords != null)
+        {
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                this.storeLogRecord(logRecord);
+            }
+        }
+    }
 }
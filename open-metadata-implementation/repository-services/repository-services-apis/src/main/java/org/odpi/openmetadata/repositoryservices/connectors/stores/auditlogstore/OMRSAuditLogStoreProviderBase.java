@@ -13,6 +13,13 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
  */
 public abstract class OMRSAuditLogStoreProviderBase extends ConnectorProviderBase
 {
+    public static final String  recordQueueSizeProperty     = "recordQueueSize";
+    public static final String  recordBatchSizeProperty     = "recordBatchSize";
+    public static final String  queueOverflowPolicyProperty = "queueOverflowPolicy";
+
+    public static final String  dropOverflowPolicy          = "drop";
+    public static final String  blockOverflowPolicy         = "block";
+
     /**
      * Default Constructor
      */
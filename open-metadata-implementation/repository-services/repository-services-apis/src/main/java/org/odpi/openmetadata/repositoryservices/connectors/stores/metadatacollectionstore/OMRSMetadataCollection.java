@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -827,6 +828,64 @@ public abstract class OMRSMetadataCollection
                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  This requires the full entity
+     * objects to be available.  Entities that are not known, or are only proxies in the metadata collection, are
+     * skipped.  The entities are returned in the same order as the requested guids, and a guid that is requested
+     * more than once is returned once for each time it is requested.
+     *
+     * This default implementation retrieves each entity in turn.  Repositories that are able to retrieve a number
+     * of entities in a single request should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Null means none of the entities are known.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String        userId,
+                                               List<String>  guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        List<EntityDetail> results = new ArrayList<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                if (guid != null)
+                {
+                    try
+                    {
+                        EntityDetail entity = this.getEntityDetail(userId, guid);
+
+                        if (entity != null)
+                        {
+                            results.add(entity);
+                        }
+                    }
+                    catch (EntityNotKnownException | EntityProxyOnlyException error)
+                    {
+                        /*
+                         * Skip the entities that are not available.
+                         */
+                    }
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
 
     /**
      * Return the relationships for a specific entity.
@@ -932,6 +991,66 @@ public abstract class OMRSMetadataCollection
                                                                                                           UserNotAuthorizedException;
 
 
+    /**
+     * Return the entities whose unique property (for example, qualifiedName) has exactly the requested value.
+     * Unlike findEntitiesByProperty, the property value is not a regular expression.  Since the property
+     * is unique there is normally at most one entity returned for each type.
+     *
+     * This default implementation issues findEntitiesByProperty with an exact match regular expression.
+     * Repositories that index their unique properties should override it to look up the value directly.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities with the property value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support this request.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByUniqueProperty(String    userId,
+                                                           String    entityTypeGUID,
+                                                           String    propertyName,
+                                                           String    propertyValue,
+                                                           int       pageSize) throws InvalidParameterException,
+                                                                                      TypeErrorException,
+                                                                                      RepositoryErrorException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniqueProperty";
+
+        InstanceProperties matchProperties = repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                          null,
+                                                                                          propertyName,
+                                                                                          repositoryHelper.getExactMatchRegex(propertyValue),
+                                                                                          methodName);
+
+        return this.findEntitiesByProperty(userId,
+                                           entityTypeGUID,
+                                           matchProperties,
+                                           MatchCriteria.ALL,
+                                           0,
+                                           null,
+                                           null,
+                                           null,
+                                           null,
+                                           null,
+                                           pageSize);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
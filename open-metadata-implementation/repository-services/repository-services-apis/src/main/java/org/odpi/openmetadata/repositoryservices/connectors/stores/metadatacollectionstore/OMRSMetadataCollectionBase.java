@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRegexMatcher;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
@@ -539,6 +540,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (typeDefName != null)
         {
+            OMRSRegexMatcher      typeDefNameMatcher = OMRSRegexMatcher.getMatcher(typeDefName);
             List<TypeDef>         matchedTypeDefs = new ArrayList<>();
 
             if (allTypeDefs != null)
@@ -547,7 +549,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (typeDef != null)
                     {
-                        if (typeDef.getName().matches(typeDefName))
+                        if (typeDefNameMatcher.matches(typeDef.getName()))
                         {
                             matchedTypeDefs.add(typeDef);
                         }
@@ -563,7 +565,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (attributeTypeDef != null)
                     {
-                        if (attributeTypeDef.getName().matches(typeDefName))
+                        if (typeDefNameMatcher.matches(attributeTypeDef.getName()))
                         {
                             matchedAttributeTypeDefs.add(attributeTypeDef);
                         }
@@ -1006,13 +1008,14 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (allTypes != null)
         {
-            List<TypeDef> matchedTypeDefs = new ArrayList<>();
+            OMRSRegexMatcher searchMatcher   = OMRSRegexMatcher.getMatcher(searchCriteria);
+            List<TypeDef>    matchedTypeDefs = new ArrayList<>();
 
             for (TypeDef typeDef : allTypes)
             {
                 if (typeDef != null)
                 {
-                    if (typeDef.getName().matches(searchCriteria))
+                    if (searchMatcher.matches(typeDef.getName()))
                     {
                         matchedTypeDefs.add(typeDef);
                     }
@@ -1859,6 +1862,42 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for a retrieve of a list of instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the instances.
+     * @param methodName name of calling method.
+     * @throws InvalidParameterException the list of guids, or one of the guids, is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void getInstancesParameterValidation(String        userId,
+                                                    List<String>  guids,
+                                                    String        methodName) throws InvalidParameterException,
+                                                                                     RepositoryErrorException
+    {
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if (guids == null)
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, null, methodName);
+        }
+        else
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+            }
+        }
+    }
+
+
     /**
      * Validate the parameters for getRelationshipsForEntity.
      *
@@ -1986,6 +2025,45 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for findEntitiesByUniqueProperty.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PagingErrorException the page size is invalid.
+     */
+    protected void findEntitiesByUniquePropertyParameterValidation(String    userId,
+                                                                   String    entityTypeGUID,
+                                                                   String    propertyName,
+                                                                   String    propertyValue,
+                                                                   int       pageSize) throws InvalidParameterException,
+                                                                                              TypeErrorException,
+                                                                                              RepositoryErrorException,
+                                                                                              PagingErrorException
+    {
+        final String methodName                 = "findEntitiesByUniqueProperty";
+        final String typeGUIDParameterName      = "entityTypeGUID";
+        final String propertyNameParameterName  = "propertyName";
+        final String propertyValueParameterName = "propertyValue";
+        final String pageSizeParameter          = "pageSize";
+
+        super.basicRequestValidation(userId, methodName);
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameterName, entityTypeGUID, methodName);
+        repositoryValidator.validateSearchCriteria(repositoryName, propertyNameParameterName, propertyName, methodName);
+        repositoryValidator.validateSearchCriteria(repositoryName, propertyValueParameterName, propertyValue, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+    }
+
+
     /**
      * Validate the parameters for findEntitiesByClassification.
      *
@@ -2617,6 +2695,37 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  Entities that are not known,
+     * or are only proxies in the metadata collection, are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids, or one of the guids, is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String        userId,
+                                               List<String>  guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        return super.getEntityDetails(userId, guids);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -2768,6 +2877,56 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the entities whose unique property (for example, qualifiedName) has exactly the requested value.
+     * The property value is not a regular expression.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities with the property value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support this request.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByUniqueProperty(String    userId,
+                                                           String    entityTypeGUID,
+                                                           String    propertyName,
+                                                           String    propertyValue,
+                                                           int       pageSize) throws InvalidParameterException,
+                                                                                      TypeErrorException,
+                                                                                      RepositoryErrorException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        this.findEntitiesByUniquePropertyParameterValidation(userId,
+                                                             entityTypeGUID,
+                                                             propertyName,
+                                                             propertyValue,
+                                                             pageSize);
+
+        /*
+         * Perform operation
+         */
+        return super.findEntitiesByUniqueProperty(userId, entityTypeGUID, propertyName, propertyValue, pageSize);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -0,0 +1,268 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSRegexMatcher tests string values against a regular expression supplied as search criteria.  It is
+ * created once for a query and then used to test the property values of each candidate instance so the
+ * regular expression is not recompiled for every value.
+ *
+ * The literal forms of regular expression created by the getExactMatchRegex, getStartsWithRegex,
+ * getEndsWithRegex and getContainsRegex methods of OMRSRepositoryHelper are recognized and matched with
+ * simple string comparisons.  Any other regular expression is compiled the first time it is needed.
+ * An invalid regular expression results in a PatternSyntaxException from the matches method.
+ *
+ * Matchers are cached (up to a limit) so that repeated queries with the same search criteria share the same
+ * compiled pattern.  The cache is a concurrent map so that queries running in parallel do not contend for a lock
+ * to look up their matcher.  When the cache is full, arbitrary entries are removed to make room since a matcher
+ * is cheap to recreate.
+ */
+public class OMRSRegexMatcher
+{
+    private static final int    MAX_CACHED_MATCHERS = 500;
+
+    private static final String QUOTE_START = "\\Q";
+    private static final String QUOTE_END   = "\\E";
+    private static final String ANY_CHARS   = ".*";
+
+    private static final Map<String, OMRSRegexMatcher> matcherCache = new ConcurrentHashMap<>();
+
+    /**
+     * The type of comparison used to test a value.
+     */
+    private enum MatchType
+    {
+        EXACT,
+        STARTS_WITH,
+        ENDS_WITH,
+        CONTAINS,
+        REGEX
+    }
+
+    private final String    regex;
+    private final MatchType matchType;
+    private final String    literal;
+    private volatile Pattern pattern = null;
+
+
+    /**
+     * Return the matcher for the supplied regular expression.  Matchers are shared from a cache of
+     * recently used regular expressions.
+     *
+     * @param regex regular expression
+     * @return matcher or null if the regular expression is null
+     */
+    public static OMRSRegexMatcher getMatcher(String regex)
+    {
+        if (regex == null)
+        {
+            return null;
+        }
+
+        OMRSRegexMatcher matcher = matcherCache.get(regex);
+
+        if (matcher == null)
+        {
+            matcher = matcherCache.computeIfAbsent(regex, OMRSRegexMatcher::new);
+
+            if (matcherCache.size() > MAX_CACHED_MATCHERS)
+            {
+                evictMatchers(regex);
+            }
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Remove entries from the cache until it is back within its limit.  The entry that has just been added
+     * is kept.
+     *
+     * @param newRegex regular expression of the matcher that has just been added
+     */
+    private static void evictMatchers(String newRegex)
+    {
+        Iterator<String> cachedRegexes = matcherCache.keySet().iterator();
+
+        while ((matcherCache.size() > MAX_CACHED_MATCHERS) && (cachedRegexes.hasNext()))
+        {
+            if (! newRegex.equals(cachedRegexes.next()))
+            {
+                cachedRegexes.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Constructor works out the fastest way to test values against the regular expression.
+     *
+     * @param regex regular expression
+     */
+    private OMRSRegexMatcher(String regex)
+    {
+        this.regex = regex;
+
+        if (isQuoted(regex))
+        {
+            this.matchType = MatchType.EXACT;
+            this.literal = unquote(regex);
+        }
+        else if ((regex.length() >= ANY_CHARS.length() * 2) &&
+                 (regex.startsWith(ANY_CHARS)) && (regex.endsWith(ANY_CHARS)) &&
+                 (isQuoted(regex.substring(2, regex.length() - 2))))
+        {
+            this.matchType = MatchType.CONTAINS;
+            this.literal = unquote(regex.substring(2, regex.length() - 2));
+        }
+        else if ((regex.endsWith(ANY_CHARS)) && (isQuoted(regex.substring(0, regex.length() - 2))))
+        {
+            this.matchType = MatchType.STARTS_WITH;
+            this.literal = unquote(regex.substring(0, regex.length() - 2));
+        }
+        else if ((regex.startsWith(ANY_CHARS)) && (isQuoted(regex.substring(2))))
+        {
+            this.matchType = MatchType.ENDS_WITH;
+            this.literal = unquote(regex.substring(2));
+        }
+        else
+        {
+            this.matchType = MatchType.REGEX;
+            this.literal = null;
+        }
+    }
+
+
+    /**
+     * Return the regular expression that this matcher tests values against.
+     *
+     * @return regular expression
+     */
+    public String getRegex()
+    {
+        return regex;
+    }
+
+
+    /**
+     * Test whether the whole of the supplied value matches the regular expression.  This gives the same
+     * result as value.matches(regex).
+     *
+     * @param value value to test
+     * @return boolean result
+     */
+    public boolean matches(String value)
+    {
+        if (value == null)
+        {
+            return false;
+        }
+
+        switch (matchType)
+        {
+            case EXACT:
+                return value.equals(literal);
+
+            case STARTS_WITH:
+                if (! hasLineTerminator(value))
+                {
+                    return value.startsWith(literal);
+                }
+                break;
+
+            case ENDS_WITH:
+                if (! hasLineTerminator(value))
+                {
+                    return value.endsWith(literal);
+                }
+                break;
+
+            case CONTAINS:
+                if (! hasLineTerminator(value))
+                {
+                    return value.contains(literal);
+                }
+                break;
+        }
+
+        /*
+         * ".*" does not match line terminators so values that include them are left to the regular expression.
+         */
+        return this.getPattern().matcher(value).matches();
+    }
+
+
+    /**
+     * Return the compiled regular expression, compiling it on first use.
+     *
+     * @return compiled pattern
+     */
+    private Pattern getPattern()
+    {
+        Pattern compiledPattern = pattern;
+
+        if (compiledPattern == null)
+        {
+            compiledPattern = Pattern.compile(regex);
+            pattern = compiledPattern;
+        }
+
+        return compiledPattern;
+    }
+
+
+    /**
+     * Return whether the value contains any of the characters that are not matched by ".*".
+     *
+     * @param value value to test
+     * @return boolean result
+     */
+    private static boolean hasLineTerminator(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+
+            if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029'))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return whether the string is a single quoted literal as produced by Pattern.quote() for a string that does
+     * not itself contain the end of quote sequence.
+     *
+     * @param s string to test
+     * @return boolean result
+     */
+    private static boolean isQuoted(String s)
+    {
+        return (s.length() >= QUOTE_START.length() + QUOTE_END.length()) &&
+               (s.startsWith(QUOTE_START)) &&
+               (s.endsWith(QUOTE_END)) &&
+               (s.indexOf(QUOTE_END, QUOTE_START.length()) == s.length() - QUOTE_END.length());
+    }
+
+
+    /**
+     * Remove the quotes from a quoted literal.
+     *
+     * @param s quoted literal
+     * @return literal string
+     */
+    private static String unquote(String s)
+    {
+        return s.substring(QUOTE_START.length(), s.length() - QUOTE_END.length());
+    }
+}
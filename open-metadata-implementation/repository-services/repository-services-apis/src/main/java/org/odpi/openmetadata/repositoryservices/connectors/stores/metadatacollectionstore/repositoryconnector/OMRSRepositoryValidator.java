@@ -1238,6 +1238,31 @@ public interface OMRSRepositoryValidator
                                                         String             methodName) throws RepositoryErrorException;
 
 
+    /**
+     * Search for property values matching the search criteria (a regular expression that has been
+     * turned into a matcher so it is only compiled once for a query).  The default implementation
+     * passes the regular expression to the string form of this method so existing validators
+     * continue to work.
+     *
+     * @param sourceName  source of the request (used for logging)
+     * @param properties  list of properties associated with the in instance
+     * @param searchMatcher  matcher for the regular expression used for testing the property values
+     * @param methodName  name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException  the properties are not properly set up in the instance
+     */
+    default boolean verifyInstancePropertiesMatchSearchCriteria(String             sourceName,
+                                                                InstanceProperties properties,
+                                                                OMRSRegexMatcher   searchMatcher,
+                                                                String             methodName) throws RepositoryErrorException
+    {
+        return this.verifyInstancePropertiesMatchSearchCriteria(sourceName,
+                                                                properties,
+                                                                (searchMatcher == null) ? null : searchMatcher.getRegex(),
+                                                                methodName);
+    }
+
+
     /**
      * Search for property values exactly matching the supplied property value
      *
@@ -457,6 +457,14 @@ public enum OMRSErrorCode
             "A null log record originator has been passed by the audit log to the audit log store.",
             "The audit log store throws an exception and the log record is not written to the audit log store.",
             "This is probably an internal error in the audit log.  Raise a Github issue to get this fixed."),
+    BAD_LOG_RECORD_TIME_RANGE(400, "OMRS-AUDIT-LOG-400-003 ",
+            "The start date {0} is after the end date {1} on the {2} request to audit log store {3}",
+            "The audit log store is unable to process the request.",
+            "The dates are supplied by the caller.  Correct the caller's code and retry the request."),
+    NEGATIVE_LOG_RECORD_PAGING(400, "OMRS-AUDIT-LOG-400-004 ",
+            "A negative offset {0} or maximumRecords {1} has been passed on the {2} request to audit log store {3}",
+            "The audit log store is unable to process the request.",
+            "The paging parameters are supplied by the caller.  Correct the caller's code and retry the request."),
     REPOSITORY_NOT_AVAILABLE(404, "OMRS-REPOSITORY-404-001 ",
             "The open metadata repository connector for server {0} is not active and is unable to service the {1} request",
             "The system is unable to retrieve any metadata properties from this repository.",
@@ -658,6 +666,10 @@ public enum OMRSErrorCode
              "Connector {0} is unable to send a null event",
              "There is an internal error in the open metadata repository.",
              "Raise a Github issue to get this fixed."),
+    AUDIT_LOG_STORE_IO_ERROR(500, "OMRS-AUDIT-LOG-500-001 ",
+            "The audit log store in directory {0} is unable to complete a {1} request. The error message was {2}",
+            "The audit log store is unable to read or write its log files.",
+            "Check that the directory is accessible to the server and has sufficient space, then retry the request."),
     METHOD_NOT_IMPLEMENTED(501, "OMRS-METADATA-COLLECTION-501-001 ",
             "OMRSMetadataInstanceStore method {0} for OMRS Connector {1} to repository type {2} is not implemented",
             "A method in MetadataCollectionBase was called which means that the connector's OMRSMetadataInstanceStore " +
@@ -0,0 +1,178 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.MockOMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRSAuditLogDestination passes every log record to each of its audit log stores.
+ */
+public class OMRSAuditLogDestinationTest
+{
+    /**
+     * Audit log store that remembers the log records it is passed.
+     */
+    private class RecordingAuditLogStore extends MockOMRSAuditLogStoreConnectorBase
+    {
+        List<OMRSAuditLogRecord> logRecords = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger            activeCalls = new AtomicInteger(0);
+        AtomicBoolean            overlapped  = new AtomicBoolean(false);
+
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            if (activeCalls.incrementAndGet() > 1)
+            {
+                overlapped.set(true);
+            }
+
+            logRecords.add(logRecord);
+            activeCalls.decrementAndGet();
+
+            return null;
+        }
+    }
+
+
+    /**
+     * Log a test record.
+     *
+     * @param destination destination to log to
+     * @param messageId message identifier for the record
+     */
+    private void logTestRecord(OMRSAuditLogDestination destination,
+                               String                  messageId)
+    {
+        OMRSAuditLogReportingComponent reportingComponent = new OMRSAuditLogReportingComponent(0,
+                                                                                                  "TestComponent",
+                                                                                                  "Test component",
+                                                                                                  null);
+
+        destination.logRecord(reportingComponent,
+                              "Test",
+                              messageId,
+                              OMRSAuditLogRecordSeverity.INFO,
+                              "Test message",
+                              null,
+                              null,
+                              null);
+    }
+
+
+    /**
+     * Validate that queued log records are all stored by the time the destination is disconnected.
+     */
+    @Test public void testLogRecordsStored()
+    {
+        RecordingAuditLogStore   firstStore  = new RecordingAuditLogStore();
+        RecordingAuditLogStore   secondStore = new RecordingAuditLogStore();
+        List<OMRSAuditLogStore>  stores      = new ArrayList<>();
+
+        stores.add(firstStore);
+        stores.add(secondStore);
+
+        OMRSAuditLogDestination  destination = new OMRSAuditLogDestination("TestServer",
+                                                                           "TestServerType",
+                                                                           "TestOrganization",
+                                                                           stores);
+
+        OMRSAuditLogReportingComponent reportingComponent = new OMRSAuditLogReportingComponent(0,
+                                                                                                  "TestComponent",
+                                                                                                  "Test component",
+                                                                                                  null);
+
+        for (int i = 0; i < 500; i++)
+        {
+            destination.logRecord(reportingComponent,
+                                  "Test",
+                                  "TEST-" + i,
+                                  OMRSAuditLogRecordSeverity.INFO,
+                                  "Test message " + i,
+                                  null,
+                                  null,
+                                  null);
+        }
+
+        destination.disconnect();
+
+        assertTrue(firstStore.logRecords.size() == 500);
+        assertTrue(secondStore.logRecords.size() == 500);
+        assertTrue(firstStore.logRecords.get(499).getMessageId().equals("TEST-499"));
+        assertTrue(destination.getQueuedRecordCount() == 0);
+        assertTrue(destination.getDroppedRecordCount() == 0);
+
+        destination.logRecord(reportingComponent,
+                              "Test",
+                              "TEST-500",
+                              OMRSAuditLogRecordSeverity.INFO,
+                              "Test message after disconnect",
+                              null,
+                              null,
+                              null);
+
+        assertTrue(firstStore.logRecords.size() == 501);
+    }
+
+
+    /**
+     * Validate that no log record is lost, and that the audit log store is never called concurrently, when
+     * log records are added while the destination is disconnecting.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test public void testLogRecordsStoredDuringDisconnect() throws InterruptedException
+    {
+        RecordingAuditLogStore   store  = new RecordingAuditLogStore();
+        List<OMRSAuditLogStore>  stores = new ArrayList<>();
+
+        stores.add(store);
+
+        OMRSAuditLogDestination  destination = new OMRSAuditLogDestination("TestServer",
+                                                                           "TestServerType",
+                                                                           "TestOrganization",
+                                                                           stores);
+
+        List<Thread> loggingThreads = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++)
+        {
+            final int threadNumber = t;
+
+            Thread loggingThread = new Thread(() ->
+            {
+                for (int i = 0; i < 2000; i++)
+                {
+                    logTestRecord(destination, "TEST-" + threadNumber + "-" + i);
+                }
+            });
+
+            loggingThreads.add(loggingThread);
+            loggingThread.start();
+        }
+
+        Thread.sleep(5);
+        destination.disconnect();
+
+        for (Thread loggingThread : loggingThreads)
+        {
+            loggingThread.join();
+        }
+
+        assertTrue(store.logRecords.size() == 8000);
+        assertFalse(store.overlapped.get());
+        assertTrue(destination.getDroppedRecordCount() == 0);
+    }
+}
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OpenMetadataTopicListenerQueue delivers events to its listener in order and that
+ * a slow listener does not hold up the queue of another listener.
+ */
+public class OpenMetadataTopicListenerQueueTest
+{
+    /**
+     * Minimal topic connector implementation.
+     */
+    private class MockTopicConnector extends OpenMetadataTopicConnector
+    {
+        protected List<String> checkForEvents()
+        {
+            return null;
+        }
+
+        public void sendEvent(String event)
+        {
+        }
+    }
+
+
+    /**
+     * Return an instance type with a super type so that the serialized instance contains a type guid
+     * ahead of its own guid.
+     *
+     * @return instance type
+     */
+    private InstanceType getInstanceType()
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID("typeGUID");
+        instanceType.setTypeDefName("TestType");
+        instanceType.setTypeDefSuperTypes(Collections.singletonList(new TypeDefLink("superTypeGUID", "Referenceable")));
+
+        return instanceType;
+    }
+
+
+    @Test
+    public void testEventOrderingKey() throws Exception
+    {
+        OpenMetadataTopicConnector topicConnector = new MockTopicConnector();
+
+        EntityDetail entity = new EntityDetail();
+        entity.setType(this.getInstanceType());
+        entity.setGUID("entityGUID");
+
+        String entityEvent = JSONSerializer.writeValueAsString(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                     entity).getOMRSEventV1());
+        assertTrue(entityEvent.indexOf("superTypeGUID") < entityEvent.indexOf("entityGUID"));
+        assertEquals(topicConnector.getEventOrderingKey(entityEvent), "entityGUID");
+
+        Relationship relationship = new Relationship();
+        relationship.setType(this.getInstanceType());
+        relationship.setGUID("relationshipGUID");
+
+        String relationshipEvent = JSONSerializer.writeValueAsString(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                           relationship).getOMRSEventV1());
+        assertEquals(topicConnector.getEventOrderingKey(relationshipEvent), "relationshipGUID");
+
+        EntityDef typeDef = new EntityDef();
+        typeDef.setGUID("typeDefGUID");
+        typeDef.setName("TestType");
+        typeDef.setSuperType(new TypeDefLink("superTypeGUID", "Referenceable"));
+
+        String typeDefEvent = JSONSerializer.writeValueAsString(new OMRSTypeDefEvent(OMRSTypeDefEventType.NEW_TYPEDEF_EVENT,
+                                                                                     typeDef).getOMRSEventV1());
+        assertEquals(topicConnector.getEventOrderingKey(typeDefEvent), "typeDefGUID");
+
+        assertEquals(topicConnector.getEventOrderingKey("{\"guid\":\"1234\"}"), "1234");
+        assertNull(topicConnector.getEventOrderingKey("{\"class\":\"OMRSEventV1\"}"));
+    }
+
+
+    @Test
+    public void testOrderedDelivery() throws Exception
+    {
+        List<String>   receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allReceived    = new CountDownLatch(100);
+
+        OpenMetadataTopicListener      listener = (event) -> { receivedEvents.add(event); allReceived.countDown(); };
+        OpenMetadataTopicListenerQueue queue    = new OpenMetadataTopicListenerQueue(new MockTopicConnector(),
+                                                                                     listener,
+                                                                                     "TestQueue",
+                                                                                     10,
+                                                                                     4);
+        queue.start("TestThread");
+
+        for (int i = 0; i < 100; i++)
+        {
+            queue.addEvent("guid" + (i % 5) + ":" + i, "guid" + (i % 5));
+        }
+
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+        queue.stop();
+
+        /*
+         * Events with the same ordering key must arrive in the order they were added.
+         */
+        int[] lastEvent = new int[] {-1, -1, -1, -1, -1};
+        for (String event : receivedEvents)
+        {
+            int key   = Integer.parseInt(event.substring(4, 5));
+            int count = Integer.parseInt(event.substring(6));
+
+            assertTrue(count > lastEvent[key]);
+            lastEvent[key] = count;
+        }
+        assertTrue(queue.getMaxQueueDepth() > 0);
+    }
+
+
+    @Test
+    public void testSlowListenerIsolated() throws Exception
+    {
+        CountDownLatch releaseSlowListener = new CountDownLatch(1);
+        CountDownLatch fastListenerDone    = new CountDownLatch(20);
+
+        OpenMetadataTopicListener slowListener = (event) ->
+        {
+            try
+            {
+                releaseSlowListener.await();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        };
+        OpenMetadataTopicListener fastListener = (event) -> fastListenerDone.countDown();
+
+        OpenMetadataTopicConnector     topicConnector = new MockTopicConnector();
+        OpenMetadataTopicListenerQueue slowQueue = new OpenMetadataTopicListenerQueue(topicConnector, slowListener, "Slow", 100, 1);
+        OpenMetadataTopicListenerQueue fastQueue = new OpenMetadataTopicListenerQueue(topicConnector, fastListener, "Fast", 100, 1);
+
+        slowQueue.start("TestThread");
+        fastQueue.start("TestThread");
+
+        for (int i = 0; i < 20; i++)
+        {
+            slowQueue.addEvent("event" + i, null);
+            fastQueue.addEvent("event" + i, null);
+        }
+
+        assertTrue(fastListenerDone.await(10, TimeUnit.SECONDS));
+        assertTrue(slowQueue.getQueueDepth() > 0);
+
+        releaseSlowListener.countDown();
+        slowQueue.stop();
+        fastQueue.stop();
+    }
+
+
+    @Test
+    public void testQueuedEventsDeliveredAfterStop() throws Exception
+    {
+        CountDownLatch releaseListener = new CountDownLatch(1);
+        CountDownLatch allReceived     = new CountDownLatch(10);
+
+        OpenMetadataTopicListener listener = (event) ->
+        {
+            try
+            {
+                releaseListener.await();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+            allReceived.countDown();
+        };
+
+        OpenMetadataTopicListenerQueue queue = new OpenMetadataTopicListenerQueue(new MockTopicConnector(), listener, "Stopping", 100, 2);
+        queue.start("TestThread");
+
+        for (int i = 0; i < 10; i++)
+        {
+            queue.addEvent("event" + i, "key" + i);
+        }
+
+        queue.stop();
+        releaseListener.countDown();
+
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+        assertEquals(queue.getQueueDepth(), 0);
+    }
+}
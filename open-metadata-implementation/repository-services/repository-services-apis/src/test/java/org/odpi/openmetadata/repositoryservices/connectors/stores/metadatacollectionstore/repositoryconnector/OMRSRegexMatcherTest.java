@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that OMRSRegexMatcher gives the same results as String.matches for the literal forms of
+ * regular expression and for general regular expressions.
+ */
+public class OMRSRegexMatcherTest
+{
+    private static final String[] values = { "", "Customer", "CustomerAccount", "My Customer", "a.b", "Cust\nomer",
+                                             "Customer\n", "c:\\temp\\E", null };
+
+    /**
+     * Default constructor
+     */
+    public OMRSRegexMatcherTest()
+    {
+
+    }
+
+
+    /**
+     * Check the matcher against String.matches for every test value.
+     *
+     * @param regex regular expression to test
+     */
+    private void validateMatches(String regex)
+    {
+        OMRSRegexMatcher matcher = OMRSRegexMatcher.getMatcher(regex);
+
+        for (String value : values)
+        {
+            boolean expectedResult = (value != null) && (value.matches(regex));
+
+            assertEquals(matcher.matches(value), expectedResult, "regex=" + regex + " value=" + value);
+        }
+    }
+
+
+    /**
+     * Validate the literal forms produced by the repository helper.
+     */
+    @Test public void testLiteralForms()
+    {
+        for (String literal : new String[] { "Customer", "a.b", "", "Cust\nomer", "\\temp\\E", "omer" })
+        {
+            validateMatches(Pattern.quote(literal));
+            validateMatches(".*" + Pattern.quote(literal) + ".*");
+            validateMatches(Pattern.quote(literal) + ".*");
+            validateMatches(".*" + Pattern.quote(literal));
+        }
+    }
+
+
+    /**
+     * Validate general regular expressions.
+     */
+    @Test public void testRegularExpressions()
+    {
+        validateMatches("Cust.*");
+        validateMatches(".*");
+        validateMatches("a.b");
+        validateMatches("[A-Z].*Account");
+        validateMatches("Customer|My Customer");
+    }
+
+
+    /**
+     * Validate that matchers are shared and that bad regular expressions are reported when they are used.
+     */
+    @Test public void testCacheAndErrors()
+    {
+        assertNull(OMRSRegexMatcher.getMatcher(null));
+        assertSame(OMRSRegexMatcher.getMatcher("Cust.*"), OMRSRegexMatcher.getMatcher("Cust.*"));
+        assertEquals(OMRSRegexMatcher.getMatcher("Cust.*").getRegex(), "Cust.*");
+
+        OMRSRegexMatcher badMatcher = OMRSRegexMatcher.getMatcher("Cust[");
+
+        try
+        {
+            badMatcher.matches("Customer");
+            fail("A bad regular expression should be reported");
+        }
+        catch (PatternSyntaxException error)
+        {
+            assertEquals(error.getPattern(), "Cust[");
+        }
+    }
+
+
+    /**
+     * Validate that matchers are returned correctly when many regular expressions are requested in parallel
+     * so that the cache overflows.
+     *
+     * @throws Exception the test failed
+     */
+    @Test public void testConcurrentCacheOverflow() throws Exception
+    {
+        ExecutorService       executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results  = new ArrayList<>();
+
+        for (int thread = 0; thread < 4; thread++)
+        {
+            final int threadNumber = thread;
+
+            results.add(executor.submit(() ->
+            {
+                for (int i = 0; i < 1000; i++)
+                {
+                    String           regex   = Pattern.quote("Customer" + threadNumber + "-" + i) + ".*";
+                    OMRSRegexMatcher matcher = OMRSRegexMatcher.getMatcher(regex);
+
+                    if ((! regex.equals(matcher.getRegex())) || (! matcher.matches("Customer" + threadNumber + "-" + i + "Account")))
+                    {
+                        return false;
+                    }
+                }
+
+                return true;
+            }));
+        }
+
+        for (Future<Boolean> result : results)
+        {
+            assertTrue(result.get());
+        }
+
+        executor.shutdown();
+    }
+}
@@ -365,6 +365,7 @@ public class OMRSOperationalServices
                 OMRSRepositoryEventPublisher
                         enterpriseEventPublisher = new OMRSRepositoryEventPublisher("Local Repository to Enterprise",
                                                                                     enterpriseOMRSTopicConnector,
+                                                                                    true,
                                                                                     auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
                 this.localRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
@@ -839,6 +840,8 @@ public class OMRSOperationalServices
                            auditCode.getSystemAction(),
                            auditCode.getUserAction());
 
+        auditLogDestination.disconnect();
+
         return true;
     }
 
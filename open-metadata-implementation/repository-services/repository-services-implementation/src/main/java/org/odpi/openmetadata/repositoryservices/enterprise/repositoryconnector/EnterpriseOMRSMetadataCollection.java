@@ -134,7 +134,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId,
+                                                                            cohortConnectors,
+                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                            enterpriseParentConnector.getFederationTimeout(),
+                                                                            methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -1038,6 +1042,53 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  Each repository in the cohort
+     * is asked for the entities that have not been found in the repositories before it.  Entities that are not
+     * known, or are only proxies, are skipped.  The entities are returned in the same order as the requested guids.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Null means none of the entities are known.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String        userId,
+                                               List<String>  guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl   federationControl = new SequentialFederationControl(userId, cohortConnectors, methodName);
+        GetEntitiesExecutor executor          = new GetEntitiesExecutor(userId, guids, methodName);
+
+        /*
+         * Ready to process the request.  The request completes as soon as all of the entities have been found.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getEntityDetails();
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1109,7 +1160,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId,
+                                                                                            cohortConnectors,
+                                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                                            enterpriseParentConnector.getFederationTimeout(),
+                                                                                            methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1214,7 +1269,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId,
+                                                                                            cohortConnectors,
+                                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                                            enterpriseParentConnector.getFederationTimeout(),
+                                                                                            methodName);
         FindEntitiesByPropertyExecutor    executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                                  entityTypeGUID,
                                                                                                  matchProperties,
@@ -1242,6 +1301,80 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the entities whose unique property (for example, qualifiedName) has exactly the requested value.
+     * The property value is not a regular expression.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities with the property value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support this request.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByUniqueProperty(String    userId,
+                                                           String    entityTypeGUID,
+                                                           String    propertyName,
+                                                           String    propertyValue,
+                                                           int       pageSize) throws InvalidParameterException,
+                                                                                      TypeErrorException,
+                                                                                      RepositoryErrorException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniqueProperty";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyParameterValidation(userId,
+                                                              entityTypeGUID,
+                                                              propertyName,
+                                                              propertyValue,
+                                                              pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                    federationControl = new ParallelFederationControl(userId,
+                                                                                               cohortConnectors,
+                                                                                               enterpriseParentConnector.getFederationExecutor(),
+                                                                                               enterpriseParentConnector.getFederationTimeout(),
+                                                                                               methodName);
+        FindEntitiesByUniquePropertyExecutor executor          = new FindEntitiesByUniquePropertyExecutor(userId,
+                                                                                                          entityTypeGUID,
+                                                                                                          propertyName,
+                                                                                                          propertyValue,
+                                                                                                          pageSize,
+                                                                                                          localMetadataCollectionId,
+                                                                                                          auditLog,
+                                                                                                          repositoryValidator,
+                                                                                                          methodName);
+
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1326,7 +1459,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                       federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                       federationControl = new ParallelFederationControl(userId,
+                                                                                                  cohortConnectors,
+                                                                                                  enterpriseParentConnector.getFederationExecutor(),
+                                                                                                  enterpriseParentConnector.getFederationTimeout(),
+                                                                                                  methodName);
         FindEntitiesByClassificationExecutor    executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                              entityTypeGUID,
                                                                                                              classificationName,
@@ -1433,7 +1570,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId,
+                                                                                              cohortConnectors,
+                                                                                              enterpriseParentConnector.getFederationExecutor(),
+                                                                                              enterpriseParentConnector.getFederationTimeout(),
+                                                                                              methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1682,7 +1823,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId,
+                                                                                              cohortConnectors,
+                                                                                              enterpriseParentConnector.getFederationExecutor(),
+                                                                                              enterpriseParentConnector.getFederationTimeout(),
+                                                                                              methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -1784,7 +1929,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                        federationControl = new ParallelFederationControl(userId,
+                                                                                                   cohortConnectors,
+                                                                                                   enterpriseParentConnector.getFederationExecutor(),
+                                                                                                   enterpriseParentConnector.getFederationTimeout(),
+                                                                                                   methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
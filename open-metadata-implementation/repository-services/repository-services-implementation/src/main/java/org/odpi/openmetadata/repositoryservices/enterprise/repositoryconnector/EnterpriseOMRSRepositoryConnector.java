@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnec
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.OMRSInstanceRetrievalEventProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorConfigurationProperties;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
@@ -22,6 +23,12 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -36,6 +43,12 @@ import java.util.List;
  *     repositories in the connected open metadata repository cohort(s).  It does by registering as an OMRSConnectorConsumer
  *     with the OMRSConnectorManager to be notified when connectors to new open metadata repositories are available.
  * </p>
+ * <p>
+ *     Federated queries are issued to the cohort members in parallel using a bounded pool of worker threads.
+ *     The size of the pool is set by the maxFederationThreads configuration property in the connection
+ *     and the time to wait for the cohort members to respond is set by the federationTimeout configuration
+ *     property (in milliseconds).
+ * </p>
  */
 public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector implements OMRSConnectorConsumer
 {
@@ -49,6 +62,15 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     private String callingServiceName = null;
 
+    private int             maxFederationThreads = defaultMaxFederationThreads;
+    private long            federationTimeout    = defaultFederationTimeout;
+    private ExecutorService federationExecutor   = null;
+
+    private static final String maxFederationThreadsProperty = "maxFederationThreads";
+    private static final String federationTimeoutProperty    = "federationTimeout";
+    private static final int    defaultMaxFederationThreads  = 10;
+    private static final long   defaultFederationTimeout     = 30000;
+
     private static final Logger       log      = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
     /**
@@ -137,6 +159,26 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     {
         super.start();
 
+        maxFederationThreads = ConnectorConfigurationProperties.getIntegerProperty(super.connectionProperties,
+                                                                                   maxFederationThreadsProperty,
+                                                                                   maxFederationThreads);
+        federationTimeout = ConnectorConfigurationProperties.getLongProperty(super.connectionProperties,
+                                                                             federationTimeoutProperty,
+                                                                             federationTimeout);
+
+        if (maxFederationThreads > 1)
+        {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxFederationThreads,
+                                                                   maxFederationThreads,
+                                                                   60,
+                                                                   TimeUnit.SECONDS,
+                                                                   new LinkedBlockingQueue<>(),
+                                                                   new FederationThreadFactory(callingServiceName));
+            threadPool.allowCoreThreadTimeOut(true);
+
+            federationExecutor = threadPool;
+        }
+
         if (auditLog != null)
         {
             final String actionDescription = "start";
@@ -181,11 +223,40 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             connectorManager.unregisterConnectorConsumer(connectorConsumerId);
         }
 
+        if (federationExecutor != null)
+        {
+            federationExecutor.shutdownNow();
+            federationExecutor = null;
+        }
+
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
     }
 
 
+    /**
+     * Return the executor service that supplies the worker threads for federated queries.
+     * Null means the queries are issued sequentially on the caller's thread.
+     *
+     * @return executor service or null
+     */
+    ExecutorService getFederationExecutor()
+    {
+        return federationExecutor;
+    }
+
+
+    /**
+     * Return the maximum time (in milliseconds) that a federated query waits for the cohort members to respond.
+     *
+     * @return timeout in milliseconds
+     */
+    long getFederationTimeout()
+    {
+        return federationTimeout;
+    }
+
+
     /**
      * Returns the metadata collection to the repository where the supplied instance can be updated, ie its home repository.
      *
@@ -566,4 +637,42 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             return null;
         }
     }
+
+
+    /**
+     * FederationThreadFactory names the worker threads used for federated queries so they can be identified
+     * in thread dumps.  The threads are daemon threads so they do not hold up the shutdown of the server.
+     */
+    private static class FederationThreadFactory implements ThreadFactory
+    {
+        private final String        threadNamePrefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        /**
+         * Constructor
+         *
+         * @param callingServiceName name of the access service using the enterprise connector
+         */
+        FederationThreadFactory(String   callingServiceName)
+        {
+            this.threadNamePrefix = "EnterpriseFederation:" + callingServiceName + ":";
+        }
+
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param runnable work to run on the thread
+         * @return new thread
+         */
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
 }
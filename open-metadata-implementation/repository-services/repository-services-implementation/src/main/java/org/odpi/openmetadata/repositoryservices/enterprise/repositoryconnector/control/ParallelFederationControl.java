@@ -4,22 +4,43 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * Each cohort member is called on a thread from the enterprise connector's federation executor.  The results
+ * are gathered by the executor's accumulator (which is thread-safe) so the elapsed time of the federated request
+ * is the time of the slowest member rather than the sum of all of the members.
+ *
+ * A member that does not respond within the federation timeout has its request cancelled (which interrupts
+ * its worker thread) and the federated request completes without waiting for its results.  If no executor
+ * service is supplied, the cohort members are called one at a time on the caller's thread.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses a sequential since the
-    // todo worker threads are not implemented.
+    private ExecutorService federationExecutor;
+    private long            federationTimeout;
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelFederationControl.class);
 
 
     /**
-     * Constructor for a federated query
+     * Constructor for a federated query that runs sequentially on the caller's thread.
      *
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
@@ -28,9 +49,31 @@ public class ParallelFederationControl extends FederationControlBase
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
                                      String                        methodName)
+    {
+        this(userId, cohortConnectors, null, 0, methodName);
+    }
+
+
+    /**
+     * Constructor for a federated query that uses worker threads.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param federationExecutor executor service supplying the worker threads - null means run sequentially
+     * @param federationTimeout maximum time (in milliseconds) to wait for the cohort members to respond -
+     *                          zero or less means wait until they all respond
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     ExecutorService               federationExecutor,
+                                     long                          federationTimeout,
+                                     String                        methodName)
     {
         super(userId, cohortConnectors, methodName);
 
+        this.federationExecutor = federationExecutor;
+        this.federationTimeout = federationTimeout;
     }
 
 
@@ -43,19 +86,161 @@ public class ParallelFederationControl extends FederationControlBase
      */
     public void executeCommand(RepositoryExecutor executor) throws RepositoryErrorException
     {
-        if (super.cohortConnectors != null)
+        if (super.cohortConnectors == null)
+        {
+            return;
+        }
+
+        List<OMRSRepositoryConnector> activeConnectors = new ArrayList<>();
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                activeConnectors.add(cohortConnector);
+            }
+        }
+
+        if ((federationExecutor == null) || (activeConnectors.size() < 2))
+        {
+            /*
+             * There is no benefit in handing a single request to another thread.
+             */
+            for (OMRSRepositoryConnector cohortConnector : activeConnectors)
+            {
+                this.issueRequestToRepository(cohortConnector, executor);
+            }
+
+            return;
+        }
+
+        /*
+         * Fan the request out to all of the cohort members at once.  Each worker thread has its own clone of the
+         * executor (when it supports cloning) that shares the accumulator of the original executor.
+         */
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        for (OMRSRepositoryConnector cohortConnector : activeConnectors)
+        {
+            RepositoryExecutor memberExecutor = executor;
+
+            if (executor instanceof CloneableRepositoryExecutor)
+            {
+                memberExecutor = (RepositoryExecutor)((CloneableRepositoryExecutor) executor).getClone();
+            }
+
+            futures.add(this.submitRequest(cohortConnector, memberExecutor));
+        }
+
+        /*
+         * Wait for the responses.  The timeout covers the whole federated request so each member
+         * gets the same deadline regardless of the order that the futures are checked.
+         */
+        long deadline = System.currentTimeMillis() + federationTimeout;
+
+        for (int i = 0; i < futures.size(); i++)
         {
-            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            Future<Boolean> future = futures.get(i);
+
+            try
             {
-                if (cohortConnector != null)
+                if (federationTimeout > 0)
+                {
+                    future.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+                }
+                else
                 {
-                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+                    future.get();
+                }
+            }
+            catch (TimeoutException error)
+            {
+                log.debug("Cohort member " + activeConnectors.get(i).getRepositoryName() + " did not respond to "
+                                  + methodName + " within " + federationTimeout + "ms");
 
-                    String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+                future.cancel(true);
+            }
+            catch (InterruptedException error)
+            {
+                /*
+                 * The calling thread is being shut down.  Cancel the outstanding requests.
+                 */
+                for (Future<Boolean> outstandingFuture : futures)
+                {
+                    outstandingFuture.cancel(true);
+                }
 
-                    executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException error)
+            {
+                /*
+                 * The executors capture the exceptions from the repositories in their accumulators.
+                 * Only the validation of the metadata collection can produce an exception here.
+                 */
+                if (error.getCause() instanceof RepositoryErrorException)
+                {
+                    for (Future<Boolean> outstandingFuture : futures)
+                    {
+                        outstandingFuture.cancel(true);
+                    }
+
+                    throw (RepositoryErrorException) error.getCause();
                 }
+
+                log.debug("Unexpected exception from cohort member " + activeConnectors.get(i).getRepositoryName()
+                                  + " during " + methodName, error.getCause());
             }
         }
     }
+
+
+    /**
+     * Pass the request to the federation executor.  If the executor has been shut down, the request
+     * runs on the caller's thread.
+     *
+     * @param cohortConnector connector to the cohort member
+     * @param memberExecutor command to execute
+     * @return future for the result of the request
+     * @throws RepositoryErrorException problem with the metadata collection of the cohort member
+     */
+    private Future<Boolean> submitRequest(OMRSRepositoryConnector cohortConnector,
+                                          RepositoryExecutor      memberExecutor) throws RepositoryErrorException
+    {
+        Callable<Boolean> request = () -> this.issueRequestToRepository(cohortConnector, memberExecutor);
+
+        try
+        {
+            return federationExecutor.submit(request);
+        }
+        catch (RejectedExecutionException error)
+        {
+            boolean result = this.issueRequestToRepository(cohortConnector, memberExecutor);
+
+            CompletableFuture<Boolean> completedRequest = new CompletableFuture<>();
+            completedRequest.complete(result);
+
+            return completedRequest;
+        }
+    }
+
+
+    /**
+     * Issue the request to a single cohort member.
+     *
+     * @param cohortConnector connector to the cohort member
+     * @param memberExecutor command to execute
+     * @return boolean true means that the required results have been achieved
+     * @throws RepositoryErrorException problem with the metadata collection of the cohort member
+     */
+    private boolean issueRequestToRepository(OMRSRepositoryConnector cohortConnector,
+                                             RepositoryExecutor      memberExecutor) throws RepositoryErrorException
+    {
+        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+        String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+
+        return memberExecutor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+    }
 }
@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.List;
+
+/**
+ * FindEntitiesByUniquePropertyExecutor is the executor for the findEntitiesByUniqueProperty request.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ */
+public class FindEntitiesByUniquePropertyExecutor extends PageableRepositoryExecutorBase
+{
+    private String             propertyName;
+    private String             propertyValue;
+
+    private EntityAccumulator  accumulator;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
+     * @param auditLog logging destination
+     * @param repositoryValidator validator for resulting entities
+     * @param methodName calling method
+     */
+    public FindEntitiesByUniquePropertyExecutor(String                    userId,
+                                                String                    entityTypeGUID,
+                                                String                    propertyName,
+                                                String                    propertyValue,
+                                                int                       pageSize,
+                                                String                    localMetadataCollectionId,
+                                                OMRSAuditLog              auditLog,
+                                                OMRSRepositoryValidator   repositoryValidator,
+                                                String                    methodName)
+    {
+        this(userId,
+             entityTypeGUID,
+             propertyName,
+             propertyValue,
+             pageSize,
+             new EntityAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             methodName);
+    }
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param accumulator location for results and returned exceptions
+     * @param methodName calling method
+     */
+    private FindEntitiesByUniquePropertyExecutor(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 String                    propertyName,
+                                                 String                    propertyValue,
+                                                 int                       pageSize,
+                                                 EntityAccumulator         accumulator,
+                                                 String                    methodName)
+    {
+        super(userId,
+              entityTypeGUID,
+              0,
+              null,
+              null,
+              null,
+              pageSize,
+              null,
+              accumulator,
+              methodName);
+
+        this.propertyName = propertyName;
+        this.propertyValue = propertyValue;
+        this.accumulator = accumulator;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instance.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new FindEntitiesByUniquePropertyExecutor(userId,
+                                                        instanceTypeGUID,
+                                                        propertyName,
+                                                        propertyValue,
+                                                        pageSize,
+                                                        accumulator,
+                                                        methodName);
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            /*
+             * Issue the request
+             */
+            List<EntityDetail> results = metadataCollection.findEntitiesByUniqueProperty(userId,
+                                                                                         instanceTypeGUID,
+                                                                                         propertyName,
+                                                                                         propertyValue,
+                                                                                         pageSize);
+
+            accumulator.addEntities(results, metadataCollectionId);
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (TypeErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PagingErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(metadataCollectionId, error);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return the results or exception.
+     *
+     * @param repositoryConnector enterprise connector
+     * @return a list of entities with the property value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for any of the requested types of entity.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support this request.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getResults(EnterpriseOMRSRepositoryConnector repositoryConnector) throws InvalidParameterException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       TypeErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            return accumulator.getResults(repositoryConnector);
+        }
+
+        handleCommonPagingRequestExceptions();
+
+        return null;
+    }
+}
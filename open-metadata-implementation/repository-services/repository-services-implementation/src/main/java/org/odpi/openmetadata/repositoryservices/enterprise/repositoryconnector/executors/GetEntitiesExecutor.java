@@ -0,0 +1,151 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MaintenanceAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GetEntitiesExecutor provides the executor for the getEntityDetails method.  Each repository is asked for
+ * the entities that have not been retrieved from the repositories before it, so the request completes as soon
+ * as every entity has been found.
+ */
+public class GetEntitiesExecutor extends RepositoryExecutorBase
+{
+    private List<String>              entityGUIDs;
+    private Set<String>               outstandingGUIDs;
+    private Map<String, EntityDetail> retrievedEntities = new HashMap<>();
+    private MaintenanceAccumulator    accumulator       = new MaintenanceAccumulator();
+
+
+    /**
+     * Constructor takes the parameters for the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) for the entities.
+     * @param methodName calling method
+     */
+    public GetEntitiesExecutor(String               userId,
+                               List<String>         entityGUIDs,
+                               String               methodName)
+    {
+        super(userId, methodName);
+
+        this.entityGUIDs = entityGUIDs;
+        this.outstandingGUIDs = new LinkedHashSet<>();
+
+        if (entityGUIDs != null)
+        {
+            for (String entityGUID : entityGUIDs)
+            {
+                if (entityGUID != null)
+                {
+                    outstandingGUIDs.add(entityGUID);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     * The entities that have not yet been found are requested from the repository.
+     * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+     * there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            /*
+             * Issue the request for the entities that are still missing
+             */
+            List<EntityDetail> entities = metadataCollection.getEntityDetails(userId,
+                                                                              new ArrayList<>(outstandingGUIDs));
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    if ((entity != null) && (outstandingGUIDs.remove(entity.getGUID())))
+                    {
+                        retrievedEntities.put(entity.getGUID(), entity);
+                    }
+                }
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(error);
+        }
+
+        return outstandingGUIDs.isEmpty();
+    }
+
+
+    /**
+     * Return the header, classifications and properties of the entities that were found, in the order of
+     * the requested guids.  A guid that is requested more than once is returned once for each time it is
+     * requested, as it is by the other implementations of getEntityDetails.  If none of the entities are found, any exception returned by the repositories
+     * is thrown.
+     *
+     * @return list of EntityDetail structures.  Null means none of the entities are known.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails() throws InvalidParameterException,
+                                                        RepositoryErrorException,
+                                                        UserNotAuthorizedException
+    {
+        if (retrievedEntities.isEmpty())
+        {
+            accumulator.throwCapturedRepositoryErrorException();
+            accumulator.throwCapturedUserNotAuthorizedException();
+            accumulator.throwCapturedInvalidParameterException();
+
+            return null;
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (String entityGUID : entityGUIDs)
+        {
+            EntityDetail entity = retrievedEntities.get(entityGUID);
+
+            if (entity != null)
+            {
+                results.add(entity);
+            }
+        }
+
+        return results;
+    }
+}
@@ -2,6 +2,9 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.eventmanagement;
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.auditlog.*;
@@ -11,9 +14,22 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorExc
 
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 
+import java.util.*;
+
 
 /**
  * OMRSRepositoryEventPublisher publishes TypeDef and Instance OMRS Events to the supplied OMRSTopicConnector.
+ *
+ * If the topic connector is configured with an eventBatchSize, the new and updated entity and relationship events
+ * are combined into batch instances events.  A batch is sent when it holds eventBatchSize instances, when it has
+ * been waiting for eventBatchWindow milliseconds, or just before any other instance event is sent, so events
+ * about the same instance are received in the order they occurred.  If an instance changes more than once while
+ * it is in a batch, only its latest version is sent.
+ *
+ * Publishers that send events to the enterprise topic are created with expandBatchEvents set.  The listeners on
+ * that topic (such as the access services) process events one instance at a time, so these publishers never batch
+ * events and they send each instance from a batch instances event (for example, one received from another member
+ * of the cohort) as a new or updated entity or relationship event.
  */
 public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 {
@@ -23,6 +39,21 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 
     private OMRSTopicConnector omrsTopicConnector;
 
+    /*
+     * Pending batch of instance events.  The batch is only used if eventBatchSize is greater than zero.
+     */
+    private int                        eventBatchSize       = 0;
+    private long                       eventBatchWindow     = 0;
+    private Timer                      eventBatchTimer      = null;
+    private TimerTask                  eventBatchTask       = null;
+    private String                     batchSourceName      = null;
+    private OMRSEventOriginator        batchOriginator      = null;
+    private OMRSInstanceEvent          lastBatchedEvent     = null;
+    private Map<String, EntityDetail>  batchEntities        = new LinkedHashMap<>();
+    private Map<String, Relationship>  batchRelationships   = new LinkedHashMap<>();
+
+    private boolean                    expandBatchEvents    = false;
+
 
     /**
      * Typical constructor sets up the local metadata collection id for events.
@@ -35,6 +66,26 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     public OMRSRepositoryEventPublisher(String             publisherName,
                                         OMRSTopicConnector topicConnector,
                                         OMRSAuditLog       auditLog)
+    {
+        this(publisherName, topicConnector, false, auditLog);
+    }
+
+
+    /**
+     * Constructor for a publisher that may be sending events to listeners that are not able to process
+     * batch instances events.
+     *
+     * @param publisherName  name of the cohort (or enterprise virtual repository) that this event publisher
+     *                       is sending events to.
+     * @param topicConnector OMRS Topic to send requests on
+     * @param expandBatchEvents send each instance in a batch instances event as a separate event, and do not
+     *                          batch events
+     * @param auditLog audit log for this component.
+     */
+    public OMRSRepositoryEventPublisher(String             publisherName,
+                                        OMRSTopicConnector topicConnector,
+                                        boolean            expandBatchEvents,
+                                        OMRSAuditLog       auditLog)
     {
         super(publisherName);
 
@@ -62,6 +113,29 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
         }
 
         this.omrsTopicConnector = topicConnector;
+        this.expandBatchEvents = expandBatchEvents;
+
+        if (! expandBatchEvents)
+        {
+            this.eventBatchSize = topicConnector.getEventBatchSize();
+            this.eventBatchWindow = topicConnector.getEventBatchWindow();
+
+            if (eventBatchWindow <= 0)
+            {
+                /*
+                 * Without a window, a partial batch would never be sent.
+                 */
+                this.eventBatchSize = 0;
+            }
+        }
+
+        if (eventBatchSize > 0)
+        {
+            this.eventBatchTimer = new Timer("OMRSRepositoryEventPublisher: " + publisherName, true);
+
+            log.debug("Event Publisher " + publisherName + " batching up to " + eventBatchSize + " instances for "
+                              + eventBatchWindow + " milliseconds");
+        }
 
         log.debug("New Event Publisher: " + publisherName);
     }
@@ -114,6 +188,297 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
      */
     public void sendInstanceEvent(String            sourceName,
                                   OMRSInstanceEvent instanceEvent)
+    {
+        if ((expandBatchEvents) && (instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT))
+        {
+            for (OMRSInstanceEvent expandedEvent : this.expandBatchEvent(instanceEvent))
+            {
+                this.publishInstanceEvent(sourceName, expandedEvent);
+            }
+        }
+        else if (eventBatchSize > 0)
+        {
+            synchronized (this)
+            {
+                if (this.addToBatch(sourceName, instanceEvent))
+                {
+                    return;
+                }
+
+                /*
+                 * The event can not be batched so any pending instances are sent first to preserve the order of events.
+                 */
+                this.sendBatch();
+                this.publishInstanceEvent(sourceName, instanceEvent);
+            }
+        }
+        else
+        {
+            this.publishInstanceEvent(sourceName, instanceEvent);
+        }
+    }
+
+
+    /**
+     * Send any pending batch of instances and stop the batch timer.  This is called when the
+     * publisher is no longer needed.
+     */
+    public synchronized void disconnect()
+    {
+        this.sendBatch();
+
+        if (eventBatchTimer != null)
+        {
+            eventBatchTimer.cancel();
+            eventBatchTimer = null;
+        }
+
+        eventBatchSize = 0;
+    }
+
+
+    /**
+     * Add the instance from a new or updated entity or relationship event to the pending batch.  If this fills the
+     * batch, it is sent.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent properties of the event to send
+     * @return boolean indicating whether the event was added to the batch
+     */
+    private boolean addToBatch(String            sourceName,
+                               OMRSInstanceEvent instanceEvent)
+    {
+        EntityDetail entity       = null;
+        Relationship relationship = null;
+
+        switch (instanceEvent.getInstanceEventType())
+        {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+                entity = instanceEvent.getEntity();
+                break;
+
+            case NEW_RELATIONSHIP_EVENT:
+            case UPDATED_RELATIONSHIP_EVENT:
+                relationship = instanceEvent.getRelationship();
+                break;
+
+            default:
+                return false;
+        }
+
+        String guid = (entity != null) ? entity.getGUID() : ((relationship != null) ? relationship.getGUID() : null);
+
+        if (guid == null)
+        {
+            return false;
+        }
+
+        if ((! batchEntities.isEmpty()) || (! batchRelationships.isEmpty()))
+        {
+            if ((! Objects.equals(sourceName, batchSourceName)) ||
+                (! isSameOriginator(batchOriginator, instanceEvent.getEventOriginator())))
+            {
+                this.sendBatch();
+            }
+        }
+
+        if ((batchEntities.isEmpty()) && (batchRelationships.isEmpty()))
+        {
+            batchSourceName = sourceName;
+            batchOriginator = instanceEvent.getEventOriginator();
+
+            eventBatchTask = new TimerTask()
+            {
+                @Override
+                public void run()
+                {
+                    sendBatchOnTimeout(this);
+                }
+            };
+
+            eventBatchTimer.schedule(eventBatchTask, eventBatchWindow);
+        }
+
+        lastBatchedEvent = instanceEvent;
+
+        if (entity != null)
+        {
+            batchEntities.put(guid, entity);
+        }
+        else
+        {
+            batchRelationships.put(guid, relationship);
+        }
+
+        if (batchEntities.size() + batchRelationships.size() >= eventBatchSize)
+        {
+            this.sendBatch();
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Send the pending batch because its window has expired.  The batch may have been sent (and a new one started)
+     * since the timer task was scheduled, in which case the timer task is ignored.
+     *
+     * @param timerTask task that has expired
+     */
+    private synchronized void sendBatchOnTimeout(TimerTask timerTask)
+    {
+        if (timerTask == eventBatchTask)
+        {
+            this.sendBatch();
+        }
+    }
+
+
+    /**
+     * Send the pending instances as a single batch instances event.  A single instance is sent in its
+     * original event.
+     */
+    private void sendBatch()
+    {
+        if (eventBatchTask != null)
+        {
+            eventBatchTask.cancel();
+            eventBatchTask = null;
+        }
+
+        if ((batchEntities.isEmpty()) && (batchRelationships.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSInstanceEvent batchEvent;
+
+        if (batchEntities.size() + batchRelationships.size() == 1)
+        {
+            /*
+             * There is only one instance so it is sent in its original event.
+             */
+            batchEvent = lastBatchedEvent;
+        }
+        else
+        {
+            batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                               new InstanceGraph(new ArrayList<>(batchEntities.values()),
+                                                                 new ArrayList<>(batchRelationships.values())));
+            batchEvent.setEventOriginator(batchOriginator);
+        }
+
+        String batchEventSourceName = batchSourceName;
+
+        batchEntities = new LinkedHashMap<>();
+        batchRelationships = new LinkedHashMap<>();
+        batchSourceName = null;
+        batchOriginator = null;
+        lastBatchedEvent = null;
+
+        this.publishInstanceEvent(batchEventSourceName, batchEvent);
+    }
+
+
+    /**
+     * Convert a batch instances event into a new or updated event for each of its instances.  The entities are
+     * sent before the relationships that may refer to them.  An instance at its first version is sent as new,
+     * any other as updated.  The previous version of an updated instance is not known.
+     *
+     * @param batchEvent batch instances event
+     * @return list of instance events
+     */
+    private List<OMRSInstanceEvent> expandBatchEvent(OMRSInstanceEvent batchEvent)
+    {
+        final long firstVersion = 1L;
+
+        List<OMRSInstanceEvent> expandedEvents = new ArrayList<>();
+        InstanceGraph           instances      = batchEvent.getInstanceBatch();
+
+        if (instances != null)
+        {
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    if (entity != null)
+                    {
+                        OMRSInstanceEvent entityEvent;
+
+                        if (entity.getVersion() <= firstVersion)
+                        {
+                            entityEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+                        }
+                        else
+                        {
+                            entityEvent = new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, null, entity);
+                        }
+
+                        entityEvent.setEventOriginator(batchEvent.getEventOriginator());
+                        expandedEvents.add(entityEvent);
+                    }
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    if (relationship != null)
+                    {
+                        OMRSInstanceEvent relationshipEvent;
+
+                        if (relationship.getVersion() <= firstVersion)
+                        {
+                            relationshipEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, relationship);
+                        }
+                        else
+                        {
+                            relationshipEvent = new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT, null, relationship);
+                        }
+
+                        relationshipEvent.setEventOriginator(batchEvent.getEventOriginator());
+                        expandedEvents.add(relationshipEvent);
+                    }
+                }
+            }
+        }
+
+        return expandedEvents;
+    }
+
+
+    /**
+     * Test whether two events come from the same originator.
+     *
+     * @param originator1 first originator
+     * @param originator2 second originator
+     * @return boolean result
+     */
+    private boolean isSameOriginator(OMRSEventOriginator  originator1,
+                                     OMRSEventOriginator  originator2)
+    {
+        if ((originator1 == null) || (originator2 == null))
+        {
+            return originator1 == originator2;
+        }
+
+        return Objects.equals(originator1.getMetadataCollectionId(), originator2.getMetadataCollectionId()) &&
+               Objects.equals(originator1.getServerName(), originator2.getServerName()) &&
+               Objects.equals(originator1.getServerType(), originator2.getServerType()) &&
+               Objects.equals(originator1.getOrganizationName(), originator2.getOrganizationName());
+    }
+
+
+    /**
+     * Send the instance event to the OMRS Topic connector.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent properties of the event to send
+     */
+    private void publishInstanceEvent(String            sourceName,
+                                      OMRSInstanceEvent instanceEvent)
     {
         String actionDescription = "Send Instance Event";
 
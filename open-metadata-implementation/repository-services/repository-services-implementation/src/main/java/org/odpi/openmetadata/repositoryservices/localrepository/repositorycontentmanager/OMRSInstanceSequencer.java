@@ -0,0 +1,297 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * OMRSInstanceSequencer sorts and pages the results of a repository query according to the sequencing order
+ * requested by the caller.  Every sequencing order falls back to the GUID of the instances to break ties
+ * so that the order is the same each time the query is issued.  This means a caller can page through the
+ * results with a series of requests without seeing duplicates or missing results.
+ *
+ * When only the first few pages of a large set of results are requested, the requested elements are selected
+ * with a bounded heap rather than sorting all of the results.  If the order is ANY and all of the results fit in
+ * the requested page, they are returned unsorted.
+ *
+ * @param <T> type of instance
+ */
+class OMRSInstanceSequencer<T extends InstanceHeader>
+{
+    private final Comparator<T> comparator;
+    private final boolean       anyOrder;
+
+
+    /**
+     * Set up the comparator for the requested sequencing.
+     *
+     * @param sequencingProperty name of the property used for the PROPERTY_ASCENDING and PROPERTY_DESCENDING orders
+     * @param sequencingOrder requested order - null means ANY
+     * @param propertiesGetter function to extract the properties from an instance
+     */
+    OMRSInstanceSequencer(String                             sequencingProperty,
+                          SequencingOrder                    sequencingOrder,
+                          Function<T, InstanceProperties>    propertiesGetter)
+    {
+        this.anyOrder = ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY));
+
+        Comparator<T> guidComparator = Comparator.comparing(InstanceHeader::getGUID,
+                                                            Comparator.nullsLast(Comparator.naturalOrder()));
+
+        if ((anyOrder) || (sequencingOrder == SequencingOrder.GUID))
+        {
+            this.comparator = guidComparator;
+            return;
+        }
+
+        Comparator<T> orderComparator;
+
+        switch (sequencingOrder)
+        {
+            case CREATION_DATE_RECENT:
+                orderComparator = Comparator.comparing(InstanceAuditHeader::getCreateTime,
+                                                       Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+                break;
+
+            case CREATION_DATE_OLDEST:
+                orderComparator = Comparator.comparing(InstanceAuditHeader::getCreateTime,
+                                                       Comparator.nullsLast(Comparator.<Date>naturalOrder()));
+                break;
+
+            case LAST_UPDATE_RECENT:
+                orderComparator = Comparator.comparing(OMRSInstanceSequencer::getLastUpdateTime,
+                                                       Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+                break;
+
+            case LAST_UPDATE_OLDEST:
+                orderComparator = Comparator.comparing(OMRSInstanceSequencer::getLastUpdateTime,
+                                                       Comparator.nullsLast(Comparator.<Date>naturalOrder()));
+                break;
+
+            case PROPERTY_ASCENDING:
+                orderComparator = (instance1, instance2) -> comparePropertyValues(getPropertyValue(instance1, sequencingProperty, propertiesGetter),
+                                                                                  getPropertyValue(instance2, sequencingProperty, propertiesGetter),
+                                                                                  false);
+                break;
+
+            case PROPERTY_DESCENDING:
+                orderComparator = (instance1, instance2) -> comparePropertyValues(getPropertyValue(instance1, sequencingProperty, propertiesGetter),
+                                                                                  getPropertyValue(instance2, sequencingProperty, propertiesGetter),
+                                                                                  true);
+                break;
+
+            default:
+                orderComparator = (instance1, instance2) -> 0;
+                break;
+        }
+
+        this.comparator = orderComparator.thenComparing(guidComparator);
+    }
+
+
+    /**
+     * Return the requested page of the results in sequence.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param fromElement the starting element number of the instances to return
+     * @param pageSize the maximum number of instances to return - zero means unrestricted
+     * @return requested page of results or null if there are no results in the requested range
+     */
+    List<T> getPage(List<T>   fullResults,
+                    int       fromElement,
+                    int       pageSize)
+    {
+        if ((fullResults == null) || (fullResults.isEmpty()) || (fromElement >= fullResults.size()))
+        {
+            return null;
+        }
+
+        int startIndex = Math.max(fromElement, 0);
+        int endIndex   = fullResults.size();
+
+        if ((pageSize > 0) && (pageSize < endIndex - startIndex))
+        {
+            endIndex = startIndex + pageSize;
+        }
+
+        if ((anyOrder) && (startIndex == 0) && (endIndex == fullResults.size()))
+        {
+            /*
+             * All of the results are returned in one page so there is no need to give them a repeatable order.
+             */
+            return fullResults;
+        }
+
+        List<T> sortedResults;
+
+        if (endIndex <= fullResults.size() / 2)
+        {
+            sortedResults = this.getFirstElements(fullResults, endIndex);
+        }
+        else
+        {
+            sortedResults = new ArrayList<>(fullResults);
+            sortedResults.sort(comparator);
+        }
+
+        if ((startIndex == 0) && (endIndex == sortedResults.size()))
+        {
+            return sortedResults;
+        }
+
+        return new ArrayList<>(sortedResults.subList(startIndex, endIndex));
+    }
+
+
+    /**
+     * Select the first elements in sequence using a heap that holds no more than the requested number of elements.
+     * The heap is ordered with the last element in sequence at its head so it can be replaced when a result
+     * that comes earlier in the sequence is found.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param count number of elements to return
+     * @return sorted list of the first elements
+     */
+    private List<T> getFirstElements(List<T>   fullResults,
+                                     int       count)
+    {
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.max(count, 1), comparator.reversed());
+
+        for (T instance : fullResults)
+        {
+            if (heap.size() < count)
+            {
+                heap.add(instance);
+            }
+            else if (comparator.compare(instance, heap.peek()) < 0)
+            {
+                heap.poll();
+                heap.add(instance);
+            }
+        }
+
+        List<T> sortedResults = new ArrayList<>(heap);
+
+        sortedResults.sort(comparator);
+
+        return sortedResults;
+    }
+
+
+    /**
+     * Return the time the instance was last changed.  This is the create time if it has never been updated.
+     *
+     * @param instance instance to test
+     * @return date
+     */
+    private static Date getLastUpdateTime(InstanceAuditHeader instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime();
+        }
+
+        return instance.getCreateTime();
+    }
+
+
+    /**
+     * Return the value of the sequencing property from an instance.
+     *
+     * @param instance instance to test
+     * @param propertyName name of the sequencing property
+     * @param propertiesGetter function to extract the properties from an instance
+     * @return property value or null if it is not set
+     */
+    private static <T> InstancePropertyValue getPropertyValue(T                                 instance,
+                                                              String                            propertyName,
+                                                              Function<T, InstanceProperties>   propertiesGetter)
+    {
+        if (propertyName == null)
+        {
+            return null;
+        }
+
+        InstanceProperties properties = propertiesGetter.apply(instance);
+
+        if (properties == null)
+        {
+            return null;
+        }
+
+        return properties.getPropertyValue(propertyName);
+    }
+
+
+    /**
+     * Compare two property values.  Primitive values of the same type are compared using their natural order,
+     * enums are compared by ordinal and other values are compared by their string form.
+     * Instances without the property are placed at the end whichever direction is requested.
+     *
+     * @param value1 first value
+     * @param value2 second value
+     * @param descending should the highest value be first
+     * @return comparison result
+     */
+    @SuppressWarnings("unchecked")
+    private static int comparePropertyValues(InstancePropertyValue  value1,
+                                             InstancePropertyValue  value2,
+                                             boolean                descending)
+    {
+        Object sortValue1 = getSortValue(value1);
+        Object sortValue2 = getSortValue(value2);
+
+        if (sortValue1 == null)
+        {
+            return (sortValue2 == null) ? 0 : 1;
+        }
+        else if (sortValue2 == null)
+        {
+            return -1;
+        }
+
+        int result;
+
+        if ((sortValue1 instanceof Comparable) && (sortValue1.getClass().equals(sortValue2.getClass())))
+        {
+            result = ((Comparable<Object>)sortValue1).compareTo(sortValue2);
+        }
+        else
+        {
+            result = sortValue1.toString().compareTo(sortValue2.toString());
+        }
+
+        return descending ? -result : result;
+    }
+
+
+    /**
+     * Return the value used to sort on a property.
+     *
+     * @param propertyValue property value from an instance
+     * @return object to compare or null if there is no value
+     */
+    private static Object getSortValue(InstancePropertyValue  propertyValue)
+    {
+        if (propertyValue == null)
+        {
+            return null;
+        }
+
+        if (propertyValue instanceof PrimitivePropertyValue)
+        {
+            return ((PrimitivePropertyValue)propertyValue).getPrimitiveValue();
+        }
+
+        if (propertyValue instanceof EnumPropertyValue)
+        {
+            return ((EnumPropertyValue)propertyValue).getOrdinal();
+        }
+
+        return propertyValue.toString();
+    }
+}
@@ -3233,28 +3233,11 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
                                                    int                  pageSize) throws PagingErrorException,
                                                                                          PropertyErrorException
     {
-        if (fullResults == null)
-        {
-            return null;
-        }
-
-        if (fullResults.isEmpty())
-        {
-            return null;
-        }
-
-        int fullResultsSize =fullResults.size();
-
-        List<EntityDetail>  sortedResults = fullResults;
-        // todo sort list according to properties
+        OMRSInstanceSequencer<EntityDetail> sequencer = new OMRSInstanceSequencer<>(sequencingProperty,
+                                                                                    sequencingOrder,
+                                                                                    EntityDetail::getProperties);
 
-        if ((pageSize == 0) || (pageSize > sortedResults.size()))
-        {
-            return sortedResults;
-        }
-
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        return sequencer.getPage(fullResults, fromElement, pageSize);
     }
 
 
@@ -3282,33 +3265,11 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
                                                          int                  pageSize) throws PagingErrorException,
                                                                                                PropertyErrorException
     {
-        if (fullResults == null)
-        {
-            return null;
-        }
+        OMRSInstanceSequencer<Relationship> sequencer = new OMRSInstanceSequencer<>(sequencingProperty,
+                                                                                    sequencingOrder,
+                                                                                    Relationship::getProperties);
 
-        if (fullResults.isEmpty())
-        {
-            return null;
-        }
-        int fullResultsSize =fullResults.size();
-
-        if (fromElement > fullResultsSize)
-        {
-            return null;
-        }
-
-
-        List<Relationship>  sortedResults = fullResults;
-        // todo sort list according to properties
-
-        if ((pageSize == 0) || (pageSize > sortedResults.size()))
-        {
-            return sortedResults;
-        }
-
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        return sequencer.getPage(fullResults, fromElement, pageSize);
     }
 
     /**
@@ -3508,27 +3469,6 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
         return s;
     }
 
-    /**
-     * When issuing find requests with paging, it can be that we have all the data, but need to only return
-     * a subset of the data based on the page size. This method is given the from index and a pageSize and calculates
-     * the to index.
-     * @param fromIndex the index into the data to start from.
-     * @param pageSize the page size to use. 0 means no paging.
-     * @param totalSize the total size of the data.
-     * @return the to index.
-     */
-    private int getToIndex(int fromIndex, int pageSize, int totalSize) {
-        int toIndex = 0;
-        if (totalSize < fromIndex + pageSize)
-        {
-            toIndex = totalSize;
-        } else
-        {
-            toIndex = fromIndex + pageSize;
-        }
-        return toIndex;
-    }
-
 
     /**
      * Throws a logic error exception when the repository helper is called with invalid parameters.
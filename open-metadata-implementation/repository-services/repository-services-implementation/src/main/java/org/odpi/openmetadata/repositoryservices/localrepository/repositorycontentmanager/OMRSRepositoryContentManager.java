@@ -18,6 +18,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -46,18 +48,23 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private String                          localServerName                = null;
     private OMRSRepositoryEventManager      outboundRepositoryEventManager = null;
     private String                          openTypesOriginGUID            = null;
-    private Map<String, TypeDef>            knownTypeDefGUIDs              = new HashMap<>();
-    private Map<String, TypeDef>            knownTypeDefNames              = new HashMap<>();
-    private Map<String, AttributeTypeDef>   knownAttributeTypeDefGUIDs     = new HashMap<>();
-    private Map<String, AttributeTypeDef>   knownAttributeTypeDefNames     = new HashMap<>();
-    private Map<String, TypeDef>            activeTypeDefGUIDs             = new HashMap<>();
-    private Map<String, TypeDef>            activeTypeDefNames             = new HashMap<>();
-    private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
-    private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
-    private Map<String, List<TypeDefLink>>  typeDefSuperTypes              = new HashMap<>();
-    private Map<String, InstanceType>       knownInstanceTypes             = new HashMap<>();
+    private Map<String, TypeDef>            knownTypeDefGUIDs              = new ConcurrentHashMap<>();
+    private Map<String, TypeDef>            knownTypeDefNames              = new ConcurrentHashMap<>();
+    private Map<String, AttributeTypeDef>   knownAttributeTypeDefGUIDs     = new ConcurrentHashMap<>();
+    private Map<String, AttributeTypeDef>   knownAttributeTypeDefNames     = new ConcurrentHashMap<>();
+    private Map<String, TypeDef>            activeTypeDefGUIDs             = new ConcurrentHashMap<>();
+    private Map<String, TypeDef>            activeTypeDefNames             = new ConcurrentHashMap<>();
+    private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new ConcurrentHashMap<>();
+    private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new ConcurrentHashMap<>();
     private Map<String, String>             metadataCollectionNames        = new HashMap<>();
 
+    /*
+     * The type hierarchy is precomputed from knownTypeDefNames.  It is rebuilt on first use after
+     * any change to the TypeDefs (signalled by a change to typeDefVersion).
+     */
+    private final AtomicLong                typeDefVersion                 = new AtomicLong(0);
+    private volatile OMRSTypeDefHierarchy   typeDefHierarchy               = null;
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -144,6 +151,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
             knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+            this.typeDefsChanged();
 
             if (isLocallySupported)
             {
@@ -219,6 +227,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownTypeDefGUIDs.put(typeDef.getGUID(), typeDef);
             knownTypeDefNames.put(typeDef.getName(), typeDef);
+            this.typeDefsChanged();
 
             if (localRepositoryConnector != null)
             {
@@ -246,6 +255,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            this.typeDefsChanged();
 
             if (localRepositoryConnector != null)
             {
@@ -414,7 +424,50 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
 
     /**
-     * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
+     * Record that the TypeDefs have changed so the type hierarchy is rebuilt the next time it is used.
+     */
+    private void typeDefsChanged()
+    {
+        typeDefVersion.incrementAndGet();
+    }
+
+
+    /**
+     * Return the precomputed type hierarchy for the current TypeDefs.  The hierarchy is rebuilt if the TypeDefs
+     * have changed since it was built.  Readers do not take a lock unless the hierarchy needs to be rebuilt.
+     *
+     * @return type hierarchy
+     */
+    private OMRSTypeDefHierarchy getTypeDefHierarchy()
+    {
+        OMRSTypeDefHierarchy hierarchy = typeDefHierarchy;
+
+        if ((hierarchy == null) || (hierarchy.getTypeDefVersion() != typeDefVersion.get()))
+        {
+            synchronized (typeDefVersion)
+            {
+                hierarchy = typeDefHierarchy;
+
+                /*
+                 * The version is read before the TypeDefs so a change made while the hierarchy is being built
+                 * results in another rebuild on the next call.
+                 */
+                long currentVersion = typeDefVersion.get();
+
+                if ((hierarchy == null) || (hierarchy.getTypeDefVersion() != currentVersion))
+                {
+                    hierarchy = new OMRSTypeDefHierarchy(currentVersion, knownTypeDefNames);
+                    typeDefHierarchy = hierarchy;
+                }
+            }
+        }
+
+        return hierarchy;
+    }
+
+
+    /**
+     * Return the superTypes for a type from the type hierarchy.
      *
      * @param sourceName source of the request (used for logging)
      * @param typeName name of type to process
@@ -427,81 +480,44 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String  thisMethodName = "getSuperTypes";
 
-        List<TypeDefLink>   typeHierarchy = typeDefSuperTypes.get(typeName);
+        List<TypeDefLink>   typeHierarchy = this.getTypeDefHierarchy().getSuperTypes(typeName);
 
         if (typeHierarchy == null)
         {
-            /*
-             * The type hierarchy is not known at this time (it is evaluated lazily).
-             */
-            typeHierarchy = new ArrayList<>();
-
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
-
-            if (typeDef != null)
-            {
-                TypeDefLink superTypeLink = typeDef.getSuperType();
-
-                while (superTypeLink != null)
-                {
-                    String superTypeName = superTypeLink.getName();
-
-                    if (superTypeName != null)
-                    {
-                        log.debug(typeName + " has super type " + superTypeName);
-
-                        typeHierarchy.add(superTypeLink);
-
-                        /*
-                         * Retrieve the TypeDef for this super type
-                         */
-                        TypeDef superTypeDef = knownTypeDefNames.get(superTypeName);
-
-                        if (superTypeDef != null)
-                        {
-                            /*
-                             * Retrieve the super type for this super typeDef.  It will be null if the type is top-level.
-                             */
-                            superTypeLink = superTypeDef.getSuperType();
-                        }
-                        else
-                        {
-                            log.error(superTypeName + " supertype is not known in TypeDef cache");
-                            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                        }
-                    }
-                    else
-                    {
-                        log.error("Corrupted TypeDef cache, no name for " + superTypeLink.toString());
-                        throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                    }
-                }
-
-                /*
-                 * Cache the resulting superType list
-                 */
-                typeDefSuperTypes.put(typeName, typeHierarchy);
-            }
-            else
-            {
-                log.error(typeName + " type is not known in TypeDef cache");
-                throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-            }
+            log.error(typeName + " type is not known in TypeDef cache or has an unknown super type");
+            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
         }
-
-        if (typeHierarchy.isEmpty())
+        else if (typeHierarchy.isEmpty())
         {
             /*
-             * The type hierarchy has been evaluated and this type has no supertypes.
+             * This type has no supertypes.
              */
             return null;
         }
-        else
+
+        return new ArrayList<>(typeHierarchy);
+    }
+
+
+    /**
+     * Throw a logic error if the type is not known or its super types can not be resolved.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param hierarchy type hierarchy
+     * @param typeName name of type to process
+     * @param methodName calling method
+     */
+    private void validateTypeInHierarchy(String                  sourceName,
+                                         OMRSTypeDefHierarchy    hierarchy,
+                                         String                  typeName,
+                                         String                  methodName)
+    {
+        final String  thisMethodName = "validateTypeInHierarchy";
+
+        if (! hierarchy.isKnownType(typeName))
         {
-            /*
-             * The type hierarchy is known and can be returned directly.
-             */
-            return typeHierarchy;
+            log.error(typeName + " type is not known in TypeDef cache or has an unknown super type");
+            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
         }
     }
 
@@ -521,8 +537,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOf";
 
-        log.debug("IsTypeOf: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeName = " + expectedTypeName);
-
         if ((expectedTypeName != null) && (actualTypeName != null))
         {
             /*
@@ -530,30 +544,17 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
              */
             if (actualTypeName.equals(expectedTypeName))
             {
-                log.debug("Simple match success");
                 return true;
             }
 
             /*
              * Looking for a match in the superTypes.
              */
-            List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+            OMRSTypeDefHierarchy hierarchy = this.getTypeDefHierarchy();
 
-            if (typeHierarchy != null)
-            {
-                for (TypeDefLink superType : typeHierarchy)
-                {
-                    if (superType != null)
-                    {
-                        if (expectedTypeName.equals(superType.getName()))
-                        {
-                            log.debug("SuperType match success");
-                            return true;
-                        }
-                        log.debug("No match with " + superType.getName());
-                    }
-                }
-            }
+            this.validateTypeInHierarchy(sourceName, hierarchy, actualTypeName, methodName);
+
+            return hierarchy.isTypeOf(actualTypeName, expectedTypeName);
         }
 
         return false;
@@ -577,8 +578,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOfByGUID";
 
-        log.debug("IsTypeOfByGUID: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeGUID = " + expectedTypeGUID);
-
         if ((expectedTypeGUID != null) && (actualTypeGUID != null))
         {
             /*
@@ -586,30 +585,17 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
              */
             if (actualTypeGUID.equals(expectedTypeGUID))
             {
-                log.debug("Simple match success");
                 return true;
             }
 
             /*
              * Looking for a match in the superTypes.
              */
-           List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+            OMRSTypeDefHierarchy hierarchy = this.getTypeDefHierarchy();
 
-            if (typeHierarchy != null)
-            {
-                for (TypeDefLink superType : typeHierarchy)
-                {
-                    if (superType != null)
-                    {
-                        if (expectedTypeGUID.equals(superType.getGUID()))
-                        {
-                            log.debug("SuperType match success");
-                            return true;
-                        }
-                        log.debug("No match with " + superType.getGUID());
-                    }
-                }
-            }
+            this.validateTypeInHierarchy(sourceName, hierarchy, actualTypeName, methodName);
+
+            return hierarchy.isTypeOfByGUID(actualTypeName, expectedTypeGUID);
         }
 
         return false;
@@ -638,7 +624,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (isValidTypeCategory(sourceName, category, typeName, methodName))
         {
-            InstanceType    instanceType = knownInstanceTypes.get(typeName);
+            Map<String, InstanceType> instanceTypes = this.getTypeDefHierarchy().getInstanceTypes();
+            InstanceType              instanceType  = instanceTypes.get(typeName);
 
             if (instanceType != null)
             {
@@ -739,7 +726,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 /*
                  * Cache the instance type for next time
                  */
-                knownInstanceTypes.put(typeName, instanceType);
+                instanceTypes.put(typeName, instanceType);
 
                 return instanceType;
             }
@@ -878,23 +865,15 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                          * ClassificationDefs with supertypes then we need to account for any entities that the ClassificationDef
                          * supertype can introduce.
                          */
-                        Set<String> entityTypes = new HashSet<>();
-                        TypeDef typeDef = getTypeDefByName(thisMethodName,entityTypeName);
-                        entityTypes.add(entityTypeName);
-                        while ( typeDef.getSuperType() !=null)
-                        {
-                            TypeDefLink superTypeLink=typeDef.getSuperType();
-                            String parentName= superTypeLink.getName();
-                            entityTypes.add(parentName);
-                            typeDef  = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
-                        }
+                        OMRSTypeDefHierarchy hierarchy = this.getTypeDefHierarchy();
+
+                        this.validateTypeInHierarchy(sourceName, hierarchy, entityTypeName, methodName);
 
                         for (TypeDefLink  allowedEntityDefLink : entityDefs)
                         {
                             if (allowedEntityDefLink != null)
                             {
-                                String allowedTypeName = allowedEntityDefLink.getName();
-                                if (entityTypes.contains(allowedTypeName))
+                                if (hierarchy.isTypeOf(entityTypeName, allowedEntityDefLink.getName()))
                                 {
                                     return true;
                                 }
@@ -1161,6 +1140,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     public TypeDef  getTypeDefByName (String    sourceName,
                                       String    typeDefName)
     {
+        if (typeDefName == null)
+        {
+            return null;
+        }
+
         return knownTypeDefNames.get(typeDefName);
     }
 
@@ -1177,6 +1161,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     public AttributeTypeDef getAttributeTypeDefByName (String    sourceName,
                                                        String    attributeTypeDefName)
     {
+        if (attributeTypeDefName == null)
+        {
+            return null;
+        }
+
         return knownAttributeTypeDefNames.get(attributeTypeDefName);
     }
 
@@ -1362,25 +1351,40 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             throwContentManagerLogicError(sourceName, methodName, thisMethodName);
         }
 
-        List<TypeDefAttribute>    propertiesDefinition = typeDef.getPropertiesDefinition();
+        List<TypeDefAttribute>    cachedPropertiesDefinition = this.getTypeDefHierarchy().getAllProperties(typeDef);
 
-        /*
-         * If propertiesDefinition is null, it means the TypeDef has no properties defined.  However the superType
-         * may have properties defined and so we need an array to accumulate the property definitions into.
-         */
-        if (propertiesDefinition == null)
+        if (cachedPropertiesDefinition != null)
         {
-            propertiesDefinition = new ArrayList<>();
+            return new ArrayList<>(cachedPropertiesDefinition);
         }
 
         /*
-         * Work up the TypeDef hierarchy extracting the property definitions.
+         * The TypeDef is not the cached version so work up its TypeDef hierarchy extracting the property definitions.
          */
+        List<TypeDefAttribute>    propertiesDefinition = new ArrayList<>();
+
+        if (typeDef.getPropertiesDefinition() != null)
+        {
+            propertiesDefinition.addAll(typeDef.getPropertiesDefinition());
+        }
+
         TypeDefLink            superTypeLink = typeDef.getSuperType();
 
         while (superTypeLink != null)
         {
-            TypeDef                superTypeDef                  = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
+            TypeDef                superTypeDef = null;
+
+            if (superTypeLink.getGUID() != null)
+            {
+                superTypeDef = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
+            }
+
+            if (superTypeDef == null)
+            {
+                log.error(superTypeLink.getName() + " supertype is not known in TypeDef cache");
+                throwContentManagerLogicError(sourceName, methodName, thisMethodName);
+            }
+
             List<TypeDefAttribute> superTypePropertiesDefinition = superTypeDef.getPropertiesDefinition();
 
             if (superTypePropertiesDefinition != null)
@@ -1395,6 +1399,40 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Return the definitions of all of the properties in the supplied TypeDef and all of its super-types
+     * indexed by property name.
+     *
+     * @param sourceName name of caller.
+     * @param typeDef TypeDef to query.
+     * @param methodName calling method.
+     * @return map of property name to property definition.
+     */
+    Map<String, TypeDefAttribute> getAllPropertiesByNameForTypeDef(String  sourceName,
+                                                                   TypeDef typeDef,
+                                                                   String  methodName)
+    {
+        Map<String, TypeDefAttribute> cachedPropertiesDefinition = this.getTypeDefHierarchy().getPropertiesByName(typeDef);
+
+        if (cachedPropertiesDefinition != null)
+        {
+            return cachedPropertiesDefinition;
+        }
+
+        Map<String, TypeDefAttribute> propertiesDefinition = new HashMap<>();
+
+        for (TypeDefAttribute typeDefAttribute : this.getAllPropertiesForTypeDef(sourceName, typeDef, methodName))
+        {
+            if ((typeDefAttribute != null) && (typeDefAttribute.getAttributeName() != null))
+            {
+                propertiesDefinition.put(typeDefAttribute.getAttributeName(), typeDefAttribute);
+            }
+        }
+
+        return propertiesDefinition;
+    }
+
+
     /**
      * Return a boolean flag indicating whether the list of TypeDefs passed are compatible with the
      * all known typedefs.
@@ -1418,6 +1456,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
                     knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    this.typeDefsChanged();
                 }
             }
             else
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRegexMatcher;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -1845,9 +1846,9 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             typeDefCategoryName = typeDef.getCategory().getName();
         }
 
-        List<TypeDefAttribute> typeDefAttributes = repositoryContentManager.getAllPropertiesForTypeDef(sourceName,
-                                                                                                       typeDef,
-                                                                                                       methodName);
+        Map<String, TypeDefAttribute> typeDefAttributes = repositoryContentManager.getAllPropertiesByNameForTypeDef(sourceName,
+                                                                                                                    typeDef,
+                                                                                                                    methodName);
 
         if (typeDefAttributes == null)
         {
@@ -1895,30 +1896,21 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             }
 
             AttributeTypeDefCategory  propertyDefinitionType = null;
-            boolean                   recognizedProperty = false;
+            TypeDefAttribute          typeDefAttribute       = typeDefAttributes.get(propertyName);
 
-            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            if (typeDefAttribute != null)
             {
-                if (typeDefAttribute != null)
+                AttributeTypeDef  attributeTypeDef = typeDefAttribute.getAttributeType();
+                if (attributeTypeDef == null)
                 {
-                    if (propertyName.equals(typeDefAttribute.getAttributeName()))
-                    {
-                        recognizedProperty = true;
-
-                        AttributeTypeDef  attributeTypeDef = typeDefAttribute.getAttributeType();
-                        if (attributeTypeDef == null)
-                        {
-                            propertyDefinitionType = AttributeTypeDefCategory.PRIMITIVE;
-                        }
-                        else
-                        {
-                            propertyDefinitionType = attributeTypeDef.getCategory();
-                        }
-                    }
+                    propertyDefinitionType = AttributeTypeDefCategory.PRIMITIVE;
+                }
+                else
+                {
+                    propertyDefinitionType = attributeTypeDef.getCategory();
                 }
             }
-
-            if (! recognizedProperty)
+            else
             {
                 OMRSErrorCode errorCode    = OMRSErrorCode.BAD_PROPERTY_FOR_TYPE;
                 String        errorMessage = errorCode.getErrorMessageId()
@@ -3221,7 +3213,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                 try
                                                 {
                                                     if ((instancePropertyValueString.contains(matchPropertyValueString)) ||
-                                                        (instancePropertyValueString.matches(matchPropertyValueString)))
+                                                        (OMRSRegexMatcher.getMatcher(matchPropertyValueString).matches(instancePropertyValueString)))
                                                     {
                                                         matchingProperties++;
                                                     }
@@ -3294,7 +3286,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         }
                         else
                         {
-                            if (matchValue.matches(expectedValue))
+                            if (OMRSRegexMatcher.getMatcher(expectedValue).matches(matchValue))
                             {
                                 result = true;
                             }
@@ -3608,6 +3600,29 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                                InstanceProperties  properties,
                                                                String              searchCriteria,
                                                                String              methodName) throws RepositoryErrorException
+    {
+        return this.verifyInstancePropertiesMatchSearchCriteria(sourceName,
+                                                                properties,
+                                                                OMRSRegexMatcher.getMatcher(searchCriteria),
+                                                                methodName);
+    }
+
+
+    /**
+     * Search for property values matching the search criteria (a regular expression that has been
+     * turned into a matcher so it is only compiled once for a query)
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param properties list of properties associated with the in instance
+     * @param searchMatcher matcher for the regular expression used for testing the property values
+     * @param methodName name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException the properties are not properly set up in the instance
+     */
+    public boolean verifyInstancePropertiesMatchSearchCriteria(String              sourceName,
+                                                               InstanceProperties  properties,
+                                                               OMRSRegexMatcher    searchMatcher,
+                                                               String              methodName) throws RepositoryErrorException
     {
         if (properties == null)
         {
@@ -3632,7 +3647,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (searchMatcher.matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -3646,7 +3661,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (searchMatcher.matches(enumValue))
                             {
                                 return true;
                             }
@@ -3658,7 +3673,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         structPropertyValue.getAttributes(),
-                                                                        searchCriteria,
+                                                                        searchMatcher,
                                                                         methodName))
                         {
                             return true;
@@ -3670,7 +3685,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         arrayPropertyValue.getArrayValues(),
-                                                                        searchCriteria,
+                                                                        searchMatcher,
                                                                         methodName))
                         {
                             return true;
@@ -3682,7 +3697,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         mapPropertyValue.getMapValues(),
-                                                                        searchCriteria,
+                                                                        searchMatcher,
                                                                         methodName))
                         {
                             return true;
@@ -0,0 +1,292 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSTypeDefHierarchy is an immutable snapshot of the type hierarchy of the TypeDefs known to the
+ * OMRSRepositoryContentManager.  For each type it holds the chain of super types, the names and GUIDs of the
+ * type and all of its super types, and the property definitions from the type and all of its super types.
+ * This means the type checks made for every instance returned from a query are simple set lookups.
+ *
+ * A new snapshot is built by the OMRSRepositoryContentManager whenever the TypeDefs change.  It is tagged with the
+ * version of the TypeDefs it was built from so the content manager can tell when it is out of date.
+ * Types whose super type chain can not be resolved are left out of the snapshot.
+ */
+class OMRSTypeDefHierarchy
+{
+    private final long                                        typeDefVersion;
+    private final Map<String, TypeDef>                        typeDefs           = new HashMap<>();
+    private final Map<String, List<TypeDefLink>>              superTypes         = new HashMap<>();
+    private final Map<String, Set<String>>                    superTypeNames     = new HashMap<>();
+    private final Map<String, Set<String>>                    superTypeGUIDs     = new HashMap<>();
+    private final Map<String, List<TypeDefAttribute>>         allProperties      = new HashMap<>();
+    private final Map<String, Map<String, TypeDefAttribute>>  propertiesByName   = new HashMap<>();
+
+    /*
+     * The instance types are created lazily by the content manager but are only valid for this snapshot.
+     */
+    private final Map<String, InstanceType>                   instanceTypes      = new ConcurrentHashMap<>();
+
+
+    /**
+     * Build the hierarchy from the known TypeDefs.
+     *
+     * @param typeDefVersion version of the TypeDefs used to build the hierarchy
+     * @param knownTypeDefs TypeDefs indexed by name
+     */
+    OMRSTypeDefHierarchy(long                   typeDefVersion,
+                         Map<String, TypeDef>   knownTypeDefs)
+    {
+        this.typeDefVersion = typeDefVersion;
+
+        for (TypeDef typeDef : knownTypeDefs.values())
+        {
+            if ((typeDef == null) || (typeDef.getName() == null))
+            {
+                continue;
+            }
+
+            String                 typeName       = typeDef.getName();
+            List<TypeDefLink>      typeSuperTypes = new ArrayList<>();
+            Set<String>            typeNames      = new HashSet<>();
+            Set<String>            typeGUIDs      = new HashSet<>();
+            List<TypeDefAttribute> typeProperties = new ArrayList<>();
+            boolean                resolved       = true;
+
+            typeNames.add(typeName);
+            if (typeDef.getGUID() != null)
+            {
+                typeGUIDs.add(typeDef.getGUID());
+            }
+            this.addProperties(typeProperties, typeDef);
+
+            TypeDefLink superTypeLink = typeDef.getSuperType();
+
+            while (superTypeLink != null)
+            {
+                String  superTypeName = superTypeLink.getName();
+                TypeDef superTypeDef  = null;
+
+                if ((superTypeName != null) && (! typeNames.contains(superTypeName)))
+                {
+                    superTypeDef = knownTypeDefs.get(superTypeName);
+                }
+
+                if (superTypeDef == null)
+                {
+                    /*
+                     * Unknown super type, missing name or a loop in the hierarchy.
+                     */
+                    resolved = false;
+                    break;
+                }
+
+                typeSuperTypes.add(superTypeLink);
+                typeNames.add(superTypeName);
+                if (superTypeLink.getGUID() != null)
+                {
+                    typeGUIDs.add(superTypeLink.getGUID());
+                }
+                this.addProperties(typeProperties, superTypeDef);
+
+                superTypeLink = superTypeDef.getSuperType();
+            }
+
+            if (resolved)
+            {
+                Map<String, TypeDefAttribute> typePropertiesByName = new HashMap<>();
+
+                for (TypeDefAttribute typeDefAttribute : typeProperties)
+                {
+                    if ((typeDefAttribute != null) && (typeDefAttribute.getAttributeName() != null))
+                    {
+                        typePropertiesByName.put(typeDefAttribute.getAttributeName(), typeDefAttribute);
+                    }
+                }
+
+                typeDefs.put(typeName, typeDef);
+                superTypes.put(typeName, Collections.unmodifiableList(typeSuperTypes));
+                superTypeNames.put(typeName, Collections.unmodifiableSet(typeNames));
+                superTypeGUIDs.put(typeName, Collections.unmodifiableSet(typeGUIDs));
+                allProperties.put(typeName, Collections.unmodifiableList(typeProperties));
+                propertiesByName.put(typeName, Collections.unmodifiableMap(typePropertiesByName));
+            }
+        }
+    }
+
+
+    /**
+     * Add the property definitions of a TypeDef to the accumulated list.
+     *
+     * @param properties accumulated list
+     * @param typeDef TypeDef to process
+     */
+    private void addProperties(List<TypeDefAttribute> properties,
+                               TypeDef                typeDef)
+    {
+        List<TypeDefAttribute> propertiesDefinition = typeDef.getPropertiesDefinition();
+
+        if (propertiesDefinition != null)
+        {
+            properties.addAll(propertiesDefinition);
+        }
+    }
+
+
+    /**
+     * Return the version of the TypeDefs used to build this hierarchy.
+     *
+     * @return version number
+     */
+    long getTypeDefVersion()
+    {
+        return typeDefVersion;
+    }
+
+
+    /**
+     * Return whether the type's super type chain was resolved.
+     *
+     * @param typeName name of the type
+     * @return boolean
+     */
+    boolean isKnownType(String typeName)
+    {
+        return (typeName != null) && (superTypes.containsKey(typeName));
+    }
+
+
+    /**
+     * Return the super types of a type, closest first.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable list of links (empty if top-level) or null if the type is not known
+     */
+    List<TypeDefLink> getSuperTypes(String typeName)
+    {
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        return superTypes.get(typeName);
+    }
+
+
+    /**
+     * Return whether a type is the same as, or a sub type of, the expected type.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeName name of the expected type
+     * @return boolean
+     */
+    boolean isTypeOf(String actualTypeName,
+                     String expectedTypeName)
+    {
+        if ((actualTypeName == null) || (expectedTypeName == null))
+        {
+            return false;
+        }
+
+        Set<String> typeNames = superTypeNames.get(actualTypeName);
+
+        return (typeNames != null) && (typeNames.contains(expectedTypeName));
+    }
+
+
+    /**
+     * Return whether a type is the same as, or a sub type of, the type with the expected GUID.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeGUID unique identifier of the expected type
+     * @return boolean
+     */
+    boolean isTypeOfByGUID(String actualTypeName,
+                           String expectedTypeGUID)
+    {
+        if ((actualTypeName == null) || (expectedTypeGUID == null))
+        {
+            return false;
+        }
+
+        Set<String> typeGUIDs = superTypeGUIDs.get(actualTypeName);
+
+        return (typeGUIDs != null) && (typeGUIDs.contains(expectedTypeGUID));
+    }
+
+
+    /**
+     * Return the property definitions for a type and all of its super types.  The properties are
+     * only returned if the supplied TypeDef is the version used to build the hierarchy.
+     *
+     * @param typeDef TypeDef of the type
+     * @return unmodifiable list of property definitions or null if the type is not known
+     */
+    List<TypeDefAttribute> getAllProperties(TypeDef typeDef)
+    {
+        if (this.isCachedTypeDef(typeDef))
+        {
+            return allProperties.get(typeDef.getName());
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the property definitions for a type and all of its super types indexed by property name.
+     * The properties are only returned if the supplied TypeDef is the version used to build the hierarchy.
+     *
+     * @param typeDef TypeDef of the type
+     * @return unmodifiable map of property definitions or null if the type is not known
+     */
+    Map<String, TypeDefAttribute> getPropertiesByName(TypeDef typeDef)
+    {
+        if (this.isCachedTypeDef(typeDef))
+        {
+            return propertiesByName.get(typeDef.getName());
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the cache of instance types that belongs to this snapshot.
+     *
+     * @return map of type name to instance type
+     */
+    Map<String, InstanceType> getInstanceTypes()
+    {
+        return instanceTypes;
+    }
+
+
+    /**
+     * Test whether the supplied TypeDef is the one used to build the hierarchy.
+     *
+     * @param typeDef TypeDef to test
+     * @return boolean
+     */
+    private boolean isCachedTypeDef(TypeDef typeDef)
+    {
+        if ((typeDef == null) || (typeDef.getName() == null))
+        {
+            return false;
+        }
+
+        TypeDef cachedTypeDef = typeDefs.get(typeDef.getName());
+
+        return (cachedTypeDef != null) &&
+               (Objects.equals(cachedTypeDef.getGUID(), typeDef.getGUID())) &&
+               (cachedTypeDef.getVersion() == typeDef.getVersion());
+    }
+}
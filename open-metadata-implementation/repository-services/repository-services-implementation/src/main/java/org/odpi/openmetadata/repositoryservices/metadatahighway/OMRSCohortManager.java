@@ -41,6 +41,7 @@ public class OMRSCohortManager
     private CohortConnectionStatus     cohortConnectionStatus       = CohortConnectionStatus.NOT_INITIALIZED;
 
     private OMRSRepositoryEventManager localRepositoryEventManager  = null;
+    private OMRSRepositoryEventPublisher localRepositoryEventPublisher = null;
 
     private OMRSAuditLog               auditLog;
 
@@ -174,6 +175,7 @@ public class OMRSCohortManager
                                                                                                              auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
                     localRepositoryEventManager.registerRepositoryEventProcessor(repositoryEventPublisher);
+                    localRepositoryEventPublisher = repositoryEventPublisher;
                 }
 
                 /*
@@ -215,6 +217,7 @@ public class OMRSCohortManager
             {
                 OMRSRepositoryEventPublisher enterpriseEventPublisher = new OMRSRepositoryEventPublisher("Cohort to Enterprise",
                                                                                                          enterpriseTopicConnector,
+                                                                                                         true,
                                                                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
                 this.cohortRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
@@ -365,6 +368,14 @@ public class OMRSCohortManager
         {
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTING;
 
+            /*
+             * Send any batched events from the local repository before the topic is closed.
+             */
+            if (localRepositoryEventPublisher != null)
+            {
+                localRepositoryEventPublisher.disconnect();
+            }
+
             if (cohortRegistry != null)
             {
                 cohortRegistry.disconnectFromCohort(permanent);
@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.rest.server;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.adminservices.configuration.registration.CommonServicesDescription;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -19,6 +18,7 @@ import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHigh
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstance;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstanceHandler;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1935,6 +1935,65 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  Entities that are not known,
+     * or are only proxies in the metadata collection, are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures or
+     * InvalidParameterException the list of guids, or one of the guids, is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntityDetails(String           serverName,
+                                               String           userId,
+                                               GUIDListRequest  guidListRequest)
+    {
+        final  String   methodName = "getEntityDetails";
+
+        log.debug("Calling method: " + methodName);
+
+        EntityListResponse response = new EntityListResponse();
+        List<String>       guids    = null;
+
+        if (guidListRequest != null)
+        {
+            guids = guidListRequest.getGUIDs();
+        }
+
+        try
+        {
+            OMRSMetadataCollection localMetadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setEntities(localMetadataCollection.getEntityDetails(userId, guids));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -7616,8 +7675,7 @@ public class OMRSRepositoryRESTServices
             {
                 try
                 {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    String       jsonString = objectMapper.writeValueAsString(requestBody);
+                    String       jsonString = JSONSerializer.writeValueAsString(requestBody);
 
                     String serverURLRoot = instance.getLocalServerURL();
 
@@ -0,0 +1,444 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.FindEntitiesByPropertyExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that ParallelFederationControl calls the cohort members at the same time, stops waiting for members
+ * that exceed the federation timeout, combines the exceptions from the members and returns the same results
+ * as SequentialFederationControl.
+ */
+public class ParallelFederationControlTest
+{
+    private static final String userId     = "TestUser";
+    private static final String methodName = "testFederation";
+
+    private ExecutorService federationExecutor;
+
+
+    /**
+     * Metadata collection that returns a fixed list of entities from findEntitiesByProperty, or throws an exception.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private String             memberId;
+        private List<EntityDetail> entities;
+        private Exception          error         = null;
+        private long               delay         = 0;
+        private CountDownLatch     startLatch    = null;
+
+        private volatile Thread    callingThread = null;
+        private volatile boolean   allStarted    = false;
+        private volatile boolean   interrupted   = false;
+        private CountDownLatch     finished      = new CountDownLatch(1);
+
+
+        TestMetadataCollection(String             metadataCollectionId,
+                               List<EntityDetail> entities)
+        {
+            super(null, metadataCollectionId, null, null, metadataCollectionId);
+
+            this.memberId = metadataCollectionId;
+            this.entities = entities;
+        }
+
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return memberId;
+        }
+
+
+        @Override
+        public List<EntityDetail> findEntitiesByProperty(String                    userId,
+                                                         String                    entityTypeGUID,
+                                                         InstanceProperties        matchProperties,
+                                                         MatchCriteria             matchCriteria,
+                                                         int                       fromEntityElement,
+                                                         List<InstanceStatus>      limitResultsByStatus,
+                                                         List<String>              limitResultsByClassification,
+                                                         Date                      asOfTime,
+                                                         String                    sequencingProperty,
+                                                         SequencingOrder           sequencingOrder,
+                                                         int                       pageSize) throws PropertyErrorException,
+                                                                                                    UserNotAuthorizedException
+        {
+            callingThread = Thread.currentThread();
+
+            try
+            {
+                if (startLatch != null)
+                {
+                    startLatch.countDown();
+                    allStarted = startLatch.await(10, TimeUnit.SECONDS);
+                }
+
+                if (delay > 0)
+                {
+                    Thread.sleep(delay);
+                }
+            }
+            catch (InterruptedException exc)
+            {
+                interrupted = true;
+            }
+            finally
+            {
+                finished.countDown();
+            }
+
+            if (interrupted)
+            {
+                throw new IllegalStateException("Request to " + memberId + " cancelled");
+            }
+
+            if (error instanceof PropertyErrorException)
+            {
+                throw (PropertyErrorException)error;
+            }
+            if (error instanceof UserNotAuthorizedException)
+            {
+                throw (UserNotAuthorizedException)error;
+            }
+            if (error instanceof RuntimeException)
+            {
+                throw (RuntimeException)error;
+            }
+
+            return entities;
+        }
+    }
+
+
+    /**
+     * Repository connector for a cohort member.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        TestRepositoryConnector(String                 repositoryName,
+                                OMRSMetadataCollection metadataCollection)
+        {
+            super.setRepositoryName(repositoryName);
+            super.metadataCollection = metadataCollection;
+        }
+    }
+
+
+    @BeforeMethod
+    public void createFederationExecutor()
+    {
+        federationExecutor = Executors.newFixedThreadPool(4);
+    }
+
+
+    @AfterMethod
+    public void shutdownFederationExecutor()
+    {
+        federationExecutor.shutdownNow();
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    private List<EntityDetail> getEntities(EntityDetail... entities)
+    {
+        List<EntityDetail> entityList = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            entityList.add(entity);
+        }
+
+        return entityList;
+    }
+
+
+    private FindEntitiesByPropertyExecutor getExecutor()
+    {
+        return new FindEntitiesByPropertyExecutor(userId,
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  0,
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  0,
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  methodName);
+    }
+
+
+    /**
+     * Return the GUID and version of the retrieved entities so results can be compared regardless of order.
+     *
+     * @param entities retrieved entities
+     * @return map of GUID to version
+     */
+    private Map<String, Long> getVersions(List<EntityDetail> entities)
+    {
+        Map<String, Long> versions = new TreeMap<>();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                versions.put(entity.getGUID(), entity.getVersion());
+            }
+        }
+
+        return versions;
+    }
+
+
+    private List<EntityDetail> runParallel(List<OMRSRepositoryConnector> cohortConnectors,
+                                           long                          federationTimeout) throws Exception
+    {
+        FederationControl              federationControl = new ParallelFederationControl(userId,
+                                                                                         cohortConnectors,
+                                                                                         federationExecutor,
+                                                                                         federationTimeout,
+                                                                                         methodName);
+        FindEntitiesByPropertyExecutor executor          = getExecutor();
+
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(null);
+    }
+
+
+    /**
+     * The query executors report that they are complete after each cohort member so SequentialFederationControl
+     * would stop after the first member.  Each member is called in turn through its own SequentialFederationControl
+     * to gather the results from all of the members on the caller's thread.
+     *
+     * @param cohortConnectors cohort members
+     * @return combined results
+     * @throws Exception exception from the executor
+     */
+    private List<EntityDetail> runSequential(List<OMRSRepositoryConnector> cohortConnectors) throws Exception
+    {
+        FindEntitiesByPropertyExecutor executor = getExecutor();
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            List<OMRSRepositoryConnector> memberConnectors = new ArrayList<>();
+
+            memberConnectors.add(cohortConnector);
+
+            new SequentialFederationControl(userId, memberConnectors, methodName).executeCommand(executor);
+        }
+
+        return executor.getResults(null);
+    }
+
+
+    @Test public void testParallelFanOut() throws Exception
+    {
+        CountDownLatch                startLatch       = new CountDownLatch(3);
+        List<TestMetadataCollection>  collections      = new ArrayList<>();
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            TestMetadataCollection collection = new TestMetadataCollection("Member" + i, getEntities(getEntity("Entity" + i, 1)));
+
+            collection.startLatch = startLatch;
+            collections.add(collection);
+            cohortConnectors.add(new TestRepositoryConnector("Member" + i, collection));
+        }
+
+        List<EntityDetail> results = runParallel(cohortConnectors, 0);
+
+        assertEquals(getVersions(results).keySet().size(), 3);
+
+        for (TestMetadataCollection collection : collections)
+        {
+            /*
+             * Each member waits for all of the members to start so this only passes if they are called together.
+             */
+            assertTrue(collection.allStarted);
+            assertNotNull(collection.callingThread);
+            assertFalse(collection.callingThread == Thread.currentThread());
+        }
+    }
+
+
+    @Test public void testTimeout() throws Exception
+    {
+        TestMetadataCollection        fastCollection   = new TestMetadataCollection("FastMember", getEntities(getEntity("Entity1", 1)));
+        TestMetadataCollection        slowCollection   = new TestMetadataCollection("SlowMember", getEntities(getEntity("Entity2", 1)));
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        slowCollection.delay = 30000;
+
+        cohortConnectors.add(new TestRepositoryConnector("FastMember", fastCollection));
+        cohortConnectors.add(new TestRepositoryConnector("SlowMember", slowCollection));
+
+        long               startTime = System.currentTimeMillis();
+        List<EntityDetail> results   = runParallel(cohortConnectors, 500);
+
+        assertTrue(System.currentTimeMillis() - startTime < 10000);
+        assertEquals(getVersions(results).keySet().toString(), "[Entity1]");
+
+        /*
+         * The request to the slow member is cancelled.
+         */
+        assertTrue(slowCollection.finished.await(10, TimeUnit.SECONDS));
+        assertTrue(slowCollection.interrupted);
+    }
+
+
+    @Test public void testExceptionAggregation() throws Exception
+    {
+        TestMetadataCollection propertyErrorCollection = new TestMetadataCollection("Member1", null);
+        TestMetadataCollection userErrorCollection     = new TestMetadataCollection("Member2", null);
+        TestMetadataCollection runtimeErrorCollection  = new TestMetadataCollection("Member3", null);
+
+        propertyErrorCollection.error = new PropertyErrorException(400, "Test", methodName, "Test", null, null);
+        userErrorCollection.error = new UserNotAuthorizedException(400, "Test", methodName, "Test", null, null);
+        runtimeErrorCollection.error = new IllegalStateException("Test");
+
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        cohortConnectors.add(new TestRepositoryConnector("Member1", propertyErrorCollection));
+        cohortConnectors.add(new TestRepositoryConnector("Member2", userErrorCollection));
+        cohortConnectors.add(new TestRepositoryConnector("Member3", runtimeErrorCollection));
+
+        /*
+         * Both controls report the same exception when no member returns results.
+         */
+        try
+        {
+            runParallel(cohortConnectors, 0);
+            fail("UserNotAuthorizedException expected");
+        }
+        catch (UserNotAuthorizedException expected)
+        {
+        }
+
+        try
+        {
+            runSequential(cohortConnectors);
+            fail("UserNotAuthorizedException expected");
+        }
+        catch (UserNotAuthorizedException expected)
+        {
+        }
+
+        /*
+         * The exceptions are ignored once a member returns results.
+         */
+        cohortConnectors.add(new TestRepositoryConnector("Member4", new TestMetadataCollection("Member4", getEntities(getEntity("Entity1", 1)))));
+
+        assertEquals(getVersions(runParallel(cohortConnectors, 0)).keySet().toString(), "[Entity1]");
+        assertEquals(getVersions(runSequential(cohortConnectors)).keySet().toString(), "[Entity1]");
+    }
+
+
+    @Test public void testNullMetadataCollection() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        cohortConnectors.add(new TestRepositoryConnector("Member1", new TestMetadataCollection("Member1", null)));
+        cohortConnectors.add(new TestRepositoryConnector("Member2", null));
+
+        try
+        {
+            runParallel(cohortConnectors, 0);
+            fail("RepositoryErrorException expected");
+        }
+        catch (RepositoryErrorException expected)
+        {
+        }
+    }
+
+
+    @Test public void testResultsMatchSequential() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        cohortConnectors.add(new TestRepositoryConnector("Member1",
+                                                         new TestMetadataCollection("Member1",
+                                                                                    getEntities(getEntity("Entity1", 1),
+                                                                                                getEntity("Entity2", 3)))));
+        cohortConnectors.add(null);
+        cohortConnectors.add(new TestRepositoryConnector("Member2",
+                                                         new TestMetadataCollection("Member2",
+                                                                                    getEntities(getEntity("Entity1", 2),
+                                                                                                getEntity("Entity3", 1)))));
+        cohortConnectors.add(new TestRepositoryConnector("Member3",
+                                                         new TestMetadataCollection("Member3",
+                                                                                    getEntities(getEntity("Entity2", 1)))));
+        cohortConnectors.add(new TestRepositoryConnector("Member4", new TestMetadataCollection("Member4", null)));
+
+        Map<String, Long> parallelResults   = getVersions(runParallel(cohortConnectors, 0));
+        Map<String, Long> sequentialResults = getVersions(runSequential(cohortConnectors));
+
+        assertEquals(parallelResults, sequentialResults);
+        assertEquals(parallelResults.toString(), "{Entity1=2, Entity2=3, Entity3=1}");
+
+        /*
+         * A single member is called on the caller's thread and an empty cohort returns no results.
+         */
+        TestMetadataCollection        onlyCollection = new TestMetadataCollection("Member1", getEntities(getEntity("Entity1", 1)));
+        List<OMRSRepositoryConnector> oneConnector   = new ArrayList<>();
+
+        oneConnector.add(new TestRepositoryConnector("Member1", onlyCollection));
+
+        assertEquals(getVersions(runParallel(oneConnector, 0)), getVersions(runSequential(oneConnector)));
+        assertTrue(onlyCollection.callingThread == Thread.currentThread());
+
+        FindEntitiesByPropertyExecutor executor = getExecutor();
+
+        new ParallelFederationControl(userId, new ArrayList<>(), methodName).executeCommand(executor);
+        assertNull(executor.getResults(null));
+    }
+}
@@ -0,0 +1,224 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicProvider;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate the batching of instance events by the OMRSRepositoryEventPublisher and the expansion of batch
+ * instances events for the enterprise topic.
+ */
+public class OMRSRepositoryEventPublisherTest
+{
+    /**
+     * Topic connector that records the events it is asked to send.
+     */
+    private class RecordingTopicConnector extends OMRSTopicConnector
+    {
+        private final List<OMRSInstanceEvent> sentEvents = Collections.synchronizedList(new ArrayList<>());
+
+        /**
+         * Constructor sets up the batching properties.
+         *
+         * @param eventBatchSize maximum instances in a batch
+         * @param eventBatchWindow milliseconds a batch may wait
+         */
+        RecordingTopicConnector(int   eventBatchSize,
+                                int   eventBatchWindow)
+        {
+            Map<String, Object> configurationProperties = new HashMap<>();
+            Connection          connection              = new Connection();
+
+            configurationProperties.put(OMRSTopicProvider.eventBatchSizeProperty, eventBatchSize);
+            configurationProperties.put(OMRSTopicProvider.eventBatchWindowProperty, eventBatchWindow);
+            connection.setConfigurationProperties(configurationProperties);
+
+            super.initialize("TestTopicConnector", new ConnectionProperties(connection));
+        }
+
+        @Override
+        public void sendInstanceEvent(OMRSInstanceEvent instanceEvent)
+        {
+            sentEvents.add(instanceEvent);
+        }
+    }
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSRepositoryEventPublisherTest()
+    {
+
+    }
+
+
+    /**
+     * Create an entity.
+     *
+     * @param guid unique identifier
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship.
+     *
+     * @param guid unique identifier
+     * @param version version of the relationship
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid, long version)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setVersion(version);
+
+        return relationship;
+    }
+
+
+    /**
+     * Validate that new and updated instances are combined into one batch event when the batch fills, and that
+     * only the latest version of an instance is sent.
+     */
+    @Test public void testBatchSentWhenFull()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector(3, 60000);
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                  getEntity("e1", 1), getEntity("e1", 2)));
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e2", 1)));
+
+        assertTrue(topicConnector.sentEvents.isEmpty());
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, getRelationship("r1", 1)));
+
+        assertEquals(topicConnector.sentEvents.size(), 1);
+
+        OMRSInstanceEvent batchEvent = topicConnector.sentEvents.get(0);
+
+        assertEquals(batchEvent.getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(batchEvent.getInstanceBatch().getEntities().size(), 2);
+        assertEquals(batchEvent.getInstanceBatch().getEntities().get(0).getVersion(), 2);
+        assertEquals(batchEvent.getInstanceBatch().getRelationships().size(), 1);
+
+        publisher.disconnect();
+    }
+
+
+    /**
+     * Validate that a pending batch is sent ahead of an event that can not be batched, and that a batch of one
+     * is sent as its original event.
+     */
+    @Test public void testBatchFlushedBeforeOtherEvents()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector(10, 60000);
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, getEntity("e1", 2)));
+
+        assertEquals(topicConnector.sentEvents.size(), 2);
+        assertEquals(topicConnector.sentEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(topicConnector.sentEvents.get(1).getInstanceEventType(), OMRSInstanceEventType.DELETED_ENTITY_EVENT);
+
+        publisher.disconnect();
+    }
+
+
+    /**
+     * Validate that a partial batch is sent when its window expires and when the publisher disconnects.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test public void testBatchSentOnTimeoutAndDisconnect() throws InterruptedException
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector(10, 50);
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e2", 1)));
+
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((topicConnector.sentEvents.isEmpty()) && (System.currentTimeMillis() < timeout))
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(topicConnector.sentEvents.size(), 1);
+        assertEquals(topicConnector.sentEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e3", 1)));
+        publisher.disconnect();
+
+        assertEquals(topicConnector.sentEvents.size(), 2);
+        assertEquals(topicConnector.sentEvents.get(1).getEntity().getGUID(), "e3");
+    }
+
+
+    /**
+     * Validate that an event batch window that is not positive does not leave events waiting.
+     */
+    @Test public void testBadBatchWindow()
+    {
+        RecordingTopicConnector topicConnector = new RecordingTopicConnector(10, 0);
+
+        assertTrue(topicConnector.getEventBatchWindow() > 0);
+    }
+
+
+    /**
+     * Validate that a publisher for the enterprise topic does not batch events and sends the instances from a batch
+     * instances event as separate events.
+     */
+    @Test public void testEnterprisePublisherExpandsBatches()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector(10, 60000);
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("Cohort to Enterprise", topicConnector, true, null);
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+
+        assertEquals(topicConnector.sentEvents.size(), 1);
+
+        InstanceGraph instances = new InstanceGraph(Arrays.asList(getEntity("e2", 1), getEntity("e3", 4)),
+                                                    Collections.singletonList(getRelationship("r1", 1)));
+
+        publisher.sendInstanceEvent("Test", new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, instances));
+
+        assertEquals(topicConnector.sentEvents.size(), 4);
+        assertEquals(topicConnector.sentEvents.get(1).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(topicConnector.sentEvents.get(1).getEntity().getGUID(), "e2");
+        assertEquals(topicConnector.sentEvents.get(2).getInstanceEventType(), OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        assertEquals(topicConnector.sentEvents.get(2).getEntity().getGUID(), "e3");
+        assertEquals(topicConnector.sentEvents.get(3).getInstanceEventType(), OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT);
+
+        publisher.disconnect();
+    }
+}
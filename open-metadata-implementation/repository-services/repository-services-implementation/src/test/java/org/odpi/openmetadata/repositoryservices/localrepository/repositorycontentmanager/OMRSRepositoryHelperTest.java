@@ -3,6 +3,9 @@
 package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
@@ -10,6 +13,8 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorExce
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -113,6 +118,64 @@ public class OMRSRepositoryHelperTest
 
     }
 
+    @Test
+    void testformatEntityResultsSequencing() throws PropertyErrorException, PagingErrorException {
+        List<EntityDetail> fullResults = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+            entity.setGUID(String.format("guid-%02d", i));
+            entity.setCreateTime(new Date(1000L * ((i * 7) % 20)));
+
+            PrimitivePropertyValue nameValue = new PrimitivePropertyValue();
+            nameValue.setPrimitiveValue("name-" + (i % 5));
+            InstanceProperties properties = new InstanceProperties();
+            properties.setProperty("name", nameValue);
+            entity.setProperties(properties);
+
+            fullResults.add(entity);
+        }
+        Collections.shuffle(fullResults);
+
+        // test GUID order pages through all results without duplicates or gaps
+        List<String> pagedGUIDs = new ArrayList<>();
+        for (int fromElement = 0; fromElement < fullResults.size(); fromElement = fromElement + 3)
+        {
+            for (EntityDetail entity : createHelper().formatEntityResults(fullResults, fromElement, null, SequencingOrder.GUID, 3))
+            {
+                pagedGUIDs.add(entity.getGUID());
+            }
+        }
+        assertEquals(pagedGUIDs.size(), 20);
+        for (int i = 0; i < 20; i++)
+        {
+            assertEquals(pagedGUIDs.get(i), String.format("guid-%02d", i));
+        }
+
+        // test ANY order is repeatable when paging
+        assertEquals(createHelper().formatEntityResults(fullResults, 4, null, SequencingOrder.ANY, 2).get(0).getGUID(), "guid-04");
+
+        // test creation date order
+        List<EntityDetail> entities = createHelper().formatEntityResults(fullResults, 0, null, SequencingOrder.CREATION_DATE_RECENT, 2);
+        assertEquals(entities.size(), 2);
+        assertEquals(entities.get(0).getCreateTime().getTime(), 19000L);
+        assertEquals(entities.get(1).getCreateTime().getTime(), 18000L);
+
+        entities = createHelper().formatEntityResults(fullResults, 0, null, SequencingOrder.CREATION_DATE_OLDEST, 0);
+        assertEquals(entities.size(), 20);
+        assertEquals(entities.get(0).getCreateTime().getTime(), 0L);
+
+        // test property order uses the GUID to break ties
+        entities = createHelper().formatEntityResults(fullResults, 0, "name", SequencingOrder.PROPERTY_DESCENDING, 5);
+        assertEquals(entities.size(), 5);
+        assertEquals(entities.get(0).getGUID(), "guid-04");
+        assertEquals(entities.get(3).getGUID(), "guid-19");
+        assertEquals(entities.get(4).getGUID(), "guid-03");
+
+        // test paging beyond the results
+        assertNull(createHelper().formatEntityResults(fullResults, 20, null, SequencingOrder.GUID, 5));
+    }
+
     @Test
     void testRegexHelpers() {
 
@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate the precomputed type hierarchy built from a small set of TypeDefs.
+ */
+public class OMRSTypeDefHierarchyTest
+{
+    /**
+     * Default constructor
+     */
+    public OMRSTypeDefHierarchyTest()
+    {
+
+    }
+
+
+    /**
+     * Create an entity TypeDef.
+     *
+     * @param name name of the type (also used as the GUID)
+     * @param superType super type or null
+     * @param propertyName name of the type's single property
+     * @return TypeDef
+     */
+    private TypeDef getTypeDef(String   name,
+                               TypeDef  superType,
+                               String   propertyName)
+    {
+        EntityDef typeDef = new EntityDef(TypeDefCategory.ENTITY_DEF, name + "-guid", name, 1L, "1.0");
+
+        if (superType != null)
+        {
+            typeDef.setSuperType(new TypeDefLink(superType.getGUID(), superType.getName()));
+        }
+
+        TypeDefAttribute property = new TypeDefAttribute();
+
+        property.setAttributeName(propertyName);
+        typeDef.setPropertiesDefinition(new ArrayList<>(Collections.singletonList(property)));
+
+        return typeDef;
+    }
+
+
+    /**
+     * Validate the super types, sub types and properties of a three level hierarchy.
+     */
+    @Test public void testHierarchy()
+    {
+        TypeDef referenceable = getTypeDef("Referenceable", null, "qualifiedName");
+        TypeDef asset         = getTypeDef("Asset", referenceable, "name");
+        TypeDef dataSet       = getTypeDef("DataSet", asset, "formula");
+        TypeDef orphan        = getTypeDef("Orphan", getTypeDef("Missing", null, "x"), "y");
+
+        Map<String, TypeDef> typeDefs = new HashMap<>();
+
+        for (TypeDef typeDef : new TypeDef[] { referenceable, asset, dataSet, orphan })
+        {
+            typeDefs.put(typeDef.getName(), typeDef);
+        }
+
+        OMRSTypeDefHierarchy hierarchy = new OMRSTypeDefHierarchy(3L, typeDefs);
+
+        assertEquals(hierarchy.getTypeDefVersion(), 3L);
+
+        assertTrue(hierarchy.getSuperTypes("Referenceable").isEmpty());
+        assertEquals(hierarchy.getSuperTypes("DataSet").size(), 2);
+        assertEquals(hierarchy.getSuperTypes("DataSet").get(0).getName(), "Asset");
+
+        assertTrue(hierarchy.isTypeOf("DataSet", "Referenceable"));
+        assertTrue(hierarchy.isTypeOf("DataSet", "DataSet"));
+        assertFalse(hierarchy.isTypeOf("Asset", "DataSet"));
+        assertTrue(hierarchy.isTypeOfByGUID("DataSet", "Asset-guid"));
+        assertFalse(hierarchy.isTypeOfByGUID("Referenceable", "Asset-guid"));
+
+        List<TypeDefAttribute> properties = hierarchy.getAllProperties(dataSet);
+
+        assertEquals(properties.size(), 3);
+        assertEquals(properties.get(0).getAttributeName(), "formula");
+        assertTrue(hierarchy.getPropertiesByName(dataSet).containsKey("qualifiedName"));
+
+        /*
+         * The orphan's super type is not known so it is left out of the hierarchy.
+         */
+        assertFalse(hierarchy.isKnownType("Orphan"));
+        assertNull(hierarchy.getSuperTypes("Orphan"));
+        assertFalse(hierarchy.isTypeOf("Orphan", "Missing"));
+    }
+
+
+    /**
+     * Validate that a different version of a TypeDef is not given the cached properties.
+     */
+    @Test public void testTypeDefVersion()
+    {
+        TypeDef referenceable = getTypeDef("Referenceable", null, "qualifiedName");
+
+        OMRSTypeDefHierarchy hierarchy = new OMRSTypeDefHierarchy(1L,
+                                                                  Collections.singletonMap(referenceable.getName(), referenceable));
+
+        TypeDef newVersion = getTypeDef("Referenceable", null, "newName");
+
+        newVersion.setVersion(2L);
+
+        assertNotNull(hierarchy.getAllProperties(referenceable));
+        assertNull(hierarchy.getAllProperties(newVersion));
+        assertNull(hierarchy.getPropertiesByName(newVersion));
+        assertNull(hierarchy.getAllProperties(null));
+    }
+}
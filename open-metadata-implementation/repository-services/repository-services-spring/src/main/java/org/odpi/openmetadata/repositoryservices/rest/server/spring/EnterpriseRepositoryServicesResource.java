@@ -473,6 +473,30 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  Entities that are not known,
+     * or are only proxies in the metadata collection, are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures or
+     * InvalidParameterException the list of guids, or one of the guids, is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-guids")
+
+    public EntityListResponse getEntityDetails(@PathVariable String           serverName,
+                                               @PathVariable String           userId,
+                                               @RequestBody  GUIDListRequest  guidListRequest)
+    {
+        return restAPI.getEntityDetails(serverName, userId, guidListRequest);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
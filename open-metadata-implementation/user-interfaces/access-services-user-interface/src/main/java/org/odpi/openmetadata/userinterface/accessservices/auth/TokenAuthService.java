@@ -4,10 +4,10 @@ package org.odpi.openmetadata.userinterface.accessservices.auth;
 
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.odpi.openmetadata.userinterface.accessservices.domain.User;
+import org.odpi.openmetadata.frameworks.connectors.serialization.JSONSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -63,7 +63,7 @@ public class TokenAuthService {
 
     private User fromJSON(final String userJSON) {
         try {
-            return new ObjectMapper().readValue(userJSON, User.class);
+            return JSONSerializer.readValue(userJSON, User.class);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
@@ -71,7 +71,7 @@ public class TokenAuthService {
 
     private String toJSON(User user) {
         try {
-            return new ObjectMapper().writeValueAsString(user);
+            return JSONSerializer.writeValueAsString(user);
         } catch (JsonProcessingException e) {
             throw new IllegalStateException(e);
         }
@@ -0,0 +1,82 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * Descriptor for a port that indicates its type.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum PortType implements Serializable {
+    /**
+      * Input Port.
+      */
+    INPUT_PORT(0, "Input Port.")
+,
+    /**
+      * Output Port.
+      */
+    OUTPUT_PORT(1, "Output Port.")
+,
+    /**
+      * Input Output Port.
+      */
+    INOUT_PORT(2, "Input Output Port.")
+,
+    /**
+      * Output Input Port.
+      */
+    OUTIN_PORT(3, "Output Input Port.")
+,
+    /**
+      * None of the above.
+      */
+    OTHER(99, "None of the above.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an PortType enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    PortType(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the PortType enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}